@@ -0,0 +1,97 @@
+package com.inditex.prices.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.inditex.prices.PricesApplication;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilidades comunes de los benchmarks: arranque del contexto Spring sobre una BD H2
+ * aislada y carga de precios sintéticos.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public final class BenchmarkContext {
+
+    /** Producto sintético usado por los benchmarks (no colisiona con data.sql). */
+    public static final long PRODUCT_ID = 1L;
+
+    /** Marca existente en data.sql. */
+    public static final int BRAND_ID = 1;
+
+    /** Fecha consultada; todos los precios sintéticos la cubren. */
+    public static final LocalDateTime QUERY_DATE = LocalDateTime.of(2020, 6, 14, 12, 0);
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Arranca la aplicación sin servidor web, con logs silenciados y una BD H2 propia.
+     *
+     * @param database nombre de la BD H2 en memoria
+     * @param properties propiedades adicionales en formato clave=valor
+     * @return contexto arrancado
+     */
+    public static ConfigurableApplicationContext start(String database, String... properties) {
+        List<String> all = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:" + database,
+                "spring.jpa.show-sql=false",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "logging.level.com.inditex.prices=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        all.addAll(List.of(properties));
+
+        return new SpringApplicationBuilder(PricesApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(all.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * Silencia los logs cuando el benchmark no arranca Spring (Logback usaría DEBUG por defecto).
+     * Los mensajes de la aplicación se siguen construyendo, pero no se escriben en consola.
+     */
+    public static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        ((Logger) LoggerFactory.getLogger("com.inditex.prices")).setLevel(Level.ERROR);
+    }
+
+    /**
+     * Inserta {@code count} precios solapados que cubren {@link #QUERY_DATE} para
+     * {@link #PRODUCT_ID}. Las prioridades se reparten de forma no ordenada para que la
+     * BD no pueda devolver el ganador por el orden físico de inserción.
+     *
+     * @param context contexto de la aplicación
+     * @param count número de precios candidatos
+     */
+    public static void insertOverlappingPrices(ConfigurableApplicationContext context, int count) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{
+                    BRAND_ID,
+                    Timestamp.valueOf(QUERY_DATE.minusDays(1 + i % 7)),
+                    Timestamp.valueOf(QUERY_DATE.plusDays(1 + i % 5)),
+                    i + 1,
+                    PRODUCT_ID,
+                    (i * 7919) % count,
+                    10 + i % 90,
+                    "EUR"
+            });
+        }
+        jdbc.batchUpdate("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, "
+                + "PRICE, CURR) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
@@ -0,0 +1,60 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.port.out.PriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Repositorio en memoria para benchmarks que recorre una lista fija de candidatos,
+ * aislando el coste de la capa de aplicación del acceso a base de datos.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+final class CandidateListPriceRepository implements PriceRepository {
+
+    private final List<Price> candidates;
+
+    CandidateListPriceRepository(List<Price> candidates) {
+        this.candidates = List.copyOf(candidates);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        return candidates.stream()
+                .filter(price -> price.isApplicableAt(applicationDate))
+                .toList();
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        return candidates.stream()
+                .filter(price -> price.isApplicableAt(applicationDate))
+                .max(Price.APPLICATION_ORDER);
+    }
+
+    @Override
+    public List<Price> findAllPrices(Long productId, Integer brandId) {
+        return candidates;
+    }
+
+    @Override
+    public List<PriceKey> findAllKeys() {
+        return candidates.stream()
+                .map(price -> PriceKey.of(price.getProductId(), price.getBrandId()))
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public long forEachApplicablePrice(Integer brandId, LocalDateTime applicationDate, Consumer<Price> action) {
+        Optional<Price> price = findApplicablePrice(null, brandId, applicationDate);
+        price.ifPresent(action);
+        return price.isPresent() ? 1 : 0;
+    }
+}
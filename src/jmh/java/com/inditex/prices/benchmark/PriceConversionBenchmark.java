@@ -0,0 +1,115 @@
+package com.inditex.prices.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.inditex.prices.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide por separado los pasos de conversión del camino de consulta: validación de la
+ * consulta, entidades JPA a dominio, dominio a DTO y serialización JSON con Jackson.
+ * <p>
+ * Ejecución: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceConversionBenchmark -prof gc"}
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceConversionBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int candidates;
+
+    private PriceQuery query;
+    private List<PriceEntity> entities;
+    private Price price;
+    private PriceResponse response;
+    private PriceEntityMapper entityMapper;
+    private PriceRestMapper restMapper;
+    private ObjectMapper objectMapper;
+
+    /**
+     * Prepara los mappers (implementaciones generadas por MapStruct) y los datos de entrada.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        entityMapper = Mappers.getMapper(PriceEntityMapper.class);
+        restMapper = Mappers.getMapper(PriceRestMapper.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        query = PriceQuery.builder()
+                .applicationDate(LocalDateTime.of(2020, 6, 14, 12, 0))
+                .productId(BenchmarkContext.PRODUCT_ID)
+                .brandId(BenchmarkContext.BRAND_ID)
+                .build();
+
+        List<Price> prices = PriceLookupBenchmark.candidatePrices(candidates, 1);
+        entities = prices.stream().map(entityMapper::toEntity).toList();
+        price = prices.get(0);
+        response = restMapper.toResponse(price);
+    }
+
+    /**
+     * Validación de la consulta de dominio.
+     *
+     * @return consulta validada
+     */
+    @Benchmark
+    public PriceQuery validate() {
+        query.validate();
+        return query;
+    }
+
+    /**
+     * Conversión de la lista de candidatos JPA a dominio.
+     *
+     * @return precios de dominio
+     */
+    @Benchmark
+    public List<Price> toDomainList() {
+        return entityMapper.toDomainList(entities);
+    }
+
+    /**
+     * Conversión del precio ganador a DTO REST.
+     *
+     * @return DTO de respuesta
+     */
+    @Benchmark
+    public PriceResponse toResponse() {
+        return restMapper.toResponse(price);
+    }
+
+    /**
+     * Serialización JSON del DTO de respuesta.
+     *
+     * @return JSON en bytes
+     * @throws JsonProcessingException si falla la serialización
+     */
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,109 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.application.service.PriceService;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.inditex.prices.benchmark.BenchmarkContext.BRAND_ID;
+import static com.inditex.prices.benchmark.BenchmarkContext.PRODUCT_ID;
+import static com.inditex.prices.benchmark.BenchmarkContext.QUERY_DATE;
+
+/**
+ * Compara los motores de BD {@code jpa} (Hibernate + PriceEntityMapper) y {@code jdbc}
+ * (RowMapper directo al dominio) sobre las mismas consultas y datos.
+ * <p>
+ * {@code service} mide el caso de uso completo sin la caché de líneas temporales, incluida la
+ * gestión de transacción de PriceService. Ejecución con el profiler de GC para ver la asignación
+ * por consulta: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceEngineBenchmark -prof gc"}
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceEngineBenchmark {
+
+    @Param({"jpa", "jdbc"})
+    private String engine;
+
+    @Param({"1", "10", "100"})
+    private int candidates;
+
+    private ConfigurableApplicationContext context;
+    private PriceRepository repository;
+    private PriceService service;
+    private PriceQuery query;
+
+    /**
+     * Arranca el contexto con el motor indicado y una BD propia, y carga los precios candidatos.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("bench-engine-" + engine + "-" + candidates,
+                "prices.repository.engine=" + engine);
+        BenchmarkContext.insertOverlappingPrices(context, candidates);
+        repository = context.getBean(PriceRepository.class);
+        service = context.getBean(PriceService.class);
+        query = PriceQuery.builder()
+                .applicationDate(QUERY_DATE)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .build();
+    }
+
+    /**
+     * Cierra el contexto de Spring.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Consulta de fila única: la BD retorna solo el precio ganador.
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Optional<Price> singleRow() {
+        return repository.findApplicablePrice(PRODUCT_ID, BRAND_ID, QUERY_DATE);
+    }
+
+    /**
+     * Consulta de candidatos: todas las filas vigentes se convierten a dominio.
+     *
+     * @return precios candidatos
+     */
+    @Benchmark
+    public List<Price> candidateList() {
+        return repository.findApplicablePrices(PRODUCT_ID, BRAND_ID, QUERY_DATE);
+    }
+
+    /**
+     * Caso de uso completo (validación, transacción y consulta de fila única).
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Price service() {
+        return service.getApplicablePrice(query);
+    }
+}
@@ -0,0 +1,157 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.application.service.PriceAdmissionService;
+import com.inditex.prices.application.service.PriceService;
+import com.inditex.prices.domain.exception.PriceNotFoundException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el camino caliente de la consulta de precio sin base de datos: el caso de uso
+ * completo ({@link PriceService#getApplicablePrice}) y el filtrado con
+ * {@link Price#isApplicableAt} sobre la lista de candidatos.
+ * <p>
+ * Parámetros:
+ * <ul>
+ *   <li>{@code candidates}: precios del producto (tamaño de la lista de candidatos)</li>
+ *   <li>{@code overlapDepth}: cuántos de ellos se solapan en la fecha consultada</li>
+ *   <li>{@code hitRatio}: proporción de consultas con precio (el resto termina en 404)</li>
+ * </ul>
+ * Ejecución: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceLookupBenchmark -prof gc"}
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceLookupBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+    private static final LocalDateTime HIT_DATE = LocalDateTime.of(2020, 6, 14, 12, 0);
+    private static final LocalDateTime MISS_DATE = LocalDateTime.of(2010, 1, 1, 0, 0);
+
+    @Param({"1", "10", "100"})
+    private int candidates;
+
+    @Param({"1", "4", "16"})
+    private int overlapDepth;
+
+    @Param({"1.0", "0.5", "0.0"})
+    private double hitRatio;
+
+    private List<Price> prices;
+    private PriceQuery[] queries;
+    private PriceService priceService;
+    private int next;
+
+    /**
+     * Genera los candidatos y una secuencia fija de consultas con la proporción de aciertos indicada.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkContext.quietLogging();
+
+        prices = candidatePrices(candidates, Math.min(overlapDepth, candidates));
+        PriceRepository repository = new CandidateListPriceRepository(prices);
+        priceService = new PriceService(repository, new PriceAdmissionService(repository));
+
+        Random random = new Random(42);
+        queries = new PriceQuery[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = PriceQuery.builder()
+                    .applicationDate(random.nextDouble() < hitRatio ? HIT_DATE : MISS_DATE)
+                    .productId(BenchmarkContext.PRODUCT_ID)
+                    .brandId(BenchmarkContext.BRAND_ID)
+                    .build();
+        }
+    }
+
+    /**
+     * Caso de uso completo: validación, búsqueda en el repositorio y, en los fallos,
+     * construcción de la excepción de precio no encontrado.
+     *
+     * @return precio encontrado o null si no hay precio
+     */
+    @Benchmark
+    public Price getApplicablePrice() {
+        try {
+            return priceService.getApplicablePrice(nextQuery());
+        } catch (PriceNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Filtrado de la lista de candidatos por vigencia.
+     *
+     * @return número de candidatos vigentes en la fecha consultada
+     */
+    @Benchmark
+    public int isApplicableAt() {
+        LocalDateTime date = nextQuery().getApplicationDate();
+        int applicable = 0;
+        for (Price price : prices) {
+            if (price.isApplicableAt(date)) {
+                applicable++;
+            }
+        }
+        return applicable;
+    }
+
+    private PriceQuery nextQuery() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return queries[next];
+    }
+
+    /**
+     * Crea {@code count} precios: {@code depth} de ellos cubren {@link #HIT_DATE} y el
+     * resto ocupa semanas anteriores disjuntas.
+     *
+     * @param count número total de precios
+     * @param depth número de precios solapados en la fecha consultada
+     * @return precios del producto
+     */
+    static List<Price> candidatePrices(int count, int depth) {
+        List<Price> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean overlapping = i < depth;
+            LocalDateTime start = overlapping
+                    ? HIT_DATE.minusDays(1 + i)
+                    : HIT_DATE.minusWeeks(2L + i);
+            LocalDateTime end = overlapping
+                    ? HIT_DATE.plusDays(1 + i)
+                    : start.plusDays(6);
+            result.add(Price.builder()
+                    .id((long) i + 1)
+                    .productId(BenchmarkContext.PRODUCT_ID)
+                    .brandId(BenchmarkContext.BRAND_ID)
+                    .priceList(i + 1)
+                    .priority(i % 3)
+                    .price(BigDecimal.valueOf(1000 + i, 2))
+                    .startDate(start)
+                    .endDate(end)
+                    .currency("EUR")
+                    .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.inditex.prices.benchmark;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.infrastructure.adapter.out.persistence.PriceJpaAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.inditex.prices.benchmark.BenchmarkContext.BRAND_ID;
+import static com.inditex.prices.benchmark.BenchmarkContext.PRODUCT_ID;
+import static com.inditex.prices.benchmark.BenchmarkContext.QUERY_DATE;
+
+/**
+ * Compara la resolución de prioridad en aplicación (lista de candidatos + stream) frente a
+ * la consulta de fila única resuelta en BD, según crece el número de precios solapados.
+ * <p>
+ * Ejecución: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceQueryBenchmark"}
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceQueryBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int candidates;
+
+    private ConfigurableApplicationContext context;
+    private PriceJpaAdapter adapter;
+
+    /**
+     * Arranca el contexto con una BD propia y carga los precios candidatos.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("bench-query-" + candidates);
+        BenchmarkContext.insertOverlappingPrices(context, candidates);
+        adapter = context.getBean(PriceJpaAdapter.class);
+    }
+
+    /**
+     * Cierra el contexto de Spring.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Estrategia anterior: recupera todos los candidatos y elige el ganador en memoria.
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Optional<Price> candidateList() {
+        return adapter.findApplicablePrices(PRODUCT_ID, BRAND_ID, QUERY_DATE).stream()
+                .filter(price -> price.isApplicableAt(QUERY_DATE))
+                .max(Comparator.comparing(Price::getPriority));
+    }
+
+    /**
+     * Estrategia actual: la BD ordena y limita a una única fila.
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Optional<Price> singleRow() {
+        return adapter.findApplicablePrice(PRODUCT_ID, BRAND_ID, QUERY_DATE);
+    }
+}
@@ -0,0 +1,91 @@
+package com.inditex.prices.loadtest;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Mezcla ponderada de rangos de fechas de aplicación.
+ * <p>
+ * Se define con una lista separada por comas de {@code desde/hasta:peso}, p. ej.
+ * {@code 2020-06-14T15:00:00/2020-06-14T18:30:00:30,2019-01-01T00:00:00/2019-12-31T23:59:59:5}.
+ * Cada consulta elige un rango según su peso y una fecha uniforme (al segundo) dentro de él, lo
+ * que permite repartir el tráfico entre franjas de promociones, de tarifa base y sin precio.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public final class DateMix {
+
+    private final List<Range> ranges;
+    private final double[] cumulative;
+
+    private DateMix(List<Range> ranges) {
+        this.ranges = ranges;
+        this.cumulative = new double[ranges.size()];
+        double total = ranges.stream().mapToDouble(Range::getWeight).sum();
+        double sum = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            sum += ranges.get(i).getWeight();
+            cumulative[i] = sum / total;
+        }
+    }
+
+    /**
+     * Interpreta la definición de la mezcla.
+     *
+     * @param spec rangos {@code desde/hasta:peso} separados por comas
+     * @return mezcla de fechas
+     * @throws IllegalArgumentException si la definición no es válida
+     */
+    public static DateMix parse(String spec) {
+        List<Range> ranges = new ArrayList<>();
+        for (String item : spec.split(",")) {
+            String trimmed = item.trim();
+            int slash = trimmed.indexOf('/');
+            int colon = trimmed.lastIndexOf(':');
+            if (slash < 0 || colon < slash) {
+                throw new IllegalArgumentException("Rango de fechas no válido (desde/hasta:peso): " + trimmed);
+            }
+            LocalDateTime from = LocalDateTime.parse(trimmed.substring(0, slash));
+            LocalDateTime to = LocalDateTime.parse(trimmed.substring(slash + 1, colon));
+            double weight = Double.parseDouble(trimmed.substring(colon + 1));
+            if (to.isBefore(from) || weight <= 0) {
+                throw new IllegalArgumentException("Rango de fechas no válido (desde/hasta:peso): " + trimmed);
+            }
+            ranges.add(new Range(from, ChronoUnit.SECONDS.between(from, to), weight));
+        }
+        if (ranges.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla de fechas no puede estar vacía");
+        }
+        return new DateMix(List.copyOf(ranges));
+    }
+
+    /**
+     * Obtiene una fecha de aplicación aleatoria.
+     *
+     * @param random generador del hilo que muestrea
+     * @return fecha dentro de uno de los rangos
+     */
+    public LocalDateTime next(RandomGenerator random) {
+        double p = random.nextDouble();
+        int i = 0;
+        while (i < cumulative.length - 1 && cumulative[i] <= p) {
+            i++;
+        }
+        Range range = ranges.get(i);
+        return range.getFrom().plusSeconds(random.nextLong(range.getSeconds() + 1));
+    }
+
+    @Value
+    private static class Range {
+        LocalDateTime from;
+        long seconds;
+        double weight;
+    }
+}
@@ -0,0 +1,107 @@
+package com.inditex.prices.loadtest;
+
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opciones de la prueba de carga, leídas de argumentos {@code clave=valor}.
+ * <p>
+ * Las claves propias de la prueba se listan en {@link #parse(String[])}; el resto se pasan tal
+ * cual como propiedades a la aplicación arrancada (p. ej. {@code prices.repository.engine=jdbc}),
+ * para comparar motores y configuraciones con la misma carga.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+public class LoadTestOptions {
+
+    /** Rangos por defecto: franjas de data.sql con y sin promoción, y un año sin precios. */
+    private static final String DEFAULT_DATES = "2020-06-14T00:00:00/2020-06-14T14:59:59:20,"
+            + "2020-06-14T15:00:00/2020-06-14T18:30:00:20,"
+            + "2020-06-15T00:00:00/2020-06-15T11:00:00:20,"
+            + "2020-06-15T16:00:00/2020-12-31T23:59:59:30,"
+            + "2019-01-01T00:00:00/2019-12-31T23:59:59:10";
+
+    String label;
+    int concurrency;
+    Duration warmup;
+    Duration duration;
+    double rate;
+    int products;
+    long productBase;
+    double zipfExponent;
+    int brands;
+    DateMix dates;
+    Path reportDirectory;
+    List<String> applicationProperties;
+
+    /**
+     * Interpreta los argumentos.
+     * <ul>
+     *   <li>{@code label}: etiqueta de la ejecución en el informe (por defecto el motor)</li>
+     *   <li>{@code concurrency}: clientes concurrentes (32)</li>
+     *   <li>{@code warmup} / {@code duration}: calentamiento descartado y medición (PT10S / PT30S)</li>
+     *   <li>{@code rate}: peticiones por segundo en total; 0 (por defecto) envía sin pausa</li>
+     *   <li>{@code products} / {@code product-base}: productos distintos, a partir de un identificador
+     *       (1 / 35455)</li>
+     *   <li>{@code zipf-exponent}: sesgo de popularidad de los productos (1.0)</li>
+     *   <li>{@code brands}: marcas consultadas, de 1 a N, de forma uniforme (1)</li>
+     *   <li>{@code dates}: mezcla de fechas, ver {@link DateMix}</li>
+     *   <li>{@code report-dir}: directorio de los informes ({@code target/loadtest})</li>
+     * </ul>
+     *
+     * @param args argumentos {@code clave=valor}
+     * @return opciones de la prueba
+     * @throws IllegalArgumentException si algún argumento no es válido
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> properties = new ArrayList<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Argumento no válido (se esperaba clave=valor): " + arg);
+            }
+            String key = arg.substring(0, equals);
+            if (key.contains(".")) {
+                properties.add(arg);
+            } else {
+                options.put(key, arg.substring(equals + 1));
+            }
+        }
+
+        String engine = properties.stream()
+                .filter(property -> property.startsWith("prices.repository.engine="))
+                .map(property -> property.substring(property.indexOf('=') + 1))
+                .findFirst()
+                .orElse("jpa");
+
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("La concurrencia debe ser positiva, recibido: " + concurrency);
+        }
+
+        return new LoadTestOptions(
+                options.getOrDefault("label", engine),
+                concurrency,
+                Duration.parse(options.getOrDefault("warmup", "PT10S")),
+                Duration.parse(options.getOrDefault("duration", "PT30S")),
+                Double.parseDouble(options.getOrDefault("rate", "0")),
+                Integer.parseInt(options.getOrDefault("products", "1")),
+                Long.parseLong(options.getOrDefault("product-base", "35455")),
+                Double.parseDouble(options.getOrDefault("zipf-exponent", "1.0")),
+                Integer.parseInt(options.getOrDefault("brands", "1")),
+                DateMix.parse(options.getOrDefault("dates", DEFAULT_DATES)),
+                Path.of(options.getOrDefault("report-dir", "target/loadtest")),
+                List.copyOf(properties)
+        );
+    }
+}
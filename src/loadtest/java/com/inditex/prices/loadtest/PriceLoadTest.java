@@ -0,0 +1,243 @@
+package com.inditex.prices.loadtest;
+
+import com.inditex.prices.PricesApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga de {@code GET /prices} contra la aplicación completa.
+ * <p>
+ * Arranca la aplicación en un puerto aleatorio con las propiedades indicadas, lanza
+ * {@code concurrency} clientes HTTP que consultan productos con distribución de Zipf, marcas
+ * uniformes y fechas de una {@link DateMix}, y tras un calentamiento descartado mide durante
+ * {@code duration} el throughput y los percentiles p50/p95/p99/p99.9 de latencia (HdrHistogram).
+ * </p>
+ * <p>
+ * Con {@code rate} &gt; 0 cada cliente sigue un calendario fijo y la latencia se mide desde el
+ * instante previsto de envío, de modo que las esperas por saturación cuentan (sin omisión
+ * coordinada). El resumen se escribe en consola, se añade a {@code results.csv} y la distribución
+ * completa se guarda en {@code <label>.hgrm} dentro de {@code report-dir}.
+ * </p>
+ * <p>
+ * Uso: {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="concurrency=64 prices.repository.engine=jdbc"}
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public final class PriceLoadTest {
+
+    /** Latencia máxima registrable: 60 s en microsegundos. */
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private static final String CSV_HEADER =
+            "label,concurrency,rate,seconds,requests,ok,not_found,other,errors,throughput,"
+                    + "p50_ms,p95_ms,p99_ms,p999_ms,max_ms";
+
+    private PriceLoadTest() {
+    }
+
+    /**
+     * Punto de entrada.
+     *
+     * @param args opciones {@code clave=valor}, ver {@link LoadTestOptions#parse(String[])}
+     * @throws Exception si la aplicación no arranca o la prueba se interrumpe
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ConfigurableApplicationContext context = start(options)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI endpoint = URI.create("http://localhost:" + port + "/api/prices");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            System.out.printf("Calentamiento: %s con %d clientes%n", options.getWarmup(), options.getConcurrency());
+            run(client, endpoint, options, options.getWarmup());
+
+            System.out.printf("Medición: %s con %d clientes%n", options.getDuration(), options.getConcurrency());
+            Result result = run(client, endpoint, options, options.getDuration());
+
+            report(options, result);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "logging.level.com.inditex.prices=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        ));
+        properties.addAll(options.getApplicationProperties());
+
+        // Como argumentos de línea de comandos, para que prevalezcan sobre los ficheros de perfil
+        return new SpringApplicationBuilder(PricesApplication.class)
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    private static Result run(HttpClient client, URI endpoint, LoadTestOptions options, Duration duration)
+            throws Exception {
+        ZipfSampler products = new ZipfSampler(options.getProducts(), options.getZipfExponent());
+        long deadline = System.nanoTime() + duration.toNanos();
+        long intervalNanos = options.getRate() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) * options.getConcurrency() / options.getRate())
+                : 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.getConcurrency());
+        List<Future<Result>> workers = new ArrayList<>();
+        long started = System.nanoTime();
+        try {
+            for (int i = 0; i < options.getConcurrency(); i++) {
+                SplittableRandom random = new SplittableRandom(i);
+                workers.add(executor.submit(() -> drive(client, endpoint, options, products, random,
+                        deadline, intervalNanos)));
+            }
+
+            Result total = new Result();
+            for (Future<Result> worker : workers) {
+                total.add(worker.get());
+            }
+            total.elapsedNanos = System.nanoTime() - started;
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Result drive(HttpClient client, URI endpoint, LoadTestOptions options, ZipfSampler products,
+                                SplittableRandom random, long deadline, long intervalNanos) {
+        Result result = new Result();
+        // Desfase inicial para que los clientes con ritmo fijo no envíen a la vez
+        long scheduled = System.nanoTime() + (intervalNanos > 0 ? random.nextLong(intervalNanos) : 0);
+
+        while (scheduled < deadline && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            if (intervalNanos > 0 && now < scheduled) {
+                LockSupport.parkNanos(scheduled - now);
+            }
+            long start = intervalNanos > 0 ? scheduled : System.nanoTime();
+
+            long productId = options.getProductBase() + products.next(random) - 1;
+            int brandId = 1 + random.nextInt(options.getBrands());
+            LocalDateTime applicationDate = options.getDates().next(random);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint + "?applicationDate=" + applicationDate
+                            + "&productId=" + productId + "&brandId=" + brandId))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                result.record(status, System.nanoTime() - start);
+            } catch (IOException e) {
+                result.errors++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            scheduled = intervalNanos > 0 ? scheduled + intervalNanos : System.nanoTime();
+        }
+        return result;
+    }
+
+    private static void report(LoadTestOptions options, Result result) throws IOException {
+        Histogram histogram = result.latencies;
+        double seconds = result.elapsedNanos / 1e9;
+        double throughput = result.requests() / seconds;
+        String summary = String.format(Locale.ROOT,
+                "%s,%d,%.1f,%.1f,%d,%d,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                options.getLabel(), options.getConcurrency(), options.getRate(), seconds, result.requests(),
+                result.ok, result.notFound, result.other, result.errors, throughput,
+                millis(histogram, 50), millis(histogram, 95), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+
+        System.out.printf(Locale.ROOT, "%n== %s ==%n", options.getLabel());
+        System.out.printf(Locale.ROOT, "Peticiones: %d (200: %d, 404: %d, otros: %d, errores: %d)%n",
+                result.requests(), result.ok, result.notFound, result.other, result.errors);
+        System.out.printf(Locale.ROOT, "Throughput: %.1f peticiones/s%n", throughput);
+        System.out.printf(Locale.ROOT, "Latencia (ms): p50 %.3f | p95 %.3f | p99 %.3f | p99.9 %.3f | máx %.3f%n",
+                millis(histogram, 50), millis(histogram, 95), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+
+        Path directory = options.getReportDirectory();
+        Files.createDirectories(directory);
+        Path csv = directory.resolve("results.csv");
+        if (Files.notExists(csv)) {
+            Files.writeString(csv, CSV_HEADER + System.lineSeparator());
+        }
+        Files.writeString(csv, summary + System.lineSeparator(), StandardOpenOption.APPEND);
+
+        Path distribution = directory.resolve(options.getLabel() + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(distribution))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+        System.out.printf("Informe: %s, %s%n", csv, distribution);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Resultados de un cliente, o de todos una vez sumados. Latencias en microsegundos.
+     */
+    private static final class Result {
+
+        private final Histogram latencies = new Histogram(MAX_LATENCY_MICROS, 3);
+        private long ok;
+        private long notFound;
+        private long other;
+        private long errors;
+        private long elapsedNanos;
+
+        private void record(int status, long latencyNanos) {
+            latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+            if (status == 200) {
+                ok++;
+            } else if (status == 404) {
+                notFound++;
+            } else {
+                other++;
+            }
+        }
+
+        private void add(Result partial) {
+            latencies.add(partial.latencies);
+            ok += partial.ok;
+            notFound += partial.notFound;
+            other += partial.other;
+            errors += partial.errors;
+        }
+
+        private long requests() {
+            return ok + notFound + other + errors;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.inditex.prices.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Muestreo de rangos {@code 1..n} con distribución de Zipf: el rango {@code k} tiene una
+ * probabilidad proporcional a {@code 1 / k^exponent}, de modo que unos pocos productos
+ * concentran la mayor parte del tráfico, como en un catálogo real.
+ * <p>
+ * La función de distribución acumulada se precalcula una vez y cada muestra es una búsqueda
+ * binaria, sin estado compartido: una instancia puede usarse desde varios hilos, cada uno con
+ * su propio generador aleatorio.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    /**
+     * Crea el muestreador.
+     *
+     * @param n número de rangos (productos distintos)
+     * @param exponent exponente de Zipf; 0 equivale a una distribución uniforme
+     */
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("El número de productos debe ser positivo, recibido: " + n);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("El exponente de Zipf no puede ser negativo, recibido: " + exponent);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * Obtiene un rango aleatorio.
+     *
+     * @param random generador del hilo que muestrea
+     * @return rango entre 1 y n (1 es el más frecuente)
+     */
+    public int next(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1) + 1;
+    }
+}
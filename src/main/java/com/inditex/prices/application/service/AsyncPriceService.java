@@ -0,0 +1,87 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.exception.PriceNotFoundException;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.in.GetApplicablePriceAsyncUseCase;
+import com.inditex.prices.domain.port.out.AsyncPriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementación asíncrona del caso de uso de obtención de precio aplicable.
+ * <p>
+ * Aplica las mismas reglas que {@link CachedPriceService}: validación, descarte por el filtro
+ * de admisión y selección del tramo vigente en la línea temporal del producto. Las líneas
+ * temporales cacheadas se resuelven en el propio hilo; las ausentes se cargan con
+ * {@link AsyncPriceRepository}, cuyo adaptador ejecuta la lectura JDBC (bloqueante) en su propio
+ * pool, y se guardan en la caché al completarse salvo que se haya invalidado durante la carga.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncPriceService implements GetApplicablePriceAsyncUseCase {
+
+    private final AsyncPriceRepository asyncPriceRepository;
+    private final PriceTimelineCacheService timelineCache;
+    private final PriceAdmissionService admissionService;
+
+    /**
+     * Obtiene el tramo vigente en la fecha consultada, desde la caché o cargando la línea
+     * temporal del producto de forma asíncrona.
+     *
+     * @param query criterios de búsqueda (fecha, producto, marca)
+     * @return futuro con el tramo aplicable, o completado con {@link InvalidQueryException} o
+     *         {@link PriceNotFoundException}
+     */
+    @Override
+    public CompletableFuture<PriceSegment> getApplicableSegment(PriceQuery query) {
+        log.debug("Buscando tramo aplicable de forma asíncrona para la consulta: {}", query);
+        try {
+            query.validate();
+        } catch (IllegalArgumentException e) {
+            log.error("Parámetros de consulta inválidos: {}", e.getMessage());
+            return CompletableFuture.failedFuture(new InvalidQueryException(e.getMessage()));
+        }
+
+        // Descartar sin consultar la caché los pares (marca, producto) que seguro no tienen precios
+        if (!admissionService.mightHavePrices(query.getProductId(), query.getBrandId())) {
+            log.debug("Consulta descartada por el filtro de admisión: {}", query);
+            return CompletableFuture.failedFuture(PriceNotFoundException.forQuery(query));
+        }
+
+        PriceKey key = PriceKey.of(query.getProductId(), query.getBrandId());
+        return timelineCache.findCachedTimeline(key)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> loadTimeline(key))
+                .thenApply(timeline -> segmentAt(timeline, query));
+    }
+
+    private CompletableFuture<PriceTimeline> loadTimeline(PriceKey key) {
+        // La generación se lee antes de la carga para no cachear una línea temporal ya invalidada
+        long generation = timelineCache.generation();
+        return asyncPriceRepository.findAllPrices(key.getProductId(), key.getBrandId())
+                .thenApply(prices -> timelineCache.putTimeline(key, PriceTimeline.of(prices), generation));
+    }
+
+    private PriceSegment segmentAt(PriceTimeline timeline, PriceQuery query) {
+        if (timeline.isEmpty()) {
+            admissionService.recordFalsePositive();
+        }
+        return timeline.segmentAt(query.getApplicationDate())
+                .orElseThrow(() -> {
+                    log.debug("No se encontró precio aplicable para la consulta: {}", query);
+                    return PriceNotFoundException.forQuery(query);
+                });
+    }
+}
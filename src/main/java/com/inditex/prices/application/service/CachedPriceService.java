@@ -0,0 +1,148 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.exception.PriceNotFoundException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceLookup;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.in.GetApplicablePriceUseCase;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorador de {@link GetApplicablePriceUseCase} que resuelve las consultas individuales
+ * desde la línea temporal cacheada del producto.
+ * <p>
+ * La clave de caché es (marca, producto) y no la fecha consultada, por lo que cualquier
+ * fecha de aplicación se responde sin acceder a base de datos una vez cargada la línea
+ * temporal. Los pares descartados por {@link PriceAdmissionService} no llegan a la caché.
+ * Las consultas por lotes se delegan en {@link PriceService}, que las resuelve en una única
+ * consulta.
+ * </p>
+ * <p>
+ * Un fallo de caché carga todos los precios del producto, no solo la fila ganadora, una vez por
+ * expiración de la entrada: compensa cuando un producto se consulta varias veces por TTL. Si los
+ * productos apenas se repiten puede desactivarse con {@code prices.cache.enabled=false}: las
+ * consultas van entonces directamente a {@link PriceService}, que lee una única fila con la línea
+ * temporal materializada ({@code prices.repository.engine=timeline}).
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachedPriceService implements GetApplicablePriceUseCase {
+
+    private final PriceTimelineCacheService timelineCache;
+    private final PriceService delegate;
+    private final PriceAdmissionService admissionService;
+
+    /**
+     * Obtiene el precio aplicable consultando la línea temporal cacheada del producto.
+     *
+     * @param query criterios de búsqueda (fecha, producto, marca)
+     * @return precio aplicable con mayor prioridad
+     * @throws InvalidQueryException si los parámetros no son válidos
+     * @throws PriceNotFoundException si no existe precio aplicable
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
+    public Price getApplicablePrice(PriceQuery query) {
+        log.debug("Buscando precio aplicable en caché para la consulta: {}", query);
+        return segmentAt(query).getPrice();
+    }
+
+    /**
+     * Obtiene el tramo vigente en la fecha consultada desde la línea temporal cacheada.
+     *
+     * @param query criterios de búsqueda (fecha, producto, marca)
+     * @return tramo con el precio aplicable y sus límites de validez
+     * @throws InvalidQueryException si los parámetros no son válidos
+     * @throws PriceNotFoundException si no existe precio aplicable
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
+    public PriceSegment getApplicableSegment(PriceQuery query) {
+        log.debug("Buscando tramo aplicable en caché para la consulta: {}", query);
+        return segmentAt(query);
+    }
+
+    /**
+     * Obtiene el siguiente cambio de precio desde la línea temporal cacheada del producto.
+     *
+     * @param query criterios de búsqueda (fecha, producto, marca)
+     * @return instante del siguiente cambio, vacío si el precio ya no cambia
+     * @throws InvalidQueryException si los parámetros no son válidos
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
+    public Optional<LocalDateTime> getNextChange(PriceQuery query) {
+        log.debug("Buscando el siguiente cambio de precio en caché para la consulta: {}", query);
+        validate(query);
+
+        if (!admissionService.mightHavePrices(query.getProductId(), query.getBrandId())) {
+            return Optional.empty();
+        }
+        return timeline(query).nextChangeAfter(query.getApplicationDate());
+    }
+
+    /**
+     * Delega la consulta por lotes en el servicio principal (una única consulta al repositorio).
+     *
+     * @param queries consultas a resolver
+     * @return un resultado por consulta, en el mismo orden de entrada
+     */
+    @Override
+    public List<PriceLookup> getApplicablePrices(List<PriceQuery> queries) {
+        return delegate.getApplicablePrices(queries);
+    }
+
+    private PriceSegment segmentAt(PriceQuery query) {
+        validate(query);
+
+        // Descartar sin consultar la caché los pares (marca, producto) que seguro no tienen precios
+        if (!admissionService.mightHavePrices(query.getProductId(), query.getBrandId())) {
+            log.debug("Consulta descartada por el filtro de admisión: {}", query);
+            throw PriceNotFoundException.forQuery(query);
+        }
+
+        return timeline(query).segmentAt(query.getApplicationDate())
+                .orElseThrow(() -> {
+                    log.debug("No se encontró precio aplicable para la consulta: {}", query);
+                    return PriceNotFoundException.forQuery(query);
+                });
+    }
+
+    private PriceTimeline timeline(PriceQuery query) {
+        PriceTimeline timeline = timelineCache.getTimeline(PriceKey.of(query.getProductId(), query.getBrandId()));
+        if (timeline.isEmpty()) {
+            admissionService.recordFalsePositive();
+        }
+        return timeline;
+    }
+
+    private void validate(PriceQuery query) {
+        // Validar la consulta según las reglas de negocio del dominio
+        try {
+            query.validate();
+        } catch (IllegalArgumentException e) {
+            log.error("Parámetros de consulta inválidos: {}", e.getMessage());
+            throw new InvalidQueryException(e.getMessage());
+        }
+    }
+}
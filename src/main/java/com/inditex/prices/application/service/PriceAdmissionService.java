@@ -0,0 +1,217 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceKeyFilter;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servicio de admisión que descarta, sin acceder al repositorio, las consultas de pares
+ * (marca, producto) que no tienen precios.
+ * <p>
+ * Mantiene un {@link PriceKeyFilter} con todas las claves de PRICES, construido al arrancar
+ * y dimensionado para {@code prices.admission.false-positive-rate}. Un cambio de un producto
+ * añade su clave; un cambio global reconstruye el filtro (las bajas solo se reflejan así).
+ * Mientras el filtro no existe, o con {@code prices.admission.enabled=false}, se admiten todas
+ * las consultas.
+ * </p>
+ * <p>
+ * El filtro nunca debe dar falsos negativos, pero un alta escrita sin evento de cambio no llega a
+ * él. Por eso se reconstruye también periódicamente ({@code PriceAdmissionRebuildAdapter}, con el
+ * mismo intervalo que la expiración de la caché), lo que acota ese retraso como lo acotaba la
+ * caché. Las claves añadidas mientras se reconstruye se guardan y se pasan al filtro nuevo.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceAdmissionService {
+
+    /** Pares previstos mínimos con los que se dimensiona el filtro. */
+    static final int MIN_EXPECTED_KEYS = 1024;
+
+    private final PriceRepository priceRepository;
+
+    @Value("${prices.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${prices.admission.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile PriceKeyFilter filter;
+
+    private final Object filterLock = new Object();
+    private List<PriceKey> pendingKeys;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Construye el filtro al arrancar si la admisión está habilitada.
+     */
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            rebuild();
+        } else {
+            log.info("Filtro de admisión de precios deshabilitado");
+        }
+    }
+
+    /**
+     * Construye un filtro nuevo con las claves actuales del repositorio y lo sustituye de forma
+     * atómica. Se dimensiona al doble de las claves actuales para absorber altas posteriores; las
+     * claves se recorren con un cursor y se añaden al filtro sin acumularlas en memoria.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+
+        // Las claves que lleguen mientras se leen las actuales se guardan para el filtro nuevo
+        synchronized (filterLock) {
+            pendingKeys = new ArrayList<>();
+        }
+        PriceKeyFilter rebuilt;
+        long keys;
+        try {
+            rebuilt = PriceKeyFilter.create(
+                    Math.max(MIN_EXPECTED_KEYS, 2L * priceRepository.countKeys()), falsePositiveRate);
+            keys = priceRepository.forEachKey(rebuilt::add);
+        } catch (RuntimeException e) {
+            synchronized (filterLock) {
+                pendingKeys = null;
+            }
+            throw e;
+        }
+        synchronized (filterLock) {
+            pendingKeys.forEach(rebuilt::add);
+            pendingKeys = null;
+            filter = rebuilt;
+        }
+
+        log.info("Filtro de admisión de precios construido: {} pares, {} bytes, {} funciones hash en {} ms",
+                keys, rebuilt.sizeInBytes(), rebuilt.hashFunctions(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indica si el par (producto, marca) puede tener precios y cuenta la decisión.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return false si el par seguro que no tiene precios
+     */
+    public boolean mightHavePrices(Long productId, Integer brandId) {
+        PriceKeyFilter current = filter;
+        if (current == null || current.mightContain(productId, brandId)) {
+            admitted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Registra un par admitido por el filtro que resultó no tener precios.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Actualiza el filtro tras un cambio de precios. Se ejecuta después de que los adaptadores
+     * del repositorio hayan refrescado sus datos, para que la reconstrucción vea las claves nuevas.
+     *
+     * @param event evento de cambio de precios
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.isAll()) {
+            rebuild();
+            return;
+        }
+        synchronized (filterLock) {
+            if (filter != null) {
+                filter.add(event.getKey());
+            }
+            if (pendingKeys != null) {
+                pendingKeys.add(event.getKey());
+            }
+        }
+    }
+
+    /**
+     * Retorna la tasa de falsos positivos estimada del filtro actual.
+     *
+     * @return tasa estimada, 0 si el filtro no existe
+     */
+    public double expectedFalsePositiveRate() {
+        PriceKeyFilter current = filter;
+        return current == null ? 0 : current.expectedFalsePositiveRate();
+    }
+
+    /**
+     * Retorna la memoria ocupada por el filtro actual.
+     *
+     * @return tamaño en bytes, 0 si el filtro no existe
+     */
+    public long sizeInBytes() {
+        PriceKeyFilter current = filter;
+        return current == null ? 0 : current.sizeInBytes();
+    }
+
+    /**
+     * Retorna el número aproximado de pares del filtro actual.
+     *
+     * @return pares añadidos, 0 si el filtro no existe
+     */
+    public long keyCount() {
+        PriceKeyFilter current = filter;
+        return current == null ? 0 : current.approximateKeyCount();
+    }
+
+    /**
+     * Retorna el número de consultas admitidas desde el arranque.
+     *
+     * @return consultas
+     */
+    public long admittedCount() {
+        return admitted.sum();
+    }
+
+    /**
+     * Retorna el número de consultas descartadas desde el arranque.
+     *
+     * @return consultas
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Retorna el número de consultas admitidas de pares sin precios desde el arranque.
+     *
+     * @return consultas
+     */
+    public long falsePositiveCount() {
+        return falsePositives.sum();
+    }
+}
@@ -0,0 +1,59 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceExportQuery;
+import com.inditex.prices.domain.port.in.ExportApplicablePricesUseCase;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * Implementación del caso de uso de exportación de precios de una marca.
+ * Valida la consulta y recorre el repositorio en una única transacción de solo lectura,
+ * necesaria para mantener abierto el cursor mientras se consumen las filas.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceExportService implements ExportApplicablePricesUseCase {
+
+    private final PriceRepository priceRepository;
+
+    /**
+     * Exporta el precio ganador de cada producto de la marca en la fecha indicada.
+     *
+     * @param query marca y fecha de aplicación
+     * @param consumer receptor de cada precio, en orden de producto
+     * @return número de precios exportados
+     * @throws InvalidQueryException si los parámetros no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportApplicablePrices(PriceExportQuery query, Consumer<Price> consumer) {
+        try {
+            query.validate();
+        } catch (IllegalArgumentException e) {
+            log.error("Parámetros de exportación inválidos: {}", e.getMessage());
+            throw new InvalidQueryException(e.getMessage());
+        }
+
+        long start = System.nanoTime();
+        long exported = priceRepository.forEachApplicablePrice(
+                query.getBrandId(),
+                query.getApplicationDate(),
+                consumer
+        );
+
+        log.info("Exportados {} precios de brandId={} en fecha {} en {} ms",
+                exported, query.getBrandId(), query.getApplicationDate(), (System.nanoTime() - start) / 1_000_000);
+        return exported;
+    }
+}
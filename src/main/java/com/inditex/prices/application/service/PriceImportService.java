@@ -0,0 +1,158 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceFeedRecord;
+import com.inditex.prices.domain.model.PriceImportResult;
+import com.inditex.prices.domain.port.in.ImportPricesUseCase;
+import com.inditex.prices.domain.port.out.BrandRepository;
+import com.inditex.prices.domain.port.out.PriceFeedGateway;
+import com.inditex.prices.domain.port.out.PriceImportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del caso de uso de carga masiva de precios.
+ * <p>
+ * Lee el fichero en streaming, valida cada fila contra las restricciones de PRICES
+ * (campos, vigencia y {@code fk_prices_brand}) y escribe las filas válidas en bloques de
+ * {@code prices.import.commit-interval} filas, cada uno en su propia transacción. Las filas
+ * repetidas según {@code uq_price_entry} se actualizan. La memoria usada depende del tamaño
+ * del bloque, no del fichero. Al terminar publica un {@link PricesChangedEvent} global.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceImportService implements ImportPricesUseCase {
+
+    /** Número máximo de errores detallados en el resultado. */
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final PriceFeedGateway priceFeedGateway;
+    private final PriceImportRepository priceImportRepository;
+    private final BrandRepository brandRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${prices.import.commit-interval:50000}")
+    private int commitInterval;
+
+    /**
+     * Carga los precios del fichero indicado.
+     *
+     * @param feed ruta del fichero de precios
+     * @return resumen de la carga
+     */
+    @Override
+    public PriceImportResult importPrices(Path feed) {
+        log.info("Iniciando carga de precios desde {} (bloques de {} filas)", feed, commitInterval);
+
+        long start = System.nanoTime();
+        Set<Integer> brandIds = brandRepository.findAllIds();
+        List<Price> chunk = new ArrayList<>(commitInterval);
+        List<String> errors = new ArrayList<>();
+        long read = 0;
+        long imported = 0;
+        long rejected = 0;
+
+        try (Stream<PriceFeedRecord> records = priceFeedGateway.read(feed)) {
+            Iterator<PriceFeedRecord> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                PriceFeedRecord record = iterator.next();
+                read++;
+
+                String error = validate(record, brandIds);
+                if (error != null) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add("Línea " + record.getLineNumber() + ": " + error);
+                    }
+                    continue;
+                }
+
+                chunk.add(record.getPrice());
+                if (chunk.size() >= commitInterval) {
+                    imported += flush(chunk);
+                    log.info("Carga en curso: {} filas leídas, {} cargadas ({} filas/s)",
+                            read, imported, rowsPerSecond(read, start));
+                }
+            }
+        }
+        imported += flush(chunk);
+
+        if (imported > 0) {
+            eventPublisher.publishEvent(PricesChangedEvent.all());
+        }
+
+        PriceImportResult result = PriceImportResult.builder()
+                .rowsRead(read)
+                .rowsImported(imported)
+                .rowsRejected(rejected)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .errors(List.copyOf(errors))
+                .build();
+
+        log.info("Carga de precios finalizada: {} filas leídas, {} cargadas, {} rechazadas en {} ms ({} filas/s)",
+                result.getRowsRead(), result.getRowsImported(), result.getRowsRejected(),
+                result.getElapsedMillis(), result.getRowsPerSecond());
+        return result;
+    }
+
+    /**
+     * Valida un registro del fichero contra las restricciones de PRICES.
+     *
+     * @param record registro leído
+     * @param brandIds marcas existentes
+     * @return motivo del rechazo, o null si el registro es válido
+     */
+    private static String validate(PriceFeedRecord record, Set<Integer> brandIds) {
+        if (!record.isValid()) {
+            return record.getError();
+        }
+
+        Price price = record.getPrice();
+        try {
+            price.validate();
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+
+        if (!brandIds.contains(price.getBrandId())) {
+            return "La marca " + price.getBrandId() + " no existe";
+        }
+        return null;
+    }
+
+    /**
+     * Escribe el bloque pendiente en una transacción y lo vacía.
+     *
+     * @param chunk precios validados pendientes
+     * @return filas escritas
+     */
+    private int flush(List<Price> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int written = priceImportRepository.upsertPrices(chunk);
+        chunk.clear();
+        return written;
+    }
+
+    private static long rowsPerSecond(long rows, long startNanos) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        return rows * 1000 / elapsedMillis;
+    }
+}
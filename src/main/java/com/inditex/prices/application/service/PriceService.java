@@ -3,20 +3,35 @@ package com.inditex.prices.application.service;
 import com.inditex.prices.domain.exception.InvalidQueryException;
 import com.inditex.prices.domain.exception.PriceNotFoundException;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceLookup;
 import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.model.PriceTimeline;
 import com.inditex.prices.domain.port.in.GetApplicablePriceUseCase;
 import com.inditex.prices.domain.port.out.PriceRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Implementación del caso de uso de obtención de precio aplicable.
- * Orquesta la validación, búsqueda en repositorio y selección por prioridad.
+ * Orquesta la validación y la búsqueda en repositorio; la selección por prioridad
+ * se delega en el repositorio, que retorna directamente el precio ganador. Las consultas de
+ * pares (marca, producto) sin precios se descartan antes con {@link PriceAdmissionService}.
+ * <p>
+ * Las consultas se unen a una transacción existente pero no abren una propia: cada consulta
+ * es una única sentencia de lectura, y los motores que no usan JPA (jdbc, memory) se ahorran
+ * así el coste de iniciar una transacción y un EntityManager por petición.
+ * </p>
  *
  * @author Irvin Monterroza
  * @version 1.0
@@ -27,10 +42,11 @@ import java.util.List;
 public class PriceService implements GetApplicablePriceUseCase {
 
     private final PriceRepository priceRepository;
+    private final PriceAdmissionService admissionService;
 
     /**
-     * Obtiene el precio aplicable validando parámetros, filtrando por vigencia
-     * y seleccionando el de mayor prioridad en caso de múltiples coincidencias.
+     * Obtiene el precio aplicable validando parámetros y consultando al repositorio
+     * el precio de mayor prioridad vigente en la fecha indicada.
      *
      * @param query criterios de búsqueda (fecha, producto, marca)
      * @return precio aplicable con mayor prioridad
@@ -38,44 +54,152 @@ public class PriceService implements GetApplicablePriceUseCase {
      * @throws PriceNotFoundException si no existe precio aplicable
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
     public Price getApplicablePrice(PriceQuery query) {
         log.debug("Buscando precio aplicable para la consulta: {}", query);
+        admit(query);
 
-        // Validar la consulta según las reglas de negocio del dominio
+        // Buscar directamente el precio ganador (mayor prioridad, desempate por tarifa)
+        return priceRepository.findApplicablePrice(
+                        query.getProductId(),
+                        query.getBrandId(),
+                        query.getApplicationDate()
+                )
+                .orElseThrow(() -> {
+                    log.debug("No se encontró precio aplicable para la consulta: {}", query);
+                    return PriceNotFoundException.forQuery(query);
+                });
+    }
+
+    /**
+     * Obtiene el tramo vigente en la fecha consultada. Con la línea temporal materializada es
+     * una lectura de una fila; el resto de motores la construyen con todos los precios del
+     * producto, ya que sus límites dependen también de los precios no ganadores.
+     *
+     * @param query criterios de búsqueda (fecha, producto, marca)
+     * @return tramo con el precio aplicable y sus límites de validez
+     * @throws InvalidQueryException si los parámetros no son válidos
+     * @throws PriceNotFoundException si no existe precio aplicable
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
+    public PriceSegment getApplicableSegment(PriceQuery query) {
+        log.debug("Buscando tramo aplicable para la consulta: {}", query);
+        admit(query);
+
+        return priceRepository.findApplicableSegment(
+                        query.getProductId(),
+                        query.getBrandId(),
+                        query.getApplicationDate()
+                )
+                .orElseThrow(() -> {
+                    log.debug("No se encontró precio aplicable para la consulta: {}", query);
+                    return PriceNotFoundException.forQuery(query);
+                });
+    }
+
+    /**
+     * Obtiene el siguiente cambio de precio a partir de la línea temporal de todos los precios
+     * del producto. Los pares descartados por el filtro de admisión no tienen cambios.
+     *
+     * @param query criterios de búsqueda (fecha, producto, marca)
+     * @return instante del siguiente cambio, vacío si el precio ya no cambia
+     * @throws InvalidQueryException si los parámetros no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
+    public Optional<LocalDateTime> getNextChange(PriceQuery query) {
+        log.debug("Buscando el siguiente cambio de precio para la consulta: {}", query);
+        validate(query);
+
+        if (!admissionService.mightHavePrices(query.getProductId(), query.getBrandId())) {
+            return Optional.empty();
+        }
+        return PriceTimeline.of(priceRepository.findAllPrices(query.getProductId(), query.getBrandId()))
+                .nextChangeAfter(query.getApplicationDate());
+    }
+
+    /**
+     * Obtiene los precios aplicables de un lote validando cada consulta por separado
+     * y resolviendo todas las consultas válidas en una única llamada al repositorio.
+     *
+     * @param queries consultas a resolver
+     * @return un resultado por consulta, en el mismo orden de entrada
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
+    public List<PriceLookup> getApplicablePrices(List<PriceQuery> queries) {
+        log.debug("Buscando precios aplicables para un lote de {} consultas", queries.size());
+
+        // Validar cada consulta; las inválidas se informan sin hacer fallar el lote y las de
+        // pares sin precios según el filtro de admisión no llegan al repositorio
+        String[] errors = new String[queries.size()];
+        List<PriceQuery> validQueries = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            PriceQuery query = queries.get(i);
+            try {
+                query.validate();
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+                continue;
+            }
+            if (admissionService.mightHavePrices(query.getProductId(), query.getBrandId())) {
+                validQueries.add(query);
+            }
+        }
+
+        // Resolver todas las consultas admitidas en una única llamada
+        Map<PriceQuery, Price> prices = validQueries.isEmpty()
+                ? Map.of()
+                : priceRepository.findApplicablePrices(validQueries);
+
+        List<PriceLookup> lookups = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            PriceQuery query = queries.get(i);
+            if (errors[i] != null) {
+                lookups.add(PriceLookup.invalid(query, errors[i]));
+            } else if (prices.containsKey(query)) {
+                lookups.add(PriceLookup.found(query, prices.get(query)));
+            } else {
+                lookups.add(PriceLookup.notFound(query));
+            }
+        }
+        return lookups;
+    }
+
+    /**
+     * Valida la consulta y descarta los pares que según el filtro de admisión no tienen precios.
+     *
+     * @param query consulta a admitir
+     * @throws InvalidQueryException si los parámetros no son válidos
+     * @throws PriceNotFoundException si el par seguro que no tiene precios
+     */
+    private void admit(PriceQuery query) {
+        validate(query);
+
+        // Descartar sin acceder a BD los pares (marca, producto) que seguro no tienen precios
+        if (!admissionService.mightHavePrices(query.getProductId(), query.getBrandId())) {
+            log.debug("Consulta descartada por el filtro de admisión: {}", query);
+            throw PriceNotFoundException.forQuery(query);
+        }
+    }
+
+    /**
+     * Valida la consulta según las reglas de negocio del dominio.
+     *
+     * @param query consulta a validar
+     * @throws InvalidQueryException si los parámetros no son válidos
+     */
+    private void validate(PriceQuery query) {
         try {
             query.validate();
         } catch (IllegalArgumentException e) {
             log.error("Parámetros de consulta inválidos: {}", e.getMessage());
             throw new InvalidQueryException(e.getMessage());
         }
-
-        // Buscar precios candidatos que coincidan con producto, marca y fecha
-        List<Price> applicablePrices = priceRepository.findApplicablePrices(
-                query.getProductId(),
-                query.getBrandId(),
-                query.getApplicationDate()
-        );
-
-        log.debug("Se encontraron {} precios potenciales para producto {} y marca {}",
-                applicablePrices.size(),
-                query.getProductId(),
-                query.getBrandId());
-
-        // Filtrar por vigencia temporal y seleccionar el de mayor prioridad
-        // Utilizamos Stream API para aplicar las reglas de negocio de forma funcional
-        return applicablePrices.stream()
-                .filter(price -> price.isApplicableAt(query.getApplicationDate()))
-                .max(Comparator.comparing(Price::getPriority))
-                .orElseThrow(() -> {
-                    String message = String.format(
-                            "No se encontró precio aplicable para producto %d, marca %d en fecha %s",
-                            query.getProductId(),
-                            query.getBrandId(),
-                            query.getApplicationDate()
-                    );
-                    log.warn(message);
-                    return new PriceNotFoundException(message);
-                });
     }
 }
@@ -0,0 +1,178 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.in.ManagePriceCacheUseCase;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché de líneas temporales de precios por (marca, producto).
+ * <p>
+ * Cada entrada contiene la línea temporal completa y resuelta del producto, de modo que
+ * cualquier fecha de aplicación se responde desde memoria. Tamaño, expiración y estadísticas
+ * se configuran en la caché {@value #CACHE_NAME} ({@code spring.cache.caffeine.spec}).
+ * </p>
+ * <p>
+ * Los productos sin precios no ocupan la caché principal: se recuerdan en la caché negativa
+ * {@value #MISSING_CACHE_NAME}, acotada por separado, de modo que las consultas a productos
+ * inexistentes (p. ej. de bots) no desalojan líneas temporales reales ni acceden a la BD.
+ * </p>
+ * <p>
+ * Las entradas afectadas de ambas cachés se invalidan automáticamente al publicarse un
+ * {@link PricesChangedEvent}. Cada invalidación avanza una generación, de modo que una línea
+ * temporal cargada de forma asíncrona antes de un cambio no se queda en la caché después de él.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceTimelineCacheService implements ManagePriceCacheUseCase {
+
+    /** Nombre de la caché de líneas temporales. */
+    public static final String CACHE_NAME = "price-timelines";
+
+    /** Nombre de la caché negativa de productos sin precios. */
+    public static final String MISSING_CACHE_NAME = "price-missing-keys";
+
+    private final PriceRepository priceRepository;
+    private final CacheManager cacheManager;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Obtiene la línea temporal del producto, cargándola del repositorio si no está en ninguna
+     * de las dos cachés. Las líneas temporales con precios se guardan en {@value #CACHE_NAME} y
+     * los productos sin precios (línea temporal vacía) en {@value #MISSING_CACHE_NAME}. La carga
+     * es de solo lectura, de modo que con el enrutado de lecturas se atiende en una réplica.
+     *
+     * @param key par (producto, marca)
+     * @return línea temporal resuelta del producto
+     */
+    @Caching(cacheable = {
+        @Cacheable(cacheNames = CACHE_NAME, unless = "#result.empty"),
+        @Cacheable(cacheNames = MISSING_CACHE_NAME, unless = "!#result.empty")
+    })
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PriceTimeline getTimeline(PriceKey key) {
+        log.debug("Cargando línea temporal de precios para {}", key);
+
+        return PriceTimeline.of(priceRepository.findAllPrices(key.getProductId(), key.getBrandId()));
+    }
+
+    /**
+     * Busca la línea temporal del producto en las cachés sin cargarla si no está, para las
+     * consultas asíncronas, que cargan las ausentes fuera del hilo de la petición.
+     *
+     * @param key par (producto, marca)
+     * @return línea temporal cacheada (vacía si el producto está en la caché negativa), o
+     *         {@code Optional.empty()} si no está en ninguna caché
+     */
+    public Optional<PriceTimeline> findCachedTimeline(PriceKey key) {
+        PriceTimeline timeline = cache(CACHE_NAME).get(key, PriceTimeline.class);
+        if (timeline == null) {
+            timeline = cache(MISSING_CACHE_NAME).get(key, PriceTimeline.class);
+        }
+        return Optional.ofNullable(timeline);
+    }
+
+    /**
+     * Retorna la generación actual de la caché, que avanza con cada invalidación. Se lee antes
+     * de cargar una línea temporal fuera de {@link #getTimeline(PriceKey)} y se pasa a
+     * {@link #putTimeline(PriceKey, PriceTimeline, long)}.
+     *
+     * @return generación actual
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Guarda la línea temporal cargada fuera de {@link #getTimeline(PriceKey)}, en la caché que
+     * corresponde según tenga o no precios.
+     * <p>
+     * Si desde el inicio de la carga se ha invalidado la caché, la línea temporal puede ser
+     * anterior al cambio y se retira tras guardarla. Comprobarlo después de guardar, y avanzar la
+     * generación antes de desalojar, garantiza que una invalidación concurrente siempre la retira.
+     * </p>
+     *
+     * @param key par (producto, marca)
+     * @param timeline línea temporal cargada
+     * @param loadGeneration generación leída con {@link #generation()} antes de la carga
+     * @return la misma línea temporal
+     */
+    public PriceTimeline putTimeline(PriceKey key, PriceTimeline timeline, long loadGeneration) {
+        Cache cache = cache(timeline.isEmpty() ? MISSING_CACHE_NAME : CACHE_NAME);
+        cache.put(key, timeline);
+        if (generation.get() != loadGeneration) {
+            log.debug("Descartando la línea temporal de {} cargada antes de una invalidación", key);
+            cache.evict(key);
+        }
+        return timeline;
+    }
+
+    /**
+     * Invalida la línea temporal cacheada de un producto y marca.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     */
+    @Override
+    @CacheEvict(cacheNames = {CACHE_NAME, MISSING_CACHE_NAME},
+        key = "T(com.inditex.prices.domain.model.PriceKey).of(#a0, #a1)")
+    public void invalidate(Long productId, Integer brandId) {
+        generation.incrementAndGet();
+        log.info("Invalidando línea temporal cacheada para productId={}, brandId={}", productId, brandId);
+    }
+
+    /**
+     * Invalida todas las líneas temporales cacheadas.
+     */
+    @Override
+    @CacheEvict(cacheNames = {CACHE_NAME, MISSING_CACHE_NAME}, allEntries = true)
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        log.info("Invalidando todas las líneas temporales cacheadas");
+    }
+
+    /**
+     * Invalida las líneas temporales afectadas por un cambio de precios.
+     *
+     * @param event evento de cambio de precios
+     */
+    @EventListener
+    @Caching(evict = {
+        @CacheEvict(cacheNames = {CACHE_NAME, MISSING_CACHE_NAME}, key = "#a0.key", condition = "!#a0.all"),
+        @CacheEvict(cacheNames = {CACHE_NAME, MISSING_CACHE_NAME}, allEntries = true, condition = "#a0.all")
+    })
+    public void onPricesChanged(PricesChangedEvent event) {
+        generation.incrementAndGet();
+        log.info("Invalidando líneas temporales cacheadas por cambio de precios: {}",
+                event.isAll() ? "todos los productos" : event.getKey());
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("La caché " + name + " no está configurada");
+        }
+        return cache;
+    }
+}
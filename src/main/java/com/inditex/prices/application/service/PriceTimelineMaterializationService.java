@@ -0,0 +1,128 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.in.RebuildPriceTimelineUseCase;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import com.inditex.prices.domain.port.out.PriceTimelineRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Servicio que construye la línea temporal materializada (tabla PRICE_TIMELINE).
+ * <p>
+ * Por cada par (producto, marca) lee sus precios, resuelve los solapamientos con
+ * {@link PriceTimeline} y sustituye sus tramos de forma atómica. Cuando cambian los
+ * precios de un producto ({@link PricesChangedEvent}) solo se reconstruye ese producto; un
+ * cambio global se reconstruye en segundo plano, sin retener al hilo que lo notifica, y los
+ * avisos repetidos mientras espera se agrupan en una sola reconstrucción.
+ * Solo está activo con {@code prices.repository.engine=timeline}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.repository", name = "engine", havingValue = "timeline")
+public class PriceTimelineMaterializationService implements RebuildPriceTimelineUseCase {
+
+    private final PriceRepository priceRepository;
+    private final PriceTimelineRepository timelineRepository;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("prices-timeline-rebuild").daemon().factory());
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    /**
+     * Reconstruye los tramos de un único producto y marca.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return número de tramos materializados
+     */
+    @Override
+    public int rebuild(Long productId, Integer brandId) {
+        PriceKey key = PriceKey.of(productId, brandId);
+        PriceTimeline timeline = PriceTimeline.of(priceRepository.findAllPrices(productId, brandId));
+
+        timelineRepository.replaceSegments(key, timeline.getSegments());
+
+        log.debug("Línea temporal de {} reconstruida con {} tramos", key, timeline.getSegments().size());
+        return timeline.getSegments().size();
+    }
+
+    /**
+     * Reconstruye los tramos de todos los productos, uno a uno para no bloquear las lecturas
+     * del resto, y elimina después los tramos de productos sin precios.
+     *
+     * @return número de productos reconstruidos
+     */
+    @Override
+    public int rebuildAll() {
+        long start = System.nanoTime();
+
+        List<PriceKey> keys = priceRepository.findAllKeys();
+        for (PriceKey key : keys) {
+            rebuild(key.getProductId(), key.getBrandId());
+        }
+        int orphans = timelineRepository.deleteOrphanSegments();
+
+        log.info("Línea temporal materializada reconstruida: {} productos, {} tramos huérfanos eliminados en {} ms",
+            keys.size(), orphans, (System.nanoTime() - start) / 1_000_000);
+        return keys.size();
+    }
+
+    /**
+     * Programa la reconstrucción completa en segundo plano. Si ya hay una esperando turno, la
+     * solicitud se agrupa con ella; si hay una en curso se ejecuta otra al terminar, para incluir
+     * los cambios posteriores a su inicio.
+     */
+    public void requestRebuildAll() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            log.debug("Reconstrucción completa ya pendiente, solicitud agrupada");
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            rebuildPending.set(false);
+            try {
+                rebuildAll();
+            } catch (RuntimeException e) {
+                log.error("Error en la reconstrucción completa de la línea temporal", e);
+            }
+        });
+    }
+
+    /**
+     * Reconstruye la línea temporal afectada por un cambio de precios: el producto notificado
+     * en el hilo del evento o, si el cambio es global, todo el catálogo en segundo plano.
+     *
+     * @param event evento de cambio de precios
+     */
+    @EventListener
+    public void onPricesChanged(PricesChangedEvent event) {
+        if (event.isAll()) {
+            requestRebuildAll();
+        } else {
+            rebuild(event.getKey().getProductId(), event.getKey().getBrandId());
+        }
+    }
+
+    /**
+     * Detiene el hilo de reconstrucción al cerrar el contexto, dejando terminar la que esté en curso.
+     */
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+}
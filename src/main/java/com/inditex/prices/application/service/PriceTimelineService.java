@@ -0,0 +1,123 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.model.PriceInstantsQuery;
+import com.inditex.prices.domain.model.PriceLookup;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceRangeQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.in.GetPriceTimelineUseCase;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación del caso de uso de consulta de la línea temporal de un producto en un intervalo.
+ * <p>
+ * Lee en una única consulta las filas de PRICES que se solapan con el intervalo y las resuelve
+ * con un único barrido de {@link PriceTimeline} (límites de inicio/fin y montículo de
+ * prioridades), en lugar de una consulta por instante muestreado. Las consultas de varias
+ * fechas de un producto reutilizan esa lectura para el intervalo que cubre todas las fechas.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceTimelineService implements GetPriceTimelineUseCase {
+
+    private final PriceRepository priceRepository;
+    private final PriceAdmissionService admissionService;
+
+    /**
+     * Obtiene los tramos del intervalo resolviendo los solapamientos en memoria.
+     *
+     * @param query producto, marca e intervalo (extremos inclusivos)
+     * @return tramos ordenados cronológicamente, vacía si no hay precios en el intervalo
+     * @throws InvalidQueryException si los parámetros no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
+    public List<PriceSegment> getPriceTimeline(PriceRangeQuery query) {
+        log.debug("Buscando línea temporal para la consulta: {}", query);
+
+        try {
+            query.validate();
+        } catch (IllegalArgumentException e) {
+            log.error("Parámetros de consulta inválidos: {}", e.getMessage());
+            throw new InvalidQueryException(e.getMessage());
+        }
+
+        if (!admissionService.mightHavePrices(query.getProductId(), query.getBrandId())) {
+            return List.of();
+        }
+
+        return PriceTimeline.of(priceRepository.findPricesBetween(
+                        query.getProductId(),
+                        query.getBrandId(),
+                        query.getFrom(),
+                        query.getTo()
+                ))
+                .between(query.getFrom(), query.getTo());
+    }
+
+    /**
+     * Obtiene el precio de cada fecha con una única lectura de las filas que se solapan con
+     * el intervalo [fecha mínima, fecha máxima] y un recorrido conjunto de fechas y tramos.
+     *
+     * @param query producto, marca y fechas de aplicación
+     * @return un resultado FOUND o NOT_FOUND por fecha, en el orden de la consulta
+     * @throws InvalidQueryException si los parámetros no son válidos
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    @Timed(value = "prices.stage", extraTags = {"stage", "service"})
+    public List<PriceLookup> getPricesAt(PriceInstantsQuery query) {
+        log.debug("Buscando precios en {} fechas para la consulta: {}",
+                query.getApplicationDates() == null ? 0 : query.getApplicationDates().size(), query);
+
+        try {
+            query.validate();
+        } catch (IllegalArgumentException e) {
+            log.error("Parámetros de consulta inválidos: {}", e.getMessage());
+            throw new InvalidQueryException(e.getMessage());
+        }
+
+        List<LocalDateTime> dates = query.getApplicationDates();
+        if (!admissionService.mightHavePrices(query.getProductId(), query.getBrandId())) {
+            return dates.stream()
+                    .map(date -> PriceLookup.notFound(query.at(date)))
+                    .toList();
+        }
+
+        List<Optional<PriceSegment>> segments = PriceTimeline.of(priceRepository.findPricesBetween(
+                        query.getProductId(),
+                        query.getBrandId(),
+                        query.getFrom(),
+                        query.getTo()
+                ))
+                .segmentsAt(dates);
+
+        List<PriceLookup> lookups = new ArrayList<>(dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            PriceQuery single = query.at(dates.get(i));
+            lookups.add(segments.get(i)
+                    .map(segment -> PriceLookup.found(single, segment.getPrice()))
+                    .orElseGet(() -> PriceLookup.notFound(single)));
+        }
+        return lookups;
+    }
+}
@@ -0,0 +1,52 @@
+package com.inditex.prices.domain.event;
+
+import com.inditex.prices.domain.model.PriceKey;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Evento de dominio que indica que han cambiado las filas de PRICES.
+ * <p>
+ * Si {@link #getKey()} es nulo el cambio afecta a todo el catálogo; en caso contrario
+ * solo al par (producto, marca) indicado, lo que permite a los consumidores (caché,
+ * línea temporal materializada) reaccionar de forma incremental.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PricesChangedEvent {
+
+    private final PriceKey key;
+
+    /**
+     * Crea el evento para un único producto y marca.
+     *
+     * @param key par (producto, marca) modificado
+     * @return evento de cambio del producto
+     */
+    public static PricesChangedEvent of(PriceKey key) {
+        return new PricesChangedEvent(key);
+    }
+
+    /**
+     * Crea el evento para un cambio que afecta a todo el catálogo.
+     *
+     * @return evento de cambio global
+     */
+    public static PricesChangedEvent all() {
+        return new PricesChangedEvent(null);
+    }
+
+    /**
+     * Indica si el cambio afecta a todo el catálogo.
+     *
+     * @return true si no se indicó producto
+     */
+    public boolean isAll() {
+        return key == null;
+    }
+}
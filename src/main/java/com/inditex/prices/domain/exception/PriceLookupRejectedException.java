@@ -0,0 +1,34 @@
+package com.inditex.prices.domain.exception;
+
+/**
+ * Excepción lanzada cuando una búsqueda de precios se rechaza sin ejecutarse porque el acceso a
+ * datos está saturado (límite de búsquedas simultáneas alcanzado o cola de consultas asíncronas
+ * llena). El cliente puede reintentar pasados unos segundos.
+ * <p>
+ * Bajo sobrecarga se lanza en cada petición sobrante: no captura la traza de la pila.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public class PriceLookupRejectedException extends RuntimeException {
+
+    /**
+     * Construye una nueva excepción con el mensaje especificado.
+     *
+     * @param message motivo del rechazo
+     */
+    public PriceLookupRejectedException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Construye una nueva excepción con el mensaje y la causa especificados.
+     *
+     * @param message motivo del rechazo
+     * @param cause rechazo original del ejecutor
+     */
+    public PriceLookupRejectedException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -1,8 +1,13 @@
 package com.inditex.prices.domain.exception;
 
+import com.inditex.prices.domain.model.PriceQuery;
+
 /**
  * Excepción lanzada cuando no se encuentra un precio aplicable
  * para los criterios especificados (producto, marca, fecha).
+ * <p>
+ * Es un resultado de negocio esperado (404), no un error: no captura la traza de la pila.
+ * </p>
  *
  * @author Irvin Monterroza
  * @version 1.0
@@ -15,6 +20,18 @@ public class PriceNotFoundException extends RuntimeException {
      * @param message mensaje descriptivo con los criterios de búsqueda
      */
     public PriceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+    }
+
+    /**
+     * Construye la excepción con el mensaje estándar para la consulta indicada.
+     *
+     * @param query consulta sin precio aplicable
+     * @return excepción con producto, marca y fecha en el mensaje
+     */
+    public static PriceNotFoundException forQuery(PriceQuery query) {
+        return new PriceNotFoundException("No se encontró precio aplicable para producto " + query.getProductId()
+                + ", marca " + query.getBrandId()
+                + " en fecha " + query.getApplicationDate());
     }
 }
@@ -5,6 +5,8 @@ import lombok.Value;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.regex.Pattern;
 
 /**
  * Entidad de dominio inmutable que representa un precio aplicable a un producto
@@ -17,6 +19,16 @@ import java.time.LocalDateTime;
 @Builder
 public class Price {
 
+    /**
+     * Orden de aplicación entre precios solapados: gana la mayor prioridad y,
+     * a igual prioridad, la tarifa (PRICE_LIST) más alta.
+     */
+    public static final Comparator<Price> APPLICATION_ORDER = Comparator
+            .comparing(Price::getPriority)
+            .thenComparing(Price::getPriceList);
+
+    private static final Pattern CURRENCY_CODE = Pattern.compile("[A-Z]{3}");
+
     Long id;
     Long productId;
     Integer brandId;
@@ -43,6 +55,48 @@ public class Price {
                 && !applicationDate.isAfter(endDate);
     }
 
+    /**
+     * Valida que el precio cumpla las restricciones de la tabla PRICES: campos obligatorios,
+     * identificadores positivos, vigencia ordenada, prioridad e importe no negativos y
+     * moneda ISO 4217 de tres letras.
+     *
+     * @throws IllegalArgumentException si el precio no es válido
+     */
+    public void validate() {
+        if (productId == null || brandId == null || priceList == null || priority == null) {
+            throw new IllegalArgumentException("Producto, marca, tarifa y prioridad son obligatorios");
+        }
+
+        if (productId <= 0 || brandId <= 0 || priceList <= 0) {
+            throw new IllegalArgumentException(
+                    "Producto, marca y tarifa deben ser positivos, recibido: productId=" + productId
+                            + ", brandId=" + brandId + ", priceList=" + priceList
+            );
+        }
+
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Las fechas de inicio y fin son obligatorias");
+        }
+
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException(
+                    "La fecha de fin es anterior a la de inicio: " + startDate + " > " + endDate
+            );
+        }
+
+        if (priority < 0) {
+            throw new IllegalArgumentException("La prioridad no puede ser negativa, recibido: " + priority);
+        }
+
+        if (price == null || price.signum() < 0) {
+            throw new IllegalArgumentException("El importe es obligatorio y no negativo, recibido: " + price);
+        }
+
+        if (currency == null || !CURRENCY_CODE.matcher(currency).matches()) {
+            throw new IllegalArgumentException("La moneda debe ser un código ISO de 3 letras, recibido: " + currency);
+        }
+    }
+
     /**
      * Compara la prioridad de este precio con otro.
      *
@@ -0,0 +1,43 @@
+package com.inditex.prices.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object inmutable con los parámetros de exportación de precios de una marca
+ * (marca, fecha) y su validación de negocio.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@Builder
+public class PriceExportQuery {
+
+    LocalDateTime applicationDate;
+    Integer brandId;
+
+    /**
+     * Valida que los campos de la exportación cumplan las reglas de negocio
+     * (no nulos, identificador de marca positivo).
+     *
+     * @throws IllegalArgumentException si los datos no son válidos
+     */
+    public void validate() {
+        if (applicationDate == null) {
+            throw new IllegalArgumentException("La fecha de aplicación es obligatoria");
+        }
+
+        if (brandId == null) {
+            throw new IllegalArgumentException("El identificador de marca es obligatorio");
+        }
+
+        if (brandId <= 0) {
+            throw new IllegalArgumentException(
+                    "El identificador de marca debe ser positivo, recibido: " + brandId
+            );
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.inditex.prices.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Registro leído de un fichero de carga de precios: el precio interpretado o,
+ * si la línea no se pudo interpretar, el motivo del error.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PriceFeedRecord {
+
+    long lineNumber;
+    Price price;
+    String error;
+
+    /**
+     * Crea un registro interpretado correctamente.
+     *
+     * @param lineNumber número de línea en el fichero (desde 1)
+     * @param price precio interpretado
+     * @return registro válido
+     */
+    public static PriceFeedRecord valid(long lineNumber, Price price) {
+        return new PriceFeedRecord(lineNumber, price, null);
+    }
+
+    /**
+     * Crea un registro que no se pudo interpretar.
+     *
+     * @param lineNumber número de línea en el fichero (desde 1)
+     * @param error motivo del error
+     * @return registro inválido
+     */
+    public static PriceFeedRecord invalid(long lineNumber, String error) {
+        return new PriceFeedRecord(lineNumber, null, error);
+    }
+
+    /**
+     * Indica si la línea se interpretó correctamente.
+     *
+     * @return true si contiene un precio
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+}
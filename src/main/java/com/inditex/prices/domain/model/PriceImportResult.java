@@ -0,0 +1,33 @@
+package com.inditex.prices.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Resultado de una carga masiva de precios: filas leídas, cargadas y rechazadas,
+ * duración y una muestra de los errores encontrados.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@Builder
+public class PriceImportResult {
+
+    long rowsRead;
+    long rowsImported;
+    long rowsRejected;
+    long elapsedMillis;
+    List<String> errors;
+
+    /**
+     * Calcula el rendimiento de la carga en filas leídas por segundo.
+     *
+     * @return filas por segundo
+     */
+    public long getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowsRead : rowsRead * 1000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,93 @@
+package com.inditex.prices.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Value Object inmutable con los parámetros de consulta del precio de un producto en varias
+ * fechas (producto, marca, fechas de aplicación) y su validación de negocio.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@Builder
+public class PriceInstantsQuery {
+
+    Long productId;
+    Integer brandId;
+    List<LocalDateTime> applicationDates;
+
+    /**
+     * Valida que los campos de la consulta cumplan las reglas de negocio
+     * (no nulos, identificadores positivos, al menos una fecha y ninguna fecha nula).
+     *
+     * @throws IllegalArgumentException si los datos no son válidos
+     */
+    public void validate() {
+        if (productId == null) {
+            throw new IllegalArgumentException("El identificador de producto es obligatorio");
+        }
+
+        if (brandId == null) {
+            throw new IllegalArgumentException("El identificador de marca es obligatorio");
+        }
+
+        if (applicationDates == null || applicationDates.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicarse al menos una fecha de aplicación");
+        }
+
+        if (applicationDates.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Las fechas de aplicación no pueden ser nulas");
+        }
+
+        if (productId <= 0) {
+            throw new IllegalArgumentException(
+                    "El identificador de producto debe ser positivo, recibido: " + productId
+            );
+        }
+
+        if (brandId <= 0) {
+            throw new IllegalArgumentException(
+                    "El identificador de marca debe ser positivo, recibido: " + brandId
+            );
+        }
+    }
+
+    /**
+     * Retorna la fecha más temprana de la consulta.
+     *
+     * @return inicio del intervalo que cubre todas las fechas
+     */
+    public LocalDateTime getFrom() {
+        return Collections.min(applicationDates);
+    }
+
+    /**
+     * Retorna la fecha más tardía de la consulta.
+     *
+     * @return fin del intervalo que cubre todas las fechas
+     */
+    public LocalDateTime getTo() {
+        return Collections.max(applicationDates);
+    }
+
+    /**
+     * Construye la consulta individual de una de las fechas.
+     *
+     * @param applicationDate fecha de aplicación
+     * @return consulta de precio del producto en esa fecha
+     */
+    public PriceQuery at(LocalDateTime applicationDate) {
+        return PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(productId)
+                .brandId(brandId)
+                .build();
+    }
+}
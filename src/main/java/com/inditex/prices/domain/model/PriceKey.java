@@ -0,0 +1,17 @@
+package com.inditex.prices.domain.model;
+
+import lombok.Value;
+
+/**
+ * Value Object inmutable que identifica la serie de precios de un producto
+ * dentro de una marca (par BRAND_ID, PRODUCT_ID).
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value(staticConstructor = "of")
+public class PriceKey {
+
+    Long productId;
+    Integer brandId;
+}
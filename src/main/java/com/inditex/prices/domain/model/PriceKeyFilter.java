@@ -0,0 +1,178 @@
+package com.inditex.prices.domain.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom sobre los pares (marca, producto) con precios.
+ * <p>
+ * Responde si un par <em>puede</em> tener precios: un resultado negativo es definitivo, mientras
+ * que uno positivo es un falso positivo con una probabilidad acotada por el tamaño elegido en
+ * {@link #create(long, double)}. Solo admite altas; las bajas requieren reconstruir el filtro.
+ * </p>
+ * <p>
+ * Los bits se guardan en un {@link AtomicLongArray}, por lo que las altas y consultas son
+ * seguras entre hilos sin bloqueos y no crean objetos. Cada par se resume en dos hashes de
+ * 64 bits combinados por doble hashing ({@code h1 + i * h2}).
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public final class PriceKeyFilter {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong bitCount = new AtomicLong();
+    private final AtomicLong insertions = new AtomicLong();
+
+    private PriceKeyFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = (long) words.length() * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Crea un filtro dimensionado para el número de pares y la tasa de falsos positivos indicados.
+     *
+     * @param expectedKeys número de pares previsto
+     * @param falsePositiveRate tasa de falsos positivos objetivo, entre 0 y 1 (exclusivos)
+     * @return filtro vacío
+     * @throws IllegalArgumentException si los parámetros están fuera de rango
+     */
+    public static PriceKeyFilter create(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("El número de pares previsto debe ser positivo, recibido: "
+                    + expectedKeys);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("La tasa de falsos positivos debe estar entre 0 y 1, recibido: "
+                    + falsePositiveRate);
+        }
+
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        bits = Math.min(Math.max(bits, Long.SIZE), (long) Integer.MAX_VALUE * Long.SIZE);
+        int hashes = (int) Math.max(1, Math.round((double) bits / expectedKeys * ln2));
+        return new PriceKeyFilter(bits, hashes);
+    }
+
+    /**
+     * Añade un par (producto, marca) al filtro.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     */
+    public void add(long productId, int brandId) {
+        long h1 = hash(productId, brandId);
+        long h2 = mix(h1 + GOLDEN_GAMMA) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            changed |= setBit(Math.floorMod(h1 + i * h2, bitSize));
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Añade un par al filtro.
+     *
+     * @param key par (producto, marca)
+     */
+    public void add(PriceKey key) {
+        add(key.getProductId(), key.getBrandId());
+    }
+
+    /**
+     * Indica si el par (producto, marca) puede tener precios.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return false si el par seguro que no se añadió; true si pudo añadirse
+     */
+    public boolean mightContain(long productId, int brandId) {
+        long h1 = hash(productId, brandId);
+        long h2 = mix(h1 + GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estima la tasa de falsos positivos actual a partir de la proporción de bits activos.
+     *
+     * @return probabilidad de que un par no añadido sea admitido
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+    }
+
+    /**
+     * Retorna el número de pares distintos añadidos (aproximado: un par cuyos bits ya estaban
+     * todos activos no se cuenta).
+     *
+     * @return pares añadidos
+     */
+    public long approximateKeyCount() {
+        return insertions.get();
+    }
+
+    /**
+     * Retorna la memoria ocupada por el array de bits.
+     *
+     * @return tamaño en bytes
+     */
+    public long sizeInBytes() {
+        return bitSize / Byte.SIZE;
+    }
+
+    /**
+     * Retorna el número de funciones hash aplicadas por par.
+     *
+     * @return funciones hash
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private boolean setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | mask)) {
+                bitCount.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Hash del par: el producto se mezcla antes de combinarlo con la marca, de modo que pares
+     * distintos no coinciden antes de mezclar como con {@code productId * 31 + brandId}.
+     */
+    private static long hash(long productId, int brandId) {
+        return mix(mix(productId) ^ brandId);
+    }
+
+    /**
+     * Mezclador de 64 bits de SplitMix64: distribuye uniformemente claves consecutivas.
+     */
+    private static long mix(long value) {
+        long z = value + GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
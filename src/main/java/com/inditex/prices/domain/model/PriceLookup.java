@@ -0,0 +1,76 @@
+package com.inditex.prices.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Resultado inmutable de una consulta individual dentro de una búsqueda por lotes.
+ * Permite informar por elemento si se encontró precio, si no existe o si la consulta
+ * es inválida, sin hacer fallar el lote completo.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PriceLookup {
+
+    /**
+     * Estado de resolución de una consulta del lote.
+     */
+    public enum Status {
+        /** Se encontró precio aplicable. */
+        FOUND,
+        /** No existe precio aplicable para la consulta. */
+        NOT_FOUND,
+        /** Los parámetros de la consulta no son válidos. */
+        INVALID
+    }
+
+    PriceQuery query;
+    Status status;
+    Price price;
+    String message;
+
+    /**
+     * Crea un resultado con precio encontrado.
+     *
+     * @param query consulta original
+     * @param price precio aplicable
+     * @return resultado FOUND
+     */
+    public static PriceLookup found(PriceQuery query, Price price) {
+        return new PriceLookup(query, Status.FOUND, price, null);
+    }
+
+    /**
+     * Crea un resultado sin precio aplicable.
+     *
+     * @param query consulta original
+     * @return resultado NOT_FOUND
+     */
+    public static PriceLookup notFound(PriceQuery query) {
+        return new PriceLookup(query, Status.NOT_FOUND, null, "No se encontró precio aplicable");
+    }
+
+    /**
+     * Crea un resultado para una consulta con parámetros inválidos.
+     *
+     * @param query consulta original
+     * @param message motivo de la invalidez
+     * @return resultado INVALID
+     */
+    public static PriceLookup invalid(PriceQuery query, String message) {
+        return new PriceLookup(query, Status.INVALID, null, message);
+    }
+
+    /**
+     * Indica si la consulta se resolvió con un precio.
+     *
+     * @return true si el estado es FOUND
+     */
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+}
@@ -0,0 +1,62 @@
+package com.inditex.prices.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object inmutable con los parámetros de consulta de la línea temporal de un producto
+ * en un intervalo de fechas (producto, marca, desde, hasta) y su validación de negocio.
+ * Ambos extremos del intervalo son inclusivos.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@Builder
+public class PriceRangeQuery {
+
+    Long productId;
+    Integer brandId;
+    LocalDateTime from;
+    LocalDateTime to;
+
+    /**
+     * Valida que los campos de la consulta cumplan las reglas de negocio
+     * (no nulos, identificadores positivos, inicio no posterior al fin).
+     *
+     * @throws IllegalArgumentException si los datos no son válidos
+     */
+    public void validate() {
+        if (productId == null) {
+            throw new IllegalArgumentException("El identificador de producto es obligatorio");
+        }
+
+        if (brandId == null) {
+            throw new IllegalArgumentException("El identificador de marca es obligatorio");
+        }
+
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Las fechas de inicio y fin del intervalo son obligatorias");
+        }
+
+        if (productId <= 0) {
+            throw new IllegalArgumentException(
+                    "El identificador de producto debe ser positivo, recibido: " + productId
+            );
+        }
+
+        if (brandId <= 0) {
+            throw new IllegalArgumentException(
+                    "El identificador de marca debe ser positivo, recibido: " + brandId
+            );
+        }
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException(
+                    "La fecha de inicio del intervalo no puede ser posterior a la de fin: " + from + " > " + to
+            );
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.inditex.prices.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tramo inmutable de una línea temporal de precios durante el cual un único precio
+ * es el aplicable. Ambos extremos son inclusivos, igual que en la tabla PRICES.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@Builder
+public class PriceSegment {
+
+    LocalDateTime startDate;
+    LocalDateTime endDate;
+    Price price;
+
+    /**
+     * Verifica si la fecha indicada cae dentro del tramo (resolución de segundos).
+     *
+     * @param date fecha y hora a verificar
+     * @return true si el tramo cubre la fecha
+     */
+    public boolean contains(LocalDateTime date) {
+        LocalDateTime instant = date.truncatedTo(ChronoUnit.SECONDS);
+        return !instant.isBefore(startDate) && !instant.isAfter(endDate);
+    }
+
+    /**
+     * Retorna el instante en que deja de aplicar el precio del tramo: el segundo siguiente a su
+     * fin, en el que empieza otro tramo o ya no hay precio vigente.
+     *
+     * @return instante del siguiente cambio de precio
+     */
+    public LocalDateTime getNextChange() {
+        return endDate.plusSeconds(1);
+    }
+}
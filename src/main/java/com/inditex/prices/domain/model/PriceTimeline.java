@@ -0,0 +1,296 @@
+package com.inditex.prices.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+/**
+ * Línea temporal resuelta de los precios de un producto y marca.
+ * <p>
+ * Aplana los rangos solapados de PRICES en tramos contiguos y disjuntos, cada uno con
+ * el precio ganador según {@link Price#APPLICATION_ORDER}. La resolución se realiza una
+ * sola vez con un barrido sobre los límites de inicio/fin y un montículo de prioridades,
+ * de modo que cada consulta posterior es una búsqueda binaria O(log n).
+ * </p>
+ * <p>
+ * Las fechas de PRICES tienen resolución de segundos y su fin es inclusivo, por lo que
+ * el límite exclusivo de un precio es {@code END_DATE + 1s}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(List.of(), List.of());
+
+    private final List<Price> prices;
+    private final List<PriceSegment> segments;
+
+    private PriceTimeline(List<Price> prices, List<PriceSegment> segments) {
+        this.prices = prices;
+        this.segments = segments;
+    }
+
+    /**
+     * Retorna una línea temporal sin precios.
+     *
+     * @return línea temporal vacía
+     */
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye la línea temporal resolviendo los solapamientos de los precios indicados.
+     * Todos los precios deben pertenecer al mismo producto y marca.
+     *
+     * @param prices precios de un producto y marca, en cualquier orden
+     * @return línea temporal resuelta
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Price> byStart = new ArrayList<>(prices);
+        byStart.sort(Comparator.comparing(PriceTimeline::startOf));
+
+        return new PriceTimeline(Collections.unmodifiableList(byStart), sweep(byStart));
+    }
+
+    /**
+     * Busca el tramo que cubre la fecha indicada.
+     *
+     * @param date fecha de aplicación
+     * @return tramo aplicable, vacío si la fecha cae fuera de todo precio
+     */
+    public Optional<PriceSegment> segmentAt(LocalDateTime date) {
+        int index = indexAt(date.truncatedTo(ChronoUnit.SECONDS));
+        if (index < 0) {
+            return Optional.empty();
+        }
+
+        PriceSegment segment = segments.get(index);
+        return segment.contains(date) ? Optional.of(segment) : Optional.empty();
+    }
+
+    /**
+     * Busca el precio aplicable en la fecha indicada.
+     *
+     * @param date fecha de aplicación
+     * @return precio ganador, vacío si no hay precio vigente
+     */
+    public Optional<Price> priceAt(LocalDateTime date) {
+        return segmentAt(date).map(PriceSegment::getPrice);
+    }
+
+    /**
+     * Busca el tramo que cubre cada una de las fechas indicadas con un único recorrido conjunto
+     * de las fechas ordenadas y los tramos ordenados: O(n log n + m) para n fechas y m tramos,
+     * en lugar de una búsqueda binaria por fecha.
+     *
+     * @param dates fechas de aplicación, en cualquier orden
+     * @return tramo aplicable de cada fecha (vacío si no hay precio vigente), en el orden de entrada
+     */
+    public List<Optional<PriceSegment>> segmentsAt(List<LocalDateTime> dates) {
+        Integer[] byDate = new Integer[dates.size()];
+        for (int i = 0; i < byDate.length; i++) {
+            byDate[i] = i;
+        }
+        Arrays.sort(byDate, Comparator.comparing(dates::get));
+
+        List<Optional<PriceSegment>> result = new ArrayList<>(Collections.nCopies(dates.size(), Optional.empty()));
+        int next = 0;
+        for (int index : byDate) {
+            LocalDateTime instant = dates.get(index).truncatedTo(ChronoUnit.SECONDS);
+            while (next < segments.size() && segments.get(next).getEndDate().isBefore(instant)) {
+                next++;
+            }
+            if (next == segments.size()) {
+                break;
+            }
+            if (segments.get(next).contains(instant)) {
+                result.set(index, Optional.of(segments.get(next)));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Busca el siguiente instante, posterior a la fecha indicada, en el que cambia el precio
+     * aplicable: el fin del tramo vigente o, si no hay precio vigente, el inicio del siguiente.
+     *
+     * @param date fecha de aplicación
+     * @return instante del siguiente cambio, vacío si el precio ya no cambia
+     */
+    public Optional<LocalDateTime> nextChangeAfter(LocalDateTime date) {
+        LocalDateTime instant = date.truncatedTo(ChronoUnit.SECONDS);
+        int index = indexAt(instant);
+        if (index >= 0 && segments.get(index).contains(instant)) {
+            return Optional.of(segments.get(index).getNextChange());
+        }
+
+        int next = index + 1;
+        return next < segments.size() ? Optional.of(segments.get(next).getStartDate()) : Optional.empty();
+    }
+
+    /**
+     * Retorna los tramos que se solapan con el intervalo indicado, recortados a sus extremos.
+     * Los tramos contiguos con la misma tarifa, importe y moneda (filas distintas de PRICES que
+     * continúan el mismo precio) se fusionan en uno.
+     *
+     * @param from inicio del intervalo (inclusivo)
+     * @param to fin del intervalo (inclusivo)
+     * @return tramos del intervalo ordenados cronológicamente, vacía si no hay precios
+     */
+    public List<PriceSegment> between(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.SECONDS);
+
+        List<PriceSegment> result = new ArrayList<>();
+        for (int i = Math.max(indexAt(start), 0); i < segments.size(); i++) {
+            PriceSegment segment = segments.get(i);
+            if (segment.getStartDate().isAfter(end)) {
+                break;
+            }
+            if (segment.getEndDate().isBefore(start)) {
+                continue;
+            }
+
+            LocalDateTime clippedStart = segment.getStartDate().isBefore(start) ? start : segment.getStartDate();
+            LocalDateTime clippedEnd = segment.getEndDate().isAfter(end) ? end : segment.getEndDate();
+            PriceSegment last = result.isEmpty() ? null : result.get(result.size() - 1);
+            if (last != null && last.getNextChange().equals(clippedStart)
+                    && sameEffectivePrice(last.getPrice(), segment.getPrice())) {
+                result.set(result.size() - 1, segment(last.getStartDate(), clippedEnd, last.getPrice()));
+            } else {
+                result.add(segment(clippedStart, clippedEnd, segment.getPrice()));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Retorna los tramos resueltos ordenados cronológicamente.
+     *
+     * @return tramos disjuntos de la línea temporal
+     */
+    public List<PriceSegment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Retorna los precios originales a partir de los cuales se construyó la línea temporal.
+     *
+     * @return precios ordenados por fecha de inicio
+     */
+    public List<Price> getPrices() {
+        return prices;
+    }
+
+    /**
+     * Indica si la línea temporal no contiene precios.
+     *
+     * @return true si no hay tramos
+     */
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * Búsqueda binaria del último tramo cuyo inicio es anterior o igual a la fecha.
+     *
+     * @param instant fecha truncada a segundos
+     * @return índice del tramo o -1 si la fecha es anterior al primer tramo
+     */
+    private int indexAt(LocalDateTime instant) {
+        int low = 0;
+        int high = segments.size() - 1;
+        int found = -1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).getStartDate().isAfter(instant)) {
+                high = mid - 1;
+            } else {
+                found = mid;
+                low = mid + 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Recorre los límites de inicio y fin en orden manteniendo en un montículo los precios
+     * activos; la cima del montículo es el ganador de cada intervalo elemental.
+     * Los intervalos consecutivos con el mismo ganador se fusionan en un único tramo.
+     *
+     * @param byStart precios ordenados por fecha de inicio
+     * @return tramos resueltos
+     */
+    private static List<PriceSegment> sweep(List<Price> byStart) {
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        for (Price price : byStart) {
+            boundaries.add(startOf(price));
+            boundaries.add(endOf(price).plusSeconds(1));
+        }
+
+        PriorityQueue<Price> active = new PriorityQueue<>(Price.APPLICATION_ORDER.reversed());
+        List<PriceSegment> segments = new ArrayList<>();
+        int next = 0;
+        LocalDateTime from = null;
+        Price winner = null;
+
+        for (LocalDateTime boundary : boundaries) {
+            while (next < byStart.size() && !startOf(byStart.get(next)).isAfter(boundary)) {
+                active.add(byStart.get(next++));
+            }
+            while (!active.isEmpty() && endOf(active.peek()).isBefore(boundary)) {
+                active.poll();
+            }
+
+            Price current = active.peek();
+            if (current == winner) {
+                continue;
+            }
+            if (winner != null) {
+                segments.add(segment(from, boundary.minusSeconds(1), winner));
+            }
+            from = boundary;
+            winner = current;
+        }
+
+        return Collections.unmodifiableList(segments);
+    }
+
+    private static PriceSegment segment(LocalDateTime start, LocalDateTime end, Price price) {
+        return PriceSegment.builder()
+                .startDate(start)
+                .endDate(end)
+                .price(price)
+                .build();
+    }
+
+    private static boolean sameEffectivePrice(Price a, Price b) {
+        return a.getPriceList().equals(b.getPriceList())
+                && a.getPrice().compareTo(b.getPrice()) == 0
+                && a.getCurrency().equals(b.getCurrency());
+    }
+
+    private static LocalDateTime startOf(Price price) {
+        return price.getStartDate().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static LocalDateTime endOf(Price price) {
+        return price.getEndDate().truncatedTo(ChronoUnit.SECONDS);
+    }
+}
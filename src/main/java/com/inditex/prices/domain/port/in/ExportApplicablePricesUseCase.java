@@ -0,0 +1,26 @@
+package com.inditex.prices.domain.port.in;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceExportQuery;
+
+import java.util.function.Consumer;
+
+/**
+ * Puerto de entrada para exportar el precio aplicable de todos los productos de una marca.
+ * Los precios se entregan uno a uno al consumidor a medida que se leen, sin acumularlos.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface ExportApplicablePricesUseCase {
+
+    /**
+     * Exporta el precio ganador de cada producto de la marca en la fecha indicada.
+     *
+     * @param query marca y fecha de aplicación
+     * @param consumer receptor de cada precio, en orden de producto
+     * @return número de precios exportados
+     * @throws com.inditex.prices.domain.exception.InvalidQueryException si los parámetros no son válidos
+     */
+    long exportApplicablePrices(PriceExportQuery query, Consumer<Price> consumer);
+}
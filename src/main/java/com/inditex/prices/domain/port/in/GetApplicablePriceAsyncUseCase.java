@@ -0,0 +1,28 @@
+package com.inditex.prices.domain.port.in;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.exception.PriceNotFoundException;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de entrada asíncrono para obtener el precio aplicable.
+ * Aplica las mismas reglas que {@link GetApplicablePriceUseCase#getApplicableSegment(PriceQuery)}
+ * sin que el hilo que realiza la consulta espere a la BD.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface GetApplicablePriceAsyncUseCase {
+
+    /**
+     * Obtiene el tramo vigente en la fecha consultada.
+     *
+     * @param query criterios de búsqueda (fecha, producto, marca)
+     * @return futuro con el tramo aplicable; se completa con {@link InvalidQueryException} si los
+     *         parámetros no son válidos o {@link PriceNotFoundException} si no existe precio aplicable
+     */
+    CompletableFuture<PriceSegment> getApplicableSegment(PriceQuery query);
+}
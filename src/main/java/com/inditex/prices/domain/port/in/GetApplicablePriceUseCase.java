@@ -3,7 +3,13 @@ package com.inditex.prices.domain.port.in;
 import com.inditex.prices.domain.exception.InvalidQueryException;
 import com.inditex.prices.domain.exception.PriceNotFoundException;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceLookup;
 import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Puerto de entrada para el caso de uso de obtención de precio aplicable.
@@ -24,4 +30,35 @@ public interface GetApplicablePriceUseCase {
      * @throws PriceNotFoundException si no existe precio aplicable
      */
     Price getApplicablePrice(PriceQuery query);
+
+    /**
+     * Obtiene el tramo de la línea temporal del producto que contiene la fecha consultada:
+     * el precio aplicable junto con el intervalo durante el cual sigue siéndolo.
+     *
+     * @param query parámetros de búsqueda (fecha, producto, marca)
+     * @return tramo con el precio aplicable y sus límites de validez
+     * @throws InvalidQueryException si los parámetros no son válidos
+     * @throws PriceNotFoundException si no existe precio aplicable
+     */
+    PriceSegment getApplicableSegment(PriceQuery query);
+
+    /**
+     * Obtiene el instante, posterior a la fecha consultada, en el que cambia el precio aplicable
+     * del producto: empieza, termina o es sustituido por otro de mayor prioridad.
+     *
+     * @param query parámetros de búsqueda (fecha, producto, marca)
+     * @return instante del siguiente cambio, vacío si el precio ya no cambia
+     * @throws InvalidQueryException si los parámetros no son válidos
+     */
+    Optional<LocalDateTime> getNextChange(PriceQuery query);
+
+    /**
+     * Obtiene los precios aplicables de un lote de consultas.
+     * Cada consulta se resuelve de forma independiente: las consultas inválidas o sin precio
+     * se informan en su resultado sin hacer fallar el resto del lote.
+     *
+     * @param queries consultas a resolver
+     * @return un resultado por consulta, en el mismo orden de entrada
+     */
+    List<PriceLookup> getApplicablePrices(List<PriceQuery> queries);
 }
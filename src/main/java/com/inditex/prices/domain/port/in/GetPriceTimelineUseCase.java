@@ -0,0 +1,38 @@
+package com.inditex.prices.domain.port.in;
+
+import com.inditex.prices.domain.model.PriceInstantsQuery;
+import com.inditex.prices.domain.model.PriceLookup;
+import com.inditex.prices.domain.model.PriceRangeQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para consultar la evolución del precio aplicable de un producto
+ * en un intervalo de fechas o en un conjunto de fechas.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface GetPriceTimelineUseCase {
+
+    /**
+     * Obtiene los tramos contiguos del intervalo, cada uno con el precio ganador durante el tramo.
+     * Los huecos sin precio vigente no generan tramos.
+     *
+     * @param query producto, marca e intervalo (extremos inclusivos)
+     * @return tramos ordenados cronológicamente, vacía si no hay precios en el intervalo
+     * @throws com.inditex.prices.domain.exception.InvalidQueryException si los parámetros no son válidos
+     */
+    List<PriceSegment> getPriceTimeline(PriceRangeQuery query);
+
+    /**
+     * Obtiene el precio aplicable de un producto en cada una de las fechas indicadas, leyendo
+     * una sola vez los precios del intervalo que las cubre.
+     *
+     * @param query producto, marca y fechas de aplicación
+     * @return un resultado FOUND o NOT_FOUND por fecha, en el orden de la consulta
+     * @throws com.inditex.prices.domain.exception.InvalidQueryException si los parámetros no son válidos
+     */
+    List<PriceLookup> getPricesAt(PriceInstantsQuery query);
+}
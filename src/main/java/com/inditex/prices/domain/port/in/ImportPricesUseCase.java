@@ -0,0 +1,23 @@
+package com.inditex.prices.domain.port.in;
+
+import com.inditex.prices.domain.model.PriceImportResult;
+
+import java.nio.file.Path;
+
+/**
+ * Puerto de entrada para la carga masiva de precios desde un fichero.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface ImportPricesUseCase {
+
+    /**
+     * Carga los precios del fichero indicado, validando cada fila contra las restricciones
+     * de PRICES e insertando o actualizando las filas válidas.
+     *
+     * @param feed ruta del fichero de precios
+     * @return resumen de la carga
+     */
+    PriceImportResult importPrices(Path feed);
+}
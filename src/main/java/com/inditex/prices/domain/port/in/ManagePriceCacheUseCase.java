@@ -0,0 +1,24 @@
+package com.inditex.prices.domain.port.in;
+
+/**
+ * Puerto de entrada para la gestión de la caché de líneas temporales de precios.
+ * Permite invalidar explícitamente la línea temporal de un producto cuando cambian sus precios.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface ManagePriceCacheUseCase {
+
+    /**
+     * Invalida la línea temporal cacheada de un producto y marca.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     */
+    void invalidate(Long productId, Integer brandId);
+
+    /**
+     * Invalida todas las líneas temporales cacheadas.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,26 @@
+package com.inditex.prices.domain.port.in;
+
+/**
+ * Puerto de entrada para reconstruir la línea temporal materializada (tabla PRICE_TIMELINE).
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface RebuildPriceTimelineUseCase {
+
+    /**
+     * Reconstruye los tramos de un único producto y marca a partir de sus precios actuales.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return número de tramos materializados
+     */
+    int rebuild(Long productId, Integer brandId);
+
+    /**
+     * Reconstruye los tramos de todos los productos y elimina los de productos sin precios.
+     *
+     * @return número de productos reconstruidos
+     */
+    int rebuildAll();
+}
@@ -0,0 +1,30 @@
+package com.inditex.prices.domain.port.out;
+
+import com.inditex.prices.domain.model.Price;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de salida asíncrono para acceso a datos de precios.
+ * <p>
+ * Las consultas se completan en un {@link CompletableFuture} sin ocupar el hilo que las
+ * solicita, de modo que el número de consultas en curso no depende del número de hilos de
+ * peticiones sino del tamaño de la cola del adaptador.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface AsyncPriceRepository {
+
+    /**
+     * Busca todos los precios de un producto y marca, sin filtrar por fecha.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return futuro con los precios del producto (lista vacía si no existen); se completa con
+     *         error si el adaptador está saturado o la consulta falla
+     */
+    CompletableFuture<List<Price>> findAllPrices(Long productId, Integer brandId);
+}
@@ -0,0 +1,19 @@
+package com.inditex.prices.domain.port.out;
+
+import java.util.Set;
+
+/**
+ * Puerto de salida para la consulta de marcas/cadenas.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface BrandRepository {
+
+    /**
+     * Retorna los identificadores de todas las marcas existentes.
+     *
+     * @return identificadores de marca
+     */
+    Set<Integer> findAllIds();
+}
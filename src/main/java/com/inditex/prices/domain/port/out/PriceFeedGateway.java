@@ -0,0 +1,24 @@
+package com.inditex.prices.domain.port.out;
+
+import com.inditex.prices.domain.model.PriceFeedRecord;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Puerto de salida para la lectura de ficheros de carga de precios.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface PriceFeedGateway {
+
+    /**
+     * Abre el fichero y retorna sus registros de forma perezosa, línea a línea, sin cargarlo
+     * en memoria. El stream debe cerrarse para liberar el fichero.
+     *
+     * @param feed ruta del fichero de precios
+     * @return registros del fichero en orden de lectura
+     */
+    Stream<PriceFeedRecord> read(Path feed);
+}
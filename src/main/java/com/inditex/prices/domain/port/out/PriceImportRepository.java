@@ -0,0 +1,23 @@
+package com.inditex.prices.domain.port.out;
+
+import com.inditex.prices.domain.model.Price;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para la escritura masiva de precios.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface PriceImportRepository {
+
+    /**
+     * Inserta o actualiza (por la clave única BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE)
+     * los precios indicados en una única transacción.
+     *
+     * @param prices precios validados
+     * @return número de filas escritas
+     */
+    int upsertPrices(List<Price> prices);
+}
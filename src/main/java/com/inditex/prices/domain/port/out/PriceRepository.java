@@ -1,9 +1,18 @@
 package com.inditex.prices.domain.port.out;
 
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.model.PriceTimeline;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Puerto de salida para acceso a datos de precios.
@@ -23,4 +32,152 @@ public interface PriceRepository {
      * @return lista de precios encontrados, vacía si no hay coincidencias
      */
     List<Price> findApplicablePrices(Long productId, Integer brandId, LocalDateTime applicationDate);
+
+    /**
+     * Busca el único precio aplicable (ganador) para un producto, marca y fecha específicos.
+     * Gana la mayor prioridad y, a igual prioridad, la tarifa (PRICE_LIST) más alta.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return precio aplicable, vacío si no hay precio vigente
+     */
+    Optional<Price> findApplicablePrice(Long productId, Integer brandId, LocalDateTime applicationDate);
+
+    /**
+     * Busca el tramo de la línea temporal de un producto y marca que cubre la fecha indicada:
+     * el precio ganador y el intervalo en el que no cambia.
+     * <p>
+     * La implementación por defecto construye la línea temporal con
+     * {@link #findAllPrices(Long, Integer)}, ya que los límites del tramo dependen también de los
+     * precios no ganadores; los adaptadores con los tramos materializados deben sobrescribirla
+     * para leer una única fila.
+     * </p>
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return tramo vigente, vacío si no hay precio vigente
+     */
+    default Optional<PriceSegment> findApplicableSegment(Long productId, Integer brandId,
+                                                         LocalDateTime applicationDate) {
+        return PriceTimeline.of(findAllPrices(productId, brandId)).segmentAt(applicationDate);
+    }
+
+    /**
+     * Busca todos los precios de un producto y marca, sin filtrar por fecha.
+     * Permite construir la línea temporal completa del producto.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return precios del producto, vacía si no existen
+     */
+    List<Price> findAllPrices(Long productId, Integer brandId);
+
+    /**
+     * Busca todos los precios de varios productos y marcas, sin filtrar por fecha.
+     * <p>
+     * La implementación por defecto resuelve cada par por separado; los adaptadores con acceso
+     * a BD deben sobrescribirla para resolver todos los pares en una única consulta.
+     * </p>
+     *
+     * @param keys pares (producto, marca) a resolver
+     * @return precios por par; los pares sin precios no aparecen en el mapa
+     */
+    default Map<PriceKey, List<Price>> findAllPrices(Collection<PriceKey> keys) {
+        Map<PriceKey, List<Price>> prices = new HashMap<>();
+        for (PriceKey key : keys) {
+            List<Price> keyPrices = findAllPrices(key.getProductId(), key.getBrandId());
+            if (!keyPrices.isEmpty()) {
+                prices.put(key, keyPrices);
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Busca los precios de un producto y marca cuya vigencia se solapa con el intervalo indicado.
+     * <p>
+     * La implementación por defecto filtra {@link #findAllPrices(Long, Integer)}; los adaptadores
+     * con acceso a BD deben sobrescribirla para filtrar el intervalo en la consulta.
+     * </p>
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param from inicio del intervalo (inclusivo)
+     * @param to fin del intervalo (inclusivo)
+     * @return precios que empiezan antes del fin y terminan después del inicio del intervalo
+     */
+    default List<Price> findPricesBetween(Long productId, Integer brandId, LocalDateTime from, LocalDateTime to) {
+        return findAllPrices(productId, brandId).stream()
+                .filter(price -> !price.getStartDate().isAfter(to) && !price.getEndDate().isBefore(from))
+                .toList();
+    }
+
+    /**
+     * Busca los pares (producto, marca) distintos que tienen al menos un precio.
+     *
+     * @return claves de los productos con precios
+     */
+    List<PriceKey> findAllKeys();
+
+    /**
+     * Cuenta los pares (producto, marca) distintos que tienen al menos un precio.
+     * <p>
+     * La implementación por defecto cuenta {@link #findAllKeys()}; los adaptadores con acceso
+     * a BD deben sobrescribirla para contar en la consulta.
+     * </p>
+     *
+     * @return número de claves
+     */
+    default long countKeys() {
+        return findAllKeys().size();
+    }
+
+    /**
+     * Recorre los pares (producto, marca) distintos que tienen al menos un precio sin
+     * acumularlos en una lista.
+     * <p>
+     * La implementación por defecto recorre {@link #findAllKeys()}; los adaptadores con acceso
+     * a BD deben sobrescribirla para leer las claves con un cursor.
+     * </p>
+     *
+     * @param action receptor de cada clave
+     * @return número de claves entregadas
+     */
+    default long forEachKey(Consumer<PriceKey> action) {
+        List<PriceKey> keys = findAllKeys();
+        keys.forEach(action);
+        return keys.size();
+    }
+
+    /**
+     * Recorre el precio ganador de cada producto de una marca en la fecha indicada,
+     * entregándolos en orden de producto sin cargar el catálogo completo en memoria.
+     *
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @param action receptor de cada precio ganador
+     * @return número de precios entregados
+     */
+    long forEachApplicablePrice(Integer brandId, LocalDateTime applicationDate, Consumer<Price> action);
+
+    /**
+     * Busca el precio ganador de cada consulta de un lote.
+     * <p>
+     * La implementación por defecto resuelve cada consulta por separado; los adaptadores
+     * con acceso a BD deben sobrescribirla para resolver el lote en una única consulta.
+     * </p>
+     *
+     * @param queries consultas válidas a resolver
+     * @return precio ganador por consulta; las consultas sin precio no aparecen en el mapa
+     */
+    default Map<PriceQuery, Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        Map<PriceQuery, Price> prices = new HashMap<>();
+        for (PriceQuery query : queries) {
+            findApplicablePrice(query.getProductId(), query.getBrandId(), query.getApplicationDate())
+                    .ifPresent(price -> prices.put(query, price));
+        }
+        return prices;
+    }
 }
@@ -0,0 +1,31 @@
+package com.inditex.prices.domain.port.out;
+
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceSegment;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para la escritura de la línea temporal materializada.
+ * Cada producto y marca se almacena como tramos disjuntos con el precio ganador.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public interface PriceTimelineRepository {
+
+    /**
+     * Sustituye de forma atómica los tramos materializados de un producto y marca.
+     *
+     * @param key par (producto, marca)
+     * @param segments tramos resueltos; vacía elimina el producto
+     */
+    void replaceSegments(PriceKey key, List<PriceSegment> segments);
+
+    /**
+     * Elimina los tramos de los productos que ya no tienen precios en PRICES.
+     *
+     * @return número de tramos eliminados
+     */
+    int deleteOrphanSegments();
+}
@@ -0,0 +1,47 @@
+package com.inditex.prices.infrastructure.adapter.in.cli;
+
+import com.inditex.prices.domain.model.PriceImportResult;
+import com.inditex.prices.domain.port.in.ImportPricesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Adaptador de línea de comandos que carga un fichero de precios al arrancar la aplicación.
+ * Se activa indicando el fichero con {@code --prices.import.file=/ruta/precios.csv}.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.import", name = "file")
+public class PriceImportRunnerAdapter implements ApplicationRunner {
+
+    private final ImportPricesUseCase importPricesUseCase;
+
+    @Value("${prices.import.file}")
+    private String file;
+
+    /**
+     * Ejecuta la carga del fichero configurado y registra el resumen.
+     *
+     * @param args argumentos de la aplicación
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        PriceImportResult result = importPricesUseCase.importPrices(Path.of(file));
+
+        result.getErrors().forEach(error -> log.warn("Fila rechazada - {}", error));
+        if (result.getRowsRejected() > result.getErrors().size()) {
+            log.warn("... y {} filas rechazadas más", result.getRowsRejected() - result.getErrors().size());
+        }
+    }
+}
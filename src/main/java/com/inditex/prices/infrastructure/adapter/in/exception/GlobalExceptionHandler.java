@@ -1,18 +1,27 @@
 package com.inditex.prices.infrastructure.adapter.in.exception;
 
 import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.exception.PriceLookupRejectedException;
 import com.inditex.prices.domain.exception.PriceNotFoundException;
 import com.inditex.prices.infrastructure.adapter.in.rest.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * Manejador global de excepciones para la API REST.
@@ -25,8 +34,17 @@ import java.time.LocalDateTime;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Value("${prices.limiter.retry-after:1s}")
+    private Duration retryAfter;
+
+    private volatile Timestamp lastTimestamp = new Timestamp(Long.MIN_VALUE, null);
+
     /**
      * Maneja excepciones cuando no se encuentra un precio aplicable.
+     * No se registra en el log: es una respuesta esperada (p. ej. productos inexistentes
+     * consultados por bots) y ya se contabiliza en la métrica {@code prices.responses}.
+     * El cuerpo no puede preasignarse (mensaje y ruta dependen de la consulta), pero su marca de
+     * tiempo se reutiliza dentro de cada segundo ({@link #timestamp()}).
      *
      * @param ex excepción lanzada
      * @param request petición HTTP
@@ -37,10 +55,8 @@ public class GlobalExceptionHandler {
             PriceNotFoundException ex,
             WebRequest request) {
 
-        log.warn("Precio no encontrado: {}", ex.getMessage());
-
         ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.NOT_FOUND.value())
                 .error(HttpStatus.NOT_FOUND.getReasonPhrase())
                 .message(ex.getMessage())
@@ -67,7 +83,7 @@ public class GlobalExceptionHandler {
         log.warn("Parámetros de consulta inválidos: {}", ex.getMessage());
 
         ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
                 .message(ex.getMessage())
@@ -99,7 +115,7 @@ public class GlobalExceptionHandler {
         );
 
         ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
                 .message(message)
@@ -132,7 +148,7 @@ public class GlobalExceptionHandler {
         );
 
         ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
                 .message(message)
@@ -144,6 +160,95 @@ public class GlobalExceptionHandler {
                 .body(error);
     }
 
+    /**
+     * Maneja errores de validación del cuerpo de la petición (p. ej. lote vacío o demasiado grande).
+     *
+     * @param ex excepción lanzada por Spring
+     * @param request petición HTTP
+     * @return respuesta HTTP 400
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBody(
+            MethodArgumentNotValidException ex,
+            WebRequest request) {
+
+        FieldError fieldError = ex.getBindingResult().getFieldError();
+        String message = fieldError != null
+                ? fieldError.getDefaultMessage()
+                : "El cuerpo de la petición no es válido";
+
+        log.warn("Cuerpo de petición inválido: {}", message);
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(message)
+                .path(extractPath(request))
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(error);
+    }
+
+    /**
+     * Maneja cuerpos de petición ausentes o con JSON mal formado.
+     *
+     * @param ex excepción lanzada por Spring
+     * @param request petición HTTP
+     * @return respuesta HTTP 400
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(
+            HttpMessageNotReadableException ex,
+            WebRequest request) {
+
+        log.warn("Cuerpo de petición ilegible: {}", ex.getMostSpecificCause().getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message("El cuerpo de la petición está ausente o mal formado")
+                .path(extractPath(request))
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(error);
+    }
+
+    /**
+     * Maneja el rechazo de consultas por saturación (límite de consultas simultáneas alcanzado o
+     * cola de consultas asíncronas llena): el servicio está saturado temporalmente y el cliente
+     * puede reintentar pasados los segundos de {@code Retry-After}.
+     * No se registra en el log: bajo sobrecarga serían miles de líneas por segundo, y los rechazos
+     * ya se contabilizan en las métricas {@code prices.limiter.requests} y {@code prices.async.rejected}.
+     *
+     * @param ex excepción lanzada
+     * @param request petición HTTP
+     * @return respuesta HTTP 503
+     */
+    @ExceptionHandler(PriceLookupRejectedException.class)
+    public ResponseEntity<ErrorResponse> handlePriceLookupRejectedException(
+            PriceLookupRejectedException ex,
+            WebRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(timestamp())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message("El servicio está saturado. Por favor, intente nuevamente en unos segundos.")
+                .path(extractPath(request))
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())))
+                .body(error);
+    }
+
     /**
      * Maneja excepciones genéricas no contempladas específicamente.
      *
@@ -159,7 +264,7 @@ public class GlobalExceptionHandler {
         log.error("Error inesperado", ex);
 
         ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp())
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
                 .message("Ha ocurrido un error inesperado. Por favor, intente nuevamente.")
@@ -180,4 +285,31 @@ public class GlobalExceptionHandler {
     private String extractPath(WebRequest request) {
         return request.getDescription(false).replace("uri=", "");
     }
+
+    /**
+     * Retorna la marca de tiempo de las respuestas de error. El JSON la muestra con precisión de
+     * segundos, así que se calcula una vez por segundo en lugar de resolver la zona horaria con
+     * {@code LocalDateTime.now()} en cada error, lo que abarata las ráfagas de 404.
+     *
+     * @return fecha y hora actuales truncadas al segundo
+     */
+    private LocalDateTime timestamp() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        Timestamp current = lastTimestamp;
+        if (current.getEpochSecond() != epochSecond) {
+            current = new Timestamp(epochSecond,
+                    LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault()));
+            lastTimestamp = current;
+        }
+        return current.getValue();
+    }
+
+    /**
+     * Marca de tiempo calculada para un segundo.
+     */
+    @lombok.Value
+    private static class Timestamp {
+        private final long epochSecond;
+        private final LocalDateTime value;
+    }
 }
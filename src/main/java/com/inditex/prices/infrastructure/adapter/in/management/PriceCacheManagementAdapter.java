@@ -0,0 +1,48 @@
+package com.inditex.prices.infrastructure.adapter.in.management;
+
+import com.inditex.prices.domain.port.in.ManagePriceCacheUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptador de gestión (endpoint de Actuator {@code pricecache}) para invalidar
+ * la caché de líneas temporales de precios.
+ * <ul>
+ *   <li>{@code DELETE /actuator/pricecache/{productId}/{brandId}}: invalida un producto</li>
+ *   <li>{@code DELETE /actuator/pricecache}: invalida toda la caché</li>
+ * </ul>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Endpoint(id = "pricecache")
+@RequiredArgsConstructor
+public class PriceCacheManagementAdapter {
+
+    private final ManagePriceCacheUseCase managePriceCacheUseCase;
+
+    /**
+     * Invalida la línea temporal cacheada de un producto y marca.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     */
+    @DeleteOperation
+    public void invalidate(@Selector Long productId, @Selector Integer brandId) {
+        managePriceCacheUseCase.invalidate(productId, brandId);
+    }
+
+    /**
+     * Invalida todas las líneas temporales cacheadas.
+     */
+    @DeleteOperation
+    public void invalidateAll() {
+        managePriceCacheUseCase.invalidateAll();
+    }
+}
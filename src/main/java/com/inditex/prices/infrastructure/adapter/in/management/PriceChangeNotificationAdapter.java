@@ -0,0 +1,53 @@
+package com.inditex.prices.infrastructure.adapter.in.management;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.PriceKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptador de gestión (endpoint de Actuator {@code pricechanges}) para notificar que han
+ * cambiado filas de PRICES fuera de la aplicación. Publica un {@link PricesChangedEvent}
+ * que invalida la caché y reconstruye la línea temporal materializada afectada.
+ * <ul>
+ *   <li>{@code POST /actuator/pricechanges/{productId}/{brandId}}: cambio de un producto</li>
+ *   <li>{@code POST /actuator/pricechanges}: cambio de todo el catálogo</li>
+ * </ul>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Endpoint(id = "pricechanges")
+@RequiredArgsConstructor
+public class PriceChangeNotificationAdapter {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Notifica el cambio de los precios de un producto y marca.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     */
+    @WriteOperation
+    public void pricesChanged(@Selector Long productId, @Selector Integer brandId) {
+        log.info("Notificado cambio de precios para productId={}, brandId={}", productId, brandId);
+        eventPublisher.publishEvent(PricesChangedEvent.of(PriceKey.of(productId, brandId)));
+    }
+
+    /**
+     * Notifica un cambio que afecta a todo el catálogo de precios.
+     */
+    @WriteOperation
+    public void allPricesChanged() {
+        log.info("Notificado cambio de todo el catálogo de precios");
+        eventPublisher.publishEvent(PricesChangedEvent.all());
+    }
+}
@@ -0,0 +1,151 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.port.in.GetApplicablePriceAsyncUseCase;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import io.micrometer.core.annotation.Timed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controlador REST asíncrono de consulta de precios.
+ * <p>
+ * Responde igual que {@code GET /prices} (cuerpo, Cache-Control, ETag y errores), pero retorna
+ * un {@link CompletableFuture}: el hilo de Tomcat queda libre mientras se carga la línea
+ * temporal del producto y la respuesta se escribe al completarse (procesamiento asíncrono de
+ * Servlet). La lectura JDBC sigue siendo bloqueante: se traslada al pool acotado de
+ * {@code PriceAsyncAdapter}. El número de consultas en curso lo limitan la cola de ese adaptador y
+ * las conexiones HTTP de Tomcat, no el pool de hilos de Tomcat.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/prices/async")
+@RequiredArgsConstructor
+@Tag(name = "Prices", description = "API de consulta de precios de productos")
+public class PriceAsyncController {
+
+    private final GetApplicablePriceAsyncUseCase getApplicablePriceAsyncUseCase;
+    private final PriceRestMapper priceRestMapper;
+
+    @Value("${prices.http.cache-max-age:5m}")
+    private Duration cacheMaxAge;
+
+    /**
+     * Consulta el precio aplicable para un producto en una fecha específica, liberando el hilo de
+     * la petición mientras se consulta la BD.
+     *
+     * @param applicationDate fecha de aplicación (yyyy-MM-dd'T'HH:mm:ss)
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return futuro con el precio aplicable
+     */
+    @Operation(
+            summary = "Obtener precio aplicable (asíncrono)",
+            description = "Variante asíncrona de GET /prices con la misma respuesta: la petición no ocupa un hilo "
+                    + "del servidor mientras la consulta a la base de datos se ejecuta en un pool acotado."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Precio encontrado exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros de consulta inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No se encontró precio aplicable",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Cola de consultas llena",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping
+    @Timed(value = "prices.stage", extraTags = {"stage", "controller"})
+    public CompletableFuture<ResponseEntity<PriceResponse>> getApplicablePrice(
+            @Parameter(
+                    description = "Fecha de aplicación del precio",
+                    example = "2020-06-14T10:00:00",
+                    required = true
+            )
+            @RequestParam
+            @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime applicationDate,
+
+            @Parameter(
+                    description = "Identificador del producto",
+                    example = "35455",
+                    required = true
+            )
+            @RequestParam
+            Long productId,
+
+            @Parameter(
+                    description = "Identificador de la cadena (marca)",
+                    example = "1",
+                    required = true
+            )
+            @RequestParam
+            Integer brandId
+    ) {
+        log.debug("Consultando precio de forma asíncrona - applicationDate={}, productId={}, brandId={}",
+                applicationDate, productId, brandId);
+
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(productId)
+                .brandId(brandId)
+                .build();
+
+        return getApplicablePriceAsyncUseCase.getApplicableSegment(query)
+                .thenApply(segment -> {
+                    PriceResponse response = priceRestMapper.toResponse(segment);
+                    return ResponseEntity.ok()
+                            .cacheControl(PriceController.cacheControl(cacheMaxAge))
+                            .eTag(PriceController.eTag(segment))
+                            .body(response);
+                });
+    }
+}
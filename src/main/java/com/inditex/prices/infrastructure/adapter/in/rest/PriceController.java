@@ -1,11 +1,27 @@
 package com.inditex.prices.infrastructure.adapter.in.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceExportQuery;
+import com.inditex.prices.domain.model.PriceInstantsQuery;
+import com.inditex.prices.domain.model.PriceLookup;
 import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceRangeQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.port.in.ExportApplicablePricesUseCase;
 import com.inditex.prices.domain.port.in.GetApplicablePriceUseCase;
+import com.inditex.prices.domain.port.in.GetPriceTimelineUseCase;
 import com.inditex.prices.infrastructure.adapter.in.rest.dto.ErrorResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceBatchRequest;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceBatchResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceInstantsRequest;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceNextChangeResponse;
 import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceTimelineResponse;
 import com.inditex.prices.infrastructure.adapter.in.rest.mapper.PriceRestMapper;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,17 +29,32 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Controlador REST para la gestión de consultas de precios.
@@ -40,11 +71,23 @@ import java.time.LocalDateTime;
 public class PriceController {
 
     private final GetApplicablePriceUseCase getApplicablePriceUseCase;
+    private final ExportApplicablePricesUseCase exportApplicablePricesUseCase;
+    private final GetPriceTimelineUseCase getPriceTimelineUseCase;
     private final PriceRestMapper priceRestMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${prices.http.cache-max-age:5m}")
+    private Duration cacheMaxAge;
 
     /**
      * Consulta el precio aplicable para un producto en una fecha específica.
      * Retorna el de mayor prioridad si hay múltiples coincidencias.
+     * <p>
+     * La respuesta es cacheable: la fecha consultada es un parámetro, por lo que la respuesta solo
+     * cambia si cambian los precios. {@code Cache-Control: max-age} es {@code prices.http.cache-max-age}
+     * y el {@code ETag} identifica la tarifa y su tramo, de modo que un {@code If-None-Match}
+     * coincidente se responde con 304.
+     * </p>
      *
      * @param applicationDate fecha de aplicación (yyyy-MM-dd'T'HH:mm:ss)
      * @param productId identificador del producto
@@ -65,6 +108,10 @@ public class PriceController {
                             schema = @Schema(implementation = PriceResponse.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "El precio no ha cambiado respecto al ETag enviado en If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Parámetros de consulta inválidos",
@@ -91,6 +138,7 @@ public class PriceController {
             )
     })
     @GetMapping
+    @Timed(value = "prices.stage", extraTags = {"stage", "controller"})
     public ResponseEntity<PriceResponse> getApplicablePrice(
             @Parameter(
                     description = "Fecha de aplicación del precio",
@@ -127,17 +175,468 @@ public class PriceController {
                 .brandId(brandId)
                 .build();
 
-        // Ejecutar caso de uso
-        Price price = getApplicablePriceUseCase.getApplicablePrice(query);
+        // Ejecutar caso de uso: el tramo aporta además la ventana de validez del precio
+        PriceSegment segment = getApplicablePriceUseCase.getApplicableSegment(query);
 
         // Mapear a DTO de respuesta
-        PriceResponse response = priceRestMapper.toResponse(price);
+        PriceResponse response = priceRestMapper.toResponse(segment);
 
         log.info("Precio encontrado: priceList={}, price={} {}",
                 response.getPriceList(), response.getPrice(), response.getCurrency());
 
+        // Con If-None-Match coincidente Spring responde 304 sin cuerpo
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .cacheControl(cacheControl(cacheMaxAge))
+                .eTag(eTag(segment))
+                .body(response);
+    }
+
+    /**
+     * Consulta el instante en que cambia el precio aplicable de un producto a partir de una fecha.
+     * A diferencia de {@code endDate}, tiene en cuenta los precios de mayor prioridad que
+     * empiezan antes, por lo que el cliente puede cachear la respuesta hasta ese instante.
+     *
+     * @param applicationDate fecha de aplicación (yyyy-MM-dd'T'HH:mm:ss)
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return siguiente cambio de precio, null si ya no cambia
+     */
+    @Operation(
+            summary = "Obtener el siguiente cambio de precio",
+            description = "Retorna el instante posterior a la fecha indicada en el que empieza, termina o es "
+                    + "sustituido el precio aplicable del producto. Es null si el precio ya no cambia."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Siguiente cambio calculado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceNextChangeResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros de consulta inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/next-change")
+    @Timed(value = "prices.stage", extraTags = {"stage", "controller"})
+    public ResponseEntity<PriceNextChangeResponse> getNextChange(
+            @Parameter(
+                    description = "Fecha de aplicación del precio",
+                    example = "2020-06-14T10:00:00",
+                    required = true
+            )
+            @RequestParam
+            @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime applicationDate,
+
+            @Parameter(
+                    description = "Identificador del producto",
+                    example = "35455",
+                    required = true
+            )
+            @RequestParam
+            Long productId,
+
+            @Parameter(
+                    description = "Identificador de la cadena (marca)",
+                    example = "1",
+                    required = true
+            )
+            @RequestParam
+            Integer brandId
+    ) {
+        log.info("Consultando siguiente cambio de precio - applicationDate={}, productId={}, brandId={}",
+                applicationDate, productId, brandId);
+
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(productId)
+                .brandId(brandId)
+                .build();
+
+        PriceNextChangeResponse response = PriceNextChangeResponse.builder()
+                .applicationDate(applicationDate)
+                .productId(productId)
+                .brandId(brandId)
+                .nextChange(getApplicablePriceUseCase.getNextChange(query).orElse(null))
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+    }
+
+    /**
+     * Consulta la evolución del precio aplicable de un producto en un intervalo de fechas.
+     * Las filas que se solapan con el intervalo se leen una vez y se resuelven en un único
+     * barrido, en lugar de una consulta por instante.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param from inicio del intervalo (yyyy-MM-dd'T'HH:mm:ss, inclusivo)
+     * @param to fin del intervalo (yyyy-MM-dd'T'HH:mm:ss, inclusivo)
+     * @return tramos contiguos con la tarifa ganadora de cada uno
+     */
+    @Operation(
+            summary = "Obtener la línea temporal de precios",
+            description = "Retorna los tramos del intervalo durante los cuales cada tarifa es el precio aplicable, "
+                    + "con los tramos contiguos del mismo precio fusionados. Los huecos sin precio no generan tramos."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Línea temporal calculada (vacía si no hay precios en el intervalo)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceTimelineResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros de consulta inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/timeline")
+    @Timed(value = "prices.stage", extraTags = {"stage", "controller"})
+    public ResponseEntity<PriceTimelineResponse> getPriceTimeline(
+            @Parameter(
+                    description = "Identificador del producto",
+                    example = "35455",
+                    required = true
+            )
+            @RequestParam
+            Long productId,
+
+            @Parameter(
+                    description = "Identificador de la cadena (marca)",
+                    example = "1",
+                    required = true
+            )
+            @RequestParam
+            Integer brandId,
+
+            @Parameter(
+                    description = "Inicio del intervalo (inclusivo)",
+                    example = "2020-06-14T00:00:00",
+                    required = true
+            )
+            @RequestParam
+            @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime from,
+
+            @Parameter(
+                    description = "Fin del intervalo (inclusivo)",
+                    example = "2020-06-15T23:59:59",
+                    required = true
+            )
+            @RequestParam
+            @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime to
+    ) {
+        log.info("Consultando línea temporal - productId={}, brandId={}, from={}, to={}",
+                productId, brandId, from, to);
+
+        PriceRangeQuery query = PriceRangeQuery.builder()
+                .productId(productId)
+                .brandId(brandId)
+                .from(from)
+                .to(to)
+                .build();
+
+        List<PriceSegment> segments = getPriceTimelineUseCase.getPriceTimeline(query);
+
+        PriceTimelineResponse response = PriceTimelineResponse.builder()
+                .productId(productId)
+                .brandId(brandId)
+                .from(from)
+                .to(to)
+                .segments(priceRestMapper.toSegmentResponses(segments))
+                .build();
+
+        log.info("Línea temporal calculada: {} tramos", segments.size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+    }
+
+    /**
+     * Consulta el precio aplicable de un producto en varias fechas en una única petición.
+     * Los precios del intervalo que cubre todas las fechas se leen una vez y cada fecha se
+     * resuelve en un recorrido conjunto de fechas y tramos ordenados.
+     *
+     * @param request producto, marca y fechas de aplicación
+     * @return un resultado por fecha, en el mismo orden de la petición
+     */
+    @Operation(
+            summary = "Obtener el precio de un producto en varias fechas",
+            description = "Resuelve hasta " + PriceInstantsRequest.MAX_DATES + " fechas de un mismo producto con "
+                    + "una única lectura de sus precios. Cada resultado indica FOUND o NOT_FOUND."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Fechas resueltas (ver el estado de cada resultado)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceBatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros inválidos, sin fechas o con demasiadas fechas",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/instants")
+    @Timed(value = "prices.stage", extraTags = {"stage", "controller"})
+    public ResponseEntity<PriceBatchResponse> getPricesAt(@Valid @RequestBody PriceInstantsRequest request) {
+        log.info("Consultando precio en varias fechas - productId={}, brandId={}, fechas={}",
+                request.getProductId(), request.getBrandId(), request.getApplicationDates().size());
+
+        PriceInstantsQuery query = PriceInstantsQuery.builder()
+                .productId(request.getProductId())
+                .brandId(request.getBrandId())
+                .applicationDates(request.getApplicationDates())
+                .build();
+
+        List<PriceLookup> lookups = getPriceTimelineUseCase.getPricesAt(query);
+
+        PriceBatchResponse response = PriceBatchResponse.builder()
+                .results(priceRestMapper.toLookupResponses(lookups))
+                .build();
+
+        log.info("Fechas resueltas: {} de {} con precio",
+                lookups.stream().filter(PriceLookup::isFound).count(), lookups.size());
+
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(response);
     }
+
+    /**
+     * Consulta los precios aplicables de un lote de productos en una única petición.
+     * Cada elemento informa su propio estado, por lo que un elemento sin precio o inválido
+     * no hace fallar el resto del lote.
+     *
+     * @param request lote de consultas (fecha, producto, marca)
+     * @return un resultado por consulta, en el mismo orden de la petición
+     */
+    @Operation(
+            summary = "Obtener precios aplicables por lotes",
+            description = "Resuelve hasta " + PriceBatchRequest.MAX_ITEMS + " consultas de precio en una única "
+                    + "petición. Cada resultado indica FOUND, NOT_FOUND o INVALID."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote resuelto (ver el estado de cada resultado)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PriceBatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lote vacío, demasiado grande o mal formado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/batch")
+    @Timed(value = "prices.stage", extraTags = {"stage", "controller"})
+    public ResponseEntity<PriceBatchResponse> getApplicablePrices(@Valid @RequestBody PriceBatchRequest request) {
+        log.info("Consultando lote de precios - consultas={}", request.getItems().size());
+
+        // Construir las consultas de dominio y ejecutar caso de uso
+        List<PriceQuery> queries = priceRestMapper.toQueries(request.getItems());
+        List<PriceLookup> lookups = getApplicablePriceUseCase.getApplicablePrices(queries);
+
+        PriceBatchResponse response = PriceBatchResponse.builder()
+                .results(priceRestMapper.toLookupResponses(lookups))
+                .build();
+
+        log.info("Lote resuelto: {} de {} consultas con precio",
+                lookups.stream().filter(PriceLookup::isFound).count(), lookups.size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+    }
+
+    /**
+     * Exporta en formato NDJSON (una línea JSON por producto) el precio aplicable de todos
+     * los productos de una marca en una fecha.
+     * <p>
+     * Cada línea se escribe a medida que se lee de la base de datos, por lo que la memoria
+     * usada no depende del tamaño del catálogo. La respuesta se comprime con gzip si el
+     * cliente envía {@code Accept-Encoding: gzip}.
+     * </p>
+     *
+     * @param applicationDate fecha de aplicación (yyyy-MM-dd'T'HH:mm:ss)
+     * @param brandId identificador de la marca
+     * @param response respuesta HTTP sobre la que se escriben las líneas
+     * @throws IOException si falla la escritura de la respuesta
+     */
+    @Operation(
+            summary = "Exportar precios aplicables de una marca",
+            description = "Retorna en streaming (application/x-ndjson) una línea con el precio aplicable de "
+                    + "cada producto de la marca en la fecha indicada. Los productos sin precio se omiten."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Exportación en curso, una línea por producto",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = PriceResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros de exportación inválidos",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/export")
+    public void exportApplicablePrices(
+            @Parameter(
+                    description = "Fecha de aplicación del precio",
+                    example = "2020-06-14T10:00:00",
+                    required = true
+            )
+            @RequestParam
+            @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+            LocalDateTime applicationDate,
+
+            @Parameter(
+                    description = "Identificador de la cadena (marca)",
+                    example = "1",
+                    required = true
+            )
+            @RequestParam
+            Integer brandId,
+
+            HttpServletResponse response
+    ) throws IOException {
+        log.info("Exportando precios - applicationDate={}, brandId={}", applicationDate, brandId);
+
+        PriceExportQuery query = PriceExportQuery.builder()
+                .applicationDate(applicationDate)
+                .brandId(brandId)
+                .build();
+
+        NdjsonPriceLines lines = new NdjsonPriceLines(response, ndjsonWriter());
+        long exported = exportApplicablePricesUseCase.exportApplicablePrices(query, lines);
+        lines.finish();
+
+        log.info("Exportación completada: {} precios", exported);
+    }
+
+    /**
+     * Cache-Control público con el máximo configurado. La respuesta de una fecha concreta no
+     * caduca con el paso del tiempo, solo con los cambios de PRICES: el máximo acota cuánto puede
+     * tardar en verse una modificación y el ETag permite revalidar sin transferir el cuerpo.
+     *
+     * @param cacheMaxAge máximo configurado
+     * @return cabecera Cache-Control
+     */
+    static CacheControl cacheControl(Duration cacheMaxAge) {
+        return CacheControl.maxAge(cacheMaxAge).cachePublic();
+    }
+
+    /**
+     * ETag fuerte con la marca, el producto, la tarifa (PRICE_LIST) y los límites del tramo:
+     * cambia si cambia el precio ganador o la ventana en la que aplica.
+     *
+     * @param segment tramo aplicable
+     * @return valor del ETag (entre comillas)
+     */
+    static String eTag(PriceSegment segment) {
+        Price price = segment.getPrice();
+        return "\"" + price.getBrandId() + "-" + price.getProductId() + "-" + price.getPriceList()
+                + "-" + segment.getStartDate().toEpochSecond(ZoneOffset.UTC)
+                + "-" + segment.getEndDate().toEpochSecond(ZoneOffset.UTC) + "\"";
+    }
+
+    /**
+     * Escritor JSON para líneas NDJSON: sin vaciar el buffer tras cada valor, para que la
+     * salida se envíe (y comprima) por bloques.
+     *
+     * @return escritor de PriceResponse
+     */
+    private ObjectWriter ndjsonWriter() {
+        return objectMapper.writerFor(PriceResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Receptor que escribe cada precio como una línea NDJSON.
+     * Las cabeceras se fijan con la primera línea (o al terminar si no hay ninguna), de modo
+     * que un error de validación previo aún se puede responder como JSON.
+     */
+    private final class NdjsonPriceLines implements Consumer<Price> {
+
+        private final HttpServletResponse response;
+        private final ObjectWriter writer;
+        private OutputStream output;
+
+        NdjsonPriceLines(HttpServletResponse response, ObjectWriter writer) {
+            this.response = response;
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(Price price) {
+            try {
+                OutputStream out = start();
+                out.write(writer.writeValueAsBytes(priceRestMapper.toResponse(price)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            start().flush();
+        }
+
+        private OutputStream start() throws IOException {
+            if (output == null) {
+                response.setStatus(HttpStatus.OK.value());
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                output = response.getOutputStream();
+            }
+            return output;
+        }
+    }
 }
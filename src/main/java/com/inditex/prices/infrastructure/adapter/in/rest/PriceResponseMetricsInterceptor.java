@@ -0,0 +1,55 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Interceptor que cuenta las respuestas de la API de precios por código de estado.
+ * <p>
+ * Publica el contador {@code prices.responses} con las etiquetas {@code endpoint}
+ * (patrón de la ruta, p. ej. {@code /prices} o {@code /prices/batch}) y {@code status}
+ * (200, 400, 404...). Se evalúa tras completar la petición, de modo que incluye las
+ * respuestas generadas por el manejador global de excepciones.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceResponseMetricsInterceptor implements HandlerInterceptor {
+
+    /** Nombre de la métrica de respuestas. */
+    public static final String METRIC_NAME = "prices.responses";
+
+    private static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Incrementa el contador de respuestas para el endpoint y el estado de la respuesta.
+     *
+     * @param request petición HTTP
+     * @param response respuesta HTTP
+     * @param handler manejador ejecutado
+     * @param ex excepción no manejada, si la hubo
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        Counter.builder(METRIC_NAME)
+                .description("Respuestas de la API de precios por código de estado")
+                .tag("endpoint", pattern != null ? pattern.toString() : UNKNOWN_ENDPOINT)
+                .tag("status", String.valueOf(response.getStatus()))
+                .register(meterRegistry)
+                .increment();
+    }
+}
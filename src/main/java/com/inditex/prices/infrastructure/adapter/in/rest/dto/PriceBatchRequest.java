@@ -0,0 +1,43 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de petición para la búsqueda de precios por lotes.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lote de consultas de precio")
+public class PriceBatchRequest {
+
+    /** Número máximo de consultas admitidas en un lote. */
+    public static final int MAX_ITEMS = 200;
+
+    @ArraySchema(
+            arraySchema = @Schema(description = "Consultas a resolver (máximo " + MAX_ITEMS + ")"),
+            minItems = 1,
+            maxItems = MAX_ITEMS
+    )
+    @JsonProperty("items")
+    @NotEmpty(message = "El lote debe contener al menos una consulta")
+    @Size(max = MAX_ITEMS, message = "El lote admite como máximo {max} consultas")
+    @Valid
+    private List<@NotNull(message = "Las consultas del lote no pueden ser nulas") PriceLookupRequest> items;
+}
@@ -0,0 +1,29 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para la búsqueda de precios por lotes.
+ * Contiene un resultado por consulta, en el mismo orden de la petición.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultados de un lote de consultas de precio")
+public class PriceBatchResponse {
+
+    @Schema(description = "Resultados en el mismo orden que las consultas")
+    @JsonProperty("results")
+    private List<PriceLookupResponse> results;
+}
@@ -0,0 +1,54 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de petición para consultar el precio de un producto en varias fechas.
+ * El producto y la marca se validan en el dominio, igual que en la consulta individual.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Consulta del precio de un producto en varias fechas")
+public class PriceInstantsRequest {
+
+    /** Número máximo de fechas admitidas en una consulta (un año de fechas diarias). */
+    public static final int MAX_DATES = 366;
+
+    @Schema(description = "Identificador del producto", example = "35455")
+    @JsonProperty("productId")
+    private Long productId;
+
+    @Schema(description = "Identificador de la cadena (marca)", example = "1")
+    @JsonProperty("brandId")
+    private Integer brandId;
+
+    @ArraySchema(
+            arraySchema = @Schema(description = "Fechas de aplicación a resolver (máximo " + MAX_DATES + ")"),
+            schema = @Schema(type = "string", example = "2020-06-14T10:00:00"),
+            minItems = 1,
+            maxItems = MAX_DATES
+    )
+    @JsonProperty("applicationDates")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @NotEmpty(message = "La consulta debe contener al menos una fecha de aplicación")
+    @Size(max = MAX_DATES, message = "La consulta admite como máximo {max} fechas de aplicación")
+    private List<@NotNull(message = "Las fechas de aplicación no pueden ser nulas") LocalDateTime> applicationDates;
+}
@@ -0,0 +1,39 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de petición para una consulta individual dentro de una búsqueda por lotes.
+ * Los campos se validan en el dominio para informar los errores por elemento.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Consulta de precio de un producto")
+public class PriceLookupRequest {
+
+    @Schema(description = "Fecha de aplicación del precio", example = "2020-06-14T10:00:00")
+    @JsonProperty("applicationDate")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime applicationDate;
+
+    @Schema(description = "Identificador del producto", example = "35455")
+    @JsonProperty("productId")
+    private Long productId;
+
+    @Schema(description = "Identificador de la cadena (marca)", example = "1")
+    @JsonProperty("brandId")
+    private Integer brandId;
+}
@@ -0,0 +1,55 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta para una consulta individual de una búsqueda por lotes.
+ * Incluye el precio cuando se encuentra o un mensaje cuando no existe o es inválida.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de una consulta de precio del lote")
+public class PriceLookupResponse {
+
+    @Schema(description = "Fecha de aplicación consultada", example = "2020-06-14T10:00:00")
+    @JsonProperty("applicationDate")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime applicationDate;
+
+    @Schema(description = "Identificador del producto consultado", example = "35455")
+    @JsonProperty("productId")
+    private Long productId;
+
+    @Schema(description = "Identificador de la cadena (marca) consultada", example = "1")
+    @JsonProperty("brandId")
+    private Integer brandId;
+
+    @Schema(description = "Estado de la consulta", example = "FOUND",
+            allowableValues = {"FOUND", "NOT_FOUND", "INVALID"})
+    @JsonProperty("status")
+    private String status;
+
+    @Schema(description = "Precio aplicable (solo si el estado es FOUND)")
+    @JsonProperty("price")
+    private PriceResponse price;
+
+    @Schema(description = "Motivo cuando no se encontró precio o la consulta es inválida",
+            example = "No se encontró precio aplicable")
+    @JsonProperty("message")
+    private String message;
+}
@@ -0,0 +1,45 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta para la consulta del siguiente cambio de precio.
+ * Indica hasta cuándo es válido el precio aplicable de un producto en una fecha.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Siguiente cambio del precio aplicable de un producto")
+public class PriceNextChangeResponse {
+
+    @Schema(description = "Fecha de aplicación consultada", example = "2020-06-14T10:00:00")
+    @JsonProperty("applicationDate")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime applicationDate;
+
+    @Schema(description = "Identificador del producto", example = "35455")
+    @JsonProperty("productId")
+    private Long productId;
+
+    @Schema(description = "Identificador de la cadena (marca)", example = "1")
+    @JsonProperty("brandId")
+    private Integer brandId;
+
+    @Schema(description = "Instante en que cambia el precio aplicable; null si ya no cambia",
+            example = "2020-06-14T15:00:00")
+    @JsonProperty("nextChange")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime nextChange;
+}
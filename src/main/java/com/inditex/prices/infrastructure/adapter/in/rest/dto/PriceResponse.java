@@ -1,6 +1,7 @@
 package com.inditex.prices.infrastructure.adapter.in.rest.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -56,4 +57,12 @@ public class PriceResponse {
     @Schema(description = "Código ISO de la moneda", example = "EUR")
     @JsonProperty("currency")
     private String currency;
+
+    @Schema(description = "Instante en que cambia el precio aplicable del producto (fin del precio o inicio "
+            + "de otro de mayor prioridad). Solo en la consulta individual",
+            example = "2020-06-14T15:00:00")
+    @JsonProperty("nextChange")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime nextChange;
 }
@@ -0,0 +1,49 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta para un tramo de la línea temporal de precios.
+ * Representa el intervalo durante el cual una tarifa es el precio aplicable.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tramo de la línea temporal con su precio aplicable")
+public class PriceSegmentResponse {
+
+    @Schema(description = "Inicio del tramo (inclusivo)", example = "2020-06-14T15:00:00")
+    @JsonProperty("startDate")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startDate;
+
+    @Schema(description = "Fin del tramo (inclusivo)", example = "2020-06-14T18:30:00")
+    @JsonProperty("endDate")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endDate;
+
+    @Schema(description = "Identificador de la tarifa aplicable en el tramo", example = "2")
+    @JsonProperty("priceList")
+    private Integer priceList;
+
+    @Schema(description = "Precio final de venta", example = "25.45")
+    @JsonProperty("price")
+    private BigDecimal price;
+
+    @Schema(description = "Código ISO de la moneda", example = "EUR")
+    @JsonProperty("currency")
+    private String currency;
+}
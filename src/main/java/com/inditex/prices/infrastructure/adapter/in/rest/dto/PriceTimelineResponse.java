@@ -0,0 +1,51 @@
+package com.inditex.prices.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de respuesta para la línea temporal de un producto en un intervalo.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Evolución del precio aplicable de un producto en un intervalo")
+public class PriceTimelineResponse {
+
+    @Schema(description = "Identificador del producto", example = "35455")
+    @JsonProperty("productId")
+    private Long productId;
+
+    @Schema(description = "Identificador de la cadena (marca)", example = "1")
+    @JsonProperty("brandId")
+    private Integer brandId;
+
+    @Schema(description = "Inicio del intervalo consultado", example = "2020-06-14T00:00:00")
+    @JsonProperty("from")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime from;
+
+    @Schema(description = "Fin del intervalo consultado", example = "2020-06-15T23:59:59")
+    @JsonProperty("to")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime to;
+
+    @ArraySchema(schema = @Schema(implementation = PriceSegmentResponse.class),
+            arraySchema = @Schema(description = "Tramos contiguos ordenados cronológicamente; los huecos sin "
+                    + "precio no generan tramos"))
+    @JsonProperty("segments")
+    private List<PriceSegmentResponse> segments;
+}
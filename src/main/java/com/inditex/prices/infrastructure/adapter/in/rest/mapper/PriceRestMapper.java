@@ -1,13 +1,23 @@
 package com.inditex.prices.infrastructure.adapter.in.rest.mapper;
 
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceLookup;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceLookupRequest;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceLookupResponse;
 import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceResponse;
+import com.inditex.prices.infrastructure.adapter.in.rest.dto.PriceSegmentResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
+import java.util.List;
+
 /**
  * Mapper MapStruct para conversión entre entidades de dominio y DTOs REST.
- * Convierte objetos {@link Price} del dominio a {@link PriceResponse} para la capa REST.
+ * Convierte objetos {@link Price} del dominio a {@link PriceResponse} para la capa REST
+ * y las peticiones/resultados de la búsqueda por lotes.
  *
  * @author Irvin Monterroza
  * @version 1.0
@@ -21,5 +31,72 @@ public interface PriceRestMapper {
      * @param price entidad de dominio
      * @return DTO de respuesta
      */
+    @Mapping(target = "nextChange", ignore = true)
     PriceResponse toResponse(Price price);
+
+    /**
+     * Convierte el precio de un tramo a PriceResponse DTO con el instante de su siguiente cambio.
+     *
+     * @param segment tramo de la línea temporal
+     * @return DTO de respuesta
+     */
+    default PriceResponse toResponse(PriceSegment segment) {
+        PriceResponse response = toResponse(segment.getPrice());
+        response.setNextChange(segment.getNextChange());
+        return response;
+    }
+
+    /**
+     * Convierte una consulta del lote a PriceQuery de dominio.
+     *
+     * @param request DTO de petición
+     * @return consulta de dominio
+     */
+    PriceQuery toQuery(PriceLookupRequest request);
+
+    /**
+     * Convierte las consultas del lote a PriceQuery de dominio conservando el orden.
+     *
+     * @param requests DTOs de petición
+     * @return consultas de dominio
+     */
+    List<PriceQuery> toQueries(List<PriceLookupRequest> requests);
+
+    /**
+     * Convierte el resultado de una consulta del lote a su DTO de respuesta.
+     *
+     * @param lookup resultado de dominio
+     * @return DTO de respuesta
+     */
+    @Mapping(target = "applicationDate", source = "query.applicationDate")
+    @Mapping(target = "productId", source = "query.productId")
+    @Mapping(target = "brandId", source = "query.brandId")
+    PriceLookupResponse toLookupResponse(PriceLookup lookup);
+
+    /**
+     * Convierte los resultados del lote a DTOs de respuesta conservando el orden.
+     *
+     * @param lookups resultados de dominio
+     * @return DTOs de respuesta
+     */
+    List<PriceLookupResponse> toLookupResponses(List<PriceLookup> lookups);
+
+    /**
+     * Convierte un tramo de la línea temporal a su DTO de respuesta.
+     *
+     * @param segment tramo de dominio
+     * @return DTO de respuesta
+     */
+    @Mapping(target = "priceList", source = "price.priceList")
+    @Mapping(target = "price", source = "price.price")
+    @Mapping(target = "currency", source = "price.currency")
+    PriceSegmentResponse toSegmentResponse(PriceSegment segment);
+
+    /**
+     * Convierte los tramos de la línea temporal a DTOs de respuesta conservando el orden.
+     *
+     * @param segments tramos de dominio
+     * @return DTOs de respuesta
+     */
+    List<PriceSegmentResponse> toSegmentResponses(List<PriceSegment> segments);
 }
@@ -0,0 +1,39 @@
+package com.inditex.prices.infrastructure.adapter.in.scheduler;
+
+import com.inditex.prices.application.service.PriceAdmissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptador de entrada que reconstruye periódicamente el filtro de admisión según
+ * {@code prices.admission.rebuild-interval} (por defecto cada 10 minutos, como la expiración de
+ * la caché de líneas temporales).
+ * <p>
+ * Es la red de seguridad para las altas escritas sin evento de cambio: hasta la siguiente
+ * reconstrucción el filtro las descarta con 404.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PriceAdmissionRebuildAdapter {
+
+    private final PriceAdmissionService priceAdmissionService;
+
+    /**
+     * Reconstruye el filtro de admisión con las claves actuales del repositorio.
+     */
+    @Scheduled(fixedDelayString = "${prices.admission.rebuild-interval:PT10M}",
+            initialDelayString = "${prices.admission.rebuild-interval:PT10M}")
+    public void rebuildScheduled() {
+        log.debug("Reconstrucción programada del filtro de admisión de precios");
+        priceAdmissionService.rebuild();
+    }
+}
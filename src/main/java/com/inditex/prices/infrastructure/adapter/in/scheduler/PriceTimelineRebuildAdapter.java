@@ -0,0 +1,49 @@
+package com.inditex.prices.infrastructure.adapter.in.scheduler;
+
+import com.inditex.prices.domain.port.in.RebuildPriceTimelineUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptador de entrada que programa la reconstrucción completa de la línea temporal
+ * materializada: una vez al arrancar y periódicamente según
+ * {@code prices.timeline.rebuild-cron} (por defecto cada noche a las 03:00; {@code -} la desactiva).
+ * <p>
+ * La reconstrucción periódica es una red de seguridad: los cambios de un producto
+ * se materializan de forma incremental al publicarse su evento de cambio.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.repository", name = "engine", havingValue = "timeline")
+public class PriceTimelineRebuildAdapter {
+
+    private final RebuildPriceTimelineUseCase rebuildPriceTimelineUseCase;
+
+    /**
+     * Materializa la línea temporal completa al arrancar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        log.info("Materializando la línea temporal de precios al arrancar");
+        rebuildPriceTimelineUseCase.rebuildAll();
+    }
+
+    /**
+     * Reconstruye periódicamente la línea temporal completa.
+     */
+    @Scheduled(cron = "${prices.timeline.rebuild-cron:0 0 3 * * *}")
+    public void rebuildScheduled() {
+        log.info("Reconstrucción programada de la línea temporal de precios");
+        rebuildPriceTimelineUseCase.rebuildAll();
+    }
+}
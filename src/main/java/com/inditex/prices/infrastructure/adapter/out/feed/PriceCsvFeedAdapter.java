@@ -0,0 +1,124 @@
+package com.inditex.prices.infrastructure.adapter.out.feed;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceFeedRecord;
+import com.inditex.prices.domain.port.out.PriceFeedGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador que lee ficheros CSV de precios línea a línea con un buffer grande,
+ * de modo que ficheros mayores que el heap se procesan con memoria constante.
+ * <p>
+ * Formato (cabecera opcional, separador coma, mismas columnas que PRICES):
+ * {@code BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR}.
+ * Las fechas se aceptan como {@code 2020-06-14-00.00.00}, {@code 2020-06-14 00:00:00}
+ * o {@code 2020-06-14T00:00:00}. Las líneas vacías se ignoran.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PriceCsvFeedAdapter implements PriceFeedGateway {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int COLUMNS = 8;
+    private static final String HEADER_PREFIX = "BRAND_ID";
+
+    private static final DateTimeFormatter FEED_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH.mm.ss");
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /**
+     * Abre el fichero y retorna sus registros de forma perezosa.
+     *
+     * @param feed ruta del fichero CSV
+     * @return registros del fichero; cerrar el stream cierra el fichero
+     */
+    @Override
+    public Stream<PriceFeedRecord> read(Path feed) {
+        BufferedReader reader = open(feed);
+        long[] lineNumber = {0};
+
+        return reader.lines()
+                .map(line -> parse(++lineNumber[0], line))
+                .filter(record -> record != null)
+                .onClose(() -> close(reader, feed));
+    }
+
+    /**
+     * Interpreta una línea del fichero.
+     *
+     * @param lineNumber número de línea (desde 1)
+     * @param line contenido de la línea
+     * @return registro leído, o null si la línea es la cabecera o está vacía
+     */
+    PriceFeedRecord parse(long lineNumber, String line) {
+        boolean header = lineNumber == 1 && line.regionMatches(true, 0, HEADER_PREFIX, 0, HEADER_PREFIX.length());
+        if (header || line.isBlank()) {
+            return null;
+        }
+
+        String[] columns = line.split(",", -1);
+        if (columns.length != COLUMNS) {
+            return PriceFeedRecord.invalid(lineNumber,
+                    "Se esperaban " + COLUMNS + " columnas y se encontraron " + columns.length);
+        }
+
+        try {
+            Price price = Price.builder()
+                    .brandId(Integer.valueOf(columns[0].trim()))
+                    .startDate(parseDate(columns[1].trim()))
+                    .endDate(parseDate(columns[2].trim()))
+                    .priceList(Integer.valueOf(columns[3].trim()))
+                    .productId(Long.valueOf(columns[4].trim()))
+                    .priority(Integer.valueOf(columns[5].trim()))
+                    .price(new BigDecimal(columns[6].trim()))
+                    .currency(columns[7].trim())
+                    .build();
+            return PriceFeedRecord.valid(lineNumber, price);
+        } catch (NumberFormatException e) {
+            return PriceFeedRecord.invalid(lineNumber, "Valor numérico inválido: " + e.getMessage());
+        } catch (DateTimeParseException e) {
+            return PriceFeedRecord.invalid(lineNumber, "Fecha inválida: " + e.getParsedString());
+        }
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        if (value.length() > 10 && value.charAt(10) == '-') {
+            return LocalDateTime.parse(value, FEED_DATE);
+        }
+        return LocalDateTime.parse(value.replace(' ', 'T'), ISO_DATE);
+    }
+
+    private static BufferedReader open(Path feed) {
+        try {
+            return new BufferedReader(
+                    new InputStreamReader(Files.newInputStream(feed), StandardCharsets.UTF_8), BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el fichero de precios " + feed, e);
+        }
+    }
+
+    private static void close(BufferedReader reader, Path feed) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.warn("No se pudo cerrar el fichero de precios {}: {}", feed, e.getMessage());
+        }
+    }
+}
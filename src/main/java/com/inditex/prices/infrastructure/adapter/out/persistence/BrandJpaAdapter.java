@@ -0,0 +1,35 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.port.out.BrandRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.BrandEntity;
+import com.inditex.prices.infrastructure.adapter.out.persistence.repository.BrandJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador JPA que implementa el puerto BrandRepository sobre la tabla BRANDS.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class BrandJpaAdapter implements BrandRepository {
+
+    private final BrandJpaRepository brandJpaRepository;
+
+    /**
+     * Retorna los identificadores de todas las marcas.
+     *
+     * @return identificadores de marca
+     */
+    @Override
+    public Set<Integer> findAllIds() {
+        return brandJpaRepository.findAll().stream()
+                .map(BrandEntity::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,115 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.exception.PriceLookupRejectedException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.port.out.AsyncPriceRepository;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptador que implementa el puerto AsyncPriceRepository sobre el {@link PriceRepository} del
+ * motor configurado.
+ * <p>
+ * Las consultas se encolan y las resuelve un pool propio de {@code prices.async.threads} hilos
+ * (por defecto, tantos como conexiones tiene el pool de BD), de modo que solo bloquean en JDBC
+ * tantos hilos como conexiones hay y el resto de consultas en curso esperan en la cola sin
+ * ocupar hilo. Con la cola ({@code prices.async.queue-capacity}) llena la consulta se completa
+ * con {@link PriceLookupRejectedException}. Cada consulta se ejecuta como lectura de solo lectura,
+ * igual que en el caso de uso síncrono, para que el enrutado a réplicas se aplique también aquí.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PriceAsyncAdapter implements AsyncPriceRepository {
+
+    private final PriceRepository priceRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Crea el adaptador y su pool de hilos.
+     *
+     * @param priceRepository repositorio bloqueante del motor configurado
+     * @param transactionManager gestor de transacciones
+     * @param threads hilos que ejecutan las consultas
+     * @param queueCapacity consultas en espera admitidas
+     */
+    public PriceAsyncAdapter(PriceRepository priceRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${prices.async.threads:10}") int threads,
+                             @Value("${prices.async.queue-capacity:10000}") int queueCapacity) {
+        this.priceRepository = priceRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("prices-async-"));
+        log.info("Consultas asíncronas de precios: {} hilos, cola de {}", threads, queueCapacity);
+    }
+
+    @Override
+    public CompletableFuture<List<Price>> findAllPrices(Long productId, Integer brandId) {
+        try {
+            return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(
+                    status -> priceRepository.findAllPrices(productId, brandId)), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new PriceLookupRejectedException(
+                    "Cola de consultas asíncronas llena: " + executor.getQueue().size(), e));
+        }
+    }
+
+    /**
+     * Retorna las consultas en espera de un hilo.
+     *
+     * @return tamaño de la cola
+     */
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Retorna las consultas en ejecución.
+     *
+     * @return hilos ocupados
+     */
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Retorna las consultas rechazadas por tener la cola llena.
+     *
+     * @return total de rechazos
+     */
+    public double rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Detiene el pool al cerrar el contexto, dejando terminar las consultas en curso.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,175 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.inditex.prices.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador en memoria que implementa el puerto PriceRepository sin acceder a base de datos
+ * en cada consulta.
+ * <p>
+ * Al arrancar carga la tabla PRICES y construye una {@link PriceTimeline} por cada par
+ * (marca, producto), de modo que cada búsqueda es un acceso a mapa más una búsqueda binaria.
+ * Se activa con {@code prices.repository.engine=memory}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.repository", name = "engine", havingValue = "memory")
+public class PriceInMemoryAdapter implements PriceRepository {
+
+    private final PriceJpaRepository jpaRepository;
+    private final PriceEntityMapper mapper;
+
+    private volatile Map<PriceKey, PriceTimeline> timelines = Map.of();
+
+    /**
+     * Carga (o recarga) todos los precios de la base de datos y reconstruye el índice.
+     * El índice anterior se sustituye de forma atómica, sin bloquear las consultas en curso.
+     */
+    @PostConstruct
+    public void reload() {
+        long start = System.nanoTime();
+
+        Map<PriceKey, List<Price>> pricesByKey = mapper.toDomainList(jpaRepository.findAll()).stream()
+                .collect(Collectors.groupingBy(price -> PriceKey.of(price.getProductId(), price.getBrandId())));
+
+        timelines = pricesByKey.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> PriceTimeline.of(entry.getValue())));
+
+        log.info("Índice de precios en memoria cargado: {} productos en {} ms",
+                timelines.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Actualiza el índice tras un cambio de precios: recarga un único producto o, si el cambio
+     * es global, toda la tabla.
+     * Se ejecuta antes que el resto de receptores del evento, que leen los datos ya actualizados.
+     *
+     * @param event evento de cambio de precios
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        if (event.isAll()) {
+            reload();
+            return;
+        }
+
+        PriceKey key = event.getKey();
+        PriceTimeline timeline = PriceTimeline.of(
+                mapper.toDomainList(jpaRepository.findByProductIdAndBrandId(key.getProductId(), key.getBrandId())));
+
+        Map<PriceKey, PriceTimeline> updated = new HashMap<>(timelines);
+        if (timeline.isEmpty()) {
+            updated.remove(key);
+        } else {
+            updated.put(key, timeline);
+        }
+        timelines = Map.copyOf(updated);
+        log.info("Índice de precios en memoria actualizado para {}", key);
+    }
+
+    /**
+     * Resuelve el precio aplicable desde la línea temporal en memoria.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return lista con el precio ganador, vacía si no hay precio vigente
+     */
+    @Override
+    public List<Price> findApplicablePrices(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        return findApplicablePrice(productId, brandId, applicationDate)
+                .map(List::of)
+                .orElse(List.of());
+    }
+
+    /**
+     * Retorna los precios originales del producto cargados en el índice.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return precios del producto, vacía si no existen
+     */
+    @Override
+    public List<Price> findAllPrices(Long productId, Integer brandId) {
+        return timelines.getOrDefault(PriceKey.of(productId, brandId), PriceTimeline.empty()).getPrices();
+    }
+
+    /**
+     * Retorna las claves de los productos cargados en el índice.
+     *
+     * @return claves de los productos con precios
+     */
+    @Override
+    public List<PriceKey> findAllKeys() {
+        return List.copyOf(timelines.keySet());
+    }
+
+    /**
+     * Recorre en orden de producto el precio ganador de cada línea temporal de la marca.
+     *
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @param action receptor de cada precio ganador
+     * @return número de precios entregados
+     */
+    @Override
+    public long forEachApplicablePrice(Integer brandId, LocalDateTime applicationDate, Consumer<Price> action) {
+        Map<PriceKey, PriceTimeline> snapshot = timelines;
+        List<PriceKey> keys = snapshot.keySet().stream()
+                .filter(key -> key.getBrandId().equals(brandId))
+                .sorted(Comparator.comparing(PriceKey::getProductId))
+                .toList();
+
+        long exported = 0;
+        for (PriceKey key : keys) {
+            Optional<Price> price = snapshot.get(key).priceAt(applicationDate);
+            if (price.isPresent()) {
+                action.accept(price.get());
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * Resuelve el precio ganador desde la línea temporal en memoria.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return precio aplicable, vacío si no hay precio vigente
+     */
+    @Override
+    public Optional<Price> findApplicablePrice(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        return timelines.getOrDefault(PriceKey.of(productId, brandId), PriceTimeline.empty())
+                .priceAt(applicationDate);
+    }
+}
@@ -0,0 +1,430 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador JDBC que implementa el puerto PriceRepository sin pasar por Hibernate.
+ * <p>
+ * Cada consulta es una sentencia preparada cuyo {@link RowMapper} construye directamente el
+ * {@link Price} de dominio: sin contexto de persistencia, sin instancias de PriceEntity, sin
+ * instantáneas para dirty checking y sin mapper intermedio. No necesita una transacción
+ * envolvente; las consultas se ejecutan en modo auto-commit salvo que ya exista una.
+ * Se activa con {@code prices.repository.engine=jdbc}.
+ * </p>
+ * <p>
+ * Publica la misma distribución {@code prices.repository.rows} que {@link PriceJpaAdapter}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.repository", name = "engine", havingValue = "jdbc")
+public class PriceJdbcAdapter implements PriceRepository {
+
+    private static final String COLUMNS =
+        "ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR";
+
+    private static final String APPLICABLE_SQL = """
+        SELECT %s FROM PRICES
+        WHERE PRODUCT_ID = ? AND BRAND_ID = ? AND START_DATE <= ? AND END_DATE >= ?
+        ORDER BY PRIORITY DESC, PRICE_LIST DESC
+        """.formatted(COLUMNS);
+
+    private static final String TOP_APPLICABLE_SQL = APPLICABLE_SQL + "FETCH FIRST 1 ROWS ONLY";
+
+    private static final String ALL_PRICES_SQL =
+        "SELECT " + COLUMNS + " FROM PRICES WHERE PRODUCT_ID = ? AND BRAND_ID = ?";
+
+    private static final String RANGE_SQL = ALL_PRICES_SQL + " AND START_DATE <= ? AND END_DATE >= ?";
+
+    private static final String KEYS_SQL = "SELECT DISTINCT PRODUCT_ID, BRAND_ID FROM PRICES";
+
+    private static final String COUNT_KEYS_SQL = "SELECT COUNT(*) FROM (" + KEYS_SQL + ") K";
+
+    private static final String EXPORT_SQL = """
+        SELECT %s FROM PRICES
+        WHERE BRAND_ID = ? AND START_DATE <= ? AND END_DATE >= ?
+        ORDER BY PRODUCT_ID, PRIORITY DESC, PRICE_LIST DESC
+        """.formatted(COLUMNS);
+
+    /**
+     * Consulta por lotes equivalente a la de {@link PriceJpaAdapter}, con marcadores posicionales JDBC.
+     * El marcador {@code %s} se sustituye por las filas de VALUES.
+     */
+    private static final String BATCH_LOOKUP_SQL = """
+        SELECT ranked.QUERY_INDEX, ranked.ID, ranked.BRAND_ID, ranked.START_DATE, ranked.END_DATE,
+               ranked.PRICE_LIST, ranked.PRODUCT_ID, ranked.PRIORITY, ranked.PRICE, ranked.CURR
+        FROM (
+            SELECT q.QUERY_INDEX, p.*,
+                   ROW_NUMBER() OVER (
+                       PARTITION BY q.QUERY_INDEX
+                       ORDER BY p.PRIORITY DESC, p.PRICE_LIST DESC
+                   ) AS RN
+            FROM (VALUES %s) AS q (QUERY_INDEX, PRODUCT_ID, BRAND_ID, APPLICATION_DATE)
+            JOIN PRICES p
+              ON p.PRODUCT_ID = q.PRODUCT_ID
+             AND p.BRAND_ID = q.BRAND_ID
+             AND p.START_DATE <= q.APPLICATION_DATE
+             AND p.END_DATE >= q.APPLICATION_DATE
+        ) ranked
+        WHERE ranked.RN = 1
+        """;
+
+    private static final String BATCH_VALUES_ROW =
+        "(CAST(? AS INTEGER), CAST(? AS BIGINT), CAST(? AS INTEGER), CAST(? AS TIMESTAMP))";
+
+    /**
+     * Consulta de todos los precios de varios productos equivalente a la de {@link PriceJpaAdapter}.
+     * El marcador {@code %s} se sustituye por las filas de VALUES.
+     */
+    private static final String BATCH_ALL_PRICES_SQL = """
+        SELECT q.QUERY_INDEX, p.ID, p.BRAND_ID, p.START_DATE, p.END_DATE,
+               p.PRICE_LIST, p.PRODUCT_ID, p.PRIORITY, p.PRICE, p.CURR
+        FROM (VALUES %s) AS q (QUERY_INDEX, PRODUCT_ID, BRAND_ID)
+        JOIN PRICES p
+          ON p.PRODUCT_ID = q.PRODUCT_ID
+         AND p.BRAND_ID = q.BRAND_ID
+        """;
+
+    private static final String BATCH_KEYS_ROW = "(CAST(? AS INTEGER), CAST(? AS BIGINT), CAST(? AS INTEGER))";
+
+    /**
+     * Identificador de las filas de relleno de VALUES: productos y marcas son positivos, de modo
+     * que estas filas nunca coinciden con PRICES.
+     */
+    private static final int PADDING_ID = -1;
+
+    /** Construye el precio de dominio directamente desde la fila de PRICES. */
+    private static final RowMapper<Price> PRICE_ROW_MAPPER = (rs, rowNum) -> toPrice(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${prices.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    /**
+     * Busca los precios vigentes ordenados por prioridad descendente.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return lista de precios de dominio
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public List<Price> findApplicablePrices(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        log.debug("Consultando BD (JDBC) para productId={}, brandId={}, fecha={}",
+            productId, brandId, applicationDate);
+
+        Timestamp date = Timestamp.valueOf(applicationDate);
+        List<Price> prices = jdbcTemplate.query(APPLICABLE_SQL, PRICE_ROW_MAPPER, productId, brandId, date, date);
+        recordRows("candidates", prices.size());
+        return prices;
+    }
+
+    /**
+     * Busca únicamente el precio ganador; la base de datos ordena y retorna una fila.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return precio de dominio aplicable, vacío si no existe
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public Optional<Price> findApplicablePrice(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        log.debug("Consultando precio ganador en BD (JDBC) para productId={}, brandId={}, fecha={}",
+            productId, brandId, applicationDate);
+
+        Timestamp date = Timestamp.valueOf(applicationDate);
+        List<Price> prices = jdbcTemplate.query(TOP_APPLICABLE_SQL, PRICE_ROW_MAPPER, productId, brandId, date, date);
+        recordRows("single", prices.size());
+        return prices.stream().findFirst();
+    }
+
+    /**
+     * Busca todos los precios de un producto y marca.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return precios de dominio del producto
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public List<Price> findAllPrices(Long productId, Integer brandId) {
+        List<Price> prices = jdbcTemplate.query(ALL_PRICES_SQL, PRICE_ROW_MAPPER, productId, brandId);
+        recordRows("timeline", prices.size());
+        return prices;
+    }
+
+    /**
+     * Busca todos los precios de varios productos y marcas en un único viaje a la base de datos.
+     * Los pares duplicados se envían una sola vez y las filas de VALUES se completan con relleno
+     * hasta la siguiente potencia de dos.
+     *
+     * @param keys pares (producto, marca) a resolver
+     * @return precios de dominio por par; los pares sin precios no aparecen en el mapa
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public Map<PriceKey, List<Price>> findAllPrices(Collection<PriceKey> keys) {
+        List<PriceKey> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+
+        log.debug("Consultando BD (JDBC) por lotes todos los precios de {} productos", distinct.size());
+
+        int rowCount = paddedSize(distinct.size());
+        Object[] parameters = new Object[rowCount * 3];
+        for (int index = 0; index < rowCount; index++) {
+            PriceKey key = distinct.get(Math.min(index, distinct.size() - 1));
+            boolean padding = index >= distinct.size();
+            parameters[index * 3] = index;
+            parameters[index * 3 + 1] = padding ? PADDING_ID : key.getProductId();
+            parameters[index * 3 + 2] = padding ? PADDING_ID : key.getBrandId();
+        }
+
+        Map<PriceKey, List<Price>> prices = new HashMap<>();
+        int[] rows = new int[1];
+        jdbcTemplate.query(BATCH_ALL_PRICES_SQL.formatted(valuesRows(BATCH_KEYS_ROW, rowCount)),
+            rs -> {
+                prices.computeIfAbsent(distinct.get(rs.getInt("QUERY_INDEX")), key -> new ArrayList<>())
+                    .add(toPrice(rs));
+                rows[0]++;
+            }, parameters);
+        recordRows("timeline-batch", rows[0]);
+        return prices;
+    }
+
+    /**
+     * Busca los precios del producto que se solapan con el intervalo.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param from inicio del intervalo (inclusivo)
+     * @param to fin del intervalo (inclusivo)
+     * @return precios de dominio vigentes en algún momento del intervalo
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public List<Price> findPricesBetween(Long productId, Integer brandId, LocalDateTime from, LocalDateTime to) {
+        List<Price> prices = jdbcTemplate.query(RANGE_SQL, PRICE_ROW_MAPPER, productId, brandId,
+            Timestamp.valueOf(to), Timestamp.valueOf(from));
+        recordRows("range", prices.size());
+        return prices;
+    }
+
+    /**
+     * Busca los pares (producto, marca) distintos con precios.
+     *
+     * @return claves de los productos con precios
+     */
+    @Override
+    public List<PriceKey> findAllKeys() {
+        return jdbcTemplate.query(KEYS_SQL,
+            (rs, rowNum) -> PriceKey.of(rs.getLong("PRODUCT_ID"), rs.getInt("BRAND_ID")));
+    }
+
+    /**
+     * Cuenta los pares (producto, marca) distintos con precios.
+     *
+     * @return número de claves
+     */
+    @Override
+    public long countKeys() {
+        Long count = jdbcTemplate.queryForObject(COUNT_KEYS_SQL, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Recorre con un cursor de solo avance los pares (producto, marca) distintos con precios,
+     * leídos en bloques de {@code prices.export.fetch-size} y sin acumularlos en una lista.
+     *
+     * @param action receptor de cada clave
+     * @return número de claves entregadas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachKey(Consumer<PriceKey> action) {
+        long[] delivered = new long[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(KEYS_SQL);
+            statement.setFetchSize(exportFetchSize);
+            return statement;
+        }, rs -> {
+            action.accept(PriceKey.of(rs.getLong("PRODUCT_ID"), rs.getInt("BRAND_ID")));
+            delivered[0]++;
+        });
+        return delivered[0];
+    }
+
+    /**
+     * Recorre con un cursor de solo avance los precios vigentes de la marca y entrega el primero
+     * (ganador) de cada producto. Las filas se leen en bloques de {@code prices.export.fetch-size};
+     * en PostgreSQL el cursor solo se respeta dentro de una transacción.
+     *
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @param action receptor de cada precio ganador
+     * @return número de precios entregados
+     */
+    @Override
+    public long forEachApplicablePrice(Integer brandId, LocalDateTime applicationDate, Consumer<Price> action) {
+        log.debug("Exportando precios de BD (JDBC) para brandId={}, fecha={} (fetchSize={})",
+            brandId, applicationDate, exportFetchSize);
+
+        Timestamp date = Timestamp.valueOf(applicationDate);
+        long[] counts = new long[2];
+        Long[] currentProductId = new Long[1];
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL);
+            statement.setFetchSize(exportFetchSize);
+            statement.setInt(1, brandId);
+            statement.setTimestamp(2, date);
+            statement.setTimestamp(3, date);
+            return statement;
+        }, rs -> {
+            counts[0]++;
+            long productId = rs.getLong("PRODUCT_ID");
+            if (currentProductId[0] == null || currentProductId[0] != productId) {
+                currentProductId[0] = productId;
+                action.accept(toPrice(rs));
+                counts[1]++;
+            }
+        });
+
+        recordRows("export", (int) Math.min(counts[0], Integer.MAX_VALUE));
+        return counts[1];
+    }
+
+    /**
+     * Resuelve el precio ganador de todas las consultas en un único viaje a la base de datos.
+     * Las consultas duplicadas se envían una sola vez y las filas de VALUES se completan con
+     * relleno hasta la siguiente potencia de dos.
+     *
+     * @param queries consultas válidas a resolver
+     * @return precio ganador por consulta; las consultas sin precio no aparecen en el mapa
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public Map<PriceQuery, Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        List<PriceQuery> distinct = new ArrayList<>(new LinkedHashSet<>(queries));
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+
+        log.debug("Consultando BD (JDBC) por lotes: {} consultas distintas", distinct.size());
+
+        int rowCount = paddedSize(distinct.size());
+        Object[] parameters = new Object[rowCount * 4];
+        for (int index = 0; index < rowCount; index++) {
+            PriceQuery query = distinct.get(Math.min(index, distinct.size() - 1));
+            boolean padding = index >= distinct.size();
+            parameters[index * 4] = index;
+            parameters[index * 4 + 1] = padding ? PADDING_ID : query.getProductId();
+            parameters[index * 4 + 2] = padding ? PADDING_ID : query.getBrandId();
+            parameters[index * 4 + 3] = Timestamp.valueOf(query.getApplicationDate());
+        }
+
+        Map<PriceQuery, Price> prices = new HashMap<>();
+        jdbcTemplate.query(BATCH_LOOKUP_SQL.formatted(valuesRows(BATCH_VALUES_ROW, rowCount)),
+            rs -> {
+                prices.put(distinct.get(rs.getInt("QUERY_INDEX")), toPrice(rs));
+            }, parameters);
+        recordRows("batch", prices.size());
+        return prices;
+    }
+
+    /**
+     * Construye el precio de dominio a partir de la fila actual.
+     *
+     * @param rs resultado posicionado en una fila de PRICES
+     * @return precio de dominio
+     * @throws SQLException si una columna no puede leerse
+     */
+    private static Price toPrice(ResultSet rs) throws SQLException {
+        return Price.builder()
+            .id(rs.getLong("ID"))
+            .brandId(rs.getInt("BRAND_ID"))
+            .startDate(rs.getObject("START_DATE", LocalDateTime.class))
+            .endDate(rs.getObject("END_DATE", LocalDateTime.class))
+            .priceList(rs.getInt("PRICE_LIST"))
+            .productId(rs.getLong("PRODUCT_ID"))
+            .priority(rs.getInt("PRIORITY"))
+            .price(rs.getBigDecimal("PRICE"))
+            .currency(rs.getString("CURR"))
+            .build();
+    }
+
+    /**
+     * Registra el número de filas retornadas por una consulta.
+     *
+     * @param query tipo de consulta
+     * @param rows filas retornadas
+     */
+    private void recordRows(String query, int rows) {
+        DistributionSummary.builder("prices.repository.rows")
+            .description("Filas de PRICES retornadas por consulta")
+            .baseUnit("rows")
+            .tag("query", query)
+            .register(meterRegistry)
+            .record(rows);
+    }
+
+    /**
+     * Redondea las filas de VALUES a la siguiente potencia de dos, como {@link PriceJpaAdapter}:
+     * los lotes de cualquier tamaño comparten unas pocas sentencias en las cachés del driver y la BD.
+     *
+     * @param size consultas distintas del lote
+     * @return filas de VALUES, con relleno
+     */
+    private static int paddedSize(int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Genera las filas parametrizadas de la tabla VALUES.
+     *
+     * @param row plantilla de una fila
+     * @param size número de filas
+     * @return filas separadas por comas
+     */
+    private static String valuesRows(String row, int size) {
+        return String.join(", ", Collections.nCopies(size, row));
+    }
+}
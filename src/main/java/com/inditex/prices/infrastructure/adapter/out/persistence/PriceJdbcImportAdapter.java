@@ -0,0 +1,83 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.port.out.PriceImportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Adaptador JDBC para la escritura masiva de precios.
+ * <p>
+ * Cada bloque se escribe en una transacción con sentencias {@code MERGE} agrupadas en lotes
+ * JDBC de {@code prices.import.batch-size} filas. La sentencia usa la clave de
+ * {@code uq_price_entry}: inserta las filas nuevas y actualiza vigencia, prioridad, importe
+ * y moneda de las existentes. {@code MERGE} estándar está soportado por H2 y PostgreSQL 15+.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceJdbcImportAdapter implements PriceImportRepository {
+
+    private static final String UPSERT_SQL = """
+        MERGE INTO PRICES p
+        USING (VALUES (CAST(? AS INTEGER), CAST(? AS BIGINT), CAST(? AS INTEGER), CAST(? AS TIMESTAMP),
+                       CAST(? AS TIMESTAMP), CAST(? AS INTEGER), CAST(? AS DECIMAL(10, 2)), CAST(? AS VARCHAR(3))))
+            AS s (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR)
+        ON p.BRAND_ID = s.BRAND_ID
+           AND p.PRODUCT_ID = s.PRODUCT_ID
+           AND p.PRICE_LIST = s.PRICE_LIST
+           AND p.START_DATE = s.START_DATE
+        WHEN MATCHED THEN
+            UPDATE SET END_DATE = s.END_DATE, PRIORITY = s.PRIORITY, PRICE = s.PRICE, CURR = s.CURR
+        WHEN NOT MATCHED THEN
+            INSERT (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR)
+            VALUES (s.BRAND_ID, s.PRODUCT_ID, s.PRICE_LIST, s.START_DATE, s.END_DATE, s.PRIORITY, s.PRICE, s.CURR)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${prices.import.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Inserta o actualiza los precios en lotes JDBC dentro de una única transacción.
+     *
+     * @param prices precios validados
+     * @return número de filas escritas según los recuentos del driver; las sentencias que el
+     *         driver confirma sin recuento ({@link Statement#SUCCESS_NO_INFO}) cuentan como una fila
+     */
+    @Override
+    @Transactional
+    public int upsertPrices(List<Price> prices) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, prices, batchSize, (statement, price) -> {
+            statement.setInt(1, price.getBrandId());
+            statement.setLong(2, price.getProductId());
+            statement.setInt(3, price.getPriceList());
+            statement.setTimestamp(4, Timestamp.valueOf(price.getStartDate()));
+            statement.setTimestamp(5, Timestamp.valueOf(price.getEndDate()));
+            statement.setInt(6, price.getPriority());
+            statement.setBigDecimal(7, price.getPrice());
+            statement.setString(8, price.getCurrency());
+        });
+
+        int written = Arrays.stream(counts)
+                .flatMapToInt(Arrays::stream)
+                .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+                .sum();
+        log.debug("Escritas {} filas de PRICES en {} lotes JDBC", written, counts.length);
+        return written;
+    }
+}
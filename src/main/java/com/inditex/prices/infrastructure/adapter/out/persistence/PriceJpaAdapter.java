@@ -1,19 +1,45 @@
 package com.inditex.prices.infrastructure.adapter.out.persistence;
 
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
 import com.inditex.prices.domain.port.out.PriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
 import com.inditex.prices.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
 import com.inditex.prices.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adaptador JPA que implementa el puerto PriceRepository.
  * Convierte entre entidades de persistencia y modelos de dominio.
+ * Es el motor por defecto ({@code prices.repository.engine=jpa}).
+ * <p>
+ * Publica la distribución {@code prices.repository.rows} con las filas retornadas por
+ * consulta (etiqueta {@code query} = candidates | single | batch | timeline | timeline-batch | export).
+ * </p>
  *
  * @author Irvin Monterroza
  * @version 1.0
@@ -21,10 +47,76 @@ import java.util.List;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.repository", name = "engine", havingValue = "jpa", matchIfMissing = true)
 public class PriceJpaAdapter implements PriceRepository {
 
+    /**
+     * Consulta nativa por lotes: une las consultas (tabla VALUES) con PRICES y se queda,
+     * por cada consulta, con la fila de mayor prioridad (desempate por PRICE_LIST).
+     * El marcador {@code %s} se sustituye por las filas de VALUES.
+     */
+    private static final String BATCH_LOOKUP_SQL = """
+        SELECT ranked.QUERY_INDEX, ranked.ID, ranked.BRAND_ID, ranked.START_DATE, ranked.END_DATE,
+               ranked.PRICE_LIST, ranked.PRODUCT_ID, ranked.PRIORITY, ranked.PRICE, ranked.CURR
+        FROM (
+            SELECT q.QUERY_INDEX, p.*,
+                   ROW_NUMBER() OVER (
+                       PARTITION BY q.QUERY_INDEX
+                       ORDER BY p.PRIORITY DESC, p.PRICE_LIST DESC
+                   ) AS RN
+            FROM (VALUES %s) AS q (QUERY_INDEX, PRODUCT_ID, BRAND_ID, APPLICATION_DATE)
+            JOIN PRICES p
+              ON p.PRODUCT_ID = q.PRODUCT_ID
+             AND p.BRAND_ID = q.BRAND_ID
+             AND p.START_DATE <= q.APPLICATION_DATE
+             AND p.END_DATE >= q.APPLICATION_DATE
+        ) ranked
+        WHERE ranked.RN = 1
+        """;
+
+    private static final String BATCH_VALUES_ROW =
+        "(CAST(?%d AS INTEGER), CAST(?%d AS BIGINT), CAST(?%d AS INTEGER), CAST(?%d AS TIMESTAMP))";
+
+    /**
+     * Consulta nativa de todos los precios de varios productos: une los pares (tabla VALUES) con
+     * PRICES. El marcador {@code %s} se sustituye por las filas de VALUES.
+     */
+    private static final String BATCH_ALL_PRICES_SQL = """
+        SELECT q.QUERY_INDEX, p.ID, p.BRAND_ID, p.START_DATE, p.END_DATE,
+               p.PRICE_LIST, p.PRODUCT_ID, p.PRIORITY, p.PRICE, p.CURR
+        FROM (VALUES %s) AS q (QUERY_INDEX, PRODUCT_ID, BRAND_ID)
+        JOIN PRICES p
+          ON p.PRODUCT_ID = q.PRODUCT_ID
+         AND p.BRAND_ID = q.BRAND_ID
+        """;
+
+    private static final String BATCH_KEYS_ROW = "(CAST(?%d AS INTEGER), CAST(?%d AS BIGINT), CAST(?%d AS INTEGER))";
+
+    /**
+     * Identificador de las filas de relleno de VALUES: productos y marcas son positivos, de modo
+     * que estas filas nunca coinciden con PRICES.
+     */
+    private static final int PADDING_ID = -1;
+
+    /**
+     * Consulta de exportación: todos los precios vigentes de la marca, agrupados por producto
+     * y con el ganador en primer lugar dentro de cada producto.
+     */
+    private static final String EXPORT_JPQL = """
+        SELECT p FROM PriceEntity p
+        WHERE p.brandId = :brandId
+        AND p.startDate <= :applicationDate
+        AND p.endDate >= :applicationDate
+        ORDER BY p.productId, p.priority DESC, p.priceList DESC
+        """;
+
     private final PriceJpaRepository jpaRepository;
     private final PriceEntityMapper mapper;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${prices.export.fetch-size:1000}")
+    private int exportFetchSize;
 
     /**
      * Busca precios en base de datos y los convierte a modelos de dominio.
@@ -35,6 +127,7 @@ public class PriceJpaAdapter implements PriceRepository {
      * @return lista de precios de dominio
      */
     @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
     public List<Price> findApplicablePrices(Long productId, Integer brandId, LocalDateTime applicationDate) {
         log.debug("Consultando BD para productId={}, brandId={}, fecha={}",
             productId, brandId, applicationDate);
@@ -42,7 +135,293 @@ public class PriceJpaAdapter implements PriceRepository {
         var entities = jpaRepository.findApplicablePrices(productId, brandId, applicationDate);
 
         log.debug("Base de datos retornó {} resultados", entities.size());
+        recordRows("candidates", entities.size());
+
+        return mapper.toDomainList(entities);
+    }
+
+    /**
+     * Busca en base de datos solo el precio ganador y lo convierte a modelo de dominio.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return precio de dominio aplicable, vacío si no existe
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public Optional<Price> findApplicablePrice(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        log.debug("Consultando precio ganador en BD para productId={}, brandId={}, fecha={}",
+            productId, brandId, applicationDate);
+
+        Optional<PriceEntity> entity = jpaRepository.findTopApplicablePrice(productId, brandId, applicationDate);
+        recordRows("single", entity.isPresent() ? 1 : 0);
+
+        return entity.map(mapper::toDomain);
+    }
+
+    /**
+     * Busca todos los precios de un producto y marca y los convierte a modelo de dominio.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return precios de dominio del producto
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public List<Price> findAllPrices(Long productId, Integer brandId) {
+        log.debug("Consultando todos los precios en BD para productId={}, brandId={}", productId, brandId);
+
+        var entities = jpaRepository.findByProductIdAndBrandId(productId, brandId);
+        recordRows("timeline", entities.size());
 
         return mapper.toDomainList(entities);
     }
+
+    /**
+     * Busca todos los precios de varios productos y marcas en un único viaje a la base de datos.
+     * Los pares duplicados se envían una sola vez y las filas de VALUES se completan con relleno
+     * hasta la siguiente potencia de dos.
+     *
+     * @param keys pares (producto, marca) a resolver
+     * @return precios de dominio por par; los pares sin precios no aparecen en el mapa
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public Map<PriceKey, List<Price>> findAllPrices(Collection<PriceKey> keys) {
+        List<PriceKey> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+
+        log.debug("Consultando BD por lotes todos los precios de {} productos", distinct.size());
+
+        int rowCount = paddedSize(distinct.size());
+        Query nativeQuery = entityManager.createNativeQuery(
+            BATCH_ALL_PRICES_SQL.formatted(valuesRows(BATCH_KEYS_ROW, 3, rowCount)),
+            PriceEntity.BATCH_LOOKUP_MAPPING
+        );
+
+        int parameter = 1;
+        for (int index = 0; index < rowCount; index++) {
+            PriceKey key = distinct.get(Math.min(index, distinct.size() - 1));
+            boolean padding = index >= distinct.size();
+            nativeQuery.setParameter(parameter++, index);
+            nativeQuery.setParameter(parameter++, padding ? PADDING_ID : key.getProductId());
+            nativeQuery.setParameter(parameter++, padding ? PADDING_ID : key.getBrandId());
+        }
+
+        Map<PriceKey, List<Price>> prices = new HashMap<>();
+        int rows = 0;
+        for (Object row : nativeQuery.getResultList()) {
+            Object[] columns = (Object[]) row;
+            PriceEntity entity = (PriceEntity) columns[0];
+            Integer index = (Integer) columns[1];
+            prices.computeIfAbsent(distinct.get(index), key -> new ArrayList<>()).add(mapper.toDomain(entity));
+            rows++;
+        }
+        recordRows("timeline-batch", rows);
+        return prices;
+    }
+
+    /**
+     * Busca en base de datos los precios del producto que se solapan con el intervalo.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param from inicio del intervalo (inclusivo)
+     * @param to fin del intervalo (inclusivo)
+     * @return precios de dominio vigentes en algún momento del intervalo
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public List<Price> findPricesBetween(Long productId, Integer brandId, LocalDateTime from, LocalDateTime to) {
+        log.debug("Consultando precios en BD para productId={}, brandId={} entre {} y {}",
+            productId, brandId, from, to);
+
+        var entities = jpaRepository.findPricesBetween(productId, brandId, from, to);
+        recordRows("range", entities.size());
+
+        return mapper.toDomainList(entities);
+    }
+
+    /**
+     * Busca en base de datos los pares (producto, marca) distintos con precios.
+     *
+     * @return claves de los productos con precios
+     */
+    @Override
+    public List<PriceKey> findAllKeys() {
+        return jpaRepository.findDistinctKeys().stream()
+            .map(key -> PriceKey.of(key.getProductId(), key.getBrandId()))
+            .toList();
+    }
+
+    /**
+     * Cuenta en base de datos los pares (producto, marca) distintos.
+     *
+     * @return número de claves
+     */
+    @Override
+    public long countKeys() {
+        return jpaRepository.countDistinctKeys();
+    }
+
+    /**
+     * Recorre con un cursor de solo avance los pares (producto, marca) distintos de PRICES,
+     * sin acumularlos en una lista.
+     *
+     * @param action receptor de cada clave
+     * @return número de claves entregadas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachKey(Consumer<PriceKey> action) {
+        long delivered = 0;
+        try (Stream<PriceJpaRepository.PriceKeyView> keys = jpaRepository.streamDistinctKeys()) {
+            Iterator<PriceJpaRepository.PriceKeyView> iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                PriceJpaRepository.PriceKeyView key = iterator.next();
+                action.accept(PriceKey.of(key.getProductId(), key.getBrandId()));
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Recorre con un cursor de solo avance los precios vigentes de la marca y entrega el primero
+     * (ganador) de cada producto. Las filas se leen en bloques de {@code prices.export.fetch-size}
+     * y se desvinculan del contexto de persistencia tras procesarse, de modo que la memoria usada
+     * no depende del tamaño del catálogo. Debe invocarse dentro de una transacción.
+     *
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @param action receptor de cada precio ganador
+     * @return número de precios entregados
+     */
+    @Override
+    public long forEachApplicablePrice(Integer brandId, LocalDateTime applicationDate, Consumer<Price> action) {
+        log.debug("Exportando precios de BD para brandId={}, fecha={} (fetchSize={})",
+            brandId, applicationDate, exportFetchSize);
+
+        long rows = 0;
+        long exported = 0;
+        Long currentProductId = null;
+        try (Stream<PriceEntity> entities = entityManager.createQuery(EXPORT_JPQL, PriceEntity.class)
+                .setParameter("brandId", brandId)
+                .setParameter("applicationDate", applicationDate)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<PriceEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                PriceEntity entity = iterator.next();
+                rows++;
+                if (!entity.getProductId().equals(currentProductId)) {
+                    currentProductId = entity.getProductId();
+                    action.accept(mapper.toDomain(entity));
+                    exported++;
+                }
+                entityManager.detach(entity);
+            }
+        }
+        recordRows("export", (int) Math.min(rows, Integer.MAX_VALUE));
+        return exported;
+    }
+
+    /**
+     * Resuelve el precio ganador de todas las consultas en un único viaje a la base de datos.
+     * Las consultas duplicadas se envían una sola vez y las filas de VALUES se completan con
+     * relleno hasta la siguiente potencia de dos.
+     *
+     * @param queries consultas válidas a resolver
+     * @return precio ganador por consulta; las consultas sin precio no aparecen en el mapa
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public Map<PriceQuery, Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        List<PriceQuery> distinct = new ArrayList<>(new LinkedHashSet<>(queries));
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+
+        log.debug("Consultando BD por lotes: {} consultas distintas", distinct.size());
+
+        int rowCount = paddedSize(distinct.size());
+        Query nativeQuery = entityManager.createNativeQuery(
+            BATCH_LOOKUP_SQL.formatted(valuesRows(BATCH_VALUES_ROW, 4, rowCount)),
+            PriceEntity.BATCH_LOOKUP_MAPPING
+        );
+
+        int parameter = 1;
+        for (int index = 0; index < rowCount; index++) {
+            PriceQuery query = distinct.get(Math.min(index, distinct.size() - 1));
+            boolean padding = index >= distinct.size();
+            nativeQuery.setParameter(parameter++, index);
+            nativeQuery.setParameter(parameter++, padding ? PADDING_ID : query.getProductId());
+            nativeQuery.setParameter(parameter++, padding ? PADDING_ID : query.getBrandId());
+            nativeQuery.setParameter(parameter++, query.getApplicationDate());
+        }
+
+        Map<PriceQuery, Price> prices = new HashMap<>();
+        for (Object row : nativeQuery.getResultList()) {
+            Object[] columns = (Object[]) row;
+            PriceEntity entity = (PriceEntity) columns[0];
+            Integer index = (Integer) columns[1];
+            prices.put(distinct.get(index), mapper.toDomain(entity));
+        }
+        recordRows("batch", prices.size());
+        return prices;
+    }
+
+    /**
+     * Registra el número de filas retornadas por una consulta.
+     *
+     * @param query tipo de consulta
+     * @param rows filas retornadas
+     */
+    private void recordRows(String query, int rows) {
+        DistributionSummary.builder("prices.repository.rows")
+            .description("Filas de PRICES retornadas por consulta")
+            .baseUnit("rows")
+            .tag("query", query)
+            .register(meterRegistry)
+            .record(rows);
+    }
+
+    /**
+     * Redondea las filas de VALUES a la siguiente potencia de dos. El texto SQL depende del número
+     * de filas: así los lotes de cualquier tamaño comparten unas pocas sentencias en la caché de
+     * planes de Hibernate y en las de sentencias del driver y la BD.
+     *
+     * @param size consultas distintas del lote
+     * @return filas de VALUES, con relleno
+     */
+    private static int paddedSize(int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Genera las filas parametrizadas de la tabla VALUES.
+     *
+     * @param row plantilla de una fila, con un marcador {@code ?%d} por columna
+     * @param columns columnas de cada fila
+     * @param size número de filas
+     * @return filas separadas por comas
+     */
+    private static String valuesRows(String row, int columns, int size) {
+        StringBuilder rows = new StringBuilder();
+        Object[] positions = new Object[columns];
+        for (int index = 0; index < size; index++) {
+            for (int column = 0; column < columns; column++) {
+                positions[column] = index * columns + column + 1;
+            }
+            if (index > 0) {
+                rows.append(", ");
+            }
+            rows.append(row.formatted(positions));
+        }
+        return rows.toString();
+    }
 }
@@ -0,0 +1,274 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.inditex.prices.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.snapshot.PriceSnapshotFileHandler;
+import com.inditex.prices.infrastructure.adapter.out.persistence.snapshot.PriceSnapshotFileHandler.Snapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador que resuelve los precios desde una instantánea columnar proyectada en memoria.
+ * <p>
+ * Al arrancar genera la instantánea de PRICES (o abre la existente si
+ * {@code prices.snapshot.build-on-startup=false}) con {@link PriceSnapshotFileHandler}. Las
+ * columnas primitivas viven fuera del heap, por lo que el tamaño del catálogo no afecta a las
+ * pausas de GC; cada búsqueda es una búsqueda binaria sin crear objetos intermedios.
+ * Se activa con {@code prices.repository.engine=snapshot}.
+ * </p>
+ * <p>
+ * Los cambios de un producto se aplican en una capa en memoria (líneas temporales de los
+ * productos modificados) que tiene precedencia sobre la instantánea; un cambio global la
+ * regenera y vacía esa capa.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.repository", name = "engine", havingValue = "snapshot")
+public class PriceSnapshotAdapter implements PriceRepository {
+
+    private final PriceSnapshotFileHandler snapshotFileHandler;
+    private final PriceJpaRepository jpaRepository;
+    private final PriceEntityMapper mapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${prices.snapshot.file:${java.io.tmpdir}/prices-snapshot.bin}")
+    private Path file;
+
+    @Value("${prices.snapshot.build-on-startup:true}")
+    private boolean buildOnStartup;
+
+    private volatile Snapshot snapshot;
+    private volatile Map<PriceKey, PriceTimeline> overrides = Map.of();
+
+    /**
+     * Genera o abre la instantánea al arrancar y publica su tamaño como métricas.
+     */
+    @PostConstruct
+    public void init() {
+        if (buildOnStartup || !Files.exists(file)) {
+            reload();
+        } else {
+            snapshot = snapshotFileHandler.open(file);
+            log.info("Instantánea de precios abierta desde {}: {} filas", file, snapshot.rows());
+        }
+
+        Gauge.builder("prices.snapshot.rows", this, adapter -> adapter.snapshot.rows())
+            .description("Filas de PRICES en la instantánea proyectada en memoria")
+            .baseUnit("rows")
+            .register(meterRegistry);
+        Gauge.builder("prices.snapshot.size", this, adapter -> adapter.snapshot.sizeInBytes())
+            .description("Tamaño del fichero de la instantánea")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("prices.snapshot.overrides", this, adapter -> adapter.overrides.size())
+            .description("Productos modificados desde la última instantánea")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Regenera la instantánea desde PRICES y la sustituye de forma atómica.
+     */
+    public void reload() {
+        snapshotFileHandler.write(file);
+        snapshot = snapshotFileHandler.open(file);
+        overrides = Map.of();
+    }
+
+    /**
+     * Actualiza los datos tras un cambio de precios: un producto se recarga en la capa de
+     * cambios; un cambio global regenera la instantánea.
+     * Se ejecuta antes que el resto de receptores del evento, que leen los datos ya actualizados.
+     *
+     * @param event evento de cambio de precios
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPricesChanged(PricesChangedEvent event) {
+        if (event.isAll()) {
+            reload();
+            return;
+        }
+
+        PriceKey key = event.getKey();
+        PriceTimeline timeline = PriceTimeline.of(
+            mapper.toDomainList(jpaRepository.findByProductIdAndBrandId(key.getProductId(), key.getBrandId())));
+
+        Map<PriceKey, PriceTimeline> updated = new HashMap<>(overrides);
+        updated.put(key, timeline);
+        overrides = Map.copyOf(updated);
+        log.info("Instantánea de precios actualizada en memoria para {}", key);
+    }
+
+    /**
+     * Resuelve el precio ganador con una búsqueda binaria sobre la instantánea.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return precio aplicable, vacío si no hay precio vigente
+     */
+    @Override
+    public Optional<Price> findApplicablePrice(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        PriceTimeline override = override(productId, brandId);
+        if (override != null) {
+            return override.priceAt(applicationDate);
+        }
+
+        Snapshot current = snapshot;
+        int winner = current.winnerAt(brandId, productId, epochSecond(applicationDate));
+        return winner < 0 ? Optional.empty() : Optional.of(current.priceAt(winner));
+    }
+
+    /**
+     * Retorna los precios vigentes del producto, ordenados por prioridad descendente.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return precios vigentes, vacía si no hay coincidencias
+     */
+    @Override
+    public List<Price> findApplicablePrices(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        LocalDateTime date = applicationDate.truncatedTo(ChronoUnit.SECONDS);
+        return findAllPrices(productId, brandId).stream()
+            .filter(price -> price.isApplicableAt(date))
+            .sorted(Price.APPLICATION_ORDER.reversed())
+            .toList();
+    }
+
+    /**
+     * Retorna todos los precios del producto.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return precios del producto, vacía si no existen
+     */
+    @Override
+    public List<Price> findAllPrices(Long productId, Integer brandId) {
+        PriceTimeline override = override(productId, brandId);
+        if (override != null) {
+            return override.getPrices();
+        }
+
+        Snapshot current = snapshot;
+        List<Price> prices = new ArrayList<>();
+        for (int row = current.lowerBound(brandId, productId); current.matches(row, brandId, productId); row++) {
+            prices.add(current.priceAt(row));
+        }
+        return prices;
+    }
+
+    /**
+     * Retorna las claves de los productos con precios en la instantánea y en la capa de cambios.
+     *
+     * @return claves de los productos con precios
+     */
+    @Override
+    public List<PriceKey> findAllKeys() {
+        Snapshot current = snapshot;
+        Map<PriceKey, PriceTimeline> changed = overrides;
+
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        for (int row = 0; row < current.rows(); row = current.nextKey(row)) {
+            keys.add(PriceKey.of(current.productAt(row), current.brandAt(row)));
+        }
+        changed.forEach((key, timeline) -> {
+            if (timeline.isEmpty()) {
+                keys.remove(key);
+            } else {
+                keys.add(key);
+            }
+        });
+        return List.copyOf(keys);
+    }
+
+    /**
+     * Recorre en orden de producto el precio ganador de cada producto de la marca, mezclando
+     * las filas de la instantánea con los productos de la capa de cambios.
+     *
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @param action receptor de cada precio ganador
+     * @return número de precios entregados
+     */
+    @Override
+    public long forEachApplicablePrice(Integer brandId, LocalDateTime applicationDate, Consumer<Price> action) {
+        Snapshot current = snapshot;
+        Map<PriceKey, PriceTimeline> changed = overrides;
+        List<PriceKey> changedKeys = changed.keySet().stream()
+            .filter(key -> key.getBrandId().equals(brandId))
+            .sorted(Comparator.comparing(PriceKey::getProductId))
+            .toList();
+        long epochSecond = epochSecond(applicationDate);
+
+        long exported = 0;
+        int next = 0;
+        int row = current.lowerBound(brandId, Long.MIN_VALUE);
+        while (row < current.rows() && current.brandAt(row) == brandId || next < changedKeys.size()) {
+            boolean fromSnapshot = row < current.rows() && current.brandAt(row) == brandId;
+            long productId = fromSnapshot ? current.productAt(row) : Long.MAX_VALUE;
+
+            Optional<Price> price;
+            if (next < changedKeys.size() && changedKeys.get(next).getProductId() <= productId) {
+                PriceKey key = changedKeys.get(next++);
+                price = changed.get(key).priceAt(applicationDate);
+                if (fromSnapshot && key.getProductId() == productId) {
+                    row = current.nextKey(row);
+                }
+            } else {
+                int winner = current.winnerFrom(row, epochSecond);
+                price = winner < 0 ? Optional.empty() : Optional.of(current.priceAt(winner));
+                row = current.nextKey(row);
+            }
+
+            if (price.isPresent()) {
+                action.accept(price.get());
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    private PriceTimeline override(Long productId, Integer brandId) {
+        Map<PriceKey, PriceTimeline> changed = overrides;
+        return changed.isEmpty() ? null : changed.get(PriceKey.of(productId, brandId));
+    }
+
+    private static long epochSecond(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,241 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import com.inditex.prices.domain.port.out.PriceTimelineRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceTimelineEntity;
+import com.inditex.prices.infrastructure.adapter.out.persistence.mapper.PriceEntityMapper;
+import com.inditex.prices.infrastructure.adapter.out.persistence.mapper.PriceTimelineEntityMapper;
+import com.inditex.prices.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.repository.PriceTimelineJpaRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador JPA que resuelve el precio aplicable desde la línea temporal materializada
+ * (tabla PRICE_TIMELINE) y mantiene dicha tabla.
+ * <p>
+ * Cada consulta es una única búsqueda en el índice (BRAND_ID, PRODUCT_ID, SEGMENT_START)
+ * que retorna como mucho una fila, sin resolver prioridades en tiempo de lectura.
+ * Los precios originales y las claves de producto se siguen leyendo de PRICES, que es
+ * la fuente de verdad a partir de la cual se reconstruyen los tramos.
+ * Se activa con {@code prices.repository.engine=timeline}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.repository", name = "engine", havingValue = "timeline")
+public class PriceTimelineJpaAdapter implements PriceRepository, PriceTimelineRepository {
+
+    /**
+     * Consulta de exportación: el tramo vigente de cada producto de la marca (uno como mucho,
+     * al ser disjuntos), en orden de producto.
+     */
+    private static final String EXPORT_JPQL = """
+        SELECT t FROM PriceTimelineEntity t
+        WHERE t.brandId = :brandId
+        AND t.segmentStart <= :applicationDate
+        AND t.segmentEnd >= :applicationDate
+        ORDER BY t.productId
+        """;
+
+    private final PriceTimelineJpaRepository timelineRepository;
+    private final PriceJpaRepository priceRepository;
+    private final PriceTimelineEntityMapper timelineMapper;
+    private final PriceEntityMapper priceMapper;
+    private final EntityManager entityManager;
+
+    @Value("${prices.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    /**
+     * Resuelve el precio aplicable desde la línea temporal materializada.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return lista con el precio ganador, vacía si no hay precio vigente
+     */
+    @Override
+    public List<Price> findApplicablePrices(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        return findApplicablePrice(productId, brandId, applicationDate)
+            .map(List::of)
+            .orElse(List.of());
+    }
+
+    /**
+     * Busca el tramo que cubre la fecha y retorna su precio ganador.
+     * La fecha se trunca a segundos, la misma resolución con la que se construyen los tramos.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return precio aplicable, vacío si no hay precio vigente
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public Optional<Price> findApplicablePrice(Long productId, Integer brandId, LocalDateTime applicationDate) {
+        log.debug("Consultando línea temporal materializada para productId={}, brandId={}, fecha={}",
+            productId, brandId, applicationDate);
+
+        return timelineRepository
+            .findSegmentAt(productId, brandId, applicationDate.truncatedTo(ChronoUnit.SECONDS))
+            .map(timelineMapper::toPrice);
+    }
+
+    /**
+     * Busca el tramo que cubre la fecha con la misma búsqueda de una fila que
+     * {@link #findApplicablePrice(Long, Integer, LocalDateTime)}.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return tramo vigente, vacío si no hay precio vigente
+     */
+    @Override
+    @Timed(value = "prices.stage", extraTags = {"stage", "persistence"})
+    public Optional<PriceSegment> findApplicableSegment(Long productId, Integer brandId,
+                                                        LocalDateTime applicationDate) {
+        log.debug("Consultando tramo materializado para productId={}, brandId={}, fecha={}",
+            productId, brandId, applicationDate);
+
+        return timelineRepository
+            .findSegmentAt(productId, brandId, applicationDate.truncatedTo(ChronoUnit.SECONDS))
+            .map(timelineMapper::toSegment);
+    }
+
+    /**
+     * Busca en PRICES todos los precios de un producto y marca.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return precios de dominio del producto
+     */
+    @Override
+    public List<Price> findAllPrices(Long productId, Integer brandId) {
+        return priceMapper.toDomainList(priceRepository.findByProductIdAndBrandId(productId, brandId));
+    }
+
+    /**
+     * Busca en PRICES los pares (producto, marca) distintos.
+     *
+     * @return claves de los productos con precios
+     */
+    @Override
+    public List<PriceKey> findAllKeys() {
+        return priceRepository.findDistinctKeys().stream()
+            .map(key -> PriceKey.of(key.getProductId(), key.getBrandId()))
+            .toList();
+    }
+
+    /**
+     * Cuenta en PRICES los pares (producto, marca) distintos.
+     *
+     * @return número de claves
+     */
+    @Override
+    public long countKeys() {
+        return priceRepository.countDistinctKeys();
+    }
+
+    /**
+     * Recorre con un cursor de solo avance los pares (producto, marca) distintos de PRICES,
+     * sin acumularlos en una lista.
+     *
+     * @param action receptor de cada clave
+     * @return número de claves entregadas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachKey(Consumer<PriceKey> action) {
+        long delivered = 0;
+        try (Stream<PriceJpaRepository.PriceKeyView> keys = priceRepository.streamDistinctKeys()) {
+            Iterator<PriceJpaRepository.PriceKeyView> iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                PriceJpaRepository.PriceKeyView key = iterator.next();
+                action.accept(PriceKey.of(key.getProductId(), key.getBrandId()));
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Recorre con un cursor de solo avance el tramo vigente de cada producto de la marca.
+     * Cada fila ya es el precio ganador, por lo que no hay que descartar candidatos; las entidades
+     * se desvinculan tras procesarse para mantener constante la memoria usada.
+     *
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @param action receptor de cada precio ganador
+     * @return número de precios entregados
+     */
+    @Override
+    public long forEachApplicablePrice(Integer brandId, LocalDateTime applicationDate, Consumer<Price> action) {
+        long exported = 0;
+        try (Stream<PriceTimelineEntity> entities = entityManager.createQuery(EXPORT_JPQL, PriceTimelineEntity.class)
+                .setParameter("brandId", brandId)
+                .setParameter("applicationDate", applicationDate.truncatedTo(ChronoUnit.SECONDS))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<PriceTimelineEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                PriceTimelineEntity entity = iterator.next();
+                action.accept(timelineMapper.toPrice(entity));
+                entityManager.detach(entity);
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * Sustituye los tramos de un producto en una única transacción, de modo que las
+     * lecturas concurrentes ven la línea temporal anterior o la nueva, nunca una mezcla.
+     *
+     * @param key par (producto, marca)
+     * @param segments tramos resueltos; vacía elimina el producto
+     */
+    @Override
+    @Transactional
+    public void replaceSegments(PriceKey key, List<PriceSegment> segments) {
+        int deleted = timelineRepository.deleteByKey(key.getProductId(), key.getBrandId());
+        timelineRepository.saveAll(timelineMapper.toEntities(segments));
+
+        log.debug("Línea temporal materializada de {}: {} tramos eliminados, {} insertados",
+            key, deleted, segments.size());
+    }
+
+    /**
+     * Elimina los tramos de los productos que ya no tienen precios en PRICES.
+     *
+     * @return número de tramos eliminados
+     */
+    @Override
+    @Transactional
+    public int deleteOrphanSegments() {
+        return timelineRepository.deleteOrphans();
+    }
+}
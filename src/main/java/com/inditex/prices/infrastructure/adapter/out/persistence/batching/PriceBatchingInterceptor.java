@@ -0,0 +1,278 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.batching;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Interceptor que agrupa en lotes (<em>micro-batching</em>) las búsquedas individuales
+ * simultáneas de {@link PriceRepository} con claves distintas.
+ * <p>
+ * La primera llamada (la líder) abre un lote y espera como mucho {@code maxDelay} a que se sumen
+ * otras; el lote se cierra antes si llega a {@code maxSize} llamadas, y al instante si no hay otra
+ * búsqueda del mismo tipo en curso, de modo que sin concurrencia no se añade espera. La líder
+ * resuelve entonces todas las claves con la consulta por lotes del repositorio (una única
+ * sentencia con una fila VALUES por clave) en el hilo de la propia llamada líder, y cada llamada
+ * recibe su resultado o la excepción del lote. Un lote de una sola llamada se resuelve con la
+ * consulta individual.
+ * </p>
+ * <p>
+ * Se agrupan {@code findApplicablePrice(producto, marca, fecha)} con
+ * {@link PriceRepository#findApplicablePrices(Collection)} y {@code findAllPrices(producto, marca)}
+ * con {@link PriceRepository#findAllPrices(Collection)}. Dentro de una transacción de escritura se
+ * consulta siempre por separado. Lo instala {@code RequestBatchingConfig} con
+ * {@code prices.repository.batching.enabled=true}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public class PriceBatchingInterceptor implements MethodInterceptor {
+
+    /** Búsqueda del precio ganador en una fecha. */
+    public static final String APPLICABLE = "applicable";
+
+    /** Búsqueda de todos los precios de un producto (línea temporal). */
+    public static final String TIMELINE = "timeline";
+
+    private final int maxSize;
+    private final long maxDelayNanos;
+    private final Dispatcher<PriceQuery, Price> applicable;
+    private final Dispatcher<PriceKey, List<Price>> timeline;
+
+    /**
+     * Crea el interceptor.
+     *
+     * @param repository repositorio (el bean con sus proxies) que resuelve los lotes
+     * @param maxSize llamadas máximas por lote
+     * @param maxDelay espera máxima de la llamada líder a que se sumen otras
+     */
+    public PriceBatchingInterceptor(ObjectProvider<PriceRepository> repository, int maxSize, Duration maxDelay) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo del lote debe ser positivo, recibido: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.applicable = new Dispatcher<>(queries -> repository.getObject().findApplicablePrices(queries));
+        this.timeline = new Dispatcher<>(keys -> repository.getObject().findAllPrices(keys));
+    }
+
+    /**
+     * Retorna el pointcut de las búsquedas agrupables: {@code findApplicablePrice} y
+     * {@code findAllPrices} por producto y marca de las implementaciones de PriceRepository.
+     *
+     * @return pointcut de las implementaciones de PriceRepository
+     */
+    public static Pointcut pointcut() {
+        return new BatchedMethods();
+    }
+
+    /**
+     * Suma la llamada al lote abierto, o abre uno nuevo, y espera su resultado.
+     *
+     * @param invocation llamada interceptada
+     * @return resultado de la llamada dentro del lote
+     * @throws Throwable excepción del lote
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return invocation.proceed();
+        }
+
+        Object[] arguments = invocation.getArguments();
+        if (arguments.length == 3) {
+            PriceQuery query = PriceQuery.builder()
+                    .productId((Long) arguments[0])
+                    .brandId((Integer) arguments[1])
+                    .applicationDate((LocalDateTime) arguments[2])
+                    .build();
+            return Optional.ofNullable(applicable.dispatch(query,
+                    () -> ((Optional<Price>) invocation.proceed()).orElse(null)));
+        }
+
+        PriceKey key = PriceKey.of((Long) arguments[0], (Integer) arguments[1]);
+        List<Price> prices = timeline.dispatch(key, () -> (List<Price>) invocation.proceed());
+        return prices != null ? prices : List.of();
+    }
+
+    /**
+     * Retorna el número de llamadas agrupadas de una búsqueda.
+     *
+     * @param lookup {@value #APPLICABLE} o {@value #TIMELINE}
+     * @return llamadas recibidas
+     */
+    public long callCount(String lookup) {
+        return dispatcher(lookup).calls.sum();
+    }
+
+    /**
+     * Retorna el número de lotes resueltos de una búsqueda.
+     *
+     * @param lookup {@value #APPLICABLE} o {@value #TIMELINE}
+     * @return lotes ejecutados (consultas a la BD)
+     */
+    public long batchCount(String lookup) {
+        return dispatcher(lookup).batches.sum();
+    }
+
+    private Dispatcher<?, ?> dispatcher(String lookup) {
+        return APPLICABLE.equals(lookup) ? applicable : timeline;
+    }
+
+    /**
+     * Consulta individual de la llamada líder, para lotes de una sola llamada.
+     *
+     * @param <V> tipo del resultado
+     */
+    @FunctionalInterface
+    private interface Single<V> {
+        V proceed() throws Throwable;
+    }
+
+    /**
+     * Lote de llamadas: claves recibidas, señal de lote lleno y resultado compartido.
+     *
+     * @param <K> tipo de la clave
+     * @param <V> tipo del resultado por clave
+     */
+    private static final class Batch<K, V> {
+        private final List<K> keys = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final CompletableFuture<Map<K, V>> result = new CompletableFuture<>();
+    }
+
+    /**
+     * Agrupa las llamadas de una búsqueda en lotes y los resuelve con la consulta por lotes.
+     *
+     * @param <K> tipo de la clave
+     * @param <V> tipo del resultado por clave
+     */
+    private final class Dispatcher<K, V> {
+
+        private final Function<Collection<K>, Map<K, V>> loader;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private Batch<K, V> open;
+        private int active;
+
+        private Dispatcher(Function<Collection<K>, Map<K, V>> loader) {
+            this.loader = loader;
+        }
+
+        private V dispatch(K key, Single<V> single) throws Throwable {
+            Batch<K, V> batch;
+            boolean leader;
+            lock.lock();
+            try {
+                active++;
+                leader = open == null;
+                if (leader) {
+                    open = new Batch<>();
+                }
+                batch = open;
+                batch.keys.add(key);
+                // Sin otras búsquedas en curso nadie puede sumarse al lote: no esperar
+                if (batch.keys.size() >= maxSize || active == 1) {
+                    open = null;
+                    batch.full.countDown();
+                }
+            } finally {
+                lock.unlock();
+            }
+            calls.increment();
+
+            try {
+                if (leader) {
+                    run(batch, single);
+                }
+                return batch.result.join().get(key);
+            } catch (CompletionException e) {
+                throw e.getCause();
+            } finally {
+                lock.lock();
+                try {
+                    active--;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void run(Batch<K, V> batch, Single<V> single) {
+            try {
+                batch.full.await(maxDelayNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lock.lock();
+            try {
+                if (open == batch) {
+                    open = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            batches.increment();
+            try {
+                List<K> distinct = new ArrayList<>(new LinkedHashSet<>(batch.keys));
+                if (distinct.size() == 1) {
+                    Map<K, V> result = new HashMap<>();
+                    result.put(distinct.get(0), single.proceed());
+                    batch.result.complete(result);
+                } else {
+                    batch.result.complete(loader.apply(distinct));
+                }
+            } catch (Throwable e) {
+                batch.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Búsquedas individuales agrupables de las implementaciones de {@link PriceRepository}.
+     */
+    private static final class BatchedMethods extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            if (!PriceRepository.class.isAssignableFrom(targetClass)) {
+                return false;
+            }
+            Class<?>[] parameters = method.getParameterTypes();
+            return "findApplicablePrice".equals(method.getName())
+                    && parameters.length == 3 && parameters[0] == Long.class
+                    || "findAllPrices".equals(method.getName())
+                    && parameters.length == 2 && parameters[0] == Long.class;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.coalescing;
+
+import com.inditex.prices.domain.port.out.PriceRepository;
+import lombok.Value;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Interceptor que agrupa (<em>single-flight</em>) las lecturas idénticas y simultáneas de
+ * {@link PriceRepository}.
+ * <p>
+ * La primera llamada con un método y argumentos dados (la líder) consulta la BD; las que llegan
+ * mientras está en curso (seguidoras) esperan su resultado en lugar de lanzar otra consulta, y
+ * reciben también su excepción si falla. No es una caché: al terminar la líder se olvida la
+ * llamada y la siguiente vuelve a consultar. Solo se agrupan las búsquedas por producto y marca
+ * ({@link #pointcut()}); dentro de una transacción de escritura se consulta siempre, para no
+ * compartir lecturas que no ven los cambios de esa transacción.
+ * </p>
+ * <p>
+ * Los resultados compartidos son objetos de dominio inmutables; las listas se copian a una lista
+ * inmutable antes de compartirse, para que ninguna llamada pueda modificar la que reciben las
+ * demás. Lo instala
+ * {@code RequestCoalescingConfig} con {@code prices.repository.coalescing.enabled=true} y los
+ * motores que consultan la BD ({@code jpa}, {@code jdbc}).
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public class PriceCoalescingInterceptor implements MethodInterceptor {
+
+    private static final Set<String> COALESCED_METHODS =
+            Set.of("findApplicablePrice", "findApplicableSegment", "findApplicablePrices",
+                   "findAllPrices", "findPricesBetween");
+
+    private final ConcurrentMap<Call, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder followers = new LongAdder();
+
+    /**
+     * Retorna el pointcut de las búsquedas agrupables: los métodos de {@link PriceRepository}
+     * cuyo primer argumento es el producto.
+     *
+     * @return pointcut de las implementaciones de PriceRepository
+     */
+    public static Pointcut pointcut() {
+        return new CoalescedMethods();
+    }
+
+    /**
+     * Ejecuta la llamada o espera la idéntica que ya está en curso.
+     *
+     * @param invocation llamada interceptada
+     * @return resultado de la llamada líder
+     * @throws Throwable excepción de la llamada líder
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return invocation.proceed();
+        }
+
+        Call call = new Call(invocation.getMethod(), Arrays.asList(invocation.getArguments()));
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(call, flight);
+        if (leader != null) {
+            followers.increment();
+            return await(leader);
+        }
+
+        leaders.increment();
+        try {
+            Object result = shareable(invocation.proceed());
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(call, flight);
+        }
+    }
+
+    /**
+     * Retorna el número de llamadas que consultaron la BD.
+     *
+     * @return llamadas líderes
+     */
+    public long leaderCount() {
+        return leaders.sum();
+    }
+
+    /**
+     * Retorna el número de llamadas resueltas con el resultado de otra en curso.
+     *
+     * @return llamadas seguidoras
+     */
+    public long followerCount() {
+        return followers.sum();
+    }
+
+    /**
+     * Retorna la fracción de llamadas que no llegaron a la BD por agruparse con otra.
+     *
+     * @return seguidoras entre llamadas totales, 0 si no ha habido llamadas
+     */
+    public double coalescingRatio() {
+        long followerCount = followers.sum();
+        long total = leaders.sum() + followerCount;
+        return total == 0 ? 0.0 : (double) followerCount / total;
+    }
+
+    /**
+     * Retorna el número de llamadas líderes en curso.
+     *
+     * @return llamadas distintas en curso
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object shareable(Object result) {
+        return result instanceof List<?> list ? List.copyOf(list) : result;
+    }
+
+    private static Object await(CompletableFuture<Object> leader) throws Throwable {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Método y argumentos de una llamada: identifica las llamadas idénticas.
+     */
+    @Value
+    private static class Call {
+        private final Method method;
+        private final List<Object> arguments;
+    }
+
+    /**
+     * Búsquedas por producto y marca de las implementaciones de {@link PriceRepository}.
+     */
+    private static final class CoalescedMethods extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return PriceRepository.class.isAssignableFrom(targetClass)
+                    && COALESCED_METHODS.contains(method.getName())
+                    && method.getParameterCount() > 0
+                    && method.getParameterTypes()[0] == Long.class;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.inditex.prices.infrastructure.adapter.out.persistence.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ColumnResult;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityResult;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SqlResultSetMapping;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,12 +21,21 @@ import java.time.LocalDateTime;
 /**
  * Entidad JPA que mapea a la tabla PRICES.
  * Representa un precio de producto con vigencia y prioridad.
+ * <p>
+ * Declara el mapeo {@value #BATCH_LOOKUP_MAPPING} usado por la consulta nativa por lotes,
+ * que retorna cada precio ganador junto al índice de la consulta que resuelve.
+ * </p>
  *
  * @author Irvin Monterroza
  * @version 1.0
  */
 @Entity
 @Table(name = "PRICES")
+@SqlResultSetMapping(
+    name = PriceEntity.BATCH_LOOKUP_MAPPING,
+    entities = @EntityResult(entityClass = PriceEntity.class),
+    columns = @ColumnResult(name = "QUERY_INDEX", type = Integer.class)
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,6 +43,9 @@ import java.time.LocalDateTime;
 @Builder
 public class PriceEntity {
 
+    /** Nombre del mapeo de resultados de la consulta por lotes. */
+    public static final String BATCH_LOOKUP_MAPPING = "PriceBatchLookup";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
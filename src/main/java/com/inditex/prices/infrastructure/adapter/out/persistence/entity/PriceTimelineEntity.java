@@ -0,0 +1,71 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA que mapea a la tabla PRICE_TIMELINE.
+ * Representa un tramo disjunto de la línea temporal materializada junto a la copia
+ * del precio ganador en ese tramo.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Entity
+@Table(name = "PRICE_TIMELINE")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceTimelineEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "BRAND_ID", nullable = false)
+    private Integer brandId;
+
+    @Column(name = "PRODUCT_ID", nullable = false)
+    private Long productId;
+
+    @Column(name = "SEGMENT_START", nullable = false)
+    private LocalDateTime segmentStart;
+
+    @Column(name = "SEGMENT_END", nullable = false)
+    private LocalDateTime segmentEnd;
+
+    @Column(name = "PRICE_ID", nullable = false)
+    private Long priceId;
+
+    @Column(name = "PRICE_LIST", nullable = false)
+    private Integer priceList;
+
+    @Column(name = "PRIORITY", nullable = false)
+    private Integer priority;
+
+    @Column(name = "START_DATE", nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(name = "END_DATE", nullable = false)
+    private LocalDateTime endDate;
+
+    @Column(name = "PRICE", nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "CURR", nullable = false, length = 3)
+    private String currency;
+}
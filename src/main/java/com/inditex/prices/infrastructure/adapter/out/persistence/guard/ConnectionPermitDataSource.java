@@ -0,0 +1,212 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.guard;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita cuántos hilos pueden tener a la vez una conexión JDBC.
+ * <p>
+ * Con hilos virtuales no hay un pool de hilos que acote la concurrencia: miles de peticiones
+ * llegan a la vez a la capa de persistencia. El driver JDBC y el pool usan bloques
+ * {@code synchronized} que fijan (<em>pin</em>) el hilo virtual a su hilo portador mientras
+ * espera, y si esperan más hilos que portadores hay se bloquea toda la JVM. Este DataSource hace
+ * esperar a los hilos sobrantes en un {@link Semaphore} justo, donde un hilo virtual se aparca
+ * sin ocupar portador, de modo que solo entran en el driver tantos hilos como conexiones hay.
+ * </p>
+ * <p>
+ * El permiso se obtiene con la conexión y se devuelve al cerrarla. Si no se obtiene en
+ * {@code timeout} se lanza {@link SQLTransientConnectionException}, como haría Hikari al agotar
+ * su {@code connection-timeout}. Con {@code spring.threads.virtual.enabled=true}
+ * {@code VirtualThreadConfig} envuelve así cada pool Hikari (la primaria y, con enrutado, cada
+ * réplica) con tantos permisos como conexiones tiene y su mismo {@code connection-timeout}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+public class ConnectionPermitDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration timeout;
+    private final String poolName;
+
+    /**
+     * Crea el DataSource limitado.
+     *
+     * @param target DataSource real
+     * @param maxPermits conexiones simultáneas permitidas (normalmente el tamaño del pool)
+     * @param timeout espera máxima por un permiso
+     */
+    public ConnectionPermitDataSource(DataSource target, int maxPermits, Duration timeout) {
+        super(target);
+        if (maxPermits <= 0) {
+            throw new IllegalArgumentException("El número de permisos debe ser positivo, recibido: " + maxPermits);
+        }
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeout = timeout;
+        this.poolName = target instanceof HikariDataSource pool && pool.getPoolName() != null
+                ? pool.getPoolName() : ReplicaRoutingDataSource.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Retorna el número de conexiones simultáneas permitidas.
+     *
+     * @return permisos totales
+     */
+    public int maxPermits() {
+        return maxPermits;
+    }
+
+    /**
+     * Retorna el nombre del pool envuelto al crear este DataSource, o {@link ReplicaRoutingDataSource#PRIMARY}
+     * si Hikari aún no le había asignado uno.
+     *
+     * @return nombre del pool en logs y métricas
+     */
+    public String poolName() {
+        return poolName;
+    }
+
+    /**
+     * Retorna los permisos libres.
+     *
+     * @return conexiones que pueden obtenerse sin esperar
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Retorna una estimación de los hilos esperando un permiso.
+     *
+     * @return hilos en espera
+     */
+    public int waitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Cierra el DataSource envuelto si lo admite (el pool de conexiones).
+     *
+     * @throws Exception si falla el cierre del pool
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("No hay conexiones disponibles tras esperar "
+                        + timeout.toMillis() + " ms (" + maxPermits + " en uso)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrumpido esperando una conexión", e);
+        }
+    }
+
+    /**
+     * Envuelve la conexión para devolver el permiso en el primer {@code close()}.
+     */
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Envuelve cada pool Hikari en un {@link ConnectionPermitDataSource} con tantos permisos como
+     * conexiones tiene y su mismo {@code connection-timeout}: el DataSource de Spring Boot o, con
+     * enrutado, la primaria y cada réplica de {@link ReplicaRoutingDataSource}. Lo registra
+     * {@code VirtualThreadConfig}.
+     */
+    public static final class PoolPostProcessor implements BeanPostProcessor {
+
+        /** Tamaño que Hikari aplica al arrancar el pool si no se ha configurado ({@code -1}). */
+        private static final int DEFAULT_POOL_SIZE = 10;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                return guard(pool);
+            }
+            if (bean instanceof ReplicaRoutingDataSource routing) {
+                return routing.decoratePools(PoolPostProcessor::guard);
+            }
+            return bean;
+        }
+
+        private static DataSource guard(DataSource dataSource) {
+            if (!(dataSource instanceof HikariDataSource pool)) {
+                return dataSource;
+            }
+            int poolSize = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+            ConnectionPermitDataSource handler = new ConnectionPermitDataSource(pool, poolSize,
+                    Duration.ofMillis(pool.getConnectionTimeout()));
+            int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                    Runtime.getRuntime().availableProcessors());
+            if (handler.maxPermits() >= carriers) {
+                log.warn("Con {} conexiones simultáneas en el pool {} y {} hilos portadores, los hilos virtuales "
+                        + "fijados en el driver JDBC pueden ocupar todos los portadores; conviene subir "
+                        + "-Djdk.virtualThreadScheduler.parallelism por encima de {}",
+                        handler.maxPermits(), handler.poolName(), carriers, handler.maxPermits());
+            }
+            log.info("Hilos virtuales habilitados: acceso JDBC al pool {} limitado a {} conexiones simultáneas",
+                    handler.poolName(), handler.maxPermits());
+            return handler;
+        }
+    }
+}
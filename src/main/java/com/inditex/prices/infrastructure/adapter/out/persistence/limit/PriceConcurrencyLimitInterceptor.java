@@ -0,0 +1,215 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.limit;
+
+import com.inditex.prices.domain.exception.PriceLookupRejectedException;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Interceptor que limita de forma adaptativa las búsquedas simultáneas en {@link PriceRepository}
+ * y descarta las sobrantes.
+ * <p>
+ * Cuando la BD se ralentiza, las peticiones se acumulan esperando conexión hasta el
+ * {@code connection-timeout} de Hikari y la latencia de cola se dispara. Este interceptor admite
+ * como mucho {@link #limit()} búsquedas en curso y rechaza al instante las demás con
+ * {@link PriceLookupRejectedException} ({@code 503} con {@code Retry-After}). Se aplica en la
+ * frontera del pool de conexiones, las búsquedas del repositorio, y no en el caso de uso: las
+ * consultas resueltas desde la caché de líneas temporales no ocupan hueco, y una lectura agrupada
+ * o un lote ocupan uno solo.
+ * </p>
+ * <p>
+ * El límite se ajusta con un algoritmo de gradiente sobre la latencia observada: compara la
+ * media a largo plazo con la reciente y, si la reciente crece (la BD encola), reduce el límite en
+ * la misma proporción (como mucho a la mitad por muestra); si se mantiene, lo aumenta en
+ * {@code √límite}. Solo crece mientras se usa al menos la mitad del límite. Los cambios por
+ * latencia se suavizan; cada fallo reduce el límite un 10 % de inmediato, sin suavizar. El límite
+ * se acota entre {@code minLimit} y {@code maxLimit}.
+ * Las llamadas anidadas solo cuentan una vez. Lo instala {@code ConcurrencyLimitConfig}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+public class PriceConcurrencyLimitInterceptor implements MethodInterceptor {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double SHORT_RTT_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_RTT_ALPHA = 2.0 / (600 + 1);
+
+    private static final Set<String> LIMITED_METHODS =
+            Set.of("findApplicablePrice", "findApplicableSegment", "findApplicablePrices",
+                   "findAllPrices", "findPricesBetween");
+
+    private static final ThreadLocal<Boolean> INSIDE = new ThreadLocal<>();
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    /**
+     * Crea el limitador.
+     *
+     * @param initialLimit límite inicial de consultas simultáneas
+     * @param minLimit límite mínimo
+     * @param maxLimit límite máximo
+     */
+    public PriceConcurrencyLimitInterceptor(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format(
+                    "Límites de concurrencia inválidos: inicial=%d, mínimo=%d, máximo=%d",
+                    initialLimit, minLimit, maxLimit));
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Retorna el pointcut de las búsquedas de precios de las implementaciones de
+     * {@link PriceRepository}; la exportación y la lectura de claves no se limitan.
+     *
+     * @return pointcut de las implementaciones de PriceRepository
+     */
+    public static Pointcut pointcut() {
+        return new LimitedMethods();
+    }
+
+    /**
+     * Admite la búsqueda si hay hueco en el límite, mide su latencia y ajusta el límite.
+     *
+     * @param invocation llamada interceptada
+     * @return resultado de la búsqueda
+     * @throws Throwable excepción de la búsqueda
+     * @throws PriceLookupRejectedException si ya hay tantas búsquedas en curso como el límite
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (INSIDE.get() != null) {
+            return invocation.proceed();
+        }
+
+        int current = inFlight.incrementAndGet();
+        if (current > (int) limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            throw new PriceLookupRejectedException(
+                    "Límite de consultas simultáneas alcanzado: " + (int) limit);
+        }
+        accepted.increment();
+
+        INSIDE.set(Boolean.TRUE);
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            dropped = true;
+            throw e;
+        } finally {
+            INSIDE.remove();
+            onSample(System.nanoTime() - start, current, dropped);
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Ajusta el límite con una muestra de latencia.
+     *
+     * @param rttNanos latencia de la consulta
+     * @param inFlightAtStart búsquedas en curso al admitirla (incluida ella)
+     * @param dropped si la búsqueda falló
+     */
+    void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        lock.lock();
+        try {
+            double current = limit;
+            if (dropped) {
+                // El recorte por fallo se aplica entero: suavizado quedaría en un 2 %
+                limit = Math.max(minLimit, current * BACKOFF_RATIO);
+                return;
+            }
+            double rtt = Math.max(rttNanos, 1);
+            shortRtt = shortRtt == 0 ? rtt : shortRtt + SHORT_RTT_ALPHA * (rtt - shortRtt);
+            longRtt = longRtt == 0 ? rtt : longRtt + LONG_RTT_ALPHA * (rtt - longRtt);
+            // Tras una degradación larga, acercar la referencia a la latencia actual para poder recuperarse
+            if (longRtt > 2 * shortRtt) {
+                longRtt *= 0.95;
+            }
+            if (inFlightAtStart < current / 2) {
+                return;
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+            double target = current * gradient + Math.sqrt(current);
+            double smoothed = current * (1 - SMOOTHING) + target * SMOOTHING;
+            limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna el límite actual de búsquedas simultáneas.
+     *
+     * @return límite (parte entera)
+     */
+    public int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Retorna el número de búsquedas en curso.
+     *
+     * @return búsquedas admitidas que aún no han terminado
+     */
+    public int inFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Retorna el número de búsquedas admitidas.
+     *
+     * @return búsquedas admitidas
+     */
+    public long acceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * Retorna el número de búsquedas rechazadas por el límite.
+     *
+     * @return búsquedas rechazadas
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Búsquedas de precios de las implementaciones de {@link PriceRepository}.
+     */
+    private static final class LimitedMethods extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return PriceRepository.class.isAssignableFrom(targetClass)
+                    && LIMITED_METHODS.contains(method.getName());
+        }
+    }
+}
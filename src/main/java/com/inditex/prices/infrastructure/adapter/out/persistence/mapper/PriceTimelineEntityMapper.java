@@ -0,0 +1,72 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.mapper;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceTimelineEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import java.util.List;
+
+/**
+ * Mapper MapStruct para convertir entre tramos de la línea temporal (dominio)
+ * y PriceTimelineEntity (JPA).
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface PriceTimelineEntityMapper {
+
+    /**
+     * Convierte un tramo a entidad JPA, copiando el precio ganador.
+     *
+     * @param segment tramo de dominio
+     * @return entidad JPA
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "segmentStart", source = "startDate")
+    @Mapping(target = "segmentEnd", source = "endDate")
+    @Mapping(target = "priceId", source = "price.id")
+    @Mapping(target = "brandId", source = "price.brandId")
+    @Mapping(target = "productId", source = "price.productId")
+    @Mapping(target = "priceList", source = "price.priceList")
+    @Mapping(target = "priority", source = "price.priority")
+    @Mapping(target = "startDate", source = "price.startDate")
+    @Mapping(target = "endDate", source = "price.endDate")
+    @Mapping(target = "price", source = "price.price")
+    @Mapping(target = "currency", source = "price.currency")
+    PriceTimelineEntity toEntity(PriceSegment segment);
+
+    /**
+     * Convierte lista de tramos a entidades JPA.
+     *
+     * @param segments tramos de dominio
+     * @return entidades JPA
+     */
+    List<PriceTimelineEntity> toEntities(List<PriceSegment> segments);
+
+    /**
+     * Reconstruye el precio ganador almacenado en un tramo.
+     *
+     * @param entity entidad JPA del tramo
+     * @return precio de dominio
+     */
+    @Mapping(target = "id", source = "priceId")
+    Price toPrice(PriceTimelineEntity entity);
+
+    /**
+     * Reconstruye el tramo almacenado, con sus límites y su precio ganador.
+     *
+     * @param entity entidad JPA del tramo
+     * @return tramo de dominio
+     */
+    default PriceSegment toSegment(PriceTimelineEntity entity) {
+        return PriceSegment.builder()
+                .startDate(entity.getSegmentStart())
+                .endDate(entity.getSegmentEnd())
+                .price(toPrice(entity))
+                .build();
+    }
+}
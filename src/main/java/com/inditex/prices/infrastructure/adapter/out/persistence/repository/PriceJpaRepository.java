@@ -1,13 +1,18 @@
 package com.inditex.prices.infrastructure.adapter.out.persistence.repository;
 
 import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio Spring Data JPA para PriceEntity.
@@ -41,4 +46,110 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
         @Param("brandId") Integer brandId,
         @Param("applicationDate") LocalDateTime applicationDate
     );
+
+    /**
+     * Busca todos los precios de un producto y marca, sin filtrar por fecha.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return precios del producto
+     */
+    List<PriceEntity> findByProductIdAndBrandId(Long productId, Integer brandId);
+
+    /**
+     * Busca los precios de un producto y marca cuya vigencia se solapa con el intervalo.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param from inicio del intervalo (inclusivo)
+     * @param to fin del intervalo (inclusivo)
+     * @return precios del producto vigentes en algún momento del intervalo
+     */
+    @Query("""
+        SELECT p FROM PriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+        AND p.startDate <= :to
+        AND p.endDate >= :from
+        """)
+    List<PriceEntity> findPricesBetween(
+        @Param("productId") Long productId,
+        @Param("brandId") Integer brandId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Busca únicamente el precio ganador para producto, marca y fecha dados.
+     * Resuelve la prioridad en la base de datos (desempate por PRICE_LIST) y limita
+     * el resultado a una fila, evitando hidratar el resto de candidatos.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación
+     * @return precio de mayor prioridad, vacío si no hay coincidencias
+     */
+    @Query("""
+        SELECT p FROM PriceEntity p
+        WHERE p.productId = :productId
+        AND p.brandId = :brandId
+        AND p.startDate <= :applicationDate
+        AND p.endDate >= :applicationDate
+        ORDER BY p.priority DESC, p.priceList DESC
+        LIMIT 1
+        """)
+    Optional<PriceEntity> findTopApplicablePrice(
+        @Param("productId") Long productId,
+        @Param("brandId") Integer brandId,
+        @Param("applicationDate") LocalDateTime applicationDate
+    );
+
+    /**
+     * Busca los pares (producto, marca) distintos presentes en PRICES.
+     *
+     * @return proyecciones con producto y marca
+     */
+    @Query("SELECT DISTINCT p.productId AS productId, p.brandId AS brandId FROM PriceEntity p")
+    List<PriceKeyView> findDistinctKeys();
+
+    /**
+     * Recorre los pares (producto, marca) distintos presentes en PRICES con un cursor de solo
+     * avance. Debe invocarse dentro de una transacción y cerrarse tras su uso.
+     *
+     * @return proyecciones con producto y marca
+     */
+    @Query("SELECT DISTINCT p.productId AS productId, p.brandId AS brandId FROM PriceEntity p")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PriceKeyView> streamDistinctKeys();
+
+    /**
+     * Cuenta los pares (producto, marca) distintos presentes en PRICES.
+     *
+     * @return número de pares
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT DISTINCT PRODUCT_ID, BRAND_ID FROM PRICES) K", nativeQuery = true)
+    long countDistinctKeys();
+
+    /**
+     * Proyección con el par (producto, marca) de un precio.
+     */
+    interface PriceKeyView {
+
+        /**
+         * Retorna el identificador del producto.
+         *
+         * @return identificador del producto
+         */
+        Long getProductId();
+
+        /**
+         * Retorna el identificador de la marca.
+         *
+         * @return identificador de la marca
+         */
+        Integer getBrandId();
+    }
 }
@@ -0,0 +1,84 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.repository;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceTimelineEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositorio Spring Data JPA para PriceTimelineEntity.
+ * Lee y reemplaza los tramos materializados de la tabla PRICE_TIMELINE.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Repository
+public interface PriceTimelineJpaRepository extends JpaRepository<PriceTimelineEntity, Long> {
+
+    /**
+     * Busca el tramo que cubre la fecha indicada.
+     * Como los tramos son disjuntos, basta con el último tramo iniciado antes de la fecha,
+     * lo que se resuelve con una única búsqueda en el índice (BRAND_ID, PRODUCT_ID, SEGMENT_START).
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @param applicationDate fecha de aplicación truncada a segundos
+     * @return tramo aplicable, vacío si la fecha cae fuera de todo tramo
+     */
+    @Query("""
+        SELECT t FROM PriceTimelineEntity t
+        WHERE t.brandId = :brandId
+        AND t.productId = :productId
+        AND t.segmentStart <= :applicationDate
+        AND t.segmentEnd >= :applicationDate
+        ORDER BY t.segmentStart DESC
+        LIMIT 1
+        """)
+    Optional<PriceTimelineEntity> findSegmentAt(
+        @Param("productId") Long productId,
+        @Param("brandId") Integer brandId,
+        @Param("applicationDate") LocalDateTime applicationDate
+    );
+
+    /**
+     * Busca los tramos de un producto y marca ordenados cronológicamente.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return tramos del producto
+     */
+    List<PriceTimelineEntity> findByProductIdAndBrandIdOrderBySegmentStart(Long productId, Integer brandId);
+
+    /**
+     * Elimina los tramos de un producto y marca.
+     *
+     * @param productId identificador del producto
+     * @param brandId identificador de la marca
+     * @return número de tramos eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM PriceTimelineEntity t WHERE t.brandId = :brandId AND t.productId = :productId")
+    int deleteByKey(@Param("productId") Long productId, @Param("brandId") Integer brandId);
+
+    /**
+     * Elimina los tramos de los productos que ya no tienen filas en PRICES.
+     *
+     * @return número de tramos eliminados
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM PriceTimelineEntity t
+        WHERE NOT EXISTS (
+            SELECT 1 FROM PriceEntity p
+            WHERE p.brandId = t.brandId
+            AND p.productId = t.productId
+        )
+        """)
+    int deleteOrphans();
+}
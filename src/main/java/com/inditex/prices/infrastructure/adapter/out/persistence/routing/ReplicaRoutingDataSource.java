@@ -0,0 +1,377 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.routing;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a las réplicas y el resto a la primaria.
+ * <p>
+ * La decisión se toma con {@link TransactionSynchronizationManager#isCurrentTransactionReadOnly()},
+ * por lo que debe envolverse en un {@code LazyConnectionDataSourceProxy}: así la conexión se pide
+ * cuando la transacción ya está marcada como de solo lectura y no al empezarla.
+ * </p>
+ * <p>
+ * Solo se eligen réplicas sanas, por turno rotatorio ({@link Strategy#ROUND_ROBIN}) o la de menos
+ * conexiones activas ({@link Strategy#LEAST_BUSY}). Una réplica que falla al dar una conexión se
+ * excluye y la lectura se reintenta en otra réplica o, si no queda ninguna, en la primaria;
+ * {@link #checkReplicas()} vuelve a incluirla cuando responde. Una réplica con el pool agotado
+ * (vence el {@code connection-timeout} con todas sus conexiones en uso) no está caída: la lectura pasa a la
+ * siguiente sin excluirla y se cuenta como saturación.
+ * </p>
+ * <p>
+ * Lo crea {@code ReadReplicaConfig} con {@code prices.datasource.routing.enabled=true}.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /** Nombre de la primaria en las métricas de enrutado. */
+    public static final String PRIMARY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * Criterio de selección de réplica para cada conexión de solo lectura.
+     */
+    public enum Strategy {
+        /** Réplicas sanas por turno. */
+        ROUND_ROBIN,
+        /** Réplica sana con menos conexiones activas en su pool. */
+        LEAST_BUSY
+    }
+
+    private final DataSource primary;
+    @Getter
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final AtomicInteger turn = new AtomicInteger();
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * Crea el DataSource de enrutado.
+     *
+     * @param primary DataSource de la primaria (escrituras y lecturas sin réplica disponible)
+     * @param replicas réplicas de lectura
+     * @param strategy criterio de selección de réplica
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Strategy strategy) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+    }
+
+    /**
+     * Retorna una conexión de una réplica sana si la transacción actual es de solo lectura,
+     * o de la primaria en otro caso.
+     *
+     * @return conexión JDBC
+     * @throws SQLException si la primaria no puede dar la conexión
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            for (Replica replica : candidates()) {
+                try {
+                    Connection connection = replica.getDataSource().getConnection();
+                    replica.connections.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    if (isPoolExhausted(replica, e)) {
+                        replica.saturations.increment();
+                    } else {
+                        replica.markDown(e);
+                    }
+                }
+            }
+            if (!replicas.isEmpty()) {
+                fallbacks.increment();
+            }
+        }
+
+        Connection connection = primary.getConnection();
+        primaryConnections.increment();
+        return connection;
+    }
+
+    /**
+     * Las credenciales de cada pool se fijan en su configuración.
+     *
+     * @param username ignorado
+     * @param password ignorado
+     * @return conexión JDBC según el tipo de transacción
+     * @throws SQLException si no se puede obtener la conexión
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * Valida las réplicas excluidas y vuelve a incluir las que responden, y excluye las sanas
+     * que han dejado de responder aunque no se les haya pedido conexión. Una réplica con el pool
+     * agotado se deja como está.
+     */
+    @Scheduled(fixedDelayString = "${prices.datasource.routing.health-check-interval:PT10S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.getDataSource().getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(new SQLException("Conexión no válida"));
+                }
+            } catch (SQLException e) {
+                if (!isPoolExhausted(replica, e)) {
+                    replica.markDown(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna los pools de la primaria y de las réplicas, en ese orden.
+     *
+     * @return DataSources de los pools
+     */
+    public List<DataSource> pools() {
+        List<DataSource> pools = new ArrayList<>(replicas.size() + 1);
+        pools.add(primary);
+        replicas.forEach(replica -> pools.add(replica.getDataSource()));
+        return pools;
+    }
+
+    /**
+     * Crea un enrutado con la misma estrategia y réplicas cuyos pools, el de la primaria y el de
+     * cada réplica, se envuelven con {@code decorator}. Las conexiones activas siguen leyéndose
+     * del pool original.
+     *
+     * @param decorator envoltorio de cada pool
+     * @return enrutado con los pools envueltos
+     */
+    public ReplicaRoutingDataSource decoratePools(UnaryOperator<DataSource> decorator) {
+        List<Replica> decorated = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            decorated.add(new Replica(replica.name, decorator.apply(replica.dataSource), replica.activeConnections));
+        }
+        return new ReplicaRoutingDataSource(decorator.apply(primary), decorated, strategy);
+    }
+
+    /**
+     * Retorna el número de conexiones servidas por la primaria.
+     *
+     * @return conexiones
+     */
+    public long primaryConnectionCount() {
+        return primaryConnections.sum();
+    }
+
+    /**
+     * Retorna el número de lecturas enviadas a la primaria por no haber réplicas sanas con
+     * conexiones libres.
+     *
+     * @return lecturas
+     */
+    public long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    /**
+     * Cierra los pools de la primaria y las réplicas que lo admitan.
+     */
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.getDataSource()));
+    }
+
+    /**
+     * Ordena las réplicas sanas según la estrategia: la primera es la elegida y el resto,
+     * las alternativas si falla.
+     */
+    private List<Replica> candidates() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isHealthy()) {
+                healthy.add(replica);
+            }
+        }
+        if (healthy.size() < 2) {
+            return healthy;
+        }
+
+        if (strategy == Strategy.LEAST_BUSY) {
+            healthy.sort(Comparator.comparingInt(Replica::activeConnections));
+        } else {
+            int first = Math.floorMod(turn.getAndIncrement(), healthy.size());
+            List<Replica> rotated = new ArrayList<>(healthy.subList(first, healthy.size()));
+            rotated.addAll(healthy.subList(0, first));
+            healthy = rotated;
+        }
+        return healthy;
+    }
+
+    /**
+     * Hikari lanza {@link SQLTransientConnectionException} al vencer el {@code connection-timeout};
+     * si no pudo conectar con la BD adjunta como causa el último error de conexión. Sin causa y con
+     * conexiones en uso, todas las del pool estaban ocupadas; sin causa y sin conexiones, aún no ha
+     * conseguido ninguna y se trata como caída.
+     */
+    private static boolean isPoolExhausted(Replica replica, SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null
+                && replica.activeConnections() > 0;
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Error al cerrar el pool de conexiones: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Réplica de lectura con su pool, su estado de salud y sus contadores.
+     */
+    public static final class Replica {
+
+        @Getter
+        private final String name;
+        @Getter
+        private final DataSource dataSource;
+        private final IntSupplier activeConnections;
+        private volatile boolean healthy = true;
+        private final LongAdder connections = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder saturations = new LongAdder();
+
+        /**
+         * Crea una réplica.
+         *
+         * @param name nombre de la réplica en logs y métricas
+         * @param dataSource pool de conexiones de la réplica
+         * @param activeConnections conexiones activas del pool (para {@link Strategy#LEAST_BUSY})
+         */
+        public Replica(String name, DataSource dataSource, IntSupplier activeConnections) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.activeConnections = activeConnections;
+        }
+
+        /**
+         * Indica si la réplica puede recibir lecturas.
+         *
+         * @return false si está excluida
+         */
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * Retorna las conexiones activas del pool de la réplica.
+         *
+         * @return conexiones en uso
+         */
+        public int activeConnections() {
+            return activeConnections.getAsInt();
+        }
+
+        /**
+         * Retorna el número de conexiones servidas por la réplica.
+         *
+         * @return conexiones
+         */
+        public long connectionCount() {
+            return connections.sum();
+        }
+
+        /**
+         * Retorna el número de fallos al obtener una conexión de la réplica.
+         *
+         * @return fallos
+         */
+        public long failureCount() {
+            return failures.sum();
+        }
+
+        /**
+         * Retorna el número de veces que la réplica no dio conexión por tener el pool agotado.
+         *
+         * @return saturaciones
+         */
+        public long saturationCount() {
+            return saturations.sum();
+        }
+
+        void markDown(SQLException cause) {
+            failures.increment();
+            if (healthy) {
+                healthy = false;
+                log.warn("Réplica {} excluida del enrutado de lecturas: {}", name, cause.getMessage());
+            }
+        }
+
+        void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Réplica {} incluida de nuevo en el enrutado de lecturas", name);
+            }
+        }
+    }
+
+    /**
+     * Propiedades del enrutado de lecturas.
+     */
+    @Data
+    public static class RoutingProperties {
+
+        /** Habilita el enrutado (si es false no se crea esta configuración). */
+        private boolean enabled;
+
+        /** Criterio de selección de réplica: round-robin | least-busy. */
+        private Strategy strategy = Strategy.ROUND_ROBIN;
+
+        /** Intervalo de validación de las réplicas (formato ISO-8601, p. ej. PT10S). */
+        private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+        /** Réplicas de lectura. */
+        private List<ReplicaProperties> replicas = new ArrayList<>();
+    }
+
+    /**
+     * Propiedades de una réplica. Usuario y contraseña, si se omiten, son los de la primaria.
+     */
+    @Data
+    public static class ReplicaProperties {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+        private List<String> initScripts = new ArrayList<>();
+    }
+}
@@ -0,0 +1,438 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.snapshot;
+
+import com.inditex.prices.domain.model.Price;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Componente de ficheros que genera y abre la instantánea columnar de PRICES.
+ * <p>
+ * El fichero guarda cada columna como un array primitivo contiguo, con las filas ordenadas por
+ * (BRAND_ID, PRODUCT_ID, START_DATE): id, marca y producto, inicio y fin en segundos epoch (UTC),
+ * prioridad, tarifa, importe en unidades mínimas (céntimos) y el código de la moneda en un
+ * diccionario. Cada columna se proyecta en memoria por separado, por lo que los datos viven en la
+ * caché de páginas del sistema operativo y no en el heap.
+ * </p>
+ * <pre>
+ * cabecera (32 bytes): MAGIC, VERSION, filas, capacidad, monedas
+ * columnas (capacidad filas): ID, BRAND_ID, PRODUCT_ID, START, END, PRIORITY, PRICE_LIST, PRICE, CURR
+ * diccionario: 3 bytes ASCII por moneda
+ * </pre>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "prices.repository", name = "engine", havingValue = "snapshot")
+public class PriceSnapshotFileHandler {
+
+    private static final int MAGIC = 0x50524353;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int CURRENCY_BYTES = 3;
+    private static final int PRICE_SCALE = 2;
+
+    /** Anchura en bytes de cada columna, en el orden en que se escriben. */
+    private static final int[] COLUMN_WIDTHS = {
+        Long.BYTES, Integer.BYTES, Long.BYTES, Long.BYTES, Long.BYTES,
+        Integer.BYTES, Integer.BYTES, Long.BYTES, Short.BYTES
+    };
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM PRICES";
+
+    private static final String SNAPSHOT_SQL = """
+        SELECT ID, BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRIORITY, PRICE_LIST, PRICE, CURR
+        FROM PRICES
+        ORDER BY BRAND_ID, PRODUCT_ID, START_DATE
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${prices.snapshot.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Genera la instantánea de PRICES recorriendo la tabla con un cursor de solo avance.
+     * <p>
+     * Se escribe en un fichero temporal junto al destino y se mueve de forma atómica, por lo que
+     * los lectores del fichero anterior no se ven afectados.
+     * </p>
+     *
+     * @param file fichero destino
+     * @return número de filas escritas
+     * @throws IllegalStateException si PRICES crece durante la generación
+     */
+    @Transactional(readOnly = true)
+    public int write(Path file) {
+        long start = System.nanoTime();
+        Integer counted = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class);
+        int capacity = counted == null ? 0 : counted;
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        int rows;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                rows = writeColumns(channel, capacity);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir la instantánea de precios " + file, e);
+        }
+
+        log.info("Instantánea de precios generada en {}: {} filas en {} ms",
+            file, rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Proyecta en memoria una instantánea generada con {@link #write(Path)}.
+     *
+     * @param file fichero de la instantánea
+     * @return instantánea de solo lectura
+     * @throws IllegalStateException si el fichero no tiene el formato esperado
+     */
+    public Snapshot open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = map(channel, FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IllegalStateException("El fichero " + file + " no es una instantánea de precios válida");
+            }
+            int rows = header.getInt(8);
+            int capacity = header.getInt(12);
+            int currencyCount = header.getInt(16);
+
+            ByteBuffer[] columns = new ByteBuffer[COLUMN_WIDTHS.length];
+            long offset = HEADER_BYTES;
+            for (int column = 0; column < columns.length; column++) {
+                long size = (long) capacity * COLUMN_WIDTHS[column];
+                columns[column] = map(channel, FileChannel.MapMode.READ_ONLY, offset, size);
+                offset += size;
+            }
+
+            ByteBuffer dictionary = map(channel, FileChannel.MapMode.READ_ONLY, offset,
+                (long) currencyCount * CURRENCY_BYTES);
+            String[] currencies = new String[currencyCount];
+            byte[] code = new byte[CURRENCY_BYTES];
+            for (int index = 0; index < currencyCount; index++) {
+                dictionary.get(code);
+                currencies[index] = new String(code, StandardCharsets.US_ASCII);
+            }
+
+            return new Snapshot(rows, columns, currencies, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir la instantánea de precios " + file, e);
+        }
+    }
+
+    /**
+     * Escribe la cabecera, las columnas y el diccionario de monedas.
+     *
+     * @param channel canal del fichero temporal
+     * @param capacity filas reservadas por columna
+     * @return número de filas escritas
+     * @throws IOException si falla la proyección del fichero
+     */
+    private int writeColumns(FileChannel channel, int capacity) throws IOException {
+        MappedByteBuffer[] columns = new MappedByteBuffer[COLUMN_WIDTHS.length];
+        long offset = HEADER_BYTES;
+        for (int column = 0; column < columns.length; column++) {
+            long size = (long) capacity * COLUMN_WIDTHS[column];
+            columns[column] = map(channel, FileChannel.MapMode.READ_WRITE, offset, size);
+            offset += size;
+        }
+
+        Map<String, Short> dictionary = new HashMap<>();
+        List<String> currencies = new ArrayList<>();
+        int[] rows = new int[1];
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SNAPSHOT_SQL);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, rs -> {
+            if (rows[0] == capacity) {
+                throw new IllegalStateException("PRICES ha cambiado durante la generación de la instantánea");
+            }
+            String currency = rs.getString("CURR");
+            short code = dictionary.computeIfAbsent(currency, key -> {
+                currencies.add(key);
+                return (short) (currencies.size() - 1);
+            });
+
+            columns[0].putLong(rs.getLong("ID"));
+            columns[1].putInt(rs.getInt("BRAND_ID"));
+            columns[2].putLong(rs.getLong("PRODUCT_ID"));
+            columns[3].putLong(toEpochSecond(rs.getObject("START_DATE", LocalDateTime.class)));
+            columns[4].putLong(toEpochSecond(rs.getObject("END_DATE", LocalDateTime.class)));
+            columns[5].putInt(rs.getInt("PRIORITY"));
+            columns[6].putInt(rs.getInt("PRICE_LIST"));
+            columns[7].putLong(rs.getBigDecimal("PRICE").setScale(PRICE_SCALE).unscaledValue().longValueExact());
+            columns[8].putShort(code);
+            rows[0]++;
+        });
+
+        ByteBuffer dictionaryBuffer = map(channel, FileChannel.MapMode.READ_WRITE, offset,
+            (long) currencies.size() * CURRENCY_BYTES);
+        currencies.forEach(currency -> dictionaryBuffer.put(currency.getBytes(StandardCharsets.US_ASCII)));
+
+        MappedByteBuffer header = map(channel, FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(rows[0]).putInt(capacity).putInt(currencies.size());
+
+        for (MappedByteBuffer column : columns) {
+            column.force();
+        }
+        ((MappedByteBuffer) dictionaryBuffer).force();
+        header.force();
+        return rows[0];
+    }
+
+    /**
+     * Proyecta una región del fichero con orden de bytes nativo.
+     *
+     * @param channel canal del fichero
+     * @param mode modo de proyección
+     * @param offset posición inicial
+     * @param size tamaño de la región
+     * @return región proyectada
+     * @throws IOException si falla la proyección
+     * @throws IllegalStateException si la región supera el máximo de un buffer (2 GB)
+     */
+    private static MappedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long offset, long size)
+            throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("La columna de la instantánea supera 2 GB: " + size + " bytes");
+        }
+        MappedByteBuffer buffer = channel.map(mode, offset, size);
+        buffer.order(ByteOrder.nativeOrder());
+        return buffer;
+    }
+
+    private static long toEpochSecond(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Instantánea columnar proyectada en memoria, de solo lectura y segura entre hilos.
+     * <p>
+     * Las búsquedas usan lecturas absolutas sobre las vistas primitivas de cada columna, sin
+     * crear objetos; solo se construye un {@link Price} para la fila que se retorna.
+     * </p>
+     */
+    public static final class Snapshot {
+
+        private final int rows;
+        private final LongBuffer ids;
+        private final IntBuffer brands;
+        private final LongBuffer products;
+        private final LongBuffer starts;
+        private final LongBuffer ends;
+        private final IntBuffer priorities;
+        private final IntBuffer priceLists;
+        private final LongBuffer amounts;
+        private final ShortBuffer currencyCodes;
+        private final String[] currencies;
+        private final long sizeInBytes;
+
+        private Snapshot(int rows, ByteBuffer[] columns, String[] currencies, long sizeInBytes) {
+            this.rows = rows;
+            this.ids = columns[0].asLongBuffer();
+            this.brands = columns[1].asIntBuffer();
+            this.products = columns[2].asLongBuffer();
+            this.starts = columns[3].asLongBuffer();
+            this.ends = columns[4].asLongBuffer();
+            this.priorities = columns[5].asIntBuffer();
+            this.priceLists = columns[6].asIntBuffer();
+            this.amounts = columns[7].asLongBuffer();
+            this.currencyCodes = columns[8].asShortBuffer();
+            this.currencies = currencies;
+            this.sizeInBytes = sizeInBytes;
+        }
+
+        /**
+         * Retorna el número de filas de la instantánea.
+         *
+         * @return filas de PRICES incluidas
+         */
+        public int rows() {
+            return rows;
+        }
+
+        /**
+         * Retorna el tamaño del fichero proyectado.
+         *
+         * @return tamaño en bytes
+         */
+        public long sizeInBytes() {
+            return sizeInBytes;
+        }
+
+        /**
+         * Busca la primera fila de un producto y marca (o de una marca si {@code productId} es
+         * {@link Long#MIN_VALUE}) con una búsqueda binaria sobre las columnas ordenadas.
+         *
+         * @param brandId identificador de la marca
+         * @param productId identificador del producto
+         * @return índice de la primera fila con clave mayor o igual a la indicada
+         */
+        public int lowerBound(int brandId, long productId) {
+            int low = 0;
+            int high = rows;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int brand = brands.get(mid);
+                if (brand < brandId || brand == brandId && products.get(mid) < productId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Indica si la fila pertenece al producto y marca indicados.
+         *
+         * @param row índice de fila
+         * @param brandId identificador de la marca
+         * @param productId identificador del producto
+         * @return true si la fila existe y coincide la clave
+         */
+        public boolean matches(int row, int brandId, long productId) {
+            return row < rows && brands.get(row) == brandId && products.get(row) == productId;
+        }
+
+        /**
+         * Busca la fila ganadora de un producto y marca en un instante: la de mayor prioridad y,
+         * a igual prioridad, mayor tarifa entre las vigentes.
+         *
+         * @param brandId identificador de la marca
+         * @param productId identificador del producto
+         * @param epochSecond instante en segundos epoch (UTC)
+         * @return índice de la fila ganadora, -1 si no hay precio vigente
+         */
+        public int winnerAt(int brandId, long productId, long epochSecond) {
+            int first = lowerBound(brandId, productId);
+            return matches(first, brandId, productId) ? winnerFrom(first, epochSecond) : -1;
+        }
+
+        /**
+         * Busca la fila ganadora entre las filas del producto que empieza en {@code first}.
+         * Las filas del producto están ordenadas por inicio, por lo que el recorrido se detiene
+         * en la primera que empieza después del instante.
+         *
+         * @param first primera fila del producto
+         * @param epochSecond instante en segundos epoch (UTC)
+         * @return índice de la fila ganadora, -1 si no hay precio vigente
+         */
+        public int winnerFrom(int first, long epochSecond) {
+            if (first >= rows) {
+                return -1;
+            }
+            int brandId = brands.get(first);
+            long productId = products.get(first);
+
+            int winner = -1;
+            for (int row = first; matches(row, brandId, productId) && starts.get(row) <= epochSecond; row++) {
+                if (ends.get(row) >= epochSecond && (winner < 0 || winsOver(row, winner))) {
+                    winner = row;
+                }
+            }
+            return winner;
+        }
+
+        /**
+         * Retorna la primera fila del siguiente producto.
+         *
+         * @param first primera fila del producto actual
+         * @return índice de la primera fila con otra clave
+         */
+        public int nextKey(int first) {
+            int brandId = brands.get(first);
+            long productId = products.get(first);
+            int row = first;
+            while (matches(row, brandId, productId)) {
+                row++;
+            }
+            return row;
+        }
+
+        /**
+         * Retorna la marca de una fila.
+         *
+         * @param row índice de fila
+         * @return identificador de la marca
+         */
+        public int brandAt(int row) {
+            return brands.get(row);
+        }
+
+        /**
+         * Retorna el producto de una fila.
+         *
+         * @param row índice de fila
+         * @return identificador del producto
+         */
+        public long productAt(int row) {
+            return products.get(row);
+        }
+
+        /**
+         * Construye el precio de dominio de una fila.
+         *
+         * @param row índice de fila
+         * @return precio de dominio
+         */
+        public Price priceAt(int row) {
+            return Price.builder()
+                .id(ids.get(row))
+                .brandId(brands.get(row))
+                .productId(products.get(row))
+                .startDate(LocalDateTime.ofEpochSecond(starts.get(row), 0, ZoneOffset.UTC))
+                .endDate(LocalDateTime.ofEpochSecond(ends.get(row), 0, ZoneOffset.UTC))
+                .priority(priorities.get(row))
+                .priceList(priceLists.get(row))
+                .price(BigDecimal.valueOf(amounts.get(row), PRICE_SCALE))
+                .currency(currencies[currencyCodes.get(row)])
+                .build();
+        }
+
+        private boolean winsOver(int row, int other) {
+            int priority = priorities.get(row);
+            int otherPriority = priorities.get(other);
+            return priority > otherPriority
+                || priority == otherPriority && priceLists.get(row) > priceLists.get(other);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.inditex.prices.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.prices.application.service.PriceTimelineCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la caché de Spring.
+ * <p>
+ * El proveedor (Caffeine), las cachés declaradas y su política de tamaño, expiración y
+ * estadísticas se definen en {@code spring.cache.*}. Spring Boot Actuator publica las
+ * estadísticas como métricas {@code cache.gets}, {@code cache.evictions} y {@code cache.size}.
+ * </p>
+ * <p>
+ * Se usan proxies de clase porque los servicios cacheados se inyectan por su tipo concreto.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Configuration
+@EnableCaching(proxyTargetClass = true)
+public class CacheConfig {
+
+    /**
+     * Registra la caché negativa de productos sin precios con su propia política
+     * ({@code prices.cache.missing-keys-spec}), independiente de la de líneas temporales.
+     *
+     * @param spec especificación Caffeine de la caché negativa
+     * @return personalizador del gestor de cachés Caffeine
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> missingPriceKeysCacheCustomizer(
+            @Value("${prices.cache.missing-keys-spec:maximumSize=100000,expireAfterWrite=10m,recordStats}")
+            String spec) {
+        return cacheManager -> cacheManager.registerCustomCache(
+                PriceTimelineCacheService.MISSING_CACHE_NAME, Caffeine.from(spec).build());
+    }
+}
@@ -0,0 +1,100 @@
+package com.inditex.prices.infrastructure.config;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.limit.PriceConcurrencyLimitInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuración del límite adaptativo de búsquedas simultáneas de precios en la BD.
+ * <p>
+ * Con {@code prices.limiter.enabled=true} (por defecto) y un motor de búsqueda que consulta la BD
+ * ({@code jpa}, {@code jdbc}) aplica {@link PriceConcurrencyLimitInterceptor} a las búsquedas de
+ * {@code PriceRepository}: por detrás de la agrupación de lecturas y de lotes, para que una
+ * lectura agrupada ocupe un solo hueco, y por delante de la transacción y de {@code @Timed}, de
+ * modo que las búsquedas rechazadas no abren transacción ni piden conexión. El manejador global
+ * responde a los rechazos con {@code 503} y {@code Retry-After} ({@code prices.limiter.retry-after}).
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "prices.limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnExpression("'${prices.repository.engine:jpa}' matches 'jpa|jdbc'")
+public class ConcurrencyLimitConfig {
+
+    /**
+     * Limitador de búsquedas simultáneas.
+     *
+     * @param initialLimit límite inicial ({@code prices.limiter.initial-limit})
+     * @param minLimit límite mínimo ({@code prices.limiter.min-limit})
+     * @param maxLimit límite máximo ({@code prices.limiter.max-limit})
+     * @return interceptor del límite de concurrencia
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public PriceConcurrencyLimitInterceptor priceConcurrencyLimitInterceptor(
+            @Value("${prices.limiter.initial-limit:${spring.datasource.hikari.maximum-pool-size:10}}") int initialLimit,
+            @Value("${prices.limiter.min-limit:4}") int minLimit,
+            @Value("${prices.limiter.max-limit:200}") int maxLimit) {
+        log.info("Límite adaptativo de búsquedas simultáneas en la BD: inicial {}, entre {} y {}",
+                initialLimit, minLimit, maxLimit);
+        return new PriceConcurrencyLimitInterceptor(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Aplica el limitador a las búsquedas de las implementaciones de PriceRepository.
+     *
+     * @param interceptor limitador de búsquedas simultáneas
+     * @return advisor recogido por el auto-proxy de Spring AOP
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor priceConcurrencyLimitAdvisor(PriceConcurrencyLimitInterceptor interceptor) {
+        DefaultPointcutAdvisor advisor =
+                new DefaultPointcutAdvisor(PriceConcurrencyLimitInterceptor.pointcut(), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return advisor;
+    }
+
+    /**
+     * Publica el límite actual, las búsquedas en curso y las admitidas y rechazadas.
+     *
+     * @param interceptor limitador de búsquedas simultáneas
+     * @return registrador de las métricas {@code prices.limiter.*}
+     */
+    @Bean
+    public MeterBinder priceConcurrencyLimitMetrics(PriceConcurrencyLimitInterceptor interceptor) {
+        return registry -> {
+            Gauge.builder("prices.limiter.limit", interceptor, PriceConcurrencyLimitInterceptor::limit)
+                    .description("Límite adaptativo de búsquedas de precios simultáneas en la BD")
+                    .register(registry);
+            Gauge.builder("prices.limiter.in-flight", interceptor, PriceConcurrencyLimitInterceptor::inFlightCount)
+                    .description("Búsquedas de precios en curso en la BD")
+                    .register(registry);
+            FunctionCounter.builder("prices.limiter.requests", interceptor,
+                            PriceConcurrencyLimitInterceptor::acceptedCount)
+                    .description("Búsquedas de precios evaluadas por el límite de concurrencia")
+                    .tag("result", "accepted")
+                    .register(registry);
+            FunctionCounter.builder("prices.limiter.requests", interceptor,
+                            PriceConcurrencyLimitInterceptor::rejectedCount)
+                    .description("Búsquedas de precios evaluadas por el límite de concurrencia")
+                    .tag("result", "rejected")
+                    .register(registry);
+        };
+    }
+}
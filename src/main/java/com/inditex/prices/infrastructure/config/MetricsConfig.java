@@ -0,0 +1,119 @@
+package com.inditex.prices.infrastructure.config;
+
+import com.inditex.prices.application.service.PriceAdmissionService;
+import com.inditex.prices.infrastructure.adapter.in.rest.PriceResponseMetricsInterceptor;
+import com.inditex.prices.infrastructure.adapter.out.persistence.PriceAsyncAdapter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuración de métricas Micrometer.
+ * <p>
+ * Habilita {@code @Timed} mediante {@link TimedAspect} para medir cada etapa de la consulta
+ * (métrica {@code prices.stage}, etiqueta {@code stage} = controller | service | persistence)
+ * y registra el contador de respuestas {@code prices.responses} por código de estado y las
+ * métricas del filtro de admisión ({@code prices.admission.*}) y de las consultas asíncronas
+ * ({@code prices.async.*}).
+ * El tiempo total de la petición, incluyendo binding y escritura JSON, lo aporta
+ * {@code http.server.requests} de Spring Boot Actuator.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final PriceResponseMetricsInterceptor priceResponseMetricsInterceptor;
+
+    /**
+     * Aspecto que registra como Timer los métodos anotados con {@code @Timed}.
+     *
+     * @param meterRegistry registro de métricas
+     * @return aspecto de temporización
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Publica el estado del filtro de admisión: tasa de falsos positivos estimada, memoria y
+     * pares del filtro, consultas admitidas y descartadas, y falsos positivos observados
+     * (consultas admitidas de pares sin precios).
+     *
+     * @param admissionService servicio de admisión
+     * @return registrador de las métricas {@code prices.admission.*}
+     */
+    @Bean
+    public MeterBinder priceAdmissionMetrics(PriceAdmissionService admissionService) {
+        return registry -> {
+            Gauge.builder("prices.admission.false-positive-rate", admissionService,
+                            PriceAdmissionService::expectedFalsePositiveRate)
+                    .description("Tasa de falsos positivos estimada del filtro de admisión")
+                    .register(registry);
+            Gauge.builder("prices.admission.size", admissionService, PriceAdmissionService::sizeInBytes)
+                    .description("Memoria ocupada por el filtro de admisión")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("prices.admission.keys", admissionService, PriceAdmissionService::keyCount)
+                    .description("Pares (marca, producto) añadidos al filtro de admisión")
+                    .register(registry);
+            FunctionCounter.builder("prices.admission.requests", admissionService,
+                            PriceAdmissionService::admittedCount)
+                    .description("Consultas evaluadas por el filtro de admisión")
+                    .tag("result", "admitted")
+                    .register(registry);
+            FunctionCounter.builder("prices.admission.requests", admissionService,
+                            PriceAdmissionService::rejectedCount)
+                    .description("Consultas evaluadas por el filtro de admisión")
+                    .tag("result", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("prices.admission.false-positives", admissionService,
+                            PriceAdmissionService::falsePositiveCount)
+                    .description("Consultas admitidas de pares sin precios")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Publica el estado de las consultas asíncronas: en espera en la cola, en ejecución y
+     * rechazadas por tener la cola llena.
+     *
+     * @param asyncAdapter adaptador de consultas asíncronas
+     * @return registrador de las métricas {@code prices.async.*}
+     */
+    @Bean
+    public MeterBinder priceAsyncMetrics(PriceAsyncAdapter asyncAdapter) {
+        return registry -> {
+            Gauge.builder("prices.async.queued", asyncAdapter, PriceAsyncAdapter::queuedCount)
+                    .description("Consultas asíncronas en espera de un hilo")
+                    .register(registry);
+            Gauge.builder("prices.async.active", asyncAdapter, PriceAsyncAdapter::activeCount)
+                    .description("Consultas asíncronas en ejecución")
+                    .register(registry);
+            FunctionCounter.builder("prices.async.rejected", asyncAdapter, PriceAsyncAdapter::rejectedCount)
+                    .description("Consultas asíncronas rechazadas por tener la cola llena")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Registra el interceptor que cuenta las respuestas de la API de precios.
+     *
+     * @param registry registro de interceptores de Spring MVC
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(priceResponseMetricsInterceptor).addPathPatterns("/prices/**");
+    }
+}
@@ -0,0 +1,180 @@
+package com.inditex.prices.infrastructure.config;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource;
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource.Replica;
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource.ReplicaProperties;
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource.RoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del enrutado de lecturas a réplicas.
+ * <p>
+ * Con {@code prices.datasource.routing.enabled=true} sustituye el DataSource de Spring Boot por un
+ * {@link ReplicaRoutingDataSource} (envuelto en {@link LazyConnectionDataSourceProxy}) que envía
+ * las transacciones {@code readOnly} a las réplicas de {@code prices.datasource.routing.replicas}
+ * y el resto a la primaria de {@code spring.datasource.*}. Cada réplica tiene su propio pool
+ * Hikari, cuyas métricas se publican como {@code hikaricp.*} con la etiqueta {@code pool}.
+ * </p>
+ * <p>
+ * Las réplicas pueden inicializarse al arrancar con {@code init-scripts}, para simular en local
+ * con varias bases de datos H2 la replicación que en producción aporta la propia base de datos.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "prices.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * Propiedades del enrutado ({@code prices.datasource.routing.*}).
+     *
+     * @return propiedades enlazadas
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "prices.datasource.routing")
+    public RoutingProperties replicaRoutingProperties() {
+        return new RoutingProperties();
+    }
+
+    /**
+     * Crea el pool de la primaria (con {@code spring.datasource.hikari.*}), un pool por réplica
+     * y el DataSource que enruta entre ellos.
+     *
+     * @param dataSourceProperties propiedades {@code spring.datasource.*} de la primaria
+     * @param routing propiedades del enrutado
+     * @param environment entorno, para enlazar {@code spring.datasource.hikari.*}
+     * @param meterRegistry registro de métricas de los pools
+     * @return DataSource de enrutado
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                       RoutingProperties routing,
+                                                       Environment environment,
+                                                       MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        }
+        primary.setMetricRegistry(meterRegistry);
+
+        ResourceLoader resourceLoader = new DefaultResourceLoader();
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            ReplicaProperties properties = routing.getReplicas().get(i);
+            String name = properties.getName() != null ? properties.getName() : "replica-" + (i + 1);
+            HikariDataSource pool = replicaPool(name, properties, dataSourceProperties, meterRegistry);
+
+            if (!properties.getInitScripts().isEmpty()) {
+                ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+                properties.getInitScripts().forEach(script -> populator.addScript(resourceLoader.getResource(script)));
+                populator.execute(pool);
+            }
+
+            replicas.add(new Replica(name, pool, () -> pool.getHikariPoolMXBean() == null
+                    ? 0 : pool.getHikariPoolMXBean().getActiveConnections()));
+        }
+
+        log.info("Enrutado de lecturas a réplicas habilitado: {} réplicas, estrategia {}",
+                replicas.size(), routing.getStrategy());
+        return new ReplicaRoutingDataSource(primary, replicas, routing.getStrategy());
+    }
+
+    /**
+     * DataSource de la aplicación: obtiene la conexión física en la primera sentencia, cuando la
+     * transacción ya se ha marcado como de solo lectura, para que el enrutado pueda decidir.
+     *
+     * @param routingDataSource DataSource de enrutado
+     * @return DataSource principal de JPA y JDBC
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Publica por réplica las conexiones servidas, los fallos, las saturaciones del pool y si está
+     * incluida en el enrutado, y las conexiones servidas por la primaria y las lecturas que
+     * acabaron en ella.
+     *
+     * @param routingDataSource DataSource de enrutado
+     * @return registrador de las métricas {@code prices.datasource.*}
+     */
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaRoutingDataSource routingDataSource) {
+        return registry -> {
+            FunctionCounter.builder("prices.datasource.connections", routingDataSource,
+                            ReplicaRoutingDataSource::primaryConnectionCount)
+                    .description("Conexiones obtenidas por destino del enrutado")
+                    .tag("target", ReplicaRoutingDataSource.PRIMARY)
+                    .register(registry);
+            FunctionCounter.builder("prices.datasource.fallbacks", routingDataSource,
+                            ReplicaRoutingDataSource::fallbackCount)
+                    .description("Lecturas enviadas a la primaria por no haber réplicas sanas con conexiones libres")
+                    .register(registry);
+
+            for (Replica replica : routingDataSource.getReplicas()) {
+                FunctionCounter.builder("prices.datasource.connections", replica, Replica::connectionCount)
+                        .description("Conexiones obtenidas por destino del enrutado")
+                        .tag("target", replica.getName())
+                        .register(registry);
+                FunctionCounter.builder("prices.datasource.replica.failures", replica, Replica::failureCount)
+                        .description("Fallos al obtener una conexión de la réplica")
+                        .tag("replica", replica.getName())
+                        .register(registry);
+                FunctionCounter.builder("prices.datasource.replica.saturations", replica, Replica::saturationCount)
+                        .description("Conexiones no obtenidas de la réplica por tener el pool agotado")
+                        .tag("replica", replica.getName())
+                        .register(registry);
+                Gauge.builder("prices.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                        .description("1 si la réplica está incluida en el enrutado de lecturas")
+                        .tag("replica", replica.getName())
+                        .register(registry);
+            }
+        };
+    }
+
+    private static HikariDataSource replicaPool(String name, ReplicaProperties properties,
+                                                DataSourceProperties primary, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(properties.getUrl());
+        pool.setUsername(properties.getUsername() != null ? properties.getUsername() : primary.determineUsername());
+        pool.setPassword(properties.getPassword() != null ? properties.getPassword() : primary.determinePassword());
+        pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+        pool.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        // Una réplica caída no impide arrancar: se excluye al fallar su primera conexión
+        pool.setInitializationFailTimeout(-1);
+        pool.setMetricRegistry(meterRegistry);
+        return pool;
+    }
+}
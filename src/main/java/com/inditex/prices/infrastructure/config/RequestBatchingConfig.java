@@ -0,0 +1,92 @@
+package com.inditex.prices.infrastructure.config;
+
+import com.inditex.prices.domain.port.out.PriceRepository;
+import com.inditex.prices.infrastructure.adapter.out.persistence.batching.PriceBatchingInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuración de la agrupación en lotes de las búsquedas individuales simultáneas de
+ * {@code PriceRepository}.
+ * <p>
+ * Opcional ({@code prices.repository.batching.enabled=true}): aplica
+ * {@link PriceBatchingInterceptor} al motor de búsqueda activo, por detrás de la agrupación de
+ * llamadas idénticas ({@code RequestCoalescingConfig}) y por delante de la transacción y de
+ * {@code @Timed}. Solo reduce conexiones con los motores que consultan la BD ({@code jpa},
+ * {@code jdbc}); con el resto cada lote se resuelve clave a clave.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "prices.repository.batching", name = "enabled", havingValue = "true")
+public class RequestBatchingConfig {
+
+    /**
+     * Interceptor que agrupa las búsquedas en lotes.
+     *
+     * @param repository motor de búsqueda activo, con sus proxies
+     * @param maxSize llamadas máximas por lote ({@code prices.repository.batching.max-size})
+     * @param maxDelay espera máxima por lote ({@code prices.repository.batching.max-delay})
+     * @return interceptor de agrupación en lotes
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public PriceBatchingInterceptor priceBatchingInterceptor(
+            ObjectProvider<PriceRepository> repository,
+            @Value("${prices.repository.batching.max-size:100}") int maxSize,
+            @Value("${prices.repository.batching.max-delay:2ms}") Duration maxDelay) {
+        return new PriceBatchingInterceptor(repository, maxSize, maxDelay);
+    }
+
+    /**
+     * Aplica el interceptor a las búsquedas individuales de las implementaciones de PriceRepository.
+     *
+     * @param interceptor interceptor de agrupación en lotes
+     * @return advisor recogido por el auto-proxy de Spring AOP
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor priceBatchingAdvisor(PriceBatchingInterceptor interceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(PriceBatchingInterceptor.pointcut(), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    /**
+     * Publica por búsqueda las llamadas recibidas y los lotes ejecutados; su cociente es el
+     * tamaño medio de lote.
+     *
+     * @param interceptor interceptor de agrupación en lotes
+     * @return registrador de las métricas {@code prices.batching.*}
+     */
+    @Bean
+    public MeterBinder priceBatchingMetrics(PriceBatchingInterceptor interceptor) {
+        return registry -> {
+            for (String lookup : List.of(PriceBatchingInterceptor.APPLICABLE, PriceBatchingInterceptor.TIMELINE)) {
+                FunctionCounter.builder("prices.batching.calls", interceptor, i -> i.callCount(lookup))
+                        .description("Búsquedas individuales recibidas por el agrupador en lotes")
+                        .tag("lookup", lookup)
+                        .register(registry);
+                FunctionCounter.builder("prices.batching.batches", interceptor, i -> i.batchCount(lookup))
+                        .description("Lotes de búsquedas resueltos con una única consulta")
+                        .tag("lookup", lookup)
+                        .register(registry);
+            }
+        };
+    }
+}
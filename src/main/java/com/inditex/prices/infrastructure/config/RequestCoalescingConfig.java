@@ -0,0 +1,87 @@
+package com.inditex.prices.infrastructure.config;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.coalescing.PriceCoalescingInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuración de la agrupación de lecturas idénticas y simultáneas de {@code PriceRepository}.
+ * <p>
+ * Con {@code prices.repository.coalescing.enabled=true} (por defecto) y un motor de búsqueda que
+ * consulta la BD ({@code jpa}, {@code jdbc}) aplica {@link PriceCoalescingInterceptor} al motor,
+ * por delante de la transacción y de {@code @Timed}, de modo que las llamadas agrupadas no abren
+ * transacción ni cuentan como consulta de persistencia. Con los motores en memoria o de búsqueda
+ * de una sola fila indexada ({@code memory}, {@code snapshot}, {@code timeline}) agrupar solo
+ * añadiría el mapa de llamadas en curso y un {@code CompletableFuture} por búsqueda.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "prices.repository.coalescing", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+@ConditionalOnExpression("'${prices.repository.engine:jpa}' matches 'jpa|jdbc'")
+public class RequestCoalescingConfig {
+
+    /**
+     * Interceptor que agrupa las lecturas.
+     *
+     * @return interceptor de agrupación
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public PriceCoalescingInterceptor priceCoalescingInterceptor() {
+        return new PriceCoalescingInterceptor();
+    }
+
+    /**
+     * Aplica el interceptor a las búsquedas de las implementaciones de PriceRepository.
+     *
+     * @param interceptor interceptor de agrupación
+     * @return advisor recogido por el auto-proxy de Spring AOP
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor priceCoalescingAdvisor(PriceCoalescingInterceptor interceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(PriceCoalescingInterceptor.pointcut(), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * Publica las llamadas líderes y seguidoras, la fracción agrupada y las llamadas en curso.
+     *
+     * @param interceptor interceptor de agrupación
+     * @return registrador de las métricas {@code prices.coalescing.*}
+     */
+    @Bean
+    public MeterBinder priceCoalescingMetrics(PriceCoalescingInterceptor interceptor) {
+        return registry -> {
+            FunctionCounter.builder("prices.coalescing.calls", interceptor, PriceCoalescingInterceptor::leaderCount)
+                    .description("Lecturas de PriceRepository por papel en la agrupación")
+                    .tag("role", "leader")
+                    .register(registry);
+            FunctionCounter.builder("prices.coalescing.calls", interceptor, PriceCoalescingInterceptor::followerCount)
+                    .description("Lecturas de PriceRepository por papel en la agrupación")
+                    .tag("role", "follower")
+                    .register(registry);
+            Gauge.builder("prices.coalescing.ratio", interceptor, PriceCoalescingInterceptor::coalescingRatio)
+                    .description("Fracción de lecturas resueltas con el resultado de otra idéntica en curso")
+                    .register(registry);
+            Gauge.builder("prices.coalescing.in-flight", interceptor, PriceCoalescingInterceptor::inFlightCount)
+                    .description("Lecturas distintas de PriceRepository en curso")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.inditex.prices.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas ({@code @Scheduled}) de los adaptadores de entrada,
+ * como la reconstrucción periódica de la línea temporal materializada.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
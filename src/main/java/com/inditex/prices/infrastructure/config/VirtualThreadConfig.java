@@ -0,0 +1,83 @@
+package com.inditex.prices.infrastructure.config;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.guard.ConnectionPermitDataSource;
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del modo de hilos virtuales ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Spring Boot atiende entonces las peticiones de Tomcat, las tareas {@code @Scheduled} y las
+ * respuestas asíncronas (exportación en streaming) en hilos virtuales. Esta configuración añade
+ * la protección frente al <em>pinning</em> de la persistencia: envuelve cada pool Hikari en un
+ * {@link ConnectionPermitDataSource} con tantos permisos como conexiones tiene el pool y su mismo
+ * {@code connection-timeout}, para que los hilos sobrantes esperen aparcados y no dentro del
+ * código {@code synchronized} del driver. Con el enrutado a réplicas cada pool (la primaria y cada
+ * réplica) tiene sus propios permisos, de modo que una réplica ocupada no hace esperar a las
+ * escrituras ni a las otras réplicas.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Envuelve los pools del DataSource de Spring Boot o, con enrutado, los de la primaria y las
+     * réplicas. Es estático para registrarse sin instanciar esta configuración antes que el resto
+     * de beans.
+     *
+     * @return post-procesador de los pools
+     */
+    @Bean
+    public static BeanPostProcessor connectionPermitPostProcessor() {
+        return new ConnectionPermitDataSource.PoolPostProcessor();
+    }
+
+    /**
+     * Publica por pool los permisos libres y los hilos en espera de conexión.
+     *
+     * @param dataSource DataSource principal
+     * @param routing enrutado a réplicas, si está habilitado
+     * @return registrador de las métricas {@code prices.datasource.permits.*}
+     * @throws SQLException si algún pool no está envuelto
+     */
+    @Bean
+    public MeterBinder connectionPermitMetrics(DataSource dataSource,
+                                               ObjectProvider<ReplicaRoutingDataSource> routing) throws SQLException {
+        ReplicaRoutingDataSource routingDataSource = routing.getIfAvailable();
+        List<DataSource> pools = routingDataSource != null ? routingDataSource.pools() : List.of(dataSource);
+        List<ConnectionPermitDataSource> guards = new ArrayList<>(pools.size());
+        for (DataSource pool : pools) {
+            guards.add(pool.unwrap(ConnectionPermitDataSource.class));
+        }
+        return registry -> {
+            for (ConnectionPermitDataSource permits : guards) {
+                String name = permits.poolName();
+                Gauge.builder("prices.datasource.permits.available", permits,
+                                ConnectionPermitDataSource::availablePermits)
+                        .description("Conexiones JDBC que pueden obtenerse sin esperar")
+                        .tag("pool", name)
+                        .register(registry);
+                Gauge.builder("prices.datasource.permits.waiting", permits, ConnectionPermitDataSource::waitingThreads)
+                        .description("Hilos esperando una conexión JDBC")
+                        .tag("pool", name)
+                        .register(registry);
+            }
+        };
+    }
+}
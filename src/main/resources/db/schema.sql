@@ -48,3 +48,28 @@ CREATE INDEX IF NOT EXISTS idx_priority
 -- Índice para búsquedas por rango de fechas
 CREATE INDEX IF NOT EXISTS idx_date_range
     ON PRICES (START_DATE, END_DATE);
+
+-- =====================================================
+-- Línea Temporal Materializada de Precios
+-- =====================================================
+-- Aplana PRICES por (BRAND_ID, PRODUCT_ID) en tramos disjuntos con el precio ganador.
+-- SEGMENT_START/SEGMENT_END son los extremos (inclusivos) del tramo; el resto de columnas
+-- copian el precio ganador de PRICES, incluidas sus fechas de vigencia originales.
+CREATE TABLE IF NOT EXISTS PRICE_TIMELINE (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID INTEGER NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    SEGMENT_START TIMESTAMP NOT NULL,
+    SEGMENT_END TIMESTAMP NOT NULL,
+    PRICE_ID BIGINT NOT NULL,
+    PRICE_LIST INTEGER NOT NULL,
+    PRIORITY INTEGER NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRICE DECIMAL(10, 2) NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+-- Índice de la lectura: una búsqueda por (marca, producto) y el último tramo iniciado
+CREATE UNIQUE INDEX IF NOT EXISTS idx_timeline_brand_product_start
+    ON PRICE_TIMELINE (BRAND_ID, PRODUCT_ID, SEGMENT_START);
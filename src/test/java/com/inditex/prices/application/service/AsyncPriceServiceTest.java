@@ -0,0 +1,169 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.exception.PriceNotFoundException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.out.AsyncPriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para AsyncPriceService.
+ * Verifica la resolución desde la caché sin acceder al repositorio, la carga asíncrona de las
+ * líneas temporales ausentes y que los errores se entregan en el futuro.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncPriceService - Tests unitarios de la consulta asíncrona")
+class AsyncPriceServiceTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Integer BRAND_ID = 1;
+    private static final PriceKey KEY = PriceKey.of(PRODUCT_ID, BRAND_ID);
+
+    private static final Price BASE = price(1, 0, "35.50",
+            LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    private static final Price PROMO = price(2, 1, "25.45",
+            LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+
+    @Mock
+    private AsyncPriceRepository asyncPriceRepository;
+
+    @Mock
+    private PriceTimelineCacheService timelineCache;
+
+    @Mock
+    private PriceAdmissionService admissionService;
+
+    @InjectMocks
+    private AsyncPriceService asyncPriceService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(admissionService.mightHavePrices(any(), any())).thenReturn(true);
+    }
+
+    /**
+     * Verifica que una línea temporal cacheada se resuelve sin acceder al repositorio.
+     */
+    @Test
+    @DisplayName("Debe resolver desde la caché sin acceder al repositorio")
+    void shouldResolveFromCacheWithoutRepository() {
+        when(timelineCache.findCachedTimeline(KEY)).thenReturn(Optional.of(PriceTimeline.of(List.of(BASE, PROMO))));
+
+        CompletableFuture<PriceSegment> segment =
+                asyncPriceService.getApplicableSegment(query(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        assertThat(segment).isCompletedWithValueMatching(s -> s.getPrice().getPriceList() == 2);
+        verifyNoInteractions(asyncPriceRepository);
+    }
+
+    /**
+     * Verifica que una línea temporal ausente se carga del repositorio asíncrono y se cachea.
+     */
+    @Test
+    @DisplayName("Debe cargar y cachear la línea temporal cuando no está en caché")
+    void shouldLoadAndCacheMissingTimeline() {
+        CompletableFuture<List<Price>> pending = new CompletableFuture<>();
+        when(timelineCache.findCachedTimeline(KEY)).thenReturn(Optional.empty());
+        when(asyncPriceRepository.findAllPrices(PRODUCT_ID, BRAND_ID)).thenReturn(pending);
+        when(timelineCache.putTimeline(any(), any(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        CompletableFuture<PriceSegment> segment =
+                asyncPriceService.getApplicableSegment(query(LocalDateTime.of(2020, 6, 14, 10, 0)));
+        assertThat(segment).isNotDone();
+
+        pending.complete(List.of(BASE, PROMO));
+
+        assertThat(segment).isCompletedWithValueMatching(s -> s.getPrice().getPriceList() == 1);
+        verify(timelineCache).putTimeline(any(), any(), anyLong());
+    }
+
+    /**
+     * Verifica que los errores de validación y de precio inexistente completan el futuro con error.
+     */
+    @Test
+    @DisplayName("Debe completar con error las consultas inválidas, descartadas o sin precio")
+    void shouldFailFutureForInvalidOrMissingPrices() {
+        PriceQuery invalid = PriceQuery.builder()
+                .applicationDate(LocalDateTime.of(2020, 6, 14, 10, 0)).productId(-1L).brandId(BRAND_ID).build();
+        assertThat(asyncPriceService.getApplicableSegment(invalid))
+                .failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(InvalidQueryException.class);
+
+        when(admissionService.mightHavePrices(PRODUCT_ID, BRAND_ID)).thenReturn(false);
+        assertThat(asyncPriceService.getApplicableSegment(query(LocalDateTime.of(2020, 6, 14, 10, 0))))
+                .isCompletedExceptionally();
+        verifyNoInteractions(timelineCache);
+
+        when(admissionService.mightHavePrices(PRODUCT_ID, BRAND_ID)).thenReturn(true);
+        when(timelineCache.findCachedTimeline(KEY)).thenReturn(Optional.of(PriceTimeline.of(List.of(BASE))));
+        assertThat(asyncPriceService.getApplicableSegment(query(LocalDateTime.of(2019, 1, 1, 0, 0))))
+                .failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(PriceNotFoundException.class);
+    }
+
+    /**
+     * Verifica que una línea temporal vacía cuenta como falso positivo del filtro de admisión.
+     */
+    @Test
+    @DisplayName("Debe registrar un falso positivo si el producto admitido no tiene precios")
+    void shouldRecordFalsePositiveForEmptyTimeline() {
+        when(timelineCache.findCachedTimeline(KEY)).thenReturn(Optional.of(PriceTimeline.of(List.of())));
+
+        assertThat(asyncPriceService.getApplicableSegment(query(LocalDateTime.of(2020, 6, 14, 10, 0))))
+                .isCompletedExceptionally();
+        verify(admissionService).recordFalsePositive();
+    }
+
+    private static PriceQuery query(LocalDateTime applicationDate) {
+        return PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .build();
+    }
+
+    private static Price price(int priceList, int priority, String amount, LocalDateTime start, LocalDateTime end) {
+        return Price.builder()
+                .id((long) priceList)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .priceList(priceList)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .startDate(start)
+                .endDate(end)
+                .currency("EUR")
+                .build();
+    }
+}
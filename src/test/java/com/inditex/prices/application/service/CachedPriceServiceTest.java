@@ -0,0 +1,225 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.exception.PriceNotFoundException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceLookup;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.model.PriceTimeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para CachedPriceService.
+ * Verifica la resolución desde la línea temporal cacheada y la delegación de los lotes.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachedPriceService - Tests unitarios del decorador con caché")
+class CachedPriceServiceTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Integer BRAND_ID = 1;
+    private static final PriceKey KEY = PriceKey.of(PRODUCT_ID, BRAND_ID);
+
+    private static final Price BASE = price(1, 0, "35.50",
+            LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    private static final Price PROMO = price(2, 1, "25.45",
+            LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+
+    @Mock
+    private PriceTimelineCacheService timelineCache;
+
+    @Mock
+    private PriceService delegate;
+
+    @Mock
+    private PriceAdmissionService admissionService;
+
+    @InjectMocks
+    private CachedPriceService cachedPriceService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(admissionService.mightHavePrices(any(), any())).thenReturn(true);
+    }
+
+    /**
+     * Verifica que distintas fechas del mismo producto se resuelven con la misma línea temporal.
+     */
+    @Test
+    @DisplayName("Debe resolver cualquier fecha desde la línea temporal del producto")
+    void shouldResolveAnyDateFromCachedTimeline() {
+        // Arrange
+        when(timelineCache.getTimeline(KEY)).thenReturn(PriceTimeline.of(List.of(BASE, PROMO)));
+
+        // Act
+        Price morning = cachedPriceService.getApplicablePrice(query(LocalDateTime.of(2020, 6, 14, 10, 0)));
+        Price afternoon = cachedPriceService.getApplicablePrice(query(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        // Assert
+        assertThat(morning).isEqualTo(BASE);
+        assertThat(afternoon).isEqualTo(PROMO);
+        verify(timelineCache, times(2)).getTimeline(KEY);
+        verifyNoInteractions(delegate);
+    }
+
+    /**
+     * Verifica que el tramo vigente se obtiene de la línea temporal cacheada.
+     */
+    @Test
+    @DisplayName("Debe retornar el tramo vigente desde la línea temporal del producto")
+    void shouldResolveApplicableSegmentFromCachedTimeline() {
+        when(timelineCache.getTimeline(KEY)).thenReturn(PriceTimeline.of(List.of(BASE, PROMO)));
+
+        PriceSegment segment = cachedPriceService.getApplicableSegment(query(LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        assertThat(segment.getPrice()).isEqualTo(PROMO);
+        assertThat(segment.getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+        verifyNoInteractions(delegate);
+    }
+
+    /**
+     * Verifica que el siguiente cambio se calcula desde la línea temporal cacheada y que un par
+     * descartado por el filtro no tiene cambios.
+     */
+    @Test
+    @DisplayName("Debe retornar el siguiente cambio desde la línea temporal del producto")
+    void shouldResolveNextChangeFromCachedTimeline() {
+        when(timelineCache.getTimeline(KEY)).thenReturn(PriceTimeline.of(List.of(BASE, PROMO)));
+
+        assertThat(cachedPriceService.getNextChange(query(LocalDateTime.of(2020, 6, 14, 10, 0))))
+                .contains(LocalDateTime.of(2020, 6, 14, 15, 0));
+
+        when(admissionService.mightHavePrices(PRODUCT_ID, BRAND_ID)).thenReturn(false);
+        assertThat(cachedPriceService.getNextChange(query(LocalDateTime.of(2020, 6, 14, 10, 0)))).isEmpty();
+        verify(timelineCache, times(1)).getTimeline(KEY);
+    }
+
+    /**
+     * Verifica que lanza PriceNotFoundException si la línea temporal no cubre la fecha.
+     */
+    @Test
+    @DisplayName("Debe lanzar PriceNotFoundException cuando la fecha no tiene precio")
+    void shouldThrowPriceNotFoundExceptionWhenDateNotCovered() {
+        // Arrange
+        when(timelineCache.getTimeline(KEY)).thenReturn(PriceTimeline.of(List.of(BASE)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cachedPriceService.getApplicablePrice(query(LocalDateTime.of(2019, 1, 1, 0, 0))))
+                .isInstanceOf(PriceNotFoundException.class)
+                .hasMessageContaining("No se encontró precio aplicable")
+                .hasMessageContaining(PRODUCT_ID.toString());
+    }
+
+    /**
+     * Verifica que una consulta inválida no accede a la caché.
+     */
+    @Test
+    @DisplayName("Debe lanzar InvalidQueryException sin acceder a la caché")
+    void shouldThrowInvalidQueryExceptionWithoutCacheAccess() {
+        PriceQuery invalid = PriceQuery.builder()
+                .applicationDate(LocalDateTime.of(2020, 6, 14, 10, 0))
+                .productId(-1L)
+                .brandId(BRAND_ID)
+                .build();
+
+        assertThatThrownBy(() -> cachedPriceService.getApplicablePrice(invalid))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessageContaining("positivo");
+
+        verify(timelineCache, never()).getTimeline(KEY);
+    }
+
+    /**
+     * Verifica que una consulta descartada por el filtro de admisión no accede a la caché.
+     */
+    @Test
+    @DisplayName("Debe lanzar PriceNotFoundException sin acceder a la caché si el filtro descarta el par")
+    void shouldNotAccessCacheWhenAdmissionRejects() {
+        when(admissionService.mightHavePrices(PRODUCT_ID, BRAND_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> cachedPriceService.getApplicablePrice(query(LocalDateTime.of(2020, 6, 14, 10, 0))))
+                .isInstanceOf(PriceNotFoundException.class);
+
+        verifyNoInteractions(timelineCache);
+    }
+
+    /**
+     * Verifica que un par admitido sin precios se registra como falso positivo del filtro.
+     */
+    @Test
+    @DisplayName("Debe registrar un falso positivo si el par admitido no tiene precios")
+    void shouldRecordFalsePositiveWhenAdmittedKeyHasNoPrices() {
+        when(timelineCache.getTimeline(KEY)).thenReturn(PriceTimeline.of(List.of()));
+
+        assertThatThrownBy(() -> cachedPriceService.getApplicablePrice(query(LocalDateTime.of(2020, 6, 14, 10, 0))))
+                .isInstanceOf(PriceNotFoundException.class);
+
+        verify(admissionService).recordFalsePositive();
+    }
+
+    /**
+     * Verifica que las consultas por lotes se delegan en el servicio principal.
+     */
+    @Test
+    @DisplayName("Debe delegar las consultas por lotes en PriceService")
+    void shouldDelegateBatchLookups() {
+        // Arrange
+        PriceQuery query = query(LocalDateTime.of(2020, 6, 14, 10, 0));
+        List<PriceLookup> expected = List.of(PriceLookup.found(query, BASE));
+        when(delegate.getApplicablePrices(List.of(query))).thenReturn(expected);
+
+        // Act
+        List<PriceLookup> result = cachedPriceService.getApplicablePrices(List.of(query));
+
+        // Assert
+        assertThat(result).isSameAs(expected);
+        verifyNoInteractions(timelineCache);
+    }
+
+    private static PriceQuery query(LocalDateTime applicationDate) {
+        return PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .build();
+    }
+
+    private static Price price(int priceList, int priority, String amount, LocalDateTime start, LocalDateTime end) {
+        return Price.builder()
+                .id((long) priceList)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .priceList(priceList)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .startDate(start)
+                .endDate(end)
+                .currency("EUR")
+                .build();
+    }
+}
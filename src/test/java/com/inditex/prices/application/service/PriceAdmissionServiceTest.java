@@ -0,0 +1,105 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceAdmissionService.
+ * Verifica que el filtro descarta los pares sin precios, que la reconstrucción recoge las altas
+ * escritas sin evento y que no se pierden las claves añadidas durante una reconstrucción.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceAdmissionService - Tests unitarios del filtro de admisión")
+class PriceAdmissionServiceTest {
+
+    private static final PriceKey KNOWN = PriceKey.of(35455L, 1);
+    private static final PriceKey ADDED = PriceKey.of(35456L, 1);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @InjectMocks
+    private PriceAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(admissionService, "enabled", true);
+        ReflectionTestUtils.setField(admissionService, "falsePositiveRate", 0.01);
+    }
+
+    /**
+     * Verifica que un alta escrita sin evento de cambio se admite tras la reconstrucción.
+     */
+    @Test
+    @DisplayName("Debe admitir tras la reconstrucción los pares escritos sin evento de cambio")
+    void shouldAdmitKeysWrittenWithoutEventAfterRebuild() {
+        when(priceRepository.countKeys()).thenReturn(1L).thenReturn(2L);
+        when(priceRepository.forEachKey(any())).thenAnswer(keys(KNOWN)).thenAnswer(keys(KNOWN, ADDED));
+        admissionService.init();
+
+        assertThat(admissionService.mightHavePrices(35455L, 1)).isTrue();
+        assertThat(admissionService.mightHavePrices(35456L, 1)).isFalse();
+
+        admissionService.rebuild();
+
+        assertThat(admissionService.mightHavePrices(35456L, 1)).isTrue();
+        assertThat(admissionService.keyCount()).isEqualTo(2);
+        verify(priceRepository, never()).findAllKeys();
+    }
+
+    /**
+     * Verifica que la clave de un cambio publicado mientras se leen las claves llega al filtro nuevo.
+     */
+    @Test
+    @DisplayName("No debe perder las claves añadidas durante una reconstrucción")
+    void shouldKeepKeysAddedDuringRebuild() {
+        when(priceRepository.countKeys()).thenReturn(1L);
+        when(priceRepository.forEachKey(any())).thenAnswer(keys(KNOWN)).thenAnswer(invocation -> {
+            admissionService.onPricesChanged(PricesChangedEvent.of(ADDED));
+            return keys(KNOWN).answer(invocation);
+        });
+        admissionService.init();
+
+        admissionService.rebuild();
+
+        assertThat(admissionService.mightHavePrices(35455L, 1)).isTrue();
+        assertThat(admissionService.mightHavePrices(35456L, 1)).isTrue();
+    }
+
+    /**
+     * Entrega las claves indicadas al receptor de {@link PriceRepository#forEachKey}.
+     *
+     * @param keys claves a entregar
+     * @return respuesta del mock con el número de claves entregadas
+     */
+    private static Answer<Long> keys(PriceKey... keys) {
+        return invocation -> {
+            Consumer<PriceKey> action = invocation.getArgument(0);
+            for (PriceKey key : keys) {
+                action.accept(key);
+            }
+            return (long) keys.length;
+        };
+    }
+}
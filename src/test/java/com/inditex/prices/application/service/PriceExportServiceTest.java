@@ -0,0 +1,84 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceExportQuery;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceExportService.
+ * Verifica la validación previa y la entrega de precios al consumidor.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceExportService - Tests unitarios de la exportación por marca")
+class PriceExportServiceTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @InjectMocks
+    private PriceExportService priceExportService;
+
+    /**
+     * Verifica que los precios del repositorio llegan al consumidor y se cuentan.
+     */
+    @Test
+    @DisplayName("Debe entregar al consumidor cada precio exportado")
+    @SuppressWarnings("unchecked")
+    void shouldDeliverEachExportedPrice() {
+        Price price = Price.builder().id(1L).productId(35455L).brandId(1).priceList(1).build();
+        when(priceRepository.forEachApplicablePrice(eq(1), eq(DATE), any())).thenAnswer(invocation -> {
+            invocation.getArgument(2, Consumer.class).accept(price);
+            return 1L;
+        });
+
+        List<Price> received = new ArrayList<>();
+        long exported = priceExportService.exportApplicablePrices(query(1), received::add);
+
+        assertThat(exported).isEqualTo(1);
+        assertThat(received).containsExactly(price);
+    }
+
+    /**
+     * Verifica que una marca inválida se rechaza sin acceder al repositorio.
+     */
+    @Test
+    @DisplayName("Debe lanzar InvalidQueryException sin consultar el repositorio si la marca es inválida")
+    void shouldRejectInvalidBrandBeforeQuerying() {
+        assertThatThrownBy(() -> priceExportService.exportApplicablePrices(query(-1), price -> { }))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessageContaining("marca");
+
+        verifyNoInteractions(priceRepository);
+    }
+
+    private static PriceExportQuery query(Integer brandId) {
+        return PriceExportQuery.builder()
+                .applicationDate(DATE)
+                .brandId(brandId)
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceFeedRecord;
+import com.inditex.prices.domain.model.PriceImportResult;
+import com.inditex.prices.domain.port.out.BrandRepository;
+import com.inditex.prices.domain.port.out.PriceFeedGateway;
+import com.inditex.prices.domain.port.out.PriceImportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceImportService.
+ * Verifica la validación de filas, la escritura por bloques y el resumen de la carga.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceImportService - Tests unitarios de la carga masiva")
+class PriceImportServiceTest {
+
+    private static final Path FEED = Path.of("prices.csv");
+
+    @Mock
+    private PriceFeedGateway priceFeedGateway;
+
+    @Mock
+    private PriceImportRepository priceImportRepository;
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PriceImportService priceImportService;
+
+    private final List<Integer> chunkSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(priceImportService, "commitInterval", 2);
+        when(brandRepository.findAllIds()).thenReturn(Set.of(1));
+    }
+
+    /**
+     * Verifica que las filas válidas se escriben en bloques del tamaño configurado.
+     */
+    @Test
+    @DisplayName("Debe escribir las filas válidas en bloques de commit-interval filas")
+    void shouldWriteValidRowsInChunks() {
+        // Given: Cinco filas válidas y bloques de dos filas
+        when(priceFeedGateway.read(FEED)).thenReturn(IntStream.rangeClosed(1, 5)
+                .mapToObj(line -> PriceFeedRecord.valid(line, price(1, line))));
+        recordChunkSizes();
+
+        // When
+        PriceImportResult result = priceImportService.importPrices(FEED);
+
+        // Then: Bloques 2 + 2 + 1 y un único evento global
+        assertThat(chunkSizes).containsExactly(2, 2, 1);
+        assertThat(result.getRowsRead()).isEqualTo(5);
+        assertThat(result.getRowsImported()).isEqualTo(5);
+        assertThat(result.getRowsRejected()).isZero();
+        assertThat(result.getErrors()).isEmpty();
+        verify(eventPublisher).publishEvent(PricesChangedEvent.all());
+    }
+
+    /**
+     * Verifica que se rechazan las filas mal formadas, inválidas o de marcas inexistentes.
+     */
+    @Test
+    @DisplayName("Debe rechazar filas mal formadas, inválidas o de marcas inexistentes")
+    void shouldRejectInvalidRows() {
+        // Given: Una fila válida y tres rechazables
+        Price negative = price(1, 3, "-1.00");
+        when(priceFeedGateway.read(FEED)).thenReturn(Stream.of(
+                PriceFeedRecord.valid(1, price(1, 1)),
+                PriceFeedRecord.invalid(2, "Fecha inválida: ayer"),
+                PriceFeedRecord.valid(3, negative),
+                PriceFeedRecord.valid(4, price(7, 4))));
+        recordChunkSizes();
+
+        // When
+        PriceImportResult result = priceImportService.importPrices(FEED);
+
+        // Then
+        assertThat(chunkSizes).containsExactly(1);
+        assertThat(result.getRowsRead()).isEqualTo(4);
+        assertThat(result.getRowsImported()).isEqualTo(1);
+        assertThat(result.getRowsRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(3);
+        assertThat(result.getErrors().get(0)).isEqualTo("Línea 2: Fecha inválida: ayer");
+        assertThat(result.getErrors().get(1)).startsWith("Línea 3: El importe");
+        assertThat(result.getErrors().get(2)).isEqualTo("Línea 4: La marca 7 no existe");
+    }
+
+    /**
+     * Verifica que el detalle de errores se limita y que sin filas cargadas no se publica evento.
+     */
+    @Test
+    @DisplayName("Debe limitar los errores detallados y no publicar evento si no carga nada")
+    void shouldCapReportedErrorsAndSkipEventWhenNothingImported() {
+        // Given: Más filas inválidas que el máximo de errores detallados
+        int rows = PriceImportService.MAX_REPORTED_ERRORS + 10;
+        when(priceFeedGateway.read(FEED)).thenReturn(IntStream.rangeClosed(1, rows)
+                .mapToObj(line -> PriceFeedRecord.invalid(line, "Columnas incorrectas")));
+
+        // When
+        PriceImportResult result = priceImportService.importPrices(FEED);
+
+        // Then
+        assertThat(result.getRowsRejected()).isEqualTo(rows);
+        assertThat(result.getRowsImported()).isZero();
+        assertThat(result.getErrors()).hasSize(PriceImportService.MAX_REPORTED_ERRORS);
+        verify(priceImportRepository, never()).upsertPrices(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private void recordChunkSizes() {
+        when(priceImportRepository.upsertPrices(anyList())).thenAnswer(invocation -> {
+            List<?> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return chunk.size();
+        });
+    }
+
+    private static Price price(int brandId, int priceList) {
+        return price(brandId, priceList, "35.50");
+    }
+
+    private static Price price(int brandId, int priceList, String amount) {
+        return Price.builder()
+                .productId(35455L)
+                .brandId(brandId)
+                .priceList(priceList)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .priority(0)
+                .price(new BigDecimal(amount))
+                .currency("EUR")
+                .build();
+    }
+}
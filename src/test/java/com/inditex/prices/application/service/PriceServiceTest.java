@@ -3,7 +3,9 @@ package com.inditex.prices.application.service;
 import com.inditex.prices.domain.exception.InvalidQueryException;
 import com.inditex.prices.domain.exception.PriceNotFoundException;
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceLookup;
 import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.model.PriceSegment;
 import com.inditex.prices.domain.port.out.PriceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,8 +17,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,7 +28,7 @@ import static org.mockito.Mockito.*;
 
 /**
  * Tests unitarios para PriceService.
- * Verifica selección por prioridad, validaciones y manejo de errores.
+ * Verifica la delegación en el repositorio, validaciones y manejo de errores.
  *
  * @author Irvin Monterroza
  * @version 1.0
@@ -37,6 +40,9 @@ class PriceServiceTest {
     @Mock
     private PriceRepository priceRepository;
 
+    @Mock
+    private PriceAdmissionService admissionService;
+
     @InjectMocks
     private PriceService priceService;
 
@@ -46,27 +52,17 @@ class PriceServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(admissionService.mightHavePrices(any(), any())).thenReturn(true);
     }
 
     /**
-     * Verifica que retorna el precio con mayor prioridad cuando múltiples precios se solapan.
+     * Verifica que retorna el precio ganador resuelto por el repositorio cuando varios precios se solapan.
+     * La selección por prioridad se realiza en el repositorio (ver tests de integración del adaptador).
      */
     @Test
-    @DisplayName("Debe retornar el precio con mayor prioridad cuando múltiples precios se solapan")
+    @DisplayName("Debe retornar el precio ganador resuelto por el repositorio cuando múltiples precios se solapan")
     void shouldReturnHighestPriorityPriceWhenMultiplePricesOverlap() {
-        // Arrange - Preparar datos de prueba
-        Price lowPriority = Price.builder()
-                .id(1L)
-                .productId(PRODUCT_ID)
-                .brandId(BRAND_ID)
-                .priceList(1)
-                .priority(0)
-                .price(new BigDecimal("35.50"))
-                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
-                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59))
-                .currency("EUR")
-                .build();
-
+        // Arrange - El repositorio ya retorna el precio de mayor prioridad
         Price highPriority = Price.builder()
                 .id(2L)
                 .productId(PRODUCT_ID)
@@ -85,8 +81,8 @@ class PriceServiceTest {
                 .brandId(BRAND_ID)
                 .build();
 
-        when(priceRepository.findApplicablePrices(eq(PRODUCT_ID), eq(BRAND_ID), any()))
-                .thenReturn(Arrays.asList(lowPriority, highPriority));
+        when(priceRepository.findApplicablePrice(eq(PRODUCT_ID), eq(BRAND_ID), any()))
+                .thenReturn(Optional.of(highPriority));
 
         // Act - Ejecutar el método bajo prueba
         Price result = priceService.getApplicablePrice(query);
@@ -98,7 +94,7 @@ class PriceServiceTest {
         assertThat(result.getPriority()).isEqualTo(1);
 
         verify(priceRepository, times(1))
-                .findApplicablePrices(PRODUCT_ID, BRAND_ID, TEST_DATE);
+                .findApplicablePrice(PRODUCT_ID, BRAND_ID, TEST_DATE);
     }
 
     /**
@@ -126,8 +122,8 @@ class PriceServiceTest {
                 .brandId(BRAND_ID)
                 .build();
 
-        when(priceRepository.findApplicablePrices(eq(PRODUCT_ID), eq(BRAND_ID), any()))
-                .thenReturn(Collections.singletonList(singlePrice));
+        when(priceRepository.findApplicablePrice(eq(PRODUCT_ID), eq(BRAND_ID), any()))
+                .thenReturn(Optional.of(singlePrice));
 
         // Act
         Price result = priceService.getApplicablePrice(query);
@@ -139,7 +135,7 @@ class PriceServiceTest {
         assertThat(result.getPriority()).isEqualTo(0);
 
         verify(priceRepository, times(1))
-                .findApplicablePrices(PRODUCT_ID, BRAND_ID, TEST_DATE);
+                .findApplicablePrice(PRODUCT_ID, BRAND_ID, TEST_DATE);
     }
 
     /**
@@ -155,18 +151,19 @@ class PriceServiceTest {
                 .brandId(BRAND_ID)
                 .build();
 
-        when(priceRepository.findApplicablePrices(eq(PRODUCT_ID), eq(BRAND_ID), any()))
-                .thenReturn(Collections.emptyList());
+        when(priceRepository.findApplicablePrice(eq(PRODUCT_ID), eq(BRAND_ID), any()))
+                .thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> priceService.getApplicablePrice(query))
                 .isInstanceOf(PriceNotFoundException.class)
                 .hasMessageContaining("No se encontró precio aplicable")
                 .hasMessageContaining(PRODUCT_ID.toString())
-                .hasMessageContaining(BRAND_ID.toString());
+                .hasMessageContaining(BRAND_ID.toString())
+                .satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
 
         verify(priceRepository, times(1))
-                .findApplicablePrices(PRODUCT_ID, BRAND_ID, TEST_DATE);
+                .findApplicablePrice(PRODUCT_ID, BRAND_ID, TEST_DATE);
     }
 
     /**
@@ -189,31 +186,18 @@ class PriceServiceTest {
 
         // Verificar que el repositorio nunca fue llamado debido a la validación temprana
         verify(priceRepository, never())
-                .findApplicablePrices(any(), any(), any());
+                .findApplicablePrice(any(), any(), any());
     }
 
     /**
-     * Verifica que filtra precios no aplicables en la fecha especificada.
+     * Verifica que consulta al repositorio con la fecha especificada y retorna su precio vigente.
      */
     @Test
-    @DisplayName("Debe filtrar precios no aplicables en la fecha especificada")
+    @DisplayName("Debe consultar el precio vigente en la fecha especificada")
     void shouldFilterOutPricesNotApplicableAtGivenDate() {
         // Arrange
         LocalDateTime queryDate = LocalDateTime.of(2020, 6, 14, 10, 0);
 
-        // Precio futuro - NO aplicable a las 10:00
-        Price futurePrice = Price.builder()
-                .id(1L)
-                .productId(PRODUCT_ID)
-                .brandId(BRAND_ID)
-                .priceList(2)
-                .priority(1)
-                .price(new BigDecimal("25.45"))
-                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0)) // Inicia a las 15:00
-                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
-                .currency("EUR")
-                .build();
-
         // Precio aplicable
         Price applicablePrice = Price.builder()
                 .id(2L)
@@ -233,8 +217,8 @@ class PriceServiceTest {
                 .brandId(BRAND_ID)
                 .build();
 
-        when(priceRepository.findApplicablePrices(eq(PRODUCT_ID), eq(BRAND_ID), any()))
-                .thenReturn(Arrays.asList(futurePrice, applicablePrice));
+        when(priceRepository.findApplicablePrice(eq(PRODUCT_ID), eq(BRAND_ID), any()))
+                .thenReturn(Optional.of(applicablePrice));
 
         // Act
         Price result = priceService.getApplicablePrice(query);
@@ -247,7 +231,7 @@ class PriceServiceTest {
         assertThat(result.getPriceList()).isEqualTo(1);
 
         verify(priceRepository, times(1))
-                .findApplicablePrices(PRODUCT_ID, BRAND_ID, queryDate);
+                .findApplicablePrice(PRODUCT_ID, BRAND_ID, queryDate);
     }
 
     /**
@@ -262,7 +246,7 @@ class PriceServiceTest {
 
         // El repositorio no debe ser invocado
         verify(priceRepository, never())
-                .findApplicablePrices(any(), any(), any());
+                .findApplicablePrice(any(), any(), any());
     }
 
     /**
@@ -284,7 +268,7 @@ class PriceServiceTest {
                 .hasMessageContaining("positivo");
 
         verify(priceRepository, never())
-                .findApplicablePrices(any(), any(), any());
+                .findApplicablePrice(any(), any(), any());
     }
 
     /**
@@ -293,19 +277,7 @@ class PriceServiceTest {
     @Test
     @DisplayName("Debe manejar correctamente precios con la misma prioridad")
     void shouldHandlePricesWithSamePriority() {
-        // Arrange
-        Price firstPrice = Price.builder()
-                .id(1L)
-                .productId(PRODUCT_ID)
-                .brandId(BRAND_ID)
-                .priceList(1)
-                .priority(0)
-                .price(new BigDecimal("35.50"))
-                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
-                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59))
-                .currency("EUR")
-                .build();
-
+        // Arrange - Ganador del desempate por PRICE_LIST
         Price secondPrice = Price.builder()
                 .id(2L)
                 .productId(PRODUCT_ID)
@@ -324,18 +296,220 @@ class PriceServiceTest {
                 .brandId(BRAND_ID)
                 .build();
 
-        when(priceRepository.findApplicablePrices(eq(PRODUCT_ID), eq(BRAND_ID), any()))
-                .thenReturn(Arrays.asList(firstPrice, secondPrice));
+        when(priceRepository.findApplicablePrice(eq(PRODUCT_ID), eq(BRAND_ID), any()))
+                .thenReturn(Optional.of(secondPrice));
 
         // Act
         Price result = priceService.getApplicablePrice(query);
 
-        // Assert - Debe retornar uno de los precios
+        // Assert - Debe retornar el precio desempatado por el repositorio (tarifa más alta)
         assertThat(result).isNotNull();
         assertThat(result.getPriority()).isEqualTo(0);
+        assertThat(result.getPriceList()).isEqualTo(2);
         assertThat(result.getProductId()).isEqualTo(PRODUCT_ID);
 
         verify(priceRepository, times(1))
-                .findApplicablePrices(PRODUCT_ID, BRAND_ID, TEST_DATE);
+                .findApplicablePrice(PRODUCT_ID, BRAND_ID, TEST_DATE);
+    }
+
+    /**
+     * Verifica que el servicio ya no recupera la lista completa de candidatos.
+     */
+    @Test
+    @DisplayName("No debe recuperar la lista de precios candidatos")
+    void shouldNotFetchCandidateList() {
+        // Arrange
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(TEST_DATE)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .build();
+
+        when(priceRepository.findApplicablePrice(PRODUCT_ID, BRAND_ID, TEST_DATE))
+                .thenReturn(Optional.empty());
+
+        // Act
+        assertThatThrownBy(() -> priceService.getApplicablePrice(query))
+                .isInstanceOf(PriceNotFoundException.class);
+
+        // Assert
+        verify(priceRepository, never()).findApplicablePrices(any(), any(), any());
+    }
+
+    /**
+     * Verifica que el lote se resuelve en una única llamada y conserva el orden y el estado por elemento.
+     */
+    @Test
+    @DisplayName("Debe resolver el lote en una única llamada con resultado por elemento")
+    void shouldResolveBatchInSingleRepositoryCall() {
+        // Arrange
+        PriceQuery found = PriceQuery.builder()
+                .applicationDate(TEST_DATE)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .build();
+        PriceQuery missing = PriceQuery.builder()
+                .applicationDate(TEST_DATE)
+                .productId(99999L)
+                .brandId(BRAND_ID)
+                .build();
+        PriceQuery invalid = PriceQuery.builder()
+                .applicationDate(TEST_DATE)
+                .productId(-1L)
+                .brandId(BRAND_ID)
+                .build();
+
+        Price price = Price.builder()
+                .id(2L)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .priceList(2)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .currency("EUR")
+                .build();
+
+        when(priceRepository.findApplicablePrices(List.of(found, missing)))
+                .thenReturn(Map.of(found, price));
+
+        // Act
+        List<PriceLookup> result = priceService.getApplicablePrices(List.of(invalid, found, missing));
+
+        // Assert
+        assertThat(result).extracting(PriceLookup::getStatus).containsExactly(
+                PriceLookup.Status.INVALID, PriceLookup.Status.FOUND, PriceLookup.Status.NOT_FOUND);
+        assertThat(result.get(0).getMessage()).contains("positivo");
+        assertThat(result.get(1).getPrice()).isEqualTo(price);
+        assertThat(result.get(2).getPrice()).isNull();
+
+        verify(priceRepository, times(1)).findApplicablePrices(List.of(found, missing));
+        verify(priceRepository, never()).findApplicablePrice(any(), any(), any());
+    }
+
+    /**
+     * Verifica que un lote sin consultas válidas no accede al repositorio.
+     */
+    @Test
+    @DisplayName("No debe consultar el repositorio si ninguna consulta del lote es válida")
+    void shouldNotQueryRepositoryWhenNoBatchQueryIsValid() {
+        // Arrange
+        PriceQuery invalid = PriceQuery.builder()
+                .applicationDate(null)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .build();
+
+        // Act
+        List<PriceLookup> result = priceService.getApplicablePrices(List.of(invalid));
+
+        // Assert
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getStatus()).isEqualTo(PriceLookup.Status.INVALID);
+        assertThat(result.get(0).getQuery()).isEqualTo(invalid);
+        verifyNoInteractions(priceRepository);
+    }
+
+    /**
+     * Verifica que una consulta descartada por el filtro de admisión no accede al repositorio.
+     */
+    @Test
+    @DisplayName("Debe lanzar PriceNotFoundException sin consultar el repositorio si el filtro descarta el par")
+    void shouldNotQueryRepositoryWhenAdmissionRejects() {
+        // Arrange
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(TEST_DATE)
+                .productId(99999L)
+                .brandId(BRAND_ID)
+                .build();
+        when(admissionService.mightHavePrices(99999L, BRAND_ID)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> priceService.getApplicablePrice(query))
+                .isInstanceOf(PriceNotFoundException.class)
+                .hasMessageContaining("99999");
+
+        verifyNoInteractions(priceRepository);
+    }
+
+    /**
+     * Verifica que las consultas de un lote descartadas por el filtro se informan como no encontradas
+     * sin enviarse al repositorio.
+     */
+    @Test
+    @DisplayName("Debe resolver como no encontradas las consultas del lote descartadas por el filtro")
+    void shouldExcludeRejectedBatchQueriesFromRepositoryCall() {
+        // Arrange
+        PriceQuery admitted = PriceQuery.builder()
+                .applicationDate(TEST_DATE)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .build();
+        PriceQuery rejected = PriceQuery.builder()
+                .applicationDate(TEST_DATE)
+                .productId(99999L)
+                .brandId(BRAND_ID)
+                .build();
+        when(admissionService.mightHavePrices(99999L, BRAND_ID)).thenReturn(false);
+        when(priceRepository.findApplicablePrices(List.of(admitted))).thenReturn(Map.of());
+
+        // Act
+        List<PriceLookup> result = priceService.getApplicablePrices(List.of(rejected, admitted));
+
+        // Assert
+        assertThat(result).extracting(PriceLookup::getStatus).containsExactly(
+                PriceLookup.Status.NOT_FOUND, PriceLookup.Status.NOT_FOUND);
+        verify(priceRepository, times(1)).findApplicablePrices(List.of(admitted));
+    }
+
+    /**
+     * Verifica que el tramo se resuelve con la búsqueda de tramo del repositorio.
+     */
+    @Test
+    @DisplayName("Debe retornar el tramo vigente con sus límites de validez")
+    void shouldResolveApplicableSegmentFromRepository() {
+        // Arrange
+        Price base = Price.builder()
+                .id(1L)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .priceList(1)
+                .priority(0)
+                .price(new BigDecimal("35.50"))
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .currency("EUR")
+                .build();
+        Price promo = Price.builder()
+                .id(2L)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .priceList(2)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .currency("EUR")
+                .build();
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+        when(priceRepository.findApplicableSegment(PRODUCT_ID, BRAND_ID, applicationDate))
+                .thenCallRealMethod();
+        when(priceRepository.findAllPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(base, promo));
+
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .build();
+
+        // Act
+        PriceSegment segment = priceService.getApplicableSegment(query);
+
+        // Assert: el precio base deja de aplicar cuando empieza la promoción
+        assertThat(segment.getPrice()).isEqualTo(base);
+        assertThat(segment.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(segment.getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 14, 59, 59));
+        verify(priceRepository, never()).findApplicablePrice(any(), any(), any());
     }
 }
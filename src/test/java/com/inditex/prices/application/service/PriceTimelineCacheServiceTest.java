@@ -0,0 +1,237 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import com.inditex.prices.infrastructure.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests de PriceTimelineCacheService con el proxy de caché de Spring.
+ * Verifica la carga única por producto y la invalidación explícita.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringJUnitConfig(PriceTimelineCacheServiceTest.TestConfig.class)
+@DisplayName("PriceTimelineCacheService - Tests de la caché de líneas temporales")
+class PriceTimelineCacheServiceTest {
+
+    private static final PriceKey KEY = PriceKey.of(35455L, 1);
+    private static final PriceKey OTHER_KEY = PriceKey.of(35456L, 1);
+
+    @MockBean
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private PriceTimelineCacheService timelineCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(PriceTimelineCacheService.CACHE_NAME).clear();
+        cacheManager.getCache(PriceTimelineCacheService.MISSING_CACHE_NAME).clear();
+        clearInvocations(priceRepository);
+        when(priceRepository.findAllPrices(KEY.getProductId(), KEY.getBrandId())).thenReturn(List.of(basePrice()));
+    }
+
+    /**
+     * Verifica que la línea temporal se carga una sola vez por producto.
+     */
+    @Test
+    @DisplayName("Debe cargar la línea temporal una sola vez por producto")
+    void shouldLoadTimelineOncePerProduct() {
+        PriceTimeline first = timelineCache.getTimeline(KEY);
+        PriceTimeline second = timelineCache.getTimeline(KEY);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.priceAt(LocalDateTime.of(2020, 6, 14, 10, 0))).contains(basePrice());
+        verify(priceRepository, times(1)).findAllPrices(KEY.getProductId(), KEY.getBrandId());
+    }
+
+    /**
+     * Verifica que invalidar un producto fuerza su recarga sin afectar a otros productos.
+     */
+    @Test
+    @DisplayName("Debe recargar solo el producto invalidado")
+    void shouldReloadOnlyInvalidatedProduct() {
+        timelineCache.getTimeline(KEY);
+        timelineCache.getTimeline(OTHER_KEY);
+
+        timelineCache.invalidate(KEY.getProductId(), KEY.getBrandId());
+        timelineCache.getTimeline(KEY);
+        timelineCache.getTimeline(OTHER_KEY);
+
+        verify(priceRepository, times(2)).findAllPrices(KEY.getProductId(), KEY.getBrandId());
+        verify(priceRepository, times(1)).findAllPrices(OTHER_KEY.getProductId(), OTHER_KEY.getBrandId());
+    }
+
+    /**
+     * Verifica que invalidar toda la caché fuerza la recarga de todos los productos.
+     */
+    @Test
+    @DisplayName("Debe recargar todos los productos tras invalidar toda la caché")
+    void shouldReloadAllProductsAfterInvalidateAll() {
+        timelineCache.getTimeline(KEY);
+
+        timelineCache.invalidateAll();
+        timelineCache.getTimeline(KEY);
+
+        verify(priceRepository, times(2)).findAllPrices(KEY.getProductId(), KEY.getBrandId());
+    }
+
+    /**
+     * Verifica que el evento de cambio de precios invalida el producto afectado o toda la caché.
+     */
+    @Test
+    @DisplayName("Debe invalidar la caché al publicarse un cambio de precios")
+    void shouldInvalidateOnPricesChangedEvent() {
+        timelineCache.getTimeline(KEY);
+        timelineCache.getTimeline(OTHER_KEY);
+
+        eventPublisher.publishEvent(PricesChangedEvent.of(KEY));
+        timelineCache.getTimeline(KEY);
+        timelineCache.getTimeline(OTHER_KEY);
+
+        verify(priceRepository, times(2)).findAllPrices(KEY.getProductId(), KEY.getBrandId());
+        verify(priceRepository, times(1)).findAllPrices(OTHER_KEY.getProductId(), OTHER_KEY.getBrandId());
+
+        eventPublisher.publishEvent(PricesChangedEvent.all());
+        timelineCache.getTimeline(OTHER_KEY);
+
+        verify(priceRepository, times(2)).findAllPrices(OTHER_KEY.getProductId(), OTHER_KEY.getBrandId());
+    }
+
+    /**
+     * Verifica que un producto sin precios se recuerda solo en la caché negativa.
+     */
+    @Test
+    @DisplayName("Debe recordar los productos sin precios en la caché negativa")
+    void shouldRememberMissingProductsInNegativeCache() {
+        PriceTimeline first = timelineCache.getTimeline(OTHER_KEY);
+        PriceTimeline second = timelineCache.getTimeline(OTHER_KEY);
+
+        assertThat(first.isEmpty()).isTrue();
+        assertThat(second).isSameAs(first);
+        verify(priceRepository, times(1)).findAllPrices(OTHER_KEY.getProductId(), OTHER_KEY.getBrandId());
+        assertThat(cacheManager.getCache(PriceTimelineCacheService.CACHE_NAME).get(OTHER_KEY)).isNull();
+        assertThat(cacheManager.getCache(PriceTimelineCacheService.MISSING_CACHE_NAME).get(OTHER_KEY)).isNotNull();
+
+        timelineCache.getTimeline(KEY);
+        assertThat(cacheManager.getCache(PriceTimelineCacheService.MISSING_CACHE_NAME).get(KEY)).isNull();
+    }
+
+    /**
+     * Verifica que escribir precios de un producto sin precios lo retira de la caché negativa.
+     */
+    @Test
+    @DisplayName("Debe invalidar la caché negativa al escribirse precios del producto")
+    void shouldInvalidateNegativeCacheWhenPricesAreWritten() {
+        timelineCache.getTimeline(OTHER_KEY);
+        when(priceRepository.findAllPrices(OTHER_KEY.getProductId(), OTHER_KEY.getBrandId()))
+                .thenReturn(List.of(basePrice()));
+
+        eventPublisher.publishEvent(PricesChangedEvent.of(OTHER_KEY));
+
+        assertThat(timelineCache.getTimeline(OTHER_KEY).isEmpty()).isFalse();
+        verify(priceRepository, times(2)).findAllPrices(OTHER_KEY.getProductId(), OTHER_KEY.getBrandId());
+
+        timelineCache.getTimeline(PriceKey.of(1L, 1));
+        timelineCache.invalidateAll();
+        assertThat(cacheManager.getCache(PriceTimelineCacheService.MISSING_CACHE_NAME).get(PriceKey.of(1L, 1)))
+                .isNull();
+    }
+
+    /**
+     * Verifica que la consulta sin carga no accede al repositorio y que lo guardado con
+     * putTimeline se encuentra después, en la caché que corresponde.
+     */
+    @Test
+    @DisplayName("Debe buscar sin cargar y guardar líneas temporales cargadas fuera de la caché")
+    void shouldFindAndPutTimelinesWithoutLoading() {
+        assertThat(timelineCache.findCachedTimeline(KEY)).isEmpty();
+
+        long generation = timelineCache.generation();
+        timelineCache.putTimeline(KEY, PriceTimeline.of(List.of(basePrice())), generation);
+        timelineCache.putTimeline(OTHER_KEY, PriceTimeline.of(List.of()), generation);
+
+        assertThat(timelineCache.findCachedTimeline(KEY).map(PriceTimeline::isEmpty)).contains(false);
+        assertThat(timelineCache.findCachedTimeline(OTHER_KEY).map(PriceTimeline::isEmpty)).contains(true);
+        assertThat(cacheManager.getCache(PriceTimelineCacheService.MISSING_CACHE_NAME).get(OTHER_KEY)).isNotNull();
+        timelineCache.getTimeline(KEY);
+        verify(priceRepository, times(0)).findAllPrices(KEY.getProductId(), KEY.getBrandId());
+    }
+
+    /**
+     * Verifica que una línea temporal cargada antes de una invalidación no se queda en la caché.
+     */
+    @Test
+    @DisplayName("No debe cachear una línea temporal cargada antes de una invalidación")
+    void shouldDiscardTimelineLoadedBeforeInvalidation() {
+        long generation = timelineCache.generation();
+        eventPublisher.publishEvent(PricesChangedEvent.of(KEY));
+
+        PriceTimeline stale = PriceTimeline.of(List.of(basePrice()));
+        assertThat(timelineCache.putTimeline(KEY, stale, generation)).isSameAs(stale);
+
+        assertThat(timelineCache.findCachedTimeline(KEY)).isEmpty();
+        timelineCache.putTimeline(KEY, stale, timelineCache.generation());
+        assertThat(timelineCache.findCachedTimeline(KEY)).contains(stale);
+    }
+
+    private static Price basePrice() {
+        return Price.builder()
+                .id(1L)
+                .productId(KEY.getProductId())
+                .brandId(KEY.getBrandId())
+                .priceList(1)
+                .priority(0)
+                .price(new BigDecimal("35.50"))
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .currency("EUR")
+                .build();
+    }
+
+    /**
+     * Contexto mínimo: configuración de caché, gestor en memoria y el servicio bajo prueba.
+     */
+    @Configuration
+    @Import({CacheConfig.class, PriceTimelineCacheService.class})
+    static class TestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(
+                    PriceTimelineCacheService.CACHE_NAME, PriceTimelineCacheService.MISSING_CACHE_NAME);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import com.inditex.prices.domain.port.out.PriceTimelineRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceTimelineMaterializationService.
+ * Verifica la reconstrucción incremental por producto y la reconstrucción completa.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceTimelineMaterializationService - Tests de la línea temporal materializada")
+class PriceTimelineMaterializationServiceTest {
+
+    private static final PriceKey KEY = PriceKey.of(35455L, 1);
+    private static final PriceKey OTHER_KEY = PriceKey.of(35456L, 1);
+    private static final long TIMEOUT_MS = 2000;
+
+    private static final Price BASE = price(1, 0, "35.50",
+            LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    private static final Price PROMO = price(2, 1, "25.45",
+            LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @Mock
+    private PriceTimelineRepository timelineRepository;
+
+    @InjectMocks
+    private PriceTimelineMaterializationService materializationService;
+
+    @Captor
+    private ArgumentCaptor<List<PriceSegment>> segmentsCaptor;
+
+    /**
+     * Verifica que un producto se aplana en tramos disjuntos con el precio ganador.
+     */
+    @Test
+    @DisplayName("Debe materializar los tramos disjuntos de un producto")
+    void shouldMaterializeDisjointSegmentsOfProduct() {
+        when(priceRepository.findAllPrices(35455L, 1)).thenReturn(List.of(PROMO, BASE));
+
+        int segments = materializationService.rebuild(35455L, 1);
+
+        assertThat(segments).isEqualTo(3);
+        verify(timelineRepository).replaceSegments(eq(KEY), segmentsCaptor.capture());
+        assertThat(segmentsCaptor.getValue())
+                .extracting(PriceSegment::getPrice)
+                .containsExactly(BASE, PROMO, BASE);
+    }
+
+    /**
+     * Verifica que un producto sin precios elimina sus tramos.
+     */
+    @Test
+    @DisplayName("Debe vaciar los tramos de un producto sin precios")
+    void shouldClearSegmentsOfProductWithoutPrices() {
+        when(priceRepository.findAllPrices(35455L, 1)).thenReturn(List.of());
+
+        assertThat(materializationService.rebuild(35455L, 1)).isZero();
+        verify(timelineRepository).replaceSegments(KEY, List.of());
+    }
+
+    /**
+     * Verifica que la reconstrucción completa recorre todos los productos y limpia huérfanos.
+     */
+    @Test
+    @DisplayName("Debe reconstruir todos los productos y eliminar los tramos huérfanos")
+    void shouldRebuildAllProductsAndDeleteOrphans() {
+        when(priceRepository.findAllKeys()).thenReturn(List.of(KEY, OTHER_KEY));
+        when(priceRepository.findAllPrices(35455L, 1)).thenReturn(List.of(BASE));
+        when(priceRepository.findAllPrices(35456L, 1)).thenReturn(List.of(PROMO));
+
+        assertThat(materializationService.rebuildAll()).isEqualTo(2);
+
+        verify(timelineRepository).replaceSegments(eq(KEY), anyList());
+        verify(timelineRepository).replaceSegments(eq(OTHER_KEY), anyList());
+        verify(timelineRepository).deleteOrphanSegments();
+    }
+
+    /**
+     * Verifica que el evento de cambio de un producto solo reconstruye ese producto.
+     */
+    @Test
+    @DisplayName("Debe reconstruir solo el producto del evento de cambio")
+    void shouldRebuildOnlyChangedProduct() {
+        when(priceRepository.findAllPrices(35455L, 1)).thenReturn(List.of(BASE));
+
+        materializationService.onPricesChanged(PricesChangedEvent.of(KEY));
+
+        verify(timelineRepository).replaceSegments(eq(KEY), anyList());
+        verify(priceRepository, never()).findAllKeys();
+        verify(timelineRepository, never()).deleteOrphanSegments();
+    }
+
+    /**
+     * Verifica que el evento de cambio global reconstruye todo el catálogo en segundo plano.
+     */
+    @Test
+    @DisplayName("Debe reconstruir todo el catálogo en segundo plano con el evento de cambio global")
+    void shouldRebuildAllOnGlobalChange() {
+        Thread caller = Thread.currentThread();
+        List<Thread> rebuildThreads = new CopyOnWriteArrayList<>();
+        when(priceRepository.findAllKeys()).thenAnswer(invocation -> {
+            rebuildThreads.add(Thread.currentThread());
+            return List.of();
+        });
+
+        materializationService.onPricesChanged(PricesChangedEvent.all());
+
+        verify(priceRepository, timeout(TIMEOUT_MS)).findAllKeys();
+        verify(timelineRepository, timeout(TIMEOUT_MS)).deleteOrphanSegments();
+        assertThat(rebuildThreads).doesNotContain(caller);
+    }
+
+    /**
+     * Verifica que los avisos globales que llegan durante una reconstrucción se agrupan en una
+     * única reconstrucción posterior.
+     */
+    @Test
+    @DisplayName("Debe agrupar los cambios globales repetidos en una sola reconstrucción pendiente")
+    void shouldCoalesceRepeatedGlobalChanges() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(priceRepository.findAllKeys()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of();
+        });
+
+        materializationService.onPricesChanged(PricesChangedEvent.all());
+        assertThat(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+        for (int i = 0; i < 5; i++) {
+            materializationService.onPricesChanged(PricesChangedEvent.all());
+        }
+        release.countDown();
+
+        verify(priceRepository, timeout(TIMEOUT_MS).times(2)).findAllKeys();
+        verify(priceRepository, after(200).times(2)).findAllKeys();
+        materializationService.shutdown();
+    }
+
+    private static Price price(int priceList, int priority, String amount, LocalDateTime start, LocalDateTime end) {
+        return Price.builder()
+                .id((long) priceList)
+                .productId(35455L)
+                .brandId(1)
+                .priceList(priceList)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .startDate(start)
+                .endDate(end)
+                .currency("EUR")
+                .build();
+    }
+}
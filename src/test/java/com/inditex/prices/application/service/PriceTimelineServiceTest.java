@@ -0,0 +1,179 @@
+package com.inditex.prices.application.service;
+
+import com.inditex.prices.domain.exception.InvalidQueryException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceInstantsQuery;
+import com.inditex.prices.domain.model.PriceLookup;
+import com.inditex.prices.domain.model.PriceLookup.Status;
+import com.inditex.prices.domain.model.PriceRangeQuery;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceTimelineService.
+ * Verifica la validación del intervalo y la resolución de los tramos y fechas en una única consulta.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceTimelineService - Tests unitarios de la línea temporal por intervalo")
+class PriceTimelineServiceTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Integer BRAND_ID = 1;
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 14, 10, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2020, 6, 14, 20, 0);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @Mock
+    private PriceAdmissionService admissionService;
+
+    @InjectMocks
+    private PriceTimelineService priceTimelineService;
+
+    /**
+     * Verifica que los precios solapados del intervalo se resuelven en tramos recortados.
+     */
+    @Test
+    @DisplayName("Debe resolver los tramos del intervalo con una única consulta")
+    void shouldResolveSegmentsOfRange() {
+        Price base = price(1, 0, "35.50", LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        Price promo = price(2, 1, "25.45", LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+        when(admissionService.mightHavePrices(PRODUCT_ID, BRAND_ID)).thenReturn(true);
+        when(priceRepository.findPricesBetween(PRODUCT_ID, BRAND_ID, FROM, TO)).thenReturn(List.of(base, promo));
+
+        List<PriceSegment> segments = priceTimelineService.getPriceTimeline(query(FROM, TO));
+
+        assertThat(segments).extracting(segment -> segment.getPrice().getPriceList()).containsExactly(1, 2, 1);
+        assertThat(segments.get(0).getStartDate()).isEqualTo(FROM);
+        assertThat(segments.get(2).getEndDate()).isEqualTo(TO);
+    }
+
+    /**
+     * Verifica que un par descartado por el filtro de admisión no accede al repositorio.
+     */
+    @Test
+    @DisplayName("Debe retornar una línea temporal vacía si el filtro descarta el par")
+    void shouldReturnEmptyWhenAdmissionRejects() {
+        when(admissionService.mightHavePrices(PRODUCT_ID, BRAND_ID)).thenReturn(false);
+
+        assertThat(priceTimelineService.getPriceTimeline(query(FROM, TO))).isEmpty();
+        verifyNoInteractions(priceRepository);
+    }
+
+    /**
+     * Verifica que un intervalo invertido se rechaza sin acceder al repositorio.
+     */
+    @Test
+    @DisplayName("Debe lanzar InvalidQueryException si el inicio es posterior al fin")
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> priceTimelineService.getPriceTimeline(query(TO, FROM)))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessageContaining("posterior");
+
+        verifyNoInteractions(priceRepository, admissionService);
+    }
+
+    /**
+     * Verifica que las fechas se resuelven con una única consulta del intervalo que las cubre.
+     */
+    @Test
+    @DisplayName("Debe resolver varias fechas con una única consulta del intervalo que las cubre")
+    void shouldResolveSeveralDatesWithOneQuery() {
+        Price base = price(1, 0, "35.50", LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        Price promo = price(2, 1, "25.45", LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+        LocalDateTime before = LocalDateTime.of(2020, 6, 13, 10, 0);
+        LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0);
+        when(admissionService.mightHavePrices(PRODUCT_ID, BRAND_ID)).thenReturn(true);
+        when(priceRepository.findPricesBetween(PRODUCT_ID, BRAND_ID, before, TO)).thenReturn(List.of(base, promo));
+
+        List<PriceLookup> lookups = priceTimelineService.getPricesAt(instants(TO, afternoon, before, FROM));
+
+        assertThat(lookups).extracting(PriceLookup::getStatus)
+                .containsExactly(Status.FOUND, Status.FOUND, Status.NOT_FOUND, Status.FOUND);
+        assertThat(lookups).extracting(lookup -> lookup.getQuery().getApplicationDate())
+                .containsExactly(TO, afternoon, before, FROM);
+        assertThat(lookups.get(1).getPrice().getPriceList()).isEqualTo(2);
+        assertThat(lookups.get(3).getPrice().getPriceList()).isEqualTo(1);
+        verify(priceRepository).findPricesBetween(PRODUCT_ID, BRAND_ID, before, TO);
+        verifyNoMoreInteractions(priceRepository);
+    }
+
+    /**
+     * Verifica que un par descartado por el filtro responde NOT_FOUND en todas las fechas.
+     */
+    @Test
+    @DisplayName("Debe responder NOT_FOUND en todas las fechas si el filtro descarta el par")
+    void shouldReturnNotFoundForEveryDateWhenAdmissionRejects() {
+        when(admissionService.mightHavePrices(PRODUCT_ID, BRAND_ID)).thenReturn(false);
+
+        assertThat(priceTimelineService.getPricesAt(instants(FROM, TO)))
+                .extracting(PriceLookup::getStatus)
+                .containsExactly(Status.NOT_FOUND, Status.NOT_FOUND);
+        verifyNoInteractions(priceRepository);
+    }
+
+    /**
+     * Verifica que una consulta sin fechas se rechaza sin acceder al repositorio.
+     */
+    @Test
+    @DisplayName("Debe lanzar InvalidQueryException si no se indican fechas")
+    void shouldRejectQueryWithoutDates() {
+        assertThatThrownBy(() -> priceTimelineService.getPricesAt(instants()))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessageContaining("al menos una fecha");
+
+        verifyNoInteractions(priceRepository, admissionService);
+    }
+
+    private static PriceInstantsQuery instants(LocalDateTime... dates) {
+        return PriceInstantsQuery.builder()
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .applicationDates(List.of(dates))
+                .build();
+    }
+
+    private static PriceRangeQuery query(LocalDateTime from, LocalDateTime to) {
+        return PriceRangeQuery.builder()
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .from(from)
+                .to(to)
+                .build();
+    }
+
+    private static Price price(int priceList, int priority, String amount, LocalDateTime start, LocalDateTime end) {
+        return Price.builder()
+                .id((long) priceList)
+                .productId(PRODUCT_ID)
+                .brandId(BRAND_ID)
+                .priceList(priceList)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .startDate(start)
+                .endDate(end)
+                .currency("EUR")
+                .build();
+    }
+}
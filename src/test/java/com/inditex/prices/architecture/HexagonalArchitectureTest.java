@@ -185,7 +185,8 @@ class HexagonalArchitectureTest {
                 .and().areNotAnnotations()
                 .and().areNotMemberClasses()  // Excluir inner classes (Builder)
                 .should().haveNameMatching(
-                        ".*Adapter|.*Controller|.*Mapper|.*MapperImpl|.*Entity|.*Config|.*Handler|.*Response"
+                        ".*Adapter|.*Controller|.*Mapper|.*MapperImpl|.*Entity|.*Config|.*Handler|.*Interceptor|.*Request"
+                                + "|.*Response|.*DataSource"
                 );
 
         rule.check(importedClasses);
@@ -0,0 +1,355 @@
+package com.inditex.prices.dataset;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Genera un catálogo sintético de BRANDS y PRICES a la escala indicada por un
+ * {@link PriceDatasetSpec}, para medir esquema, índices y motores con un volumen similar al
+ * de producción.
+ * <p>
+ * La carga usa lotes JDBC ({@code batchSize} filas por envío) en {@code threads} conexiones
+ * en paralelo, cada una con un tramo de productos y un commit por tramo. Con
+ * {@code deferIndexes} los índices secundarios de PRICES (leídos de {@code db/schema.sql}) se
+ * eliminan antes de la carga y se crean al final, que es mucho más rápido que mantenerlos fila
+ * a fila. Las sentencias son SQL estándar, válidas en H2 y en PostgreSQL (en este, con
+ * {@code reWriteBatchedInserts=true} en la URL el driver agrupa los lotes en inserciones múltiples).
+ * </p>
+ * <p>
+ * Los datos de cada par (marca, producto) dependen solo de la semilla y del par, así que el
+ * resultado es el mismo con cualquier número de hilos. No se borran datos previos.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PriceDatasetGenerator {
+
+    private static final String INSERT_PRICE = "INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, "
+            + "PRODUCT_ID, PRIORITY, PRICE, CURR) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Pattern PRICES_INDEX = Pattern.compile(
+            "CREATE\\s+INDEX\\s+IF\\s+NOT\\s+EXISTS\\s+(\\w+)\\s+ON\\s+PRICES\\s*\\(([^)]*)\\)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final int MAX_CHUNK = 10_000;
+
+    private final PriceDatasetSpec spec;
+    private final int threads;
+    private final int batchSize;
+    private final boolean deferIndexes;
+
+    /**
+     * Inserta las marcas que falten y los precios del catálogo.
+     *
+     * @param dataSource BD destino, con el esquema ya creado
+     * @return resumen de la carga
+     * @throws SQLException si falla alguna sentencia
+     * @throws InterruptedException si se interrumpe la carga
+     */
+    public Result generate(DataSource dataSource) throws SQLException, InterruptedException {
+        spec.validate();
+        long started = System.nanoTime();
+
+        insertMissingBrands(dataSource);
+        Map<String, String> indexes = deferIndexes ? pricesIndexes() : Map.of();
+        execute(dataSource, indexes.keySet().stream().map(name -> "DROP INDEX IF EXISTS " + name).toList());
+
+        AtomicLong pairs = new AtomicLong();
+        AtomicLong prices = new AtomicLong();
+        int chunk = Math.max(1, Math.min(MAX_CHUNK, spec.getProducts() / (threads * 4)));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int first = 0; first < spec.getProducts(); first += chunk) {
+                int from = first;
+                int to = Math.min(spec.getProducts(), first + chunk);
+                tasks.add(executor.submit(() -> {
+                    load(dataSource, from, to, pairs, prices);
+                    return null;
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new IllegalStateException("Error generando el catálogo sintético", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        execute(dataSource, indexes.entrySet().stream()
+                .map(index -> "CREATE INDEX IF NOT EXISTS " + index.getKey() + " ON PRICES (" + index.getValue() + ")")
+                .toList());
+
+        Result result = new Result(spec.getBrands(), pairs.get(), prices.get(),
+                Duration.ofNanos(System.nanoTime() - started));
+        log.info("Catálogo sintético generado: {} marcas, {} pares (marca, producto), {} precios en {} ({} filas/s)",
+                result.getBrands(), result.getPairs(), result.getPrices(), result.getElapsed(),
+                Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Genera los precios de un par (marca, producto): tarifa base y promociones.
+     *
+     * @param brandId marca
+     * @param productId producto
+     * @return precios generados, vacía si la marca no tiene el producto
+     */
+    List<GeneratedPrice> pricesOf(int brandId, long productId) {
+        SplittableRandom random = new SplittableRandom(spec.getSeed() * 31 + brandId * 1_000_003L + productId);
+        if (random.nextDouble() >= spec.getCoverage()) {
+            return List.of();
+        }
+
+        List<GeneratedPrice> rows = new ArrayList<>();
+        BigDecimal base = BigDecimal.valueOf(500 + random.nextInt(14_500), 2);
+        rows.add(new GeneratedPrice(spec.getFrom(), spec.getTo(), 1, 0, base));
+
+        int promotions = random.nextInt((int) Math.round(2 * spec.getPromotionsPerProduct()) + 1);
+        long seasonSeconds = ChronoUnit.SECONDS.between(spec.getFrom(), spec.getTo());
+        long maxGap = Math.max(1, seasonSeconds / (promotions + 1));
+        long maxDuration = spec.getMaxPromotionDuration().toSeconds() - 3600;
+
+        LocalDateTime previousStart = null;
+        LocalDateTime previousEnd = spec.getFrom();
+        for (int i = 0; i < promotions; i++) {
+            LocalDateTime start = previousStart != null && random.nextDouble() < spec.getOverlapRatio()
+                    ? previousStart.plusSeconds(1 + random.nextLong(
+                            Math.max(1, ChronoUnit.SECONDS.between(previousStart, previousEnd))))
+                    : previousEnd.plusSeconds(1 + random.nextLong(maxGap));
+            if (start.isAfter(spec.getTo())) {
+                break;
+            }
+            LocalDateTime end = start.plusSeconds(3600 + random.nextLong(maxDuration + 1));
+            if (end.isAfter(spec.getTo())) {
+                end = spec.getTo();
+            }
+
+            BigDecimal price = base.multiply(BigDecimal.valueOf(50 + random.nextInt(41), 2))
+                    .setScale(2, RoundingMode.HALF_UP);
+            rows.add(new GeneratedPrice(start, end, i + 2, 1 + random.nextInt(spec.getMaxPriority()), price));
+            previousStart = start;
+            previousEnd = end.isAfter(previousEnd) ? end : previousEnd;
+        }
+        return rows;
+    }
+
+    private void load(DataSource dataSource, int from, int to, AtomicLong pairs, AtomicLong prices)
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(INSERT_PRICE)) {
+            connection.setAutoCommit(false);
+            int pending = 0;
+            for (int brandId = 1; brandId <= spec.getBrands(); brandId++) {
+                for (int offset = from; offset < to; offset++) {
+                    long productId = spec.getProductBase() + offset;
+                    List<GeneratedPrice> rows = pricesOf(brandId, productId);
+                    if (!rows.isEmpty()) {
+                        pairs.incrementAndGet();
+                    }
+                    for (GeneratedPrice row : rows) {
+                        insert.setInt(1, brandId);
+                        insert.setTimestamp(2, Timestamp.valueOf(row.getStartDate()));
+                        insert.setTimestamp(3, Timestamp.valueOf(row.getEndDate()));
+                        insert.setInt(4, row.getPriceList());
+                        insert.setLong(5, productId);
+                        insert.setInt(6, row.getPriority());
+                        insert.setBigDecimal(7, row.getPrice());
+                        insert.setString(8, "EUR");
+                        insert.addBatch();
+                        if (++pending == batchSize) {
+                            insert.executeBatch();
+                            prices.addAndGet(pending);
+                            pending = 0;
+                        }
+                    }
+                }
+            }
+            insert.executeBatch();
+            prices.addAndGet(pending);
+            connection.commit();
+        }
+    }
+
+    private void insertMissingBrands(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement exists = connection.prepareStatement("SELECT COUNT(*) FROM BRANDS WHERE ID = ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO BRANDS (ID, NAME, DESCRIPTION) VALUES (?, ?, ?)")) {
+            for (int brandId = 1; brandId <= spec.getBrands(); brandId++) {
+                exists.setInt(1, brandId);
+                try (ResultSet rs = exists.executeQuery()) {
+                    rs.next();
+                    if (rs.getInt(1) > 0) {
+                        continue;
+                    }
+                }
+                insert.setInt(1, brandId);
+                insert.setString(2, "BRAND-" + brandId);
+                insert.setString(3, "Marca sintética");
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    private static void execute(DataSource dataSource, List<String> statements) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                log.debug("Ejecutando {}", sql);
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Índices secundarios de PRICES según {@code db/schema.sql}, por nombre.
+     */
+    static Map<String, String> pricesIndexes() {
+        try (InputStream schema = new ClassPathResource("db/schema.sql").getInputStream()) {
+            Matcher matcher = PRICES_INDEX.matcher(new String(schema.readAllBytes(), StandardCharsets.UTF_8));
+            Map<String, String> indexes = new LinkedHashMap<>();
+            while (matcher.find()) {
+                indexes.put(matcher.group(1), matcher.group(2).trim());
+            }
+            return indexes;
+        } catch (IOException e) {
+            throw new IllegalStateException("No se puede leer db/schema.sql", e);
+        }
+    }
+
+    /**
+     * Genera el catálogo en la BD indicada.
+     * <p>
+     * Argumentos {@code clave=valor}: {@code url} ({@code jdbc:h2:file:./target/dataset/prices}),
+     * {@code username}, {@code password}, {@code schema} (crea el esquema de {@code db/schema.sql},
+     * solo H2; {@code true}), {@code threads}, {@code batch-size} (1000), {@code defer-indexes}
+     * ({@code true}) y los de {@link PriceDatasetSpec}: {@code brands}, {@code products},
+     * {@code product-base}, {@code coverage}, {@code promotions}, {@code overlap},
+     * {@code max-priority}, {@code max-promotion-duration}, {@code from}, {@code to}, {@code seed}.
+     * </p>
+     *
+     * @param args argumentos {@code clave=valor}
+     * @throws Exception si la carga falla
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Argumento no válido (se esperaba clave=valor): " + arg);
+            }
+            options.put(arg.substring(0, equals), arg.substring(equals + 1));
+        }
+
+        PriceDatasetSpec defaults = PriceDatasetSpec.builder().build();
+        PriceDatasetSpec spec = PriceDatasetSpec.builder()
+                .brands(Integer.parseInt(options.getOrDefault("brands", String.valueOf(defaults.getBrands()))))
+                .products(Integer.parseInt(options.getOrDefault("products", String.valueOf(defaults.getProducts()))))
+                .productBase(Long.parseLong(options.getOrDefault("product-base",
+                        String.valueOf(defaults.getProductBase()))))
+                .coverage(Double.parseDouble(options.getOrDefault("coverage", String.valueOf(defaults.getCoverage()))))
+                .promotionsPerProduct(Double.parseDouble(options.getOrDefault("promotions",
+                        String.valueOf(defaults.getPromotionsPerProduct()))))
+                .overlapRatio(Double.parseDouble(options.getOrDefault("overlap",
+                        String.valueOf(defaults.getOverlapRatio()))))
+                .maxPriority(Integer.parseInt(options.getOrDefault("max-priority",
+                        String.valueOf(defaults.getMaxPriority()))))
+                .maxPromotionDuration(Duration.parse(options.getOrDefault("max-promotion-duration",
+                        defaults.getMaxPromotionDuration().toString())))
+                .from(LocalDateTime.parse(options.getOrDefault("from", defaults.getFrom().toString())))
+                .to(LocalDateTime.parse(options.getOrDefault("to", defaults.getTo().toString())))
+                .seed(Long.parseLong(options.getOrDefault("seed", String.valueOf(defaults.getSeed()))))
+                .build();
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl(options.getOrDefault("url", "jdbc:h2:file:./target/dataset/prices"));
+            dataSource.setUsername(options.getOrDefault("username", "sa"));
+            dataSource.setPassword(options.getOrDefault("password", ""));
+            dataSource.setMaximumPoolSize(threads + 1);
+
+            if (Boolean.parseBoolean(options.getOrDefault("schema", "true"))) {
+                new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).execute(dataSource);
+            }
+
+            new PriceDatasetGenerator(spec, threads,
+                    Integer.parseInt(options.getOrDefault("batch-size", "1000")),
+                    Boolean.parseBoolean(options.getOrDefault("defer-indexes", "true")))
+                    .generate(dataSource);
+        }
+    }
+
+    /**
+     * Precio generado para un par (marca, producto).
+     */
+    @Value
+    static class GeneratedPrice {
+        LocalDateTime startDate;
+        LocalDateTime endDate;
+        int priceList;
+        int priority;
+        BigDecimal price;
+    }
+
+    /**
+     * Resumen de una carga.
+     */
+    @Value
+    public static class Result {
+        int brands;
+        long pairs;
+        long prices;
+        Duration elapsed;
+
+        /**
+         * Retorna la velocidad media de carga.
+         *
+         * @return precios insertados por segundo
+         */
+        public double getRowsPerSecond() {
+            return prices / Math.max(1e-9, elapsed.toNanos() / 1e9);
+        }
+    }
+}
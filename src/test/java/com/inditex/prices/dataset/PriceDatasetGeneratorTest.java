@@ -0,0 +1,137 @@
+package com.inditex.prices.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests del generador de catálogos sintéticos sobre BD H2 en memoria con el esquema real.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DisplayName("PriceDatasetGenerator - Tests de la generación de catálogos sintéticos")
+class PriceDatasetGeneratorTest {
+
+    private static final PriceDatasetSpec SPEC = PriceDatasetSpec.builder()
+            .brands(3)
+            .products(200)
+            .coverage(0.8)
+            .promotionsPerProduct(3)
+            .overlapRatio(0.5)
+            .maxPriority(4)
+            .build();
+
+    /**
+     * Verifica las reglas del catálogo: una tarifa base por par, promociones dentro de la
+     * temporada con prioridades en rango, marcas existentes conservadas e índices recreados.
+     */
+    @Test
+    @DisplayName("Debe generar tarifas base y promociones según la especificación")
+    void shouldGenerateCatalogFollowingSpec() throws Exception {
+        DataSource dataSource = database("dataset-spec");
+
+        PriceDatasetGenerator.Result result = new PriceDatasetGenerator(SPEC, 4, 64, true).generate(dataSource);
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long generated = jdbc.queryForObject("SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID >= ?", Long.class,
+                SPEC.getProductBase());
+        assertThat(result.getPrices()).isEqualTo(generated).isGreaterThan(result.getPairs());
+        assertThat(result.getPairs()).isBetween(400L, 560L);
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID >= ? AND PRIORITY = 0 "
+                        + "AND START_DATE = ? AND END_DATE = ?", Long.class,
+                SPEC.getProductBase(), SPEC.getFrom(), SPEC.getTo())).isEqualTo(result.getPairs());
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID >= ? AND (PRIORITY > ? "
+                        + "OR START_DATE < ? OR END_DATE > ? OR END_DATE < START_DATE)", Long.class,
+                SPEC.getProductBase(), SPEC.getMaxPriority(), SPEC.getFrom(), SPEC.getTo())).isZero();
+
+        assertThat(jdbc.queryForObject("SELECT NAME FROM BRANDS WHERE ID = 1", String.class)).isEqualTo("ZARA");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM BRANDS", Integer.class)).isEqualTo(3);
+        assertThat(jdbc.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'PRICES'",
+                String.class)).contains("IDX_BRAND_PRODUCT_DATES", "IDX_PRIORITY", "IDX_DATE_RANGE");
+    }
+
+    /**
+     * Verifica que el catálogo depende solo de la semilla, no del número de hilos.
+     */
+    @Test
+    @DisplayName("Debe generar los mismos datos con cualquier número de hilos")
+    void shouldBeDeterministicAcrossThreadCounts() throws Exception {
+        DataSource single = database("dataset-single");
+        DataSource parallel = database("dataset-parallel");
+
+        new PriceDatasetGenerator(SPEC, 1, 1000, false).generate(single);
+        new PriceDatasetGenerator(SPEC, 4, 7, true).generate(parallel);
+
+        assertThat(fingerprint(parallel)).isEqualTo(fingerprint(single));
+    }
+
+    /**
+     * Verifica que las promociones se solapan solo cuando lo permite la especificación.
+     */
+    @Test
+    @DisplayName("Debe respetar la proporción de promociones solapadas")
+    void shouldControlPromotionOverlaps() {
+        PriceDatasetGenerator sequential = new PriceDatasetGenerator(
+                SPEC.toBuilder().overlapRatio(0).build(), 1, 1, false);
+
+        for (long productId = SPEC.getProductBase(); productId < SPEC.getProductBase() + 50; productId++) {
+            List<PriceDatasetGenerator.GeneratedPrice> promotions = sequential.pricesOf(1, productId).stream()
+                    .filter(price -> price.getPriority() > 0)
+                    .toList();
+            for (int i = 1; i < promotions.size(); i++) {
+                assertThat(promotions.get(i).getStartDate()).isAfter(promotions.get(i - 1).getEndDate());
+            }
+        }
+    }
+
+    /**
+     * Verifica que se leen de schema.sql los índices secundarios de PRICES.
+     */
+    @Test
+    @DisplayName("Debe leer los índices de PRICES de schema.sql")
+    void shouldReadPricesIndexesFromSchema() {
+        Map<String, String> indexes = PriceDatasetGenerator.pricesIndexes();
+
+        assertThat(indexes).containsOnlyKeys("idx_brand_product_dates", "idx_priority", "idx_date_range");
+        assertThat(indexes.get("idx_priority")).isEqualTo("PRIORITY DESC");
+    }
+
+    /**
+     * Verifica la validación de la especificación.
+     */
+    @Test
+    @DisplayName("Debe rechazar especificaciones no válidas")
+    void shouldRejectInvalidSpec() {
+        PriceDatasetSpec spec = SPEC.toBuilder().coverage(1.5).build();
+
+        assertThatThrownBy(() -> new PriceDatasetGenerator(spec, 1, 1, false).generate(database("dataset-invalid")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cobertura");
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql"), new ClassPathResource("db/data.sql"))
+                .execute(dataSource);
+        return dataSource;
+    }
+
+    private static List<Map<String, Object>> fingerprint(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList("SELECT BRAND_ID, PRODUCT_ID, COUNT(*) AS N, "
+                + "SUM(PRICE) AS TOTAL, MAX(PRIORITY) AS TOP, MAX(END_DATE) AS LAST FROM PRICES "
+                + "GROUP BY BRAND_ID, PRODUCT_ID ORDER BY BRAND_ID, PRODUCT_ID");
+    }
+}
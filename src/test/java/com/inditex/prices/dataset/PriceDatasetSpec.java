@@ -0,0 +1,91 @@
+package com.inditex.prices.dataset;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Parámetros del catálogo sintético que genera {@link PriceDatasetGenerator}.
+ * <p>
+ * Cada marca ofrece cada producto con probabilidad {@code coverage}. Un par (marca, producto)
+ * tiene una tarifa base de prioridad 0 para toda la temporada y entre 0 y
+ * {@code 2 * promotionsPerProduct} promociones con prioridad uniforme entre 1 y
+ * {@code maxPriority}. Con probabilidad {@code overlapRatio} una promoción empieza dentro de la
+ * anterior (solape a resolver por prioridad); si no, empieza después de que termine.
+ * </p>
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@Value
+@Builder(toBuilder = true)
+public class PriceDatasetSpec {
+
+    /** Marcas, con identificadores de 1 a N. */
+    @Builder.Default
+    int brands = 10;
+
+    /** Productos por marca, con identificadores consecutivos desde {@link #productBase}. */
+    @Builder.Default
+    int products = 100_000;
+
+    /** Primer identificador de producto; por defecto no colisiona con data.sql. */
+    @Builder.Default
+    long productBase = 1_000_000L;
+
+    /** Probabilidad de que una marca tenga precios de un producto. */
+    @Builder.Default
+    double coverage = 1.0;
+
+    /** Número medio de promociones por par (marca, producto). */
+    @Builder.Default
+    double promotionsPerProduct = 4.0;
+
+    /** Probabilidad de que una promoción se solape con la anterior. */
+    @Builder.Default
+    double overlapRatio = 0.3;
+
+    /** Prioridad máxima de las promociones. */
+    @Builder.Default
+    int maxPriority = 3;
+
+    /** Duración máxima de una promoción (la mínima es una hora). */
+    @Builder.Default
+    Duration maxPromotionDuration = Duration.ofDays(14);
+
+    /** Inicio de la temporada cubierta por la tarifa base. */
+    @Builder.Default
+    LocalDateTime from = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    /** Fin de la temporada cubierta por la tarifa base. */
+    @Builder.Default
+    LocalDateTime to = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    /** Semilla: la misma especificación genera siempre los mismos datos. */
+    @Builder.Default
+    long seed = 42L;
+
+    /**
+     * Valida la especificación.
+     *
+     * @throws IllegalArgumentException si algún parámetro no es válido
+     */
+    public void validate() {
+        if (brands <= 0 || products <= 0) {
+            throw new IllegalArgumentException("El número de marcas y de productos debe ser positivo");
+        }
+        if (coverage <= 0 || coverage > 1 || overlapRatio < 0 || overlapRatio > 1) {
+            throw new IllegalArgumentException("La cobertura y la proporción de solapes deben estar entre 0 y 1");
+        }
+        if (promotionsPerProduct < 0 || maxPriority <= 0) {
+            throw new IllegalArgumentException("Las promociones no pueden ser negativas y la prioridad máxima "
+                    + "debe ser positiva");
+        }
+        if (!from.isBefore(to) || maxPromotionDuration.compareTo(Duration.ofHours(1)) < 0) {
+            throw new IllegalArgumentException("La temporada debe ser un intervalo válido y las promociones "
+                    + "durar al menos una hora");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.inditex.prices.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests unitarios para PriceExportQuery.
+ * Verifica reglas de validación de la exportación por marca.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DisplayName("Tests del Value Object PriceExportQuery")
+class PriceExportQueryTest {
+
+    /**
+     * Verifica que la fecha de aplicación es obligatoria.
+     */
+    @Test
+    @DisplayName("Debe lanzar IllegalArgumentException cuando la fecha de aplicación es null")
+    void shouldThrowExceptionWhenApplicationDateNull() {
+        PriceExportQuery query = PriceExportQuery.builder()
+                .applicationDate(null)
+                .brandId(1)
+                .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, query::validate);
+
+        assertTrue(exception.getMessage().contains("fecha de aplicación"));
+    }
+
+    /**
+     * Verifica que la marca es obligatoria y positiva.
+     */
+    @Test
+    @DisplayName("Debe lanzar IllegalArgumentException cuando la marca es null o no positiva")
+    void shouldThrowExceptionWhenBrandIdInvalid() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        IllegalArgumentException missing = assertThrows(IllegalArgumentException.class,
+                PriceExportQuery.builder().applicationDate(date).brandId(null).build()::validate);
+        IllegalArgumentException negative = assertThrows(IllegalArgumentException.class,
+                PriceExportQuery.builder().applicationDate(date).brandId(0).build()::validate);
+
+        assertTrue(missing.getMessage().contains("obligatorio"));
+        assertTrue(negative.getMessage().contains("positivo"));
+    }
+
+    /**
+     * Verifica que una exportación con todos los campos válidos no lanza excepción.
+     */
+    @Test
+    @DisplayName("No debe lanzar excepción con parámetros válidos")
+    void shouldNotThrowExceptionWhenValid() {
+        PriceExportQuery query = PriceExportQuery.builder()
+                .applicationDate(LocalDateTime.of(2020, 6, 14, 10, 0))
+                .brandId(1)
+                .build();
+
+        assertDoesNotThrow(query::validate);
+    }
+}
@@ -0,0 +1,114 @@
+package com.inditex.prices.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para PriceKeyFilter.
+ * Verifica la ausencia de falsos negativos, la tasa de falsos positivos y el dimensionado.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DisplayName("Tests del filtro de admisión PriceKeyFilter")
+class PriceKeyFilterTest {
+
+    private static final int KEYS = 10_000;
+
+    /**
+     * Verifica que todos los pares añadidos se admiten.
+     */
+    @Test
+    @DisplayName("No debe descartar ningún par añadido")
+    void shouldAdmitEveryAddedKey() {
+        PriceKeyFilter filter = PriceKeyFilter.create(KEYS, 0.01);
+        for (long productId = 1; productId <= KEYS; productId++) {
+            filter.add(productId, (int) (productId % 4) + 1);
+        }
+
+        for (long productId = 1; productId <= KEYS; productId++) {
+            assertThat(filter.mightContain(productId, (int) (productId % 4) + 1)).isTrue();
+        }
+        assertThat(filter.approximateKeyCount()).isGreaterThan(KEYS * 99L / 100);
+    }
+
+    /**
+     * Verifica que la tasa de falsos positivos observada y estimada se acerca a la configurada.
+     */
+    @Test
+    @DisplayName("Debe mantener la tasa de falsos positivos cerca de la configurada")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        PriceKeyFilter filter = PriceKeyFilter.create(KEYS, 0.01);
+        for (long productId = 1; productId <= KEYS; productId++) {
+            filter.add(productId, 1);
+        }
+
+        int falsePositives = 0;
+        for (long productId = KEYS + 1; productId <= 11 * KEYS; productId++) {
+            if (filter.mightContain(productId, 1)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / (10.0 * KEYS)).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+    }
+
+    /**
+     * Verifica que la misma clave con otra marca no se confunde con la añadida.
+     */
+    @Test
+    @DisplayName("Debe distinguir el mismo producto en marcas distintas")
+    void shouldDistinguishBrands() {
+        PriceKeyFilter filter = PriceKeyFilter.create(1024, 0.001);
+        filter.add(PriceKey.of(35455L, 1));
+
+        assertThat(filter.mightContain(35455L, 1)).isTrue();
+        assertThat(filter.mightContain(35455L, 2)).isFalse();
+        assertThat(filter.mightContain(35456L, 1)).isFalse();
+    }
+
+    /**
+     * Verifica que pares con la misma combinación lineal ({@code productId * 31 + brandId}) no
+     * comparten bits.
+     */
+    @Test
+    @DisplayName("Debe distinguir pares cuya combinación lineal coincide")
+    void shouldDistinguishPairsWithSameLinearCombination() {
+        PriceKeyFilter filter = PriceKeyFilter.create(1024, 0.001);
+        filter.add(PriceKey.of(1L, 31));
+        filter.add(PriceKey.of(35455L, 1));
+
+        assertThat(filter.mightContain(2L, 0)).isFalse();
+        assertThat(filter.mightContain(35454L, 32)).isFalse();
+    }
+
+    /**
+     * Verifica que un filtro vacío no admite nada y ocupa el tamaño calculado.
+     */
+    @Test
+    @DisplayName("Debe dimensionarse según pares previstos y tasa objetivo")
+    void shouldSizeFromExpectedKeysAndRate() {
+        PriceKeyFilter filter = PriceKeyFilter.create(KEYS, 0.01);
+
+        // ~9,6 bits por par y 7 funciones hash para un 1 %
+        assertThat(filter.sizeInBytes()).isBetween(11_900L, 12_100L);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+        assertThat(filter.mightContain(1L, 1)).isFalse();
+    }
+
+    /**
+     * Verifica que se rechazan parámetros fuera de rango.
+     */
+    @Test
+    @DisplayName("Debe rechazar parámetros de dimensionado inválidos")
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> PriceKeyFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PriceKeyFilter.create(100, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PriceKeyFilter.create(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
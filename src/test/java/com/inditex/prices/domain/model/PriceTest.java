@@ -259,4 +259,46 @@ class PriceTest {
         assertTrue(isApplicable,
                 "El precio debería ser aplicable cuando la fecha es exactamente el fin");
     }
+
+    /**
+     * Verifica que un precio completo y coherente supera la validación.
+     */
+    @Test
+    @DisplayName("Debe aceptar un precio que cumple las restricciones de PRICES")
+    void shouldAcceptValidPrice() {
+        assertDoesNotThrow(() -> validPrice().build().validate());
+    }
+
+    /**
+     * Verifica que se rechazan los precios que violan las restricciones de PRICES.
+     */
+    @Test
+    @DisplayName("Debe rechazar precios que violan las restricciones de PRICES")
+    void shouldRejectInvalidPrices() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> validPrice().brandId(null).build().validate());
+        assertThrows(IllegalArgumentException.class, () -> validPrice().productId(0L).build().validate());
+        assertThrows(IllegalArgumentException.class, () -> validPrice().startDate(null).build().validate());
+        assertThrows(IllegalArgumentException.class,
+                () -> validPrice().endDate(start.minusSeconds(1)).build().validate());
+        assertThrows(IllegalArgumentException.class, () -> validPrice().priority(-1).build().validate());
+        assertThrows(IllegalArgumentException.class,
+                () -> validPrice().price(new BigDecimal("-0.01")).build().validate());
+        assertThrows(IllegalArgumentException.class, () -> validPrice().price(null).build().validate());
+        assertThrows(IllegalArgumentException.class, () -> validPrice().currency("eur").build().validate());
+        assertThrows(IllegalArgumentException.class, () -> validPrice().currency(null).build().validate());
+    }
+
+    private static Price.PriceBuilder validPrice() {
+        return Price.builder()
+                .productId(35455L)
+                .brandId(1)
+                .priceList(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .priority(0)
+                .price(new BigDecimal("35.50"))
+                .currency("EUR");
+    }
 }
@@ -0,0 +1,237 @@
+package com.inditex.prices.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para PriceTimeline.
+ * Verifica la resolución de solapamientos por barrido y la búsqueda por fecha.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DisplayName("Tests de la línea temporal PriceTimeline")
+class PriceTimelineTest {
+
+    private static final Price BASE = price(1, 0, "35.50",
+            LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    private static final Price PROMO_AFTERNOON = price(2, 1, "25.45",
+            LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+    private static final Price PROMO_MORNING = price(3, 1, "30.50",
+            LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0));
+    private static final Price PROMO_LATE = price(4, 1, "38.95",
+            LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+
+    /**
+     * Verifica que los datos de ejemplo se aplanan en tramos disjuntos con el ganador correcto.
+     */
+    @Test
+    @DisplayName("Debe aplanar los precios solapados en tramos disjuntos")
+    void shouldFlattenOverlappingPricesIntoDisjointSegments() {
+        // Given: Los cuatro precios del producto 35455 en orden arbitrario
+        PriceTimeline timeline = PriceTimeline.of(List.of(PROMO_LATE, BASE, PROMO_MORNING, PROMO_AFTERNOON));
+
+        // Then: base, promo tarde, base, promo mañana, base, promo final
+        assertThat(timeline.getSegments())
+                .extracting(segment -> segment.getPrice().getPriceList())
+                .containsExactly(1, 2, 1, 3, 1, 4);
+        assertThat(timeline.getSegments().get(1).getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(timeline.getSegments().get(1).getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+        assertThat(timeline.getSegments().get(2).getStartDate())
+                .isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+        assertThat(timeline.getSegments().get(5).getEndDate())
+                .isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    }
+
+    /**
+     * Verifica los cinco casos de prueba del enunciado contra la línea temporal.
+     */
+    @Test
+    @DisplayName("Debe resolver los cinco casos de prueba del enunciado")
+    void shouldResolveRequiredTestCases() {
+        PriceTimeline timeline = PriceTimeline.of(List.of(BASE, PROMO_AFTERNOON, PROMO_MORNING, PROMO_LATE));
+
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 10, 0))).contains(BASE);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 16, 0))).contains(PROMO_AFTERNOON);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 21, 0))).contains(BASE);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 15, 10, 0))).contains(PROMO_MORNING);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 16, 21, 0))).contains(PROMO_LATE);
+    }
+
+    /**
+     * Verifica que los extremos de un rango son inclusivos.
+     */
+    @Test
+    @DisplayName("Debe tratar los extremos de los rangos como inclusivos")
+    void shouldTreatRangeBoundariesAsInclusive() {
+        PriceTimeline timeline = PriceTimeline.of(List.of(BASE, PROMO_AFTERNOON));
+
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 14, 59, 59))).contains(BASE);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 15, 0))).contains(PROMO_AFTERNOON);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 18, 30))).contains(PROMO_AFTERNOON);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 18, 30, 1))).contains(BASE);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 12, 31, 23, 59, 59))).contains(BASE);
+    }
+
+    /**
+     * Verifica que las fechas fuera de todo rango y los huecos no retornan precio.
+     */
+    @Test
+    @DisplayName("No debe retornar precio fuera de los rangos ni en los huecos")
+    void shouldReturnEmptyOutsideRangesAndInGaps() {
+        Price first = price(1, 0, "10.00", LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 1, 31, 0, 0));
+        Price second = price(2, 0, "12.00", LocalDateTime.of(2020, 3, 1, 0, 0), LocalDateTime.of(2020, 3, 31, 0, 0));
+        PriceTimeline timeline = PriceTimeline.of(List.of(first, second));
+
+        assertThat(timeline.priceAt(LocalDateTime.of(2019, 12, 31, 23, 59, 59))).isEmpty();
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 2, 15, 0, 0))).isEmpty();
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 4, 1, 0, 0))).isEmpty();
+        assertThat(timeline.getSegments()).hasSize(2);
+    }
+
+    /**
+     * Verifica el desempate por tarifa cuando dos precios tienen la misma prioridad.
+     */
+    @Test
+    @DisplayName("Debe desempatar por PRICE_LIST cuando la prioridad es igual")
+    void shouldBreakPriorityTiesByPriceList() {
+        Price lower = price(1, 0, "35.50", LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 30, 0, 0));
+        Price higher = price(2, 0, "36.00", LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 30, 0, 0));
+
+        PriceTimeline timeline = PriceTimeline.of(List.of(higher, lower));
+
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 20, 0, 0))).contains(higher);
+        assertThat(timeline.getSegments()).hasSize(1);
+    }
+
+    /**
+     * Verifica que el recorrido conjunto resuelve fechas desordenadas, repetidas y en huecos
+     * igual que la búsqueda individual, conservando el orden de entrada.
+     */
+    @Test
+    @DisplayName("Debe resolver varias fechas en un único recorrido conservando su orden")
+    void shouldResolveSeveralDatesInOneWalk() {
+        PriceTimeline timeline = PriceTimeline.of(List.of(BASE, PROMO_AFTERNOON, PROMO_MORNING, PROMO_LATE));
+        List<LocalDateTime> dates = List.of(
+                LocalDateTime.of(2020, 6, 16, 21, 0),
+                LocalDateTime.of(2020, 6, 14, 10, 0),
+                LocalDateTime.of(2019, 1, 1, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 16, 0),
+                LocalDateTime.of(2020, 6, 14, 10, 0),
+                LocalDateTime.of(2020, 6, 15, 10, 0),
+                LocalDateTime.of(2021, 1, 1, 0, 0));
+
+        List<Optional<PriceSegment>> segments = timeline.segmentsAt(dates);
+
+        assertThat(segments).hasSameSizeAs(dates);
+        for (int i = 0; i < dates.size(); i++) {
+            assertThat(segments.get(i)).isEqualTo(timeline.segmentAt(dates.get(i)));
+        }
+        assertThat(segments).extracting(segment -> segment.map(s -> s.getPrice().getPriceList()).orElse(null))
+                .containsExactly(4, 1, null, 2, 1, 3, null);
+    }
+
+    /**
+     * Verifica que el siguiente cambio tiene en cuenta las promociones que empiezan antes del fin
+     * del precio vigente y los huecos sin precio.
+     */
+    @Test
+    @DisplayName("Debe calcular el siguiente cambio de precio desde cualquier fecha")
+    void shouldFindNextChange() {
+        PriceTimeline timeline = PriceTimeline.of(List.of(BASE, PROMO_AFTERNOON));
+
+        // El precio base termina en diciembre, pero la promoción lo sustituye a las 15:00
+        assertThat(timeline.nextChangeAfter(LocalDateTime.of(2020, 6, 14, 10, 0)))
+                .contains(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(timeline.nextChangeAfter(LocalDateTime.of(2020, 6, 14, 16, 0)))
+                .contains(LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+        // Antes del primer precio, el cambio es su inicio; tras el último, el precio ya no cambia
+        assertThat(timeline.nextChangeAfter(LocalDateTime.of(2020, 1, 1, 0, 0)))
+                .contains(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(timeline.nextChangeAfter(LocalDateTime.of(2020, 12, 31, 23, 59, 59)))
+                .contains(LocalDateTime.of(2021, 1, 1, 0, 0));
+        assertThat(timeline.nextChangeAfter(LocalDateTime.of(2021, 1, 1, 0, 0))).isEmpty();
+    }
+
+    /**
+     * Verifica que los tramos del intervalo se recortan a sus extremos y excluyen los huecos.
+     */
+    @Test
+    @DisplayName("Debe recortar los tramos al intervalo consultado")
+    void shouldClipSegmentsToRange() {
+        PriceTimeline timeline = PriceTimeline.of(List.of(BASE, PROMO_AFTERNOON, PROMO_MORNING, PROMO_LATE));
+
+        List<PriceSegment> segments = timeline.between(
+                LocalDateTime.of(2020, 6, 14, 16, 0), LocalDateTime.of(2020, 6, 15, 10, 0));
+
+        assertThat(segments).extracting(segment -> segment.getPrice().getPriceList()).containsExactly(2, 1, 3);
+        assertThat(segments.get(0).getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 16, 0));
+        assertThat(segments.get(0).getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+        assertThat(segments.get(2).getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 15, 0, 0));
+        assertThat(segments.get(2).getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 15, 10, 0));
+        assertThat(timeline.between(LocalDateTime.of(2019, 1, 1, 0, 0), LocalDateTime.of(2019, 2, 1, 0, 0)))
+                .isEmpty();
+    }
+
+    /**
+     * Verifica que filas contiguas con la misma tarifa e importe se devuelven como un único tramo.
+     */
+    @Test
+    @DisplayName("Debe fusionar tramos contiguos con el mismo precio")
+    void shouldMergeAdjacentSegmentsWithSamePrice() {
+        Price june = price(1, 0, "35.50", LocalDateTime.of(2020, 6, 1, 0, 0), LocalDateTime.of(2020, 6, 30, 23, 59, 59));
+        Price july = Price.builder()
+                .id(99L)
+                .productId(35455L)
+                .brandId(1)
+                .priceList(1)
+                .priority(0)
+                .price(new BigDecimal("35.5"))
+                .startDate(LocalDateTime.of(2020, 7, 1, 0, 0))
+                .endDate(LocalDateTime.of(2020, 7, 31, 23, 59, 59))
+                .currency("EUR")
+                .build();
+
+        PriceTimeline timeline = PriceTimeline.of(List.of(june, july));
+        List<PriceSegment> segments = timeline.between(
+                LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 7, 15, 0, 0));
+
+        assertThat(timeline.getSegments()).hasSize(2);
+        assertThat(segments).hasSize(1);
+        assertThat(segments.get(0).getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 15, 0, 0));
+        assertThat(segments.get(0).getEndDate()).isEqualTo(LocalDateTime.of(2020, 7, 15, 0, 0));
+    }
+
+    /**
+     * Verifica que una línea temporal vacía no retorna precios.
+     */
+    @Test
+    @DisplayName("Una línea temporal vacía no debe retornar precios")
+    void emptyTimelineShouldReturnNothing() {
+        PriceTimeline timeline = PriceTimeline.of(List.of());
+
+        assertThat(timeline.isEmpty()).isTrue();
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 10, 0))).isEmpty();
+    }
+
+    private static Price price(int priceList, int priority, String amount, LocalDateTime start, LocalDateTime end) {
+        return Price.builder()
+                .id((long) priceList)
+                .productId(35455L)
+                .brandId(1)
+                .priceList(priceList)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .startDate(start)
+                .endDate(end)
+                .currency("EUR")
+                .build();
+    }
+}
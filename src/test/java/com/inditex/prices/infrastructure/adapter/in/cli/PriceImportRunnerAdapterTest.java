@@ -0,0 +1,55 @@
+package com.inditex.prices.infrastructure.adapter.in.cli;
+
+import com.inditex.prices.domain.model.PriceImportResult;
+import com.inditex.prices.domain.port.in.ImportPricesUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceImportRunnerAdapter.
+ * Verifica que el fichero configurado se delega al caso de uso de carga.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceImportRunnerAdapter - Tests unitarios de la carga por línea de comandos")
+class PriceImportRunnerAdapterTest {
+
+    @Mock
+    private ImportPricesUseCase importPricesUseCase;
+
+    @InjectMocks
+    private PriceImportRunnerAdapter runner;
+
+    /**
+     * Verifica que se carga el fichero configurado.
+     */
+    @Test
+    @DisplayName("Debe cargar el fichero indicado en prices.import.file")
+    void shouldImportConfiguredFile() {
+        ReflectionTestUtils.setField(runner, "file", "/tmp/prices.csv");
+        when(importPricesUseCase.importPrices(Path.of("/tmp/prices.csv"))).thenReturn(PriceImportResult.builder()
+                .rowsRead(3)
+                .rowsImported(1)
+                .rowsRejected(2)
+                .errors(List.of("Línea 2: La marca 7 no existe"))
+                .build());
+
+        runner.run(new DefaultApplicationArguments());
+
+        verify(importPricesUseCase).importPrices(Path.of("/tmp/prices.csv"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.inditex.prices.infrastructure.adapter.in.management;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Tests de integración de la exposición por defecto de Actuator.
+ * Verifica que los endpoints de gestión, de escritura y sin autenticación, no se publican en el
+ * puerto de la API mientras siguen disponibles los de observabilidad.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:testdb-management"
+)
+@DisplayName("Exposición de Actuator - Tests de integración")
+class ManagementEndpointExposureIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api";
+    }
+
+    /**
+     * Verifica que los endpoints de gestión no están expuestos por defecto y que los de
+     * observabilidad sí.
+     */
+    @Test
+    @DisplayName("Debe exponer health y no pricechanges ni pricecache por defecto")
+    void shouldNotExposeManagementEndpointsByDefault() {
+        given().when().get("/actuator")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("_links.health", notNullValue())
+                .body("_links.pricechanges", nullValue())
+                .body("_links.pricecache", nullValue());
+        given().contentType(ContentType.JSON).when().post("/actuator/pricechanges")
+                .then().statusCode(not(HttpStatus.NO_CONTENT.value()));
+        given().when().delete("/actuator/pricecache")
+                .then().statusCode(not(HttpStatus.NO_CONTENT.value()));
+    }
+}
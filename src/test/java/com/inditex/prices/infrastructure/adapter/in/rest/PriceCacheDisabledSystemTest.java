@@ -0,0 +1,94 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import com.inditex.prices.application.service.PriceService;
+import com.inditex.prices.application.service.PriceTimelineCacheService;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.port.in.GetApplicablePriceUseCase;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Tests de Sistema (E2E) con la caché de líneas temporales desactivada
+ * ({@code prices.cache.enabled=false}) y la línea temporal materializada: cada consulta
+ * individual se resuelve en el repositorio con una lectura de una fila.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:testdb-system-uncached",
+                "spring.jpa.hibernate.ddl-auto=none",
+                "spring.sql.init.mode=always",
+                "prices.repository.engine=timeline",
+                "prices.cache.enabled=false"
+        }
+)
+@DisplayName("Tests de Sistema - API de Precios (sin caché de líneas temporales)")
+class PriceCacheDisabledSystemTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GetApplicablePriceUseCase getApplicablePriceUseCase;
+
+    @Autowired
+    private PriceTimelineCacheService timelineCache;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api";
+    }
+
+    /**
+     * Verifica que las consultas individuales van al servicio principal sin pasar por la caché.
+     */
+    @Test
+    @DisplayName("Debe resolver GET /prices en el repositorio sin cargar la línea temporal")
+    void shouldResolvePricesWithoutTimelineCache() {
+        given()
+                .queryParam("applicationDate", "2020-06-14T10:00:00")
+                .queryParam("productId", 35455)
+                .queryParam("brandId", 1)
+                .when()
+                .get("/prices")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("priceList", equalTo(1))
+                .body("nextChange", equalTo("2020-06-14T15:00:00"));
+
+        assertThat(getApplicablePriceUseCase).isInstanceOf(PriceService.class);
+        assertThat(timelineCache.findCachedTimeline(PriceKey.of(35455L, 1))).isEmpty();
+    }
+
+    /**
+     * Verifica que un producto sin precios sigue respondiendo 404.
+     */
+    @Test
+    @DisplayName("Debe retornar 404 para un producto sin precios")
+    void shouldReturnNotFoundWithoutTimelineCache() {
+        given()
+                .queryParam("applicationDate", "2020-06-14T10:00:00")
+                .queryParam("productId", 99999)
+                .queryParam("brandId", 1)
+                .when()
+                .get("/prices")
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+}
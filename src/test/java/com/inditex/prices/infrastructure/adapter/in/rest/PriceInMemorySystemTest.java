@@ -0,0 +1,26 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests de Sistema (E2E) ejecutados con el motor en memoria.
+ * Reutiliza todos los casos de {@link PriceSystemTest} para garantizar la misma semántica
+ * que el adaptador JPA.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:testdb-system-memory",
+                "spring.jpa.hibernate.ddl-auto=none",
+                "spring.sql.init.mode=always",
+                "prices.repository.engine=memory",
+                "management.endpoints.web.exposure.include=health,info,metrics,prometheus,pricecache,pricechanges"
+        }
+)
+@DisplayName("Tests de Sistema - API de Precios (motor en memoria)")
+class PriceInMemorySystemTest extends PriceSystemTest {
+}
@@ -0,0 +1,27 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests de Sistema (E2E) ejecutados con la instantánea columnar proyectada en memoria.
+ * Reutiliza todos los casos de {@link PriceSystemTest} para garantizar la misma semántica
+ * que el adaptador JPA.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:testdb-system-snapshot",
+                "spring.jpa.hibernate.ddl-auto=none",
+                "spring.sql.init.mode=always",
+                "prices.repository.engine=snapshot",
+                "prices.snapshot.file=${java.io.tmpdir}/prices-snapshot-system-test.bin",
+                "management.endpoints.web.exposure.include=health,info,metrics,prometheus,pricecache,pricechanges"
+        }
+)
+@DisplayName("Tests de Sistema - API de Precios (instantánea columnar)")
+class PriceSnapshotSystemTest extends PriceSystemTest {
+}
@@ -2,16 +2,31 @@ package com.inditex.prices.infrastructure.adapter.in.rest;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpStatus;
 
+import java.util.Collections;
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.equalToIgnoringCase;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 /**
  * Tests de Sistema (E2E) para la API REST de precios.
@@ -25,15 +40,20 @@ import static org.hamcrest.Matchers.notNullValue;
         properties = {
                 "spring.datasource.url=jdbc:h2:mem:testdb-system",
                 "spring.jpa.hibernate.ddl-auto=none",
-                "spring.sql.init.mode=always"
+                "spring.sql.init.mode=always",
+                "management.endpoints.web.exposure.include=health,info,metrics,prometheus,pricecache,pricechanges"
         }
 )
+@AutoConfigureObservability(tracing = false)
 @DisplayName("Tests de Sistema - API de Precios")
 class PriceSystemTest {
 
     @LocalServerPort
     private int port;
 
+    @Value("${prices.repository.engine:jpa}")
+    private String engine;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
@@ -65,7 +85,8 @@ class PriceSystemTest {
                 .body("startDate", equalTo("2020-06-14T00:00:00"))
                 .body("endDate", equalTo("2020-12-31T23:59:59"))
                 .body("price", equalTo(35.5f))
-                .body("currency", equalTo("EUR"));
+                .body("currency", equalTo("EUR"))
+                .body("nextChange", equalTo("2020-06-14T15:00:00"));
     }
 
     /**
@@ -498,4 +519,605 @@ class PriceSystemTest {
                 .body("timestamp", notNullValue())
                 .body("path", equalTo("/api/prices"));
     }
+
+    // ========================================================================
+    // Tests de búsqueda por lotes
+    // ========================================================================
+
+    /**
+     * Verifica que el lote retorna un resultado por consulta, en orden y con su estado.
+     */
+    @Test
+    @DisplayName("Lote - Debe retornar un resultado por consulta con su estado")
+    void batch_shouldReturnResultPerItemInOrder() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"items": [
+                          {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                          {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                          {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1},
+                          {"applicationDate": "2020-06-14T10:00:00", "productId": -1, "brandId": 1},
+                          {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1}
+                        ]}
+                        """)
+                .when()
+                .post("/prices/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("results", hasSize(5))
+                .body("results[0].status", equalTo("FOUND"))
+                .body("results[0].price.priceList", equalTo(1))
+                .body("results[0].price.price", equalTo(35.5f))
+                .body("results[1].status", equalTo("FOUND"))
+                .body("results[1].applicationDate", equalTo("2020-06-14T16:00:00"))
+                .body("results[1].price.priceList", equalTo(2))
+                .body("results[2].status", equalTo("NOT_FOUND"))
+                .body("results[2].productId", equalTo(99999))
+                .body("results[2].price", nullValue())
+                .body("results[3].status", equalTo("INVALID"))
+                .body("results[3].message", containsString("positivo"))
+                .body("results[4].status", equalTo("FOUND"))
+                .body("results[4].price.priceList", equalTo(4));
+    }
+
+    /**
+     * Verifica que un lote vacío retorna 400.
+     */
+    @Test
+    @DisplayName("Lote - Debe retornar Bad Request cuando el lote está vacío")
+    void batch_whenEmpty_shouldReturn400() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"items\": []}")
+                .when()
+                .post("/prices/batch")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("status", equalTo(400))
+                .body("path", equalTo("/api/prices/batch"));
+    }
+
+    /**
+     * Verifica que un lote que supera el máximo de consultas retorna 400.
+     */
+    @Test
+    @DisplayName("Lote - Debe retornar Bad Request cuando supera el máximo de consultas")
+    void batch_whenTooLarge_shouldReturn400() {
+        String item = "{\"applicationDate\": \"2020-06-14T10:00:00\", \"productId\": 35455, \"brandId\": 1}";
+        String items = String.join(",", Collections.nCopies(201, item));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"items\": [" + items + "]}")
+                .when()
+                .post("/prices/batch")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", containsString("200"));
+    }
+
+    /**
+     * Verifica que un cuerpo mal formado retorna 400.
+     */
+    @Test
+    @DisplayName("Lote - Debe retornar Bad Request cuando el JSON está mal formado")
+    void batch_whenMalformedJson_shouldReturn400() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"items\": [")
+                .when()
+                .post("/prices/batch")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("status", equalTo(400));
+    }
+
+    // ========================================================================
+    // Tests de métricas
+    // ========================================================================
+
+    /**
+     * Verifica que el contador de respuestas distingue los códigos de estado por endpoint.
+     */
+    @Test
+    @DisplayName("Métricas - Debe contar las respuestas por endpoint y código de estado")
+    void metrics_shouldCountResponsesByStatus() {
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices").then().statusCode(HttpStatus.OK.value());
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 99999)
+                .queryParam("brandId", 1).when().get("/prices").then().statusCode(HttpStatus.NOT_FOUND.value());
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 0)
+                .queryParam("brandId", 1).when().get("/prices").then().statusCode(HttpStatus.BAD_REQUEST.value());
+
+        given()
+                .queryParam("tag", "endpoint:/prices")
+                .when()
+                .get("/actuator/metrics/prices.responses")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("availableTags.find { it.tag == 'status' }.values", hasItem("200"))
+                .body("availableTags.find { it.tag == 'status' }.values", hasItem("404"))
+                .body("availableTags.find { it.tag == 'status' }.values", hasItem("400"));
+    }
+
+    /**
+     * Verifica que se publican los tiempos de las etapas controller y service.
+     */
+    @Test
+    @DisplayName("Métricas - Debe publicar los tiempos por etapa de la consulta")
+    void metrics_shouldPublishStageTimers() {
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices").then().statusCode(HttpStatus.OK.value());
+
+        given()
+                .when()
+                .get("/actuator/metrics/prices.stage")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("availableTags.find { it.tag == 'stage' }.values", hasItem("controller"))
+                .body("availableTags.find { it.tag == 'stage' }.values", hasItem("service"));
+
+        given()
+                .when()
+                .get("/actuator/prometheus")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body(containsString("prices_stage_seconds_bucket"));
+    }
+
+    /**
+     * Verifica que las lecturas de PriceRepository pasan por la agrupación de llamadas idénticas.
+     * Los motores que no consultan la BD no agrupan.
+     */
+    @Test
+    @DisplayName("Métricas - Debe publicar las lecturas agrupadas de PriceRepository")
+    void metrics_shouldPublishCoalescedRepositoryCalls() {
+        if (!queriesDatabase()) {
+            given().when().get("/actuator/metrics/prices.coalescing.ratio")
+                    .then().statusCode(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        given().when().delete("/actuator/pricecache/35455/1").then().statusCode(HttpStatus.NO_CONTENT.value());
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices").then().statusCode(HttpStatus.OK.value());
+
+        given()
+                .queryParam("tag", "role:leader")
+                .when()
+                .get("/actuator/metrics/prices.coalescing.calls")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("measurements[0].value", greaterThanOrEqualTo(1.0f));
+
+        given()
+                .when()
+                .get("/actuator/metrics/prices.coalescing.ratio")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+    }
+
+    /**
+     * Verifica que las búsquedas en la BD pasan por el límite adaptativo de concurrencia y se
+     * publica el límite. El lote se resuelve siempre en el repositorio, sin caché. Los motores
+     * que no consultan la BD no tienen límite.
+     */
+    @Test
+    @DisplayName("Métricas - Debe publicar el límite de concurrencia y las búsquedas admitidas")
+    void metrics_shouldPublishConcurrencyLimit() {
+        if (!queriesDatabase()) {
+            given().when().get("/actuator/metrics/prices.limiter.limit")
+                    .then().statusCode(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"items": [{"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1}]}
+                        """)
+                .when()
+                .post("/prices/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .queryParam("tag", "result:accepted")
+                .when()
+                .get("/actuator/metrics/prices.limiter.requests")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("measurements[0].value", greaterThanOrEqualTo(1.0f));
+
+        given()
+                .when()
+                .get("/actuator/metrics/prices.limiter.limit")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("measurements[0].value", greaterThanOrEqualTo(4.0f));
+    }
+
+    // ========================================================================
+    // Tests de caché de líneas temporales
+    // ========================================================================
+
+    /**
+     * Verifica que consultas con distinta fecha del mismo producto se sirven desde la caché.
+     */
+    @Test
+    @DisplayName("Caché - Debe servir distintas fechas del mismo producto desde la caché")
+    void cache_shouldServeDifferentDatesFromCache() {
+        given().when().delete("/actuator/pricecache/35455/1").then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices").then().body("priceList", equalTo(1));
+        given().queryParam("applicationDate", "2020-06-14T16:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices").then().body("priceList", equalTo(2));
+
+        given()
+                .queryParam("tag", "cache:price-timelines")
+                .queryParam("tag", "result:hit")
+                .when()
+                .get("/actuator/metrics/cache.gets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("measurements[0].value", greaterThanOrEqualTo(1.0f));
+    }
+
+    /**
+     * Verifica que el endpoint de gestión invalida toda la caché.
+     */
+    @Test
+    @DisplayName("Caché - Debe invalidar toda la caché desde el endpoint de gestión")
+    void cache_shouldInvalidateAllEntries() {
+        given().when().delete("/actuator/pricecache").then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices").then().statusCode(HttpStatus.OK.value());
+    }
+
+    /**
+     * Verifica que notificar el cambio de un producto lo recarga sin alterar la respuesta.
+     */
+    @Test
+    @DisplayName("Caché - Debe recargar el producto notificado como modificado")
+    void cache_shouldReloadChangedProduct() {
+        given().contentType(ContentType.JSON).when().post("/actuator/pricechanges/35455/1")
+                .then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        given().queryParam("applicationDate", "2020-06-14T16:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices").then().body("priceList", equalTo(2));
+    }
+
+    // ========================================================================
+    // Tests del siguiente cambio de precio
+    // ========================================================================
+
+    /**
+     * Verifica que el siguiente cambio tiene en cuenta la promoción que sustituye al precio base.
+     */
+    @Test
+    @DisplayName("Siguiente cambio - Debe retornar el inicio de la promoción que sustituye al precio base")
+    void nextChange_shouldReturnStartOfHigherPriorityPrice() {
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices/next-change")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("applicationDate", equalTo("2020-06-14T10:00:00"))
+                .body("productId", equalTo(35455))
+                .body("brandId", equalTo(1))
+                .body("nextChange", equalTo("2020-06-14T15:00:00"));
+    }
+
+    /**
+     * Verifica que un producto sin precios no tiene cambios y que se validan los parámetros.
+     */
+    @Test
+    @DisplayName("Siguiente cambio - Debe retornar null sin precios y 400 con parámetros inválidos")
+    void nextChange_whenNoPrices_shouldReturnNull() {
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 99999)
+                .queryParam("brandId", 1).when().get("/prices/next-change")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("nextChange", nullValue());
+
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 0)
+                .queryParam("brandId", 1).when().get("/prices/next-change")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    // ========================================================================
+    // Tests de línea temporal por intervalo
+    // ========================================================================
+
+    /**
+     * Verifica que la línea temporal de dos días retorna los tramos contiguos del enunciado.
+     */
+    @Test
+    @DisplayName("Línea temporal - Debe retornar los tramos contiguos del intervalo")
+    void timeline_shouldReturnContiguousSegments() {
+        given().queryParam("productId", 35455).queryParam("brandId", 1)
+                .queryParam("from", "2020-06-14T10:00:00").queryParam("to", "2020-06-15T23:59:59")
+                .when().get("/prices/timeline")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("productId", equalTo(35455))
+                .body("from", equalTo("2020-06-14T10:00:00"))
+                .body("segments.priceList", equalTo(List.of(1, 2, 1, 3, 1, 4)))
+                .body("segments[0].startDate", equalTo("2020-06-14T10:00:00"))
+                .body("segments[0].endDate", equalTo("2020-06-14T14:59:59"))
+                .body("segments[1].price", equalTo(25.45f))
+                .body("segments[5].startDate", equalTo("2020-06-15T16:00:00"))
+                .body("segments[5].endDate", equalTo("2020-06-15T23:59:59"));
+    }
+
+    /**
+     * Verifica que un intervalo sin precios retorna una lista vacía y que se valida el intervalo.
+     */
+    @Test
+    @DisplayName("Línea temporal - Debe retornar lista vacía sin precios y 400 con intervalo invertido")
+    void timeline_whenEmptyOrInverted_shouldReturnEmptyOr400() {
+        given().queryParam("productId", 35455).queryParam("brandId", 1)
+                .queryParam("from", "2019-01-01T00:00:00").queryParam("to", "2019-12-31T23:59:59")
+                .when().get("/prices/timeline")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("segments", hasSize(0));
+
+        given().queryParam("productId", 35455).queryParam("brandId", 1)
+                .queryParam("from", "2020-06-15T00:00:00").queryParam("to", "2020-06-14T00:00:00")
+                .when().get("/prices/timeline")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", containsString("posterior"));
+    }
+
+    // ========================================================================
+    // Tests de consulta en varias fechas
+    // ========================================================================
+
+    /**
+     * Verifica que las fechas de un producto se resuelven en el orden de la petición.
+     */
+    @Test
+    @DisplayName("Varias fechas - Debe retornar un resultado por fecha en el orden de la petición")
+    void instants_shouldReturnResultPerDateInOrder() {
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"productId": 35455, "brandId": 1, "applicationDates": [
+                          "2020-06-16T21:00:00", "2020-06-14T10:00:00", "2020-06-14T16:00:00",
+                          "2020-06-14T21:00:00", "2020-06-15T10:00:00", "2019-01-01T00:00:00"
+                        ]}
+                        """)
+                .when()
+                .post("/prices/instants")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .body("results", hasSize(6))
+                .body("results.applicationDate", equalTo(List.of("2020-06-16T21:00:00", "2020-06-14T10:00:00",
+                        "2020-06-14T16:00:00", "2020-06-14T21:00:00", "2020-06-15T10:00:00", "2019-01-01T00:00:00")))
+                .body("results.status", equalTo(List.of("FOUND", "FOUND", "FOUND", "FOUND", "FOUND", "NOT_FOUND")))
+                .body("results[0].price.priceList", equalTo(4))
+                .body("results[1].price.priceList", equalTo(1))
+                .body("results[2].price.price", equalTo(25.45f))
+                .body("results[3].price.priceList", equalTo(1))
+                .body("results[4].price.priceList", equalTo(3))
+                .body("results[5].price", nullValue());
+    }
+
+    /**
+     * Verifica que se validan el número de fechas y los identificadores.
+     */
+    @Test
+    @DisplayName("Varias fechas - Debe retornar Bad Request sin fechas, con demasiadas o con producto inválido")
+    void instants_whenInvalid_shouldReturn400() {
+        given().contentType(ContentType.JSON)
+                .body("{\"productId\": 35455, \"brandId\": 1, \"applicationDates\": []}")
+                .when().post("/prices/instants")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        String dates = String.join(",", Collections.nCopies(367, "\"2020-06-14T10:00:00\""));
+        given().contentType(ContentType.JSON)
+                .body("{\"productId\": 35455, \"brandId\": 1, \"applicationDates\": [" + dates + "]}")
+                .when().post("/prices/instants")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", containsString("366"));
+
+        given().contentType(ContentType.JSON)
+                .body("{\"productId\": -1, \"brandId\": 1, \"applicationDates\": [\"2020-06-14T10:00:00\"]}")
+                .when().post("/prices/instants")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", containsString("positivo"));
+    }
+
+    // ========================================================================
+    // Tests de la consulta asíncrona
+    // ========================================================================
+
+    /**
+     * Verifica que la variante asíncrona responde lo mismo que GET /prices, cabeceras incluidas.
+     */
+    @Test
+    @DisplayName("Asíncrona - Debe responder igual que la consulta síncrona")
+    void async_shouldReturnSameResponseAsSyncEndpoint() {
+        for (String date : List.of("2020-06-14T10:00:00", "2020-06-14T16:00:00", "2020-06-15T10:00:00",
+                "2020-06-16T21:00:00")) {
+            ExtractableResponse<Response> sync = given().queryParam("applicationDate", date)
+                    .queryParam("productId", 35455).queryParam("brandId", 1).when().get("/prices")
+                    .then().statusCode(HttpStatus.OK.value()).extract();
+
+            given().queryParam("applicationDate", date).queryParam("productId", 35455)
+                    .queryParam("brandId", 1).when().get("/prices/async")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .contentType(ContentType.JSON)
+                    .header("Cache-Control", equalTo(sync.header("Cache-Control")))
+                    .header("ETag", equalTo(sync.header("ETag")))
+                    .body(equalTo(sync.asString()));
+        }
+    }
+
+    /**
+     * Verifica los errores de la variante asíncrona: sin precio, parámetros inválidos y ETag vigente.
+     */
+    @Test
+    @DisplayName("Asíncrona - Debe responder 404, 400 y 304 como la consulta síncrona")
+    void async_shouldMapErrorsAndConditionalRequests() {
+        given().queryParam("applicationDate", "2019-01-01T00:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices/async")
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body("status", equalTo(404));
+
+        given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", -1)
+                .queryParam("brandId", 1).when().get("/prices/async")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", containsString("positivo"));
+
+        String eTag = given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices/async")
+                .then().statusCode(HttpStatus.OK.value())
+                .extract().header("ETag");
+
+        given().header("If-None-Match", eTag).queryParam("applicationDate", "2020-06-14T10:00:00")
+                .queryParam("productId", 35455).queryParam("brandId", 1).when().get("/prices/async")
+                .then()
+                .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    // ========================================================================
+    // Tests de caché HTTP condicional
+    // ========================================================================
+
+    /**
+     * Verifica que max-age es el configurado, sin depender de la fecha consultada, y que fechas
+     * del mismo tramo comparten un ETag formado por la tarifa y los límites del tramo.
+     */
+    @Test
+    @DisplayName("Caché HTTP - Debe usar el max-age configurado y un ETag por tramo")
+    void httpCache_shouldUseConfiguredMaxAgeWithSegmentETag() {
+        // La promoción (tarifa 2) va de 15:00:00 a 18:30:00, aunque se consulte justo antes del final
+        String eTag = given().queryParam("applicationDate", "2020-06-14T18:28:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header("Cache-Control", equalTo("max-age=300, public"))
+                .header("ETag", equalTo("\"1-35455-2-1592146800-1592159400\""))
+                .extract().header("ETag");
+
+        given().queryParam("applicationDate", "2020-06-14T16:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header("Cache-Control", equalTo("max-age=300, public"))
+                .header("ETag", equalTo(eTag));
+    }
+
+    /**
+     * Verifica que un If-None-Match con el ETag vigente se responde con 304 sin cuerpo.
+     */
+    @Test
+    @DisplayName("Caché HTTP - Debe responder 304 si el ETag coincide")
+    void httpCache_whenETagMatches_shouldReturn304() {
+        String eTag = given().queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices")
+                .then().statusCode(HttpStatus.OK.value())
+                .extract().header("ETag");
+
+        String body = given().header("If-None-Match", eTag)
+                .queryParam("applicationDate", "2020-06-14T10:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices")
+                .then()
+                .statusCode(HttpStatus.NOT_MODIFIED.value())
+                .header("ETag", equalTo(eTag))
+                .extract().asString();
+        assertThat(body).isEmpty();
+
+        given().header("If-None-Match", eTag)
+                .queryParam("applicationDate", "2020-06-14T16:00:00").queryParam("productId", 35455)
+                .queryParam("brandId", 1).when().get("/prices")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("priceList", equalTo(2));
+    }
+
+    // ========================================================================
+    // Tests de exportación NDJSON
+    // ========================================================================
+
+    /**
+     * Verifica que la exportación retorna una línea JSON por producto con su precio ganador.
+     */
+    @Test
+    @DisplayName("Exportación - Debe retornar una línea NDJSON por producto de la marca")
+    void export_shouldStreamOneLinePerProduct() {
+        String body = given()
+                .queryParam("applicationDate", "2020-06-14T16:00:00")
+                .queryParam("brandId", 1)
+                .when()
+                .get("/prices/export")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("application/x-ndjson")
+                .header("Vary", equalToIgnoringCase("accept-encoding"))
+                .extract()
+                .asString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(JsonPath.from(lines[0]).getInt("productId")).isEqualTo(35455);
+        assertThat(JsonPath.from(lines[0]).getInt("priceList")).isEqualTo(2);
+    }
+
+    /**
+     * Verifica que una marca sin precios retorna una exportación vacía.
+     */
+    @Test
+    @DisplayName("Exportación - Debe retornar cuerpo vacío para una marca sin precios")
+    void export_whenBrandHasNoPrices_shouldReturnEmptyBody() {
+        given()
+                .queryParam("applicationDate", "2020-06-14T16:00:00")
+                .queryParam("brandId", 2)
+                .when()
+                .get("/prices/export")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("application/x-ndjson")
+                .body(equalTo(""));
+    }
+
+    /**
+     * Verifica que los parámetros inválidos se rechazan con un error JSON antes de exportar.
+     */
+    @Test
+    @DisplayName("Exportación - Debe retornar Bad Request cuando la marca es inválida")
+    void export_whenBrandIdInvalid_shouldReturn400() {
+        given()
+                .queryParam("applicationDate", "2020-06-14T16:00:00")
+                .queryParam("brandId", -1)
+                .when()
+                .get("/prices/export")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .contentType(ContentType.JSON)
+                .body("message", containsString("marca"));
+    }
+
+    /**
+     * Indica si el motor de búsqueda de la prueba consulta la BD en cada búsqueda.
+     */
+    private boolean queriesDatabase() {
+        return engine.matches("jpa|jdbc");
+    }
 }
@@ -0,0 +1,25 @@
+package com.inditex.prices.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests de Sistema (E2E) ejecutados con la línea temporal materializada (PRICE_TIMELINE).
+ * Reutiliza todos los casos de {@link PriceSystemTest}; la tabla se materializa al arrancar.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:testdb-system-timeline",
+                "spring.jpa.hibernate.ddl-auto=none",
+                "spring.sql.init.mode=always",
+                "prices.repository.engine=timeline",
+                "management.endpoints.web.exposure.include=health,info,metrics,prometheus,pricecache,pricechanges"
+        }
+)
+@DisplayName("Tests de Sistema - API de Precios (línea temporal materializada)")
+class PriceTimelineSystemTest extends PriceSystemTest {
+}
@@ -0,0 +1,110 @@
+package com.inditex.prices.infrastructure.adapter.out.feed;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceFeedRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para PriceCsvFeedAdapter.
+ * Verifica la lectura en streaming del fichero CSV y el tratamiento de líneas erróneas.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DisplayName("PriceCsvFeedAdapter - Tests unitarios de la lectura de ficheros de precios")
+class PriceCsvFeedAdapterTest {
+
+    private final PriceCsvFeedAdapter adapter = new PriceCsvFeedAdapter();
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Verifica que se ignora la cabecera y se leen todos los formatos de fecha admitidos.
+     */
+    @Test
+    @DisplayName("Debe leer las filas en los formatos de fecha admitidos ignorando la cabecera")
+    void shouldReadRowsInSupportedDateFormats() throws IOException {
+        Path feed = write(
+                "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR",
+                "1,2020-06-14-00.00.00,2020-12-31-23.59.59,1,35455,0,35.50,EUR",
+                "",
+                "1, 2020-06-14 15:00:00 ,2020-06-14T18:30:00,2,35455,1,25.45,EUR");
+
+        List<PriceFeedRecord> records = readAll(feed);
+
+        assertThat(records).hasSize(2).allMatch(PriceFeedRecord::isValid);
+        assertThat(records).extracting(PriceFeedRecord::getLineNumber).containsExactly(2L, 4L);
+
+        Price first = records.get(0).getPrice();
+        assertThat(first.getBrandId()).isEqualTo(1);
+        assertThat(first.getProductId()).isEqualTo(35455L);
+        assertThat(first.getPriceList()).isEqualTo(1);
+        assertThat(first.getPriority()).isZero();
+        assertThat(first.getPrice()).isEqualByComparingTo(new BigDecimal("35.50"));
+        assertThat(first.getCurrency()).isEqualTo("EUR");
+        assertThat(first.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(first.getEndDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+
+        Price second = records.get(1).getPrice();
+        assertThat(second.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(second.getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+    }
+
+    /**
+     * Verifica que las líneas mal formadas se entregan como registros inválidos sin detener la lectura.
+     */
+    @Test
+    @DisplayName("Debe marcar como inválidas las líneas mal formadas y seguir leyendo")
+    void shouldMarkMalformedLinesAsInvalid() throws IOException {
+        Path feed = write(
+                "1,2020-06-14-00.00.00,2020-12-31-23.59.59,1,35455,0,35.50",
+                "1,2020-06-14-00.00.00,2020-12-31-23.59.59,uno,35455,0,35.50,EUR",
+                "1,14/06/2020,2020-12-31-23.59.59,1,35455,0,35.50,EUR",
+                "1,2020-06-14-00.00.00,2020-12-31-23.59.59,1,35455,0,35.50,EUR");
+
+        List<PriceFeedRecord> records = readAll(feed);
+
+        assertThat(records).extracting(PriceFeedRecord::isValid).containsExactly(false, false, false, true);
+        assertThat(records.get(0).getError()).isEqualTo("Se esperaban 8 columnas y se encontraron 7");
+        assertThat(records.get(1).getError()).startsWith("Valor numérico inválido");
+        assertThat(records.get(2).getError()).isEqualTo("Fecha inválida: 14/06/2020");
+    }
+
+    /**
+     * Verifica que un fichero inexistente produce un error de E/S.
+     */
+    @Test
+    @DisplayName("Debe fallar si el fichero no existe")
+    void shouldFailWhenFeedDoesNotExist() {
+        Path missing = directory.resolve("missing.csv");
+
+        assertThatThrownBy(() -> adapter.read(missing))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("missing.csv");
+    }
+
+    private List<PriceFeedRecord> readAll(Path feed) {
+        try (Stream<PriceFeedRecord> records = adapter.read(feed)) {
+            return records.toList();
+        }
+    }
+
+    private Path write(String... lines) throws IOException {
+        return Files.write(directory.resolve("prices.csv"), List.of(lines));
+    }
+}
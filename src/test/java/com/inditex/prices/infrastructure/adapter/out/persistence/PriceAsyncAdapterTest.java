@@ -0,0 +1,95 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.exception.PriceLookupRejectedException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceAsyncAdapter.
+ * Verifica que las consultas se resuelven fuera del hilo que las solicita y que se rechazan con
+ * la cola llena.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceAsyncAdapter - Tests unitarios de las consultas asíncronas")
+class PriceAsyncAdapterTest {
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PriceAsyncAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    /**
+     * Verifica que la consulta se completa en un hilo del adaptador.
+     */
+    @Test
+    @DisplayName("Debe resolver la consulta en un hilo del adaptador")
+    void shouldResolveQueryOnAdapterThread() throws Exception {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(priceRepository.findAllPrices(35455L, 1)).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread().getName()).startsWith("prices-async-");
+            return List.<Price>of();
+        });
+        adapter = new PriceAsyncAdapter(priceRepository, transactionManager, 2, 10);
+
+        assertThat(adapter.findAllPrices(35455L, 1).get(2, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    /**
+     * Verifica que, con todos los hilos ocupados y la cola llena, la consulta se rechaza.
+     */
+    @Test
+    @DisplayName("Debe rechazar las consultas con la cola llena")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(priceRepository.findAllPrices(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.<Price>of();
+        });
+        adapter = new PriceAsyncAdapter(priceRepository, transactionManager, 1, 1);
+
+        CompletableFuture<List<Price>> running = adapter.findAllPrices(1L, 1);
+        CompletableFuture<List<Price>> queued = adapter.findAllPrices(2L, 1);
+        CompletableFuture<List<Price>> rejected = adapter.findAllPrices(3L, 1);
+
+        assertThat(rejected).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(PriceLookupRejectedException.class);
+        assertThat(adapter.rejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(2, TimeUnit.SECONDS)).isEmpty();
+        assertThat(queued.get(2, TimeUnit.SECONDS)).isEmpty();
+    }
+}
@@ -0,0 +1,119 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para PriceInMemoryAdapter.
+ * Verifica que el índice cargado desde H2 resuelve los mismos casos que la consulta JPA.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb-memory-adapter",
+        "prices.repository.engine=memory"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ComponentScan(basePackages = "com.inditex.prices.infrastructure.adapter.out.persistence")
+@DisplayName("PriceInMemoryAdapter Integration Tests")
+class PriceInMemoryAdapterIntegrationTest {
+
+    @Autowired
+    private PriceInMemoryAdapter priceInMemoryAdapter;
+
+    /**
+     * Verifica que cada caso del enunciado retorna únicamente el precio ganador.
+     */
+    @Test
+    @DisplayName("Debe retornar solo el precio ganador para los casos del enunciado")
+    void shouldReturnWinningPriceForRequiredCases() {
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 10, 0))).isEqualTo(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 16, 0))).isEqualTo(2);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 21, 0))).isEqualTo(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 15, 10, 0))).isEqualTo(3);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 16, 21, 0))).isEqualTo(4);
+    }
+
+    /**
+     * Verifica que todos los campos del precio se conservan al cargar el índice.
+     */
+    @Test
+    @DisplayName("Debe conservar todos los campos del precio cargado")
+    void shouldKeepAllFieldsOfLoadedPrice() {
+        List<Price> prices = priceInMemoryAdapter.findApplicablePrices(35455L, 1, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        assertThat(prices).hasSize(1);
+        Price price = prices.get(0);
+        assertThat(price.getId()).isNotNull();
+        assertThat(price.getProductId()).isEqualTo(35455L);
+        assertThat(price.getBrandId()).isEqualTo(1);
+        assertThat(price.getPriority()).isEqualTo(1);
+        assertThat(price.getPrice()).isEqualByComparingTo(new BigDecimal("25.45"));
+        assertThat(price.getCurrency()).isEqualTo("EUR");
+        assertThat(price.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(price.getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+    }
+
+    /**
+     * Verifica que productos desconocidos y fechas sin precio retornan lista vacía.
+     */
+    @Test
+    @DisplayName("Debe retornar lista vacía para productos desconocidos o fechas sin precio")
+    void shouldReturnEmptyWhenNoPriceApplies() {
+        assertThat(priceInMemoryAdapter.findApplicablePrices(99999L, 1, LocalDateTime.of(2020, 6, 14, 10, 0)))
+                .isEmpty();
+        assertThat(priceInMemoryAdapter.findApplicablePrices(35455L, 1, LocalDateTime.of(2019, 1, 1, 10, 0)))
+                .isEmpty();
+        assertThat(priceInMemoryAdapter.findApplicablePrices(35455L, 2, LocalDateTime.of(2020, 6, 14, 10, 0)))
+                .isEmpty();
+    }
+
+    /**
+     * Verifica que retorna todos los precios cargados del producto.
+     */
+    @Test
+    @DisplayName("Debe retornar todos los precios cargados del producto")
+    void shouldReturnAllLoadedPricesOfProduct() {
+        assertThat(priceInMemoryAdapter.findAllPrices(35455L, 1))
+                .extracting(Price::getPriceList)
+                .containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(priceInMemoryAdapter.findAllPrices(99999L, 1)).isEmpty();
+        assertThat(priceInMemoryAdapter.findAllKeys()).containsExactly(PriceKey.of(35455L, 1));
+    }
+
+    /**
+     * Verifica que la exportación entrega el precio ganador de cada producto de la marca.
+     */
+    @Test
+    @DisplayName("Debe exportar el precio ganador de cada producto de la marca")
+    void shouldExportWinningPricePerProduct() {
+        List<Price> exported = new ArrayList<>();
+
+        long count = priceInMemoryAdapter.forEachApplicablePrice(1, LocalDateTime.of(2020, 6, 15, 10, 0), exported::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(exported).extracting(Price::getPriceList).containsExactly(3);
+        assertThat(priceInMemoryAdapter.forEachApplicablePrice(2, LocalDateTime.of(2020, 6, 15, 10, 0), exported::add))
+                .isZero();
+    }
+
+    private Integer priceListAt(LocalDateTime applicationDate) {
+        List<Price> prices = priceInMemoryAdapter.findApplicablePrices(35455L, 1, applicationDate);
+        assertThat(prices).hasSize(1);
+        return prices.get(0).getPriceList();
+    }
+}
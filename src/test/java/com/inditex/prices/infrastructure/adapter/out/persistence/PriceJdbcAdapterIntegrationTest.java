@@ -0,0 +1,272 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests de integración para PriceJdbcAdapter.
+ * Verifica que las consultas JDBC resuelven los mismos casos que el adaptador JPA.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb-jdbc-adapter",
+        "prices.repository.engine=jdbc"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ComponentScan(basePackages = "com.inditex.prices.infrastructure.adapter.out.persistence")
+@Import(SimpleMeterRegistry.class)
+@DisplayName("PriceJdbcAdapter Integration Tests")
+class PriceJdbcAdapterIntegrationTest {
+
+    @Autowired
+    private PriceJdbcAdapter priceJdbcAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Verifica que cada caso del enunciado retorna el precio ganador con una única fila.
+     */
+    @Test
+    @DisplayName("Debe retornar solo el precio ganador para los casos del enunciado")
+    void shouldFindWinningPriceForRequiredCases() {
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 10, 0))).isEqualTo(1);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 16, 0))).isEqualTo(2);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 21, 0))).isEqualTo(1);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 15, 10, 0))).isEqualTo(3);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 16, 21, 0))).isEqualTo(4);
+    }
+
+    /**
+     * Verifica que el RowMapper construye todos los campos del precio de dominio.
+     */
+    @Test
+    @DisplayName("Debe construir todos los campos del precio desde la fila")
+    void shouldMapAllFieldsFromRow() {
+        Optional<Price> price = priceJdbcAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        assertThat(price).isPresent();
+        assertThat(price.get().getId()).isNotNull();
+        assertThat(price.get().getProductId()).isEqualTo(35455L);
+        assertThat(price.get().getBrandId()).isEqualTo(1);
+        assertThat(price.get().getPriceList()).isEqualTo(2);
+        assertThat(price.get().getPriority()).isEqualTo(1);
+        assertThat(price.get().getPrice()).isEqualByComparingTo(new BigDecimal("25.45"));
+        assertThat(price.get().getCurrency()).isEqualTo("EUR");
+        assertThat(price.get().getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(price.get().getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+    }
+
+    /**
+     * Verifica que los candidatos se retornan ordenados por prioridad descendente.
+     */
+    @Test
+    @DisplayName("Debe retornar los candidatos ordenados por prioridad descendente")
+    void shouldReturnCandidatesOrderedByPriority() {
+        List<Price> prices = priceJdbcAdapter.findApplicablePrices(35455L, 1, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        assertThat(prices).extracting(Price::getPriceList).containsExactly(2, 1);
+    }
+
+    /**
+     * Verifica que productos desconocidos y fechas sin precio no retornan resultados.
+     */
+    @Test
+    @DisplayName("Debe retornar vacío cuando no hay precios que coincidan")
+    void shouldReturnEmptyWhenNoPricesMatch() {
+        assertThat(priceJdbcAdapter.findApplicablePrice(99999L, 1, LocalDateTime.of(2020, 6, 14, 10, 0))).isEmpty();
+        assertThat(priceJdbcAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2019, 1, 1, 0, 0))).isEmpty();
+        assertThat(priceJdbcAdapter.findApplicablePrices(35455L, 2, LocalDateTime.of(2020, 6, 14, 10, 0))).isEmpty();
+    }
+
+    /**
+     * Verifica el desempate por PRICE_LIST a igual prioridad; la transacción del test se revierte.
+     */
+    @Test
+    @DisplayName("Debe desempatar por PRICE_LIST cuando la prioridad es igual")
+    void shouldBreakPriorityTiesByPriceList() {
+        insertPrice(35455L, 5, 0, "34.00");
+
+        Optional<Price> price = priceJdbcAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        assertThat(price).isPresent();
+        assertThat(price.get().getPriceList()).isEqualTo(5);
+    }
+
+    /**
+     * Verifica que la consulta funciona sin una transacción envolvente.
+     */
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Debe consultar sin transacción envolvente")
+    void shouldQueryWithoutSurroundingTransaction() {
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 15, 10, 0))).isEqualTo(3);
+    }
+
+    /**
+     * Verifica la consulta por lotes, ignorando duplicados y consultas sin precio.
+     */
+    @Test
+    @DisplayName("Debe resolver un lote de consultas en una única consulta")
+    void shouldResolveBatchOfQueries() {
+        PriceQuery test1 = query(LocalDateTime.of(2020, 6, 14, 10, 0), 35455L);
+        PriceQuery test2 = query(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L);
+        PriceQuery test4 = query(LocalDateTime.of(2020, 6, 15, 10, 0), 35455L);
+        PriceQuery missing = query(LocalDateTime.of(2020, 6, 14, 10, 0), 99999L);
+
+        Map<PriceQuery, Price> prices = priceJdbcAdapter.findApplicablePrices(List.of(test1, test2, test4, missing, test2));
+
+        assertThat(prices).hasSize(3).doesNotContainKey(missing);
+        assertThat(prices.get(test1).getPriceList()).isEqualTo(1);
+        assertThat(prices.get(test2).getPriceList()).isEqualTo(2);
+        assertThat(prices.get(test4).getPriceList()).isEqualTo(3);
+        assertThat(priceJdbcAdapter.findApplicablePrices(List.of())).isEmpty();
+    }
+
+    /**
+     * Verifica la línea temporal completa del producto y las claves distintas.
+     */
+    @Test
+    @DisplayName("Debe retornar todos los precios del producto y las claves distintas")
+    void shouldFindAllPricesAndKeys() {
+        assertThat(priceJdbcAdapter.findAllPrices(35455L, 1))
+                .extracting(Price::getPriceList)
+                .containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(priceJdbcAdapter.findAllPrices(99999L, 1)).isEmpty();
+        assertThat(priceJdbcAdapter.findAllKeys()).containsExactly(PriceKey.of(35455L, 1));
+
+        List<PriceKey> streamed = new ArrayList<>();
+        assertThat(priceJdbcAdapter.forEachKey(streamed::add)).isEqualTo(1);
+        assertThat(streamed).containsExactly(PriceKey.of(35455L, 1));
+        assertThat(priceJdbcAdapter.countKeys()).isEqualTo(1);
+    }
+
+    /**
+     * Test de línea temporal por lotes: una única consulta para varios productos.
+     */
+    @Test
+    @DisplayName("Debe retornar todos los precios de varios productos en una única consulta")
+    void shouldFindAllPricesOfSeveralProducts() {
+        PriceKey key = PriceKey.of(35455L, 1);
+        PriceKey missing = PriceKey.of(99999L, 1);
+        PriceKey otherBrand = PriceKey.of(35455L, 2);
+
+        // Tres pares distintos: la consulta lleva una fila de relleno hasta cuatro
+        Map<PriceKey, List<Price>> prices = priceJdbcAdapter.findAllPrices(List.of(key, missing, key, otherBrand));
+
+        assertThat(prices).containsOnlyKeys(key);
+        assertThat(prices.get(key)).extracting(Price::getPriceList).containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(priceJdbcAdapter.findAllPrices(List.<PriceKey>of())).isEmpty();
+    }
+
+    /**
+     * Test de intervalo: retorna solo los precios cuya vigencia se solapa con el intervalo.
+     */
+    @Test
+    @DisplayName("Debe retornar los precios que se solapan con el intervalo")
+    void shouldFindPricesOverlappingRange() {
+        assertThat(priceJdbcAdapter.findPricesBetween(35455L, 1,
+                        LocalDateTime.of(2020, 6, 14, 16, 0), LocalDateTime.of(2020, 6, 14, 23, 0)))
+                .extracting(Price::getPriceList)
+                .containsExactlyInAnyOrder(1, 2);
+        assertThat(priceJdbcAdapter.findPricesBetween(35455L, 1,
+                        LocalDateTime.of(2020, 6, 15, 11, 0, 1), LocalDateTime.of(2020, 6, 15, 15, 59, 59)))
+                .extracting(Price::getPriceList)
+                .containsExactly(1);
+        assertThat(priceJdbcAdapter.findPricesBetween(35455L, 1,
+                        LocalDateTime.of(2019, 1, 1, 0, 0), LocalDateTime.of(2019, 12, 31, 0, 0))).isEmpty();
+    }
+
+    /**
+     * Verifica que la exportación entrega el precio ganador de cada producto de la marca.
+     */
+    @Test
+    @DisplayName("Debe exportar el precio ganador de cada producto de la marca")
+    void shouldExportWinningPricePerProduct() {
+        insertPrice(35456L, 7, 0, "19.95");
+        List<Price> exported = new ArrayList<>();
+
+        long count = priceJdbcAdapter.forEachApplicablePrice(1, LocalDateTime.of(2020, 6, 14, 16, 0), exported::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(exported)
+                .extracting(Price::getProductId, Price::getPriceList)
+                .containsExactly(tuple(35455L, 2), tuple(35456L, 7));
+        assertThat(priceJdbcAdapter.forEachApplicablePrice(2, LocalDateTime.of(2020, 6, 14, 16, 0), exported::add))
+                .isZero();
+    }
+
+    /**
+     * Verifica que cada consulta registra las filas retornadas en prices.repository.rows.
+     */
+    @Test
+    @DisplayName("Debe registrar las filas retornadas por consulta")
+    void shouldRecordReturnedRowsPerQuery() {
+        long singleBefore = rowsSummary("single").count();
+
+        priceJdbcAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2020, 6, 14, 16, 0));
+        priceJdbcAdapter.findApplicablePrices(35455L, 1, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        assertThat(rowsSummary("single").count()).isEqualTo(singleBefore + 1);
+        assertThat(rowsSummary("candidates").max()).isEqualTo(2.0);
+    }
+
+    private void insertPrice(Long productId, int priceList, int priority, String price) {
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, "
+                        + "PRICE, CURR) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                1,
+                Timestamp.valueOf(LocalDateTime.of(2020, 6, 14, 0, 0)),
+                Timestamp.valueOf(LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                priceList, productId, priority, new BigDecimal(price), "EUR");
+    }
+
+    private DistributionSummary rowsSummary(String query) {
+        return DistributionSummary.builder("prices.repository.rows")
+                .tag("query", query)
+                .register(meterRegistry);
+    }
+
+    private static PriceQuery query(LocalDateTime applicationDate, Long productId) {
+        return PriceQuery.builder()
+                .applicationDate(applicationDate)
+                .productId(productId)
+                .brandId(1)
+                .build();
+    }
+
+    private Integer winningPriceListAt(LocalDateTime applicationDate) {
+        Optional<Price> price = priceJdbcAdapter.findApplicablePrice(35455L, 1, applicationDate);
+        assertThat(price).isPresent();
+        return price.get().getPriceList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests de integración para PriceJdbcImportAdapter y BrandJpaAdapter.
+ * Verifica la inserción y actualización por lotes contra el esquema real de H2.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb-import-adapter",
+        "prices.import.batch-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ComponentScan(basePackages = "com.inditex.prices.infrastructure.adapter.out.persistence")
+@Import(SimpleMeterRegistry.class)
+@DisplayName("PriceJdbcImportAdapter Integration Tests")
+class PriceJdbcImportAdapterIntegrationTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2021, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2021, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private PriceJdbcImportAdapter priceJdbcImportAdapter;
+
+    @Autowired
+    private BrandJpaAdapter brandJpaAdapter;
+
+    @Autowired
+    private PriceJpaAdapter priceJpaAdapter;
+
+    /**
+     * Verifica que se insertan filas nuevas en varios lotes JDBC.
+     */
+    @Test
+    @DisplayName("Debe insertar precios nuevos en varios lotes")
+    void shouldInsertNewPricesAcrossBatches() {
+        List<Price> prices = IntStream.rangeClosed(1, 5)
+                .mapToObj(product -> price(1000L + product, 1, "10.00"))
+                .toList();
+
+        int written = priceJdbcImportAdapter.upsertPrices(prices);
+
+        assertThat(written).isEqualTo(5);
+        assertThat(priceJpaAdapter.findAllPrices(1003L, 1))
+                .extracting(Price::getPriceList, Price::getStartDate, Price::getEndDate, Price::getCurrency)
+                .containsExactly(tuple(1, START, END, "EUR"));
+    }
+
+    /**
+     * Verifica que una fila con la misma clave de uq_price_entry actualiza la existente.
+     */
+    @Test
+    @DisplayName("Debe actualizar el precio existente con la misma clave única")
+    void shouldUpdateExistingPriceWithSameUniqueKey() {
+        priceJdbcImportAdapter.upsertPrices(List.of(price(2000L, 0, "10.00")));
+
+        priceJdbcImportAdapter.upsertPrices(List.of(price(2000L, 3, "12.50")));
+
+        assertThat(priceJpaAdapter.findAllPrices(2000L, 1))
+                .singleElement()
+                .satisfies(price -> {
+                    assertThat(price.getPriority()).isEqualTo(3);
+                    assertThat(price.getPrice()).isEqualByComparingTo(new BigDecimal("12.50"));
+                });
+    }
+
+    /**
+     * Verifica que se leen las marcas existentes.
+     */
+    @Test
+    @DisplayName("Debe retornar los identificadores de las marcas existentes")
+    void shouldReturnExistingBrandIds() {
+        assertThat(brandJpaAdapter.findAllIds()).containsExactly(1);
+    }
+
+    private static Price price(Long productId, int priority, String amount) {
+        return Price.builder()
+                .productId(productId)
+                .brandId(1)
+                .priceList(1)
+                .startDate(START)
+                .endDate(END)
+                .priority(priority)
+                .price(new BigDecimal(amount))
+                .currency("EUR")
+                .build();
+    }
+}
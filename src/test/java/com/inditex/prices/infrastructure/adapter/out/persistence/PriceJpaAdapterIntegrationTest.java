@@ -1,18 +1,30 @@
 package com.inditex.prices.infrastructure.adapter.out.persistence;
 
 import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceEntity;
+import com.inditex.prices.infrastructure.adapter.out.persistence.repository.PriceJpaRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Tests de integración para PriceJpaAdapter.
@@ -24,12 +36,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ComponentScan(basePackages = "com.inditex.prices.infrastructure.adapter.out.persistence")
+@Import(SimpleMeterRegistry.class)
 @DisplayName("PriceJpaAdapter Integration Tests")
 class PriceJpaAdapterIntegrationTest {
 
     @Autowired
     private PriceJpaAdapter priceJpaAdapter;
 
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * Test 1: Petición a las 10:00 del día 14 del producto 35455 para la brand 1 (ZARA)
      * <p>
@@ -322,4 +341,235 @@ class PriceJpaAdapterIntegrationTest {
         assertThat(price.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
         assertThat(price.getEndDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
     }
+
+    /**
+     * Test de consulta de fila única: verifica que la BD retorna solo el precio ganador
+     * para los cinco casos del enunciado.
+     */
+    @Test
+    @DisplayName("Debe retornar solo el precio ganador desde la BD para los casos del enunciado")
+    void shouldFindWinningPriceForRequiredCases() {
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 10, 0))).isEqualTo(1);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 16, 0))).isEqualTo(2);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 21, 0))).isEqualTo(1);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 15, 10, 0))).isEqualTo(3);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 16, 21, 0))).isEqualTo(4);
+    }
+
+    /**
+     * Test de caso borde de fila única: sin coincidencias se retorna un Optional vacío.
+     */
+    @Test
+    @DisplayName("Debe retornar vacío cuando no hay precio ganador")
+    void shouldReturnEmptyWinningPriceWhenNoPricesMatch() {
+        assertThat(priceJpaAdapter.findApplicablePrice(99999L, 1, LocalDateTime.of(2020, 6, 14, 10, 0)))
+            .isEmpty();
+        assertThat(priceJpaAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2019, 1, 1, 0, 0)))
+            .isEmpty();
+    }
+
+    /**
+     * Test de desempate: a igual prioridad gana la tarifa (PRICE_LIST) más alta.
+     * <p>
+     * Inserta una tarifa adicional con la misma prioridad y rango que el precio base;
+     * la transacción del test se revierte al finalizar.
+     * </p>
+     */
+    @Test
+    @DisplayName("Debe desempatar por PRICE_LIST cuando la prioridad es igual")
+    void shouldBreakPriorityTiesByPriceList() {
+        // Arrange: Tarifa 5 con la misma prioridad y vigencia que la tarifa base
+        PriceEntity tied = PriceEntity.builder()
+            .brandId(1)
+            .productId(35455L)
+            .priceList(5)
+            .priority(0)
+            .price(new BigDecimal("34.00"))
+            .currency("EUR")
+            .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+            .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .build();
+        priceJpaRepository.saveAndFlush(tied);
+
+        // Act
+        Optional<Price> price = priceJpaAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        // Assert
+        assertThat(price).isPresent();
+        assertThat(price.get().getPriceList()).isEqualTo(5);
+        assertThat(price.get().getPrice()).isEqualByComparingTo(new BigDecimal("34.00"));
+    }
+
+    /**
+     * Test de consulta por lotes: resuelve los cinco casos del enunciado y un producto
+     * inexistente en una única consulta, ignorando duplicados.
+     */
+    @Test
+    @DisplayName("Debe resolver un lote de consultas en una única consulta nativa")
+    void shouldResolveBatchOfQueries() {
+        // Arrange
+        PriceQuery test1 = query(LocalDateTime.of(2020, 6, 14, 10, 0), 35455L);
+        PriceQuery test2 = query(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L);
+        PriceQuery test3 = query(LocalDateTime.of(2020, 6, 14, 21, 0), 35455L);
+        PriceQuery test4 = query(LocalDateTime.of(2020, 6, 15, 10, 0), 35455L);
+        PriceQuery test5 = query(LocalDateTime.of(2020, 6, 16, 21, 0), 35455L);
+        PriceQuery missing = query(LocalDateTime.of(2020, 6, 14, 10, 0), 99999L);
+
+        // Act
+        Map<PriceQuery, Price> prices = priceJpaAdapter.findApplicablePrices(
+            List.of(test1, test2, test3, test4, test5, missing, test2));
+
+        // Assert
+        assertThat(prices).hasSize(5).doesNotContainKey(missing);
+        assertThat(prices.get(test1).getPriceList()).isEqualTo(1);
+        assertThat(prices.get(test2).getPriceList()).isEqualTo(2);
+        assertThat(prices.get(test3).getPriceList()).isEqualTo(1);
+        assertThat(prices.get(test4).getPriceList()).isEqualTo(3);
+        assertThat(prices.get(test5).getPriceList()).isEqualTo(4);
+        assertThat(prices.get(test2).getPrice()).isEqualByComparingTo(new BigDecimal("25.45"));
+        assertThat(prices.get(test2).getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+    }
+
+    /**
+     * Test de consulta por lotes vacía: no accede a la BD y retorna un mapa vacío.
+     */
+    @Test
+    @DisplayName("Debe retornar mapa vacío para un lote vacío")
+    void shouldReturnEmptyMapForEmptyBatch() {
+        assertThat(priceJpaAdapter.findApplicablePrices(List.of())).isEmpty();
+    }
+
+    /**
+     * Test de línea temporal: retorna todos los precios del producto sin filtrar por fecha.
+     */
+    @Test
+    @DisplayName("Debe retornar todos los precios del producto y marca")
+    void shouldFindAllPricesOfProduct() {
+        assertThat(priceJpaAdapter.findAllPrices(35455L, 1))
+            .extracting(Price::getPriceList)
+            .containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(priceJpaAdapter.findAllPrices(99999L, 1)).isEmpty();
+    }
+
+    /**
+     * Test de línea temporal por lotes: retorna los precios de varios productos en una única
+     * consulta nativa, ignorando duplicados y omitiendo los pares sin precios.
+     */
+    @Test
+    @DisplayName("Debe retornar todos los precios de varios productos en una única consulta")
+    void shouldFindAllPricesOfSeveralProducts() {
+        PriceKey key = PriceKey.of(35455L, 1);
+        PriceKey missing = PriceKey.of(99999L, 1);
+        PriceKey otherBrand = PriceKey.of(35455L, 2);
+
+        // Tres pares distintos: la consulta lleva una fila de relleno hasta cuatro
+        Map<PriceKey, List<Price>> prices = priceJpaAdapter.findAllPrices(List.of(key, missing, key, otherBrand));
+
+        assertThat(prices).containsOnlyKeys(key);
+        assertThat(prices.get(key)).extracting(Price::getPriceList).containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(priceJpaAdapter.findAllPrices(List.<PriceKey>of())).isEmpty();
+    }
+
+    /**
+     * Test de intervalo: retorna solo los precios cuya vigencia se solapa con el intervalo.
+     */
+    @Test
+    @DisplayName("Debe retornar los precios que se solapan con el intervalo")
+    void shouldFindPricesOverlappingRange() {
+        assertThat(priceJpaAdapter.findPricesBetween(35455L, 1,
+                LocalDateTime.of(2020, 6, 14, 16, 0), LocalDateTime.of(2020, 6, 14, 23, 0)))
+            .extracting(Price::getPriceList)
+            .containsExactlyInAnyOrder(1, 2);
+        assertThat(priceJpaAdapter.findPricesBetween(35455L, 1,
+                LocalDateTime.of(2020, 6, 15, 11, 0, 1), LocalDateTime.of(2020, 6, 15, 15, 59, 59)))
+            .extracting(Price::getPriceList)
+            .containsExactly(1);
+        assertThat(priceJpaAdapter.findPricesBetween(35455L, 1,
+                LocalDateTime.of(2019, 1, 1, 0, 0), LocalDateTime.of(2019, 12, 31, 0, 0))).isEmpty();
+    }
+
+    /**
+     * Test de claves: retorna un único par (producto, marca) aunque tenga varios precios.
+     */
+    @Test
+    @DisplayName("Debe retornar las claves distintas de los productos con precios")
+    void shouldFindDistinctKeys() {
+        assertThat(priceJpaAdapter.findAllKeys()).containsExactly(PriceKey.of(35455L, 1));
+
+        List<PriceKey> streamed = new ArrayList<>();
+        assertThat(priceJpaAdapter.forEachKey(streamed::add)).isEqualTo(1);
+        assertThat(streamed).containsExactly(PriceKey.of(35455L, 1));
+        assertThat(priceJpaAdapter.countKeys()).isEqualTo(1);
+    }
+
+    /**
+     * Test de exportación: entrega un único precio (el ganador) por producto, en orden de producto.
+     */
+    @Test
+    @DisplayName("Debe exportar el precio ganador de cada producto de la marca")
+    void shouldExportWinningPricePerProduct() {
+        // Arrange: Segundo producto con un único precio vigente
+        priceJpaRepository.saveAndFlush(PriceEntity.builder()
+            .brandId(1)
+            .productId(35456L)
+            .priceList(7)
+            .priority(0)
+            .price(new BigDecimal("19.95"))
+            .currency("EUR")
+            .startDate(LocalDateTime.of(2020, 1, 1, 0, 0))
+            .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .build());
+
+        // Act
+        List<Price> exported = new ArrayList<>();
+        long count = priceJpaAdapter.forEachApplicablePrice(1, LocalDateTime.of(2020, 6, 14, 16, 0), exported::add);
+
+        // Assert: Producto 35455 con la tarifa promocional y producto 35456 con su única tarifa
+        assertThat(count).isEqualTo(2);
+        assertThat(exported)
+            .extracting(Price::getProductId, Price::getPriceList)
+            .containsExactly(tuple(35455L, 2), tuple(35456L, 7));
+        assertThat(priceJpaAdapter.forEachApplicablePrice(2, LocalDateTime.of(2020, 6, 14, 16, 0), exported::add))
+            .isZero();
+    }
+
+    /**
+     * Test de métricas: cada consulta registra las filas retornadas en prices.repository.rows.
+     */
+    @Test
+    @DisplayName("Debe registrar las filas retornadas por consulta")
+    void shouldRecordReturnedRowsPerQuery() {
+        // Arrange
+        long singleBefore = rowsSummary("single").count();
+        long candidatesBefore = rowsSummary("candidates").count();
+
+        // Act
+        priceJpaAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2020, 6, 14, 16, 0));
+        priceJpaAdapter.findApplicablePrices(35455L, 1, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Assert
+        assertThat(rowsSummary("single").count()).isEqualTo(singleBefore + 1);
+        assertThat(rowsSummary("candidates").count()).isEqualTo(candidatesBefore + 1);
+        assertThat(rowsSummary("candidates").max()).isEqualTo(2.0);
+    }
+
+    private DistributionSummary rowsSummary(String query) {
+        return DistributionSummary.builder("prices.repository.rows")
+            .tag("query", query)
+            .register(meterRegistry);
+    }
+
+    private static PriceQuery query(LocalDateTime applicationDate, Long productId) {
+        return PriceQuery.builder()
+            .applicationDate(applicationDate)
+            .productId(productId)
+            .brandId(1)
+            .build();
+    }
+
+    private Integer winningPriceListAt(LocalDateTime applicationDate) {
+        Optional<Price> price = priceJpaAdapter.findApplicablePrice(35455L, 1, applicationDate);
+        assertThat(price).isPresent();
+        return price.get().getPriceList();
+    }
 }
@@ -0,0 +1,186 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.event.PricesChangedEvent;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests de integración para PriceSnapshotAdapter y PriceSnapshotFileHandler.
+ * Verifica que la instantánea generada desde H2 resuelve los mismos casos que la consulta JPA.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb-snapshot-adapter",
+        "prices.repository.engine=snapshot",
+        "prices.snapshot.file=${java.io.tmpdir}/prices-snapshot-adapter-test.bin"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ComponentScan(basePackages = "com.inditex.prices.infrastructure.adapter.out.persistence")
+@Import(SimpleMeterRegistry.class)
+@DisplayName("PriceSnapshotAdapter Integration Tests")
+class PriceSnapshotAdapterIntegrationTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Autowired
+    private PriceSnapshotAdapter priceSnapshotAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Regenera la instantánea tras revertir la transacción del test, descartando los cambios
+     * aplicados por los tests que modifican PRICES.
+     */
+    @AfterTransaction
+    void restoreSnapshot() {
+        priceSnapshotAdapter.reload();
+    }
+
+    /**
+     * Verifica que cada caso del enunciado retorna el precio ganador.
+     */
+    @Test
+    @DisplayName("Debe retornar solo el precio ganador para los casos del enunciado")
+    void shouldFindWinningPriceForRequiredCases() {
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 10, 0))).isEqualTo(1);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 16, 0))).isEqualTo(2);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 14, 21, 0))).isEqualTo(1);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 15, 10, 0))).isEqualTo(3);
+        assertThat(winningPriceListAt(LocalDateTime.of(2020, 6, 16, 21, 0))).isEqualTo(4);
+    }
+
+    /**
+     * Verifica que las columnas primitivas reconstruyen todos los campos del precio.
+     */
+    @Test
+    @DisplayName("Debe reconstruir todos los campos del precio desde las columnas")
+    void shouldRebuildAllFieldsFromColumns() {
+        Optional<Price> price = priceSnapshotAdapter.findApplicablePrice(35455L, 1, DATE);
+
+        assertThat(price).isPresent();
+        assertThat(price.get().getId()).isNotNull();
+        assertThat(price.get().getProductId()).isEqualTo(35455L);
+        assertThat(price.get().getBrandId()).isEqualTo(1);
+        assertThat(price.get().getPriority()).isEqualTo(1);
+        assertThat(price.get().getPrice()).isEqualByComparingTo(new BigDecimal("25.45"));
+        assertThat(price.get().getCurrency()).isEqualTo("EUR");
+        assertThat(price.get().getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(price.get().getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+    }
+
+    /**
+     * Verifica los candidatos vigentes, la línea temporal completa y las claves.
+     */
+    @Test
+    @DisplayName("Debe retornar candidatos ordenados, todos los precios y las claves")
+    void shouldFindCandidatesAllPricesAndKeys() {
+        assertThat(priceSnapshotAdapter.findApplicablePrices(35455L, 1, DATE))
+                .extracting(Price::getPriceList)
+                .containsExactly(2, 1);
+        assertThat(priceSnapshotAdapter.findAllPrices(35455L, 1))
+                .extracting(Price::getPriceList)
+                .containsExactlyInAnyOrder(1, 2, 3, 4);
+        assertThat(priceSnapshotAdapter.findAllKeys()).containsExactly(PriceKey.of(35455L, 1));
+    }
+
+    /**
+     * Verifica que productos, marcas y fechas sin precio no retornan resultados.
+     */
+    @Test
+    @DisplayName("Debe retornar vacío cuando no hay precio vigente")
+    void shouldReturnEmptyWhenNoPriceApplies() {
+        assertThat(priceSnapshotAdapter.findApplicablePrice(99999L, 1, DATE)).isEmpty();
+        assertThat(priceSnapshotAdapter.findApplicablePrice(1L, 1, DATE)).isEmpty();
+        assertThat(priceSnapshotAdapter.findApplicablePrice(35455L, 2, DATE)).isEmpty();
+        assertThat(priceSnapshotAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2019, 1, 1, 0, 0)))
+                .isEmpty();
+        assertThat(priceSnapshotAdapter.findAllPrices(99999L, 1)).isEmpty();
+    }
+
+    /**
+     * Verifica que un cambio de producto se aplica en la capa en memoria sin regenerar el fichero,
+     * y que la exportación mezcla esa capa con la instantánea en orden de producto.
+     */
+    @Test
+    @DisplayName("Debe aplicar los cambios de un producto sobre la instantánea")
+    void shouldApplyProductChangesOverSnapshot() {
+        insertPrice(35454L, 7, "19.95");
+        insertPrice(35455L, 8, "9.95");
+
+        priceSnapshotAdapter.onPricesChanged(PricesChangedEvent.of(PriceKey.of(35454L, 1)));
+        priceSnapshotAdapter.onPricesChanged(PricesChangedEvent.of(PriceKey.of(35455L, 1)));
+
+        assertThat(winningPriceListAt(DATE)).isEqualTo(8);
+        assertThat(priceSnapshotAdapter.findApplicablePrice(35454L, 1, DATE))
+                .map(Price::getPriceList)
+                .contains(7);
+        assertThat(priceSnapshotAdapter.findAllKeys())
+                .containsExactlyInAnyOrder(PriceKey.of(35454L, 1), PriceKey.of(35455L, 1));
+
+        List<Price> exported = new ArrayList<>();
+        long count = priceSnapshotAdapter.forEachApplicablePrice(1, DATE, exported::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(exported)
+                .extracting(Price::getProductId, Price::getPriceList)
+                .containsExactly(tuple(35454L, 7), tuple(35455L, 8));
+    }
+
+    /**
+     * Verifica que un cambio global regenera la instantánea con las filas nuevas.
+     */
+    @Test
+    @DisplayName("Debe regenerar la instantánea ante un cambio global")
+    void shouldRebuildSnapshotOnGlobalChange() {
+        insertPrice(35456L, 9, "29.95");
+
+        priceSnapshotAdapter.onPricesChanged(PricesChangedEvent.all());
+
+        List<Price> exported = new ArrayList<>();
+        long count = priceSnapshotAdapter.forEachApplicablePrice(1, DATE, exported::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(exported)
+                .extracting(Price::getProductId, Price::getPriceList)
+                .containsExactly(tuple(35455L, 2), tuple(35456L, 9));
+        assertThat(priceSnapshotAdapter.forEachApplicablePrice(2, DATE, exported::add)).isZero();
+    }
+
+    private void insertPrice(Long productId, int priceList, String price) {
+        jdbcTemplate.update("INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, "
+                        + "PRICE, CURR) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                1,
+                Timestamp.valueOf(LocalDateTime.of(2020, 6, 14, 0, 0)),
+                Timestamp.valueOf(LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                priceList, productId, 5, new BigDecimal(price), "EUR");
+    }
+
+    private Integer winningPriceListAt(LocalDateTime applicationDate) {
+        Optional<Price> price = priceSnapshotAdapter.findApplicablePrice(35455L, 1, applicationDate);
+        assertThat(price).isPresent();
+        return price.get().getPriceList();
+    }
+}
@@ -0,0 +1,210 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.model.PriceSegment;
+import com.inditex.prices.domain.model.PriceTimeline;
+import com.inditex.prices.infrastructure.adapter.out.persistence.entity.PriceTimelineEntity;
+import com.inditex.prices.infrastructure.adapter.out.persistence.repository.PriceTimelineJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para PriceTimelineJpaAdapter.
+ * Verifica que la tabla PRICE_TIMELINE materializada en H2 resuelve los mismos casos
+ * que la consulta sobre PRICES.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb-timeline-adapter",
+        "prices.repository.engine=timeline"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ComponentScan(basePackages = "com.inditex.prices.infrastructure.adapter.out.persistence")
+@DisplayName("PriceTimelineJpaAdapter Integration Tests")
+class PriceTimelineJpaAdapterIntegrationTest {
+
+    private static final PriceKey KEY = PriceKey.of(35455L, 1);
+
+    @Autowired
+    private PriceTimelineJpaAdapter timelineAdapter;
+
+    @Autowired
+    private PriceTimelineJpaRepository timelineJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        materialize(KEY);
+    }
+
+    /**
+     * Verifica que cada caso del enunciado retorna únicamente el precio ganador.
+     */
+    @Test
+    @DisplayName("Debe retornar solo el precio ganador para los casos del enunciado")
+    void shouldReturnWinningPriceForRequiredCases() {
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 10, 0))).isEqualTo(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 16, 0))).isEqualTo(2);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 21, 0))).isEqualTo(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 15, 10, 0))).isEqualTo(3);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 16, 21, 0))).isEqualTo(4);
+    }
+
+    /**
+     * Verifica que el precio reconstruido desde el tramo conserva los datos del precio original,
+     * incluidas sus fechas de vigencia (no las del tramo).
+     */
+    @Test
+    @DisplayName("Debe conservar los campos y la vigencia original del precio ganador")
+    void shouldKeepOriginalPriceFields() {
+        Price price = timelineAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2020, 6, 14, 21, 0))
+                .orElseThrow();
+
+        assertThat(price.getId()).isNotNull();
+        assertThat(price.getPriceList()).isEqualTo(1);
+        assertThat(price.getPriority()).isZero();
+        assertThat(price.getPrice()).isEqualByComparingTo(new BigDecimal("35.50"));
+        assertThat(price.getCurrency()).isEqualTo("EUR");
+        assertThat(price.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(price.getEndDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    }
+
+    /**
+     * Verifica los extremos inclusivos de los tramos, también con fracciones de segundo.
+     */
+    @Test
+    @DisplayName("Debe respetar los extremos inclusivos de los tramos")
+    void shouldRespectInclusiveSegmentBoundaries() {
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 14, 59, 59))).isEqualTo(1);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 15, 0))).isEqualTo(2);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 500_000_000))).isEqualTo(2);
+        assertThat(priceListAt(LocalDateTime.of(2020, 6, 14, 18, 30, 1))).isEqualTo(1);
+    }
+
+    /**
+     * Verifica que el tramo vigente se lee con sus límites, igual que el de la línea temporal en memoria.
+     */
+    @Test
+    @DisplayName("Debe retornar el tramo vigente con sus límites de validez")
+    void shouldReturnApplicableSegment() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        PriceSegment segment = timelineAdapter.findApplicableSegment(35455L, 1, applicationDate).orElseThrow();
+
+        assertThat(segment.getPrice().getPriceList()).isEqualTo(1);
+        assertThat(segment.getStartDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(segment.getEndDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 14, 59, 59));
+        assertThat(Optional.of(segment)).isEqualTo(PriceTimeline.of(timelineAdapter.findAllPrices(35455L, 1))
+                .segmentAt(applicationDate));
+        assertThat(timelineAdapter.findApplicableSegment(35455L, 1, LocalDateTime.of(2019, 1, 1, 10, 0))).isEmpty();
+    }
+
+    /**
+     * Verifica que productos desconocidos y fechas sin precio no retornan resultado.
+     */
+    @Test
+    @DisplayName("Debe retornar vacío para productos desconocidos o fechas sin precio")
+    void shouldReturnEmptyWhenNoPriceApplies() {
+        assertThat(timelineAdapter.findApplicablePrice(99999L, 1, LocalDateTime.of(2020, 6, 14, 10, 0))).isEmpty();
+        assertThat(timelineAdapter.findApplicablePrice(35455L, 1, LocalDateTime.of(2019, 1, 1, 10, 0))).isEmpty();
+        assertThat(timelineAdapter.findApplicablePrices(35455L, 1, LocalDateTime.of(2021, 1, 1, 0, 0))).isEmpty();
+    }
+
+    /**
+     * Verifica que reemplazar los tramos de un producto es idempotente.
+     */
+    @Test
+    @DisplayName("Debe sustituir los tramos del producto sin duplicarlos")
+    void shouldReplaceSegmentsWithoutDuplicates() {
+        materialize(KEY);
+
+        List<PriceTimelineEntity> segments =
+                timelineJpaRepository.findByProductIdAndBrandIdOrderBySegmentStart(35455L, 1);
+
+        assertThat(segments)
+                .extracting(PriceTimelineEntity::getPriceList)
+                .containsExactly(1, 2, 1, 3, 1, 4);
+    }
+
+    /**
+     * Verifica que se eliminan los tramos de productos sin precios en PRICES.
+     */
+    @Test
+    @DisplayName("Debe eliminar los tramos de productos sin precios")
+    void shouldDeleteOrphanSegments() {
+        Price orphan = Price.builder()
+                .id(99L)
+                .productId(99999L)
+                .brandId(1)
+                .priceList(1)
+                .priority(0)
+                .price(new BigDecimal("10.00"))
+                .startDate(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .currency("EUR")
+                .build();
+        timelineAdapter.replaceSegments(PriceKey.of(99999L, 1), List.of(PriceSegment.builder()
+                .startDate(orphan.getStartDate())
+                .endDate(orphan.getEndDate())
+                .price(orphan)
+                .build()));
+
+        assertThat(timelineAdapter.deleteOrphanSegments()).isEqualTo(1);
+        assertThat(timelineJpaRepository.findByProductIdAndBrandIdOrderBySegmentStart(99999L, 1)).isEmpty();
+        assertThat(timelineJpaRepository.findByProductIdAndBrandIdOrderBySegmentStart(35455L, 1)).hasSize(6);
+    }
+
+    /**
+     * Verifica que las claves de producto se leen de PRICES.
+     */
+    @Test
+    @DisplayName("Debe retornar las claves de los productos con precios")
+    void shouldReturnKeysOfProductsWithPrices() {
+        assertThat(timelineAdapter.findAllKeys()).containsExactly(KEY);
+
+        List<PriceKey> streamed = new ArrayList<>();
+        assertThat(timelineAdapter.forEachKey(streamed::add)).isEqualTo(1);
+        assertThat(streamed).containsExactly(KEY);
+        assertThat(timelineAdapter.countKeys()).isEqualTo(1);
+    }
+
+    /**
+     * Verifica que la exportación lee el tramo vigente de cada producto de la marca.
+     */
+    @Test
+    @DisplayName("Debe exportar el precio del tramo vigente de cada producto")
+    void shouldExportCurrentSegmentPerProduct() {
+        List<Price> exported = new ArrayList<>();
+
+        long count = timelineAdapter.forEachApplicablePrice(1, LocalDateTime.of(2020, 6, 16, 21, 0), exported::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(exported).extracting(Price::getPriceList).containsExactly(4);
+    }
+
+    private void materialize(PriceKey key) {
+        List<Price> prices = timelineAdapter.findAllPrices(key.getProductId(), key.getBrandId());
+        timelineAdapter.replaceSegments(key, PriceTimeline.of(prices).getSegments());
+    }
+
+    private Integer priceListAt(LocalDateTime applicationDate) {
+        return timelineAdapter.findApplicablePrice(35455L, 1, applicationDate)
+                .map(Price::getPriceList)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,217 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.batching;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceBatchingInterceptor.
+ * Verifica que las búsquedas simultáneas de claves distintas se resuelven con una consulta por
+ * lotes, que una búsqueda sola usa la consulta individual sin esperar y que los fallos llegan a
+ * todo el lote. Para que se forme un lote, los tests mantienen en curso otra búsqueda bloqueada.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceBatchingInterceptor - Tests unitarios de la agrupación en lotes")
+class PriceBatchingInterceptorTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Mock
+    private PriceRepository target;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private PriceBatchingInterceptor interceptor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifica que las búsquedas de varios productos se resuelven con una única consulta por lotes.
+     */
+    @Test
+    @DisplayName("Debe resolver las búsquedas simultáneas de claves distintas en un único lote")
+    void shouldResolveConcurrentLookupsInOneBatch() throws Exception {
+        PriceRepository repository = proxy(3, Duration.ofSeconds(5));
+        Price price = price(35455L);
+        Price other = price(35456L);
+        when(target.findAllPrices(anyCollection())).thenReturn(Map.of(
+                PriceKey.of(35455L, 1), List.of(price),
+                PriceKey.of(35456L, 1), List.of(other)));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Price>> blocked = blockTimelineLookup(repository, release);
+
+        CompletableFuture<List<Price>> first = CompletableFuture.supplyAsync(
+                () -> repository.findAllPrices(35455L, 1), executor);
+        CompletableFuture<List<Price>> second = CompletableFuture.supplyAsync(
+                () -> repository.findAllPrices(35456L, 1), executor);
+        CompletableFuture<List<Price>> missing = CompletableFuture.supplyAsync(
+                () -> repository.findAllPrices(99999L, 1), executor);
+
+        assertThat(first.get(2, TimeUnit.SECONDS)).containsExactly(price);
+        assertThat(second.get(2, TimeUnit.SECONDS)).containsExactly(other);
+        assertThat(missing.get(2, TimeUnit.SECONDS)).isEmpty();
+        release.countDown();
+        assertThat(blocked.get(2, TimeUnit.SECONDS)).isEmpty();
+
+        verify(target, times(1)).findAllPrices(anyCollection());
+        verify(target, never()).findAllPrices(35455L, 1);
+        assertThat(interceptor.callCount(PriceBatchingInterceptor.TIMELINE)).isEqualTo(4);
+        assertThat(interceptor.batchCount(PriceBatchingInterceptor.TIMELINE)).isEqualTo(2);
+    }
+
+    /**
+     * Verifica que una búsqueda sin otras en curso usa la consulta individual sin esperar la ventana.
+     */
+    @Test
+    @DisplayName("Debe usar la consulta individual sin esperar cuando no hay otras búsquedas en curso")
+    void shouldUseSingleLookupForLoneCall() {
+        PriceRepository repository = proxy(100, Duration.ofSeconds(5));
+        when(target.findApplicablePrice(35455L, 1, DATE)).thenReturn(Optional.of(price(35455L)));
+
+        assertTimeout(Duration.ofSeconds(1), () -> {
+            assertThat(repository.findApplicablePrice(35455L, 1, DATE)).contains(price(35455L));
+            assertThat(repository.findApplicablePrice(99999L, 1, DATE)).isEmpty();
+        });
+
+        verify(target, never()).findApplicablePrices(anyCollection());
+        assertThat(interceptor.batchCount(PriceBatchingInterceptor.APPLICABLE)).isEqualTo(2);
+    }
+
+    /**
+     * Verifica que la excepción de la consulta por lotes llega a todas las búsquedas del lote.
+     */
+    @Test
+    @DisplayName("Debe propagar el fallo de la consulta por lotes a todas sus búsquedas")
+    void shouldPropagateBatchFailureToAllCallers() throws Exception {
+        PriceRepository repository = proxy(2, Duration.ofSeconds(5));
+        when(target.findApplicablePrices(anyCollection())).thenThrow(new IllegalStateException("BD no disponible"));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Optional<Price>> blocked = blockApplicableLookup(repository, release);
+
+        CompletableFuture<Optional<Price>> first = CompletableFuture.supplyAsync(
+                () -> repository.findApplicablePrice(35455L, 1, DATE), executor);
+        CompletableFuture<Optional<Price>> second = CompletableFuture.supplyAsync(
+                () -> repository.findApplicablePrice(35455L, 1, DATE.plusHours(6)), executor);
+
+        for (CompletableFuture<Optional<Price>> lookup : List.of(first, second)) {
+            assertThatThrownBy(() -> lookup.get(2, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("BD no disponible");
+        }
+        verify(target, times(1)).findApplicablePrices(anyCollection());
+        release.countDown();
+        assertThat(blocked.get(2, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    /**
+     * Verifica que se rechaza un tamaño de lote no positivo.
+     */
+    @Test
+    @DisplayName("Debe rechazar un tamaño máximo de lote no positivo")
+    @SuppressWarnings("unchecked")
+    void shouldRejectNonPositiveMaxSize() {
+        assertThatThrownBy(() -> new PriceBatchingInterceptor(mock(ObjectProvider.class), 0, Duration.ofMillis(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Mantiene en curso una búsqueda de la línea temporal hasta liberar {@code release}, para que
+     * las siguientes no se resuelvan al instante y formen un lote.
+     */
+    private CompletableFuture<List<Price>> blockTimelineLookup(PriceRepository repository, CountDownLatch release)
+            throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        when(target.findAllPrices(1L, 1)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        CompletableFuture<List<Price>> blocked = CompletableFuture.supplyAsync(
+                () -> repository.findAllPrices(1L, 1), executor);
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        return blocked;
+    }
+
+    /**
+     * Mantiene en curso una búsqueda del precio aplicable hasta liberar {@code release}, para que
+     * las siguientes no se resuelvan al instante y formen un lote.
+     */
+    private CompletableFuture<Optional<Price>> blockApplicableLookup(PriceRepository repository,
+                                                                     CountDownLatch release)
+            throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        when(target.findApplicablePrice(1L, 1, DATE)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        CompletableFuture<Optional<Price>> blocked = CompletableFuture.supplyAsync(
+                () -> repository.findApplicablePrice(1L, 1, DATE), executor);
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        return blocked;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PriceRepository proxy(int maxSize, Duration maxDelay) {
+        ObjectProvider<PriceRepository> provider = mock(ObjectProvider.class);
+        interceptor = new PriceBatchingInterceptor(provider, maxSize, maxDelay);
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(PriceBatchingInterceptor.pointcut(), interceptor));
+        PriceRepository repository = (PriceRepository) proxyFactory.getProxy();
+        // Los lotes se resuelven a través del bean con sus proxies, como en la aplicación
+        lenient().when(provider.getObject()).thenReturn(repository);
+        return repository;
+    }
+
+    private static Price price(Long productId) {
+        return Price.builder()
+                .brandId(1)
+                .productId(productId)
+                .priceList(1)
+                .priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .price(new BigDecimal("35.50"))
+                .currency("EUR")
+                .build();
+    }
+}
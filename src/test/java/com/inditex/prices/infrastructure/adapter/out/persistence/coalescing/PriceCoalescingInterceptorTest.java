@@ -0,0 +1,162 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.coalescing;
+
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceCoalescingInterceptor.
+ * Verifica que las lecturas idénticas y simultáneas comparten una sola consulta, su resultado y
+ * su excepción, y que las distintas o sucesivas no se agrupan.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceCoalescingInterceptor - Tests unitarios de la agrupación de lecturas")
+class PriceCoalescingInterceptorTest {
+
+    private static final Price PRICE = Price.builder()
+            .brandId(1)
+            .productId(35455L)
+            .priceList(1)
+            .priority(0)
+            .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+            .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .price(new BigDecimal("35.50"))
+            .currency("EUR")
+            .build();
+
+    @Mock
+    private PriceRepository target;
+
+    private PriceCoalescingInterceptor interceptor;
+    private PriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new PriceCoalescingInterceptor();
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(PriceCoalescingInterceptor.pointcut(), interceptor));
+        repository = (PriceRepository) proxyFactory.getProxy();
+    }
+
+    /**
+     * Verifica que una llamada idéntica a otra en curso recibe su resultado sin consultar.
+     */
+    @Test
+    @DisplayName("Debe compartir una sola consulta entre llamadas idénticas simultáneas")
+    void shouldShareInFlightCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(target.findAllPrices(35455L, 1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(PRICE);
+        });
+
+        CompletableFuture<List<Price>> leader = CompletableFuture.supplyAsync(() -> repository.findAllPrices(35455L, 1));
+        awaitUntil(() -> interceptor.inFlightCount() == 1);
+        CompletableFuture<List<Price>> follower =
+                CompletableFuture.supplyAsync(() -> repository.findAllPrices(35455L, 1));
+        awaitUntil(() -> interceptor.followerCount() == 1);
+        release.countDown();
+
+        assertThat(leader.get(2, TimeUnit.SECONDS)).containsExactly(PRICE);
+        assertThat(follower.get(2, TimeUnit.SECONDS)).isSameAs(leader.get());
+        verify(target, times(1)).findAllPrices(35455L, 1);
+        assertThat(interceptor.leaderCount()).isEqualTo(1);
+        assertThat(interceptor.coalescingRatio()).isEqualTo(0.5);
+        assertThat(interceptor.inFlightCount()).isZero();
+    }
+
+    /**
+     * Verifica que la excepción de la llamada líder llega también a las seguidoras.
+     */
+    @Test
+    @DisplayName("Debe propagar la excepción de la consulta a todas las llamadas agrupadas")
+    void shouldPropagateLeaderFailureToFollowers() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(target.findAllPrices(35455L, 1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("BD no disponible");
+        });
+
+        CompletableFuture<List<Price>> leader = CompletableFuture.supplyAsync(() -> repository.findAllPrices(35455L, 1));
+        awaitUntil(() -> interceptor.inFlightCount() == 1);
+        CompletableFuture<List<Price>> follower =
+                CompletableFuture.supplyAsync(() -> repository.findAllPrices(35455L, 1));
+        awaitUntil(() -> interceptor.followerCount() == 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("BD no disponible");
+        assertThatThrownBy(() -> follower.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("BD no disponible");
+        verify(target, times(1)).findAllPrices(35455L, 1);
+    }
+
+    /**
+     * Verifica que no se agrupan llamadas con otros argumentos ni llamadas ya terminadas.
+     */
+    @Test
+    @DisplayName("No debe agrupar llamadas distintas ni sucesivas")
+    void shouldNotCoalesceDistinctOrSequentialCalls() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        when(target.findApplicablePrice(35455L, 1, date)).thenReturn(Optional.of(PRICE));
+
+        repository.findApplicablePrice(35455L, 1, date);
+        repository.findApplicablePrice(35455L, 1, date);
+        repository.findAllKeys();
+
+        verify(target, times(2)).findApplicablePrice(35455L, 1, date);
+        assertThat(interceptor.leaderCount()).isEqualTo(2);
+        assertThat(interceptor.followerCount()).isZero();
+    }
+
+    /**
+     * Verifica que la lista compartida entre llamadas agrupadas no se puede modificar.
+     */
+    @Test
+    @DisplayName("Debe compartir las listas como copias inmutables")
+    void shouldShareListsAsImmutableCopies() {
+        when(target.findAllPrices(35455L, 1)).thenReturn(new ArrayList<>(List.of(PRICE)));
+
+        List<Price> prices = repository.findAllPrices(35455L, 1);
+
+        assertThat(prices).containsExactly(PRICE);
+        assertThatThrownBy(() -> prices.add(PRICE)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,134 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.guard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para ConnectionPermitDataSource.
+ * Verifica el límite de conexiones simultáneas, la devolución del permiso al cerrar, la espera
+ * acotada y el cierre del pool envuelto.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionPermitDataSource - Tests unitarios del límite de conexiones JDBC")
+class ConnectionPermitDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    /**
+     * Verifica que cerrar la conexión devuelve el permiso una sola vez y cierra la real.
+     */
+    @Test
+    @DisplayName("Debe devolver el permiso al cerrar la conexión, una sola vez")
+    void shouldReleasePermitOnceOnClose() throws SQLException {
+        Connection physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+        ConnectionPermitDataSource handler = new ConnectionPermitDataSource(target, 2, Duration.ofSeconds(1));
+
+        Connection connection = handler.getConnection();
+        assertThat(handler.availablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+
+        assertThat(handler.availablePermits()).isEqualTo(2);
+        verify(physical, times(2)).close();
+    }
+
+    /**
+     * Verifica que un hilo espera a que otro libere su conexión cuando no quedan permisos.
+     */
+    @Test
+    @DisplayName("Debe hacer esperar a los hilos sobrantes hasta que se libera una conexión")
+    void shouldMakeExtraThreadsWaitForPermit() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConnectionPermitDataSource handler = new ConnectionPermitDataSource(target, 1, Duration.ofSeconds(5));
+
+        Connection held = handler.getConnection();
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return handler.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (handler.waitingThreads() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(handler.waitingThreads()).isEqualTo(1);
+        assertThat(waiting).isNotDone();
+
+        held.close();
+
+        assertThat(waiting.get(2, TimeUnit.SECONDS)).isNotNull();
+        assertThat(handler.availablePermits()).isZero();
+    }
+
+    /**
+     * Verifica que la espera por permiso está acotada.
+     */
+    @Test
+    @DisplayName("Debe fallar con error transitorio si no obtiene permiso a tiempo")
+    void shouldFailWhenPermitTimesOut() throws SQLException {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionPermitDataSource handler = new ConnectionPermitDataSource(target, 1, Duration.ofMillis(50));
+        handler.getConnection();
+
+        assertThatThrownBy(handler::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("1 en uso");
+    }
+
+    /**
+     * Verifica que el permiso se devuelve si el DataSource real no da la conexión.
+     */
+    @Test
+    @DisplayName("Debe devolver el permiso si falla la obtención de la conexión")
+    void shouldReleasePermitWhenTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("BD caída"));
+        ConnectionPermitDataSource handler = new ConnectionPermitDataSource(target, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(handler::getConnection).hasMessage("BD caída");
+        assertThat(handler.availablePermits()).isEqualTo(1);
+    }
+
+    /**
+     * Verifica que cerrar el DataSource cierra el pool envuelto y toma de él su nombre.
+     */
+    @Test
+    @DisplayName("Debe cerrar el pool envuelto y usar su nombre")
+    void shouldCloseWrappedPool() throws Exception {
+        HikariDataSource pool = mock(HikariDataSource.class);
+        when(pool.getPoolName()).thenReturn("replica-1");
+        ConnectionPermitDataSource handler = new ConnectionPermitDataSource(pool, 1, Duration.ofMillis(50));
+
+        handler.close();
+
+        assertThat(handler.poolName()).isEqualTo("replica-1");
+        verify(pool).close();
+    }
+}
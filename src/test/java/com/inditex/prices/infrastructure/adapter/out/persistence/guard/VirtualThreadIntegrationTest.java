@@ -0,0 +1,122 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.guard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.HttpStatus;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del modo de hilos virtuales ({@code spring.threads.virtual.enabled=true}).
+ * Verifica que Tomcat atiende las peticiones en hilos virtuales y que el pool Hikari queda
+ * envuelto en un {@link ConnectionPermitDataSource} con sus mismas conexiones, que devuelve los
+ * permisos tras una ráfaga de peticiones concurrentes.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:testdb-virtual",
+                "spring.threads.virtual.enabled=true"
+        }
+)
+@DisplayName("Modo de hilos virtuales - Tests de integración")
+class VirtualThreadIntegrationTest {
+
+    /** Tamaño por defecto del pool Hikari, sin {@code maximum-pool-size} configurado. */
+    private static final int POOL_SIZE = 10;
+    private static final int CONCURRENT_REQUESTS = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api";
+    }
+
+    /**
+     * Verifica que el conector de Tomcat usa un ejecutor de hilos virtuales.
+     */
+    @Test
+    @DisplayName("Debe atender las peticiones HTTP en hilos virtuales")
+    void shouldServeRequestsOnVirtualThreads() {
+        Connector connector = ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector();
+
+        assertThat(connector.getProtocolHandler().getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+    }
+
+    /**
+     * Verifica que el DataSource está envuelto con tantos permisos como conexiones tiene el pool.
+     */
+    @Test
+    @DisplayName("Debe limitar el acceso JDBC a las conexiones del pool")
+    void shouldGuardPoolWithItsOwnSize() throws SQLException {
+        ConnectionPermitDataSource permits = dataSource.unwrap(ConnectionPermitDataSource.class);
+
+        assertThat(permits.maxPermits()).isEqualTo(POOL_SIZE);
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean()).isNotNull();
+        assertThat(dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()).isEqualTo(POOL_SIZE);
+    }
+
+    /**
+     * Verifica que una ráfaga de peticiones con más hilos que conexiones se atiende entera y
+     * devuelve todos los permisos.
+     */
+    @Test
+    @DisplayName("Debe atender una ráfaga mayor que el pool y devolver todos los permisos")
+    void shouldServeBurstAndReleasePermits() throws Exception {
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                long productId = 35455L + i % 5;
+                statuses.add(clients.submit(() -> given()
+                        .queryParam("applicationDate", "2020-06-14T10:00:00")
+                        .queryParam("productId", productId)
+                        .queryParam("brandId", 1)
+                        .when()
+                        .get("/prices")
+                        .statusCode()));
+            }
+        }
+
+        for (Future<Integer> status : statuses) {
+            assertThat(status.get()).isIn(HttpStatus.OK.value(), HttpStatus.NOT_FOUND.value());
+        }
+        assertThat(dataSource.unwrap(ConnectionPermitDataSource.class).availablePermits()).isEqualTo(POOL_SIZE);
+        assertThat(meterRegistry.get("prices.datasource.permits.available").gauge().value())
+                .isEqualTo(POOL_SIZE);
+    }
+}
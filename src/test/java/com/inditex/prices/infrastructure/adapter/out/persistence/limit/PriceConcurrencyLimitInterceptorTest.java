@@ -0,0 +1,167 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.limit;
+
+import com.inditex.prices.domain.exception.PriceLookupRejectedException;
+import com.inditex.prices.domain.model.Price;
+import com.inditex.prices.domain.model.PriceKey;
+import com.inditex.prices.domain.port.out.PriceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para PriceConcurrencyLimitInterceptor.
+ * Verifica el rechazo de las búsquedas que superan el límite, que solo se limitan las búsquedas
+ * de precios y el ajuste del límite según la latencia observada y los fallos.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceConcurrencyLimitInterceptor - Tests unitarios del límite de concurrencia")
+class PriceConcurrencyLimitInterceptorTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Mock
+    private PriceRepository repository;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifica que, con el límite ocupado, la búsqueda se rechaza al instante.
+     */
+    @Test
+    @DisplayName("Debe rechazar al instante las búsquedas que superan el límite")
+    void shouldRejectRequestsAboveLimit() throws Exception {
+        PriceConcurrencyLimitInterceptor interceptor = new PriceConcurrencyLimitInterceptor(1, 1, 10);
+        PriceRepository limited = proxy(interceptor);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Price price = Price.builder().productId(35455L).brandId(1).priceList(1).build();
+        when(repository.findApplicablePrice(35455L, 1, DATE)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(price);
+        });
+
+        CompletableFuture<Optional<Price>> running = CompletableFuture.supplyAsync(
+                () -> limited.findApplicablePrice(35455L, 1, DATE), executor);
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> limited.findAllPrices(35455L, 1))
+                .isInstanceOf(PriceLookupRejectedException.class);
+        assertThat(interceptor.rejectedCount()).isEqualTo(1);
+        assertThat(interceptor.inFlightCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(2, TimeUnit.SECONDS)).contains(price);
+        assertThat(interceptor.acceptedCount()).isEqualTo(1);
+        assertThat(interceptor.inFlightCount()).isZero();
+    }
+
+    /**
+     * Verifica que la lectura de claves y la exportación no ocupan hueco en el límite.
+     */
+    @Test
+    @DisplayName("No debe limitar la lectura de claves ni la exportación")
+    void shouldNotLimitKeyReadsOrExport() {
+        PriceConcurrencyLimitInterceptor interceptor = new PriceConcurrencyLimitInterceptor(1, 1, 10);
+        PriceRepository limited = proxy(interceptor);
+        when(repository.findAllKeys()).thenReturn(List.of(PriceKey.of(35455L, 1)));
+        when(repository.forEachApplicablePrice(eq(1), eq(DATE), any())).thenReturn(0L);
+
+        assertThat(limited.findAllKeys()).hasSize(1);
+        assertThat(limited.forEachApplicablePrice(1, DATE, price -> { })).isZero();
+
+        assertThat(interceptor.acceptedCount()).isZero();
+        assertThat(interceptor.rejectedCount()).isZero();
+    }
+
+    /**
+     * Verifica que el límite crece con latencia estable y el límite en uso, y baja al subir la latencia.
+     */
+    @Test
+    @DisplayName("Debe subir el límite con latencia estable y bajarlo cuando la latencia crece")
+    void shouldAdaptLimitToLatency() {
+        PriceConcurrencyLimitInterceptor interceptor = new PriceConcurrencyLimitInterceptor(20, 4, 200);
+
+        for (int i = 0; i < 50; i++) {
+            interceptor.onSample(5 * MILLIS, interceptor.limit(), false);
+        }
+        int grown = interceptor.limit();
+        assertThat(grown).isGreaterThan(20);
+
+        for (int i = 0; i < 50; i++) {
+            interceptor.onSample(100 * MILLIS, interceptor.limit(), false);
+        }
+        assertThat(interceptor.limit()).isLessThan(grown / 2);
+    }
+
+    /**
+     * Verifica que el límite no crece si no se está usando y que cada fallo lo reduce un 10 %, sin
+     * suavizar, hasta el mínimo.
+     */
+    @Test
+    @DisplayName("No debe crecer sin carga y debe reducirse con los fallos hasta el mínimo")
+    void shouldHoldWhenIdleAndBackOffOnFailures() {
+        PriceConcurrencyLimitInterceptor interceptor = new PriceConcurrencyLimitInterceptor(20, 4, 200);
+
+        for (int i = 0; i < 50; i++) {
+            interceptor.onSample(5 * MILLIS, 1, false);
+        }
+        assertThat(interceptor.limit()).isEqualTo(20);
+
+        interceptor.onSample(5 * MILLIS, 1, true);
+        assertThat(interceptor.limit()).isEqualTo(18);
+
+        for (int i = 0; i < 200; i++) {
+            interceptor.onSample(5 * MILLIS, 1, true);
+        }
+        assertThat(interceptor.limit()).isEqualTo(4);
+    }
+
+    /**
+     * Verifica que se rechazan límites incoherentes.
+     */
+    @Test
+    @DisplayName("Debe rechazar límites incoherentes")
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new PriceConcurrencyLimitInterceptor(5, 10, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PriceConcurrencyLimitInterceptor(5, 0, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PriceRepository proxy(PriceConcurrencyLimitInterceptor interceptor) {
+        ProxyFactory proxyFactory = new ProxyFactory(repository);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(PriceConcurrencyLimitInterceptor.pointcut(), interceptor));
+        return (PriceRepository) proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,160 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.routing;
+
+import com.inditex.prices.domain.model.PriceQuery;
+import com.inditex.prices.domain.port.in.GetApplicablePriceUseCase;
+import com.inditex.prices.domain.port.in.ManagePriceCacheUseCase;
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource.Replica;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del enrutado de lecturas con tres bases de datos H2 como réplicas.
+ * Cada réplica se inicializa con los scripts de la primaria y después se modifica su precio
+ * base, de modo que el importe leído identifica la base de datos que atendió la consulta.
+ * La tercera réplica no es accesible y debe quedar excluida.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:testdb-routing-primary",
+                "prices.datasource.routing.enabled=true",
+                "prices.datasource.routing.strategy=round-robin",
+                "prices.datasource.routing.health-check-interval=PT1H",
+                "prices.datasource.routing.replicas[0].url=jdbc:h2:mem:testdb-routing-replica-1;DB_CLOSE_DELAY=-1",
+                "prices.datasource.routing.replicas[0].init-scripts=classpath:db/schema.sql,classpath:db/data.sql",
+                "prices.datasource.routing.replicas[1].url=jdbc:h2:mem:testdb-routing-replica-2;DB_CLOSE_DELAY=-1",
+                "prices.datasource.routing.replicas[1].init-scripts=classpath:db/schema.sql,classpath:db/data.sql",
+                "prices.datasource.routing.replicas[2].url=jdbc:h2:tcp://localhost:1/unreachable",
+                "prices.datasource.routing.replicas[2].connection-timeout=250ms"
+        }
+)
+@DisplayName("Enrutado de lecturas a réplicas - Tests de integración")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String BASE_PRICE_SQL = "SELECT PRICE FROM PRICES WHERE PRICE_LIST = 1";
+    private static final BigDecimal PRIMARY_PRICE = new BigDecimal("35.50");
+    private static final BigDecimal REPLICA_1_PRICE = new BigDecimal("1.11");
+    private static final BigDecimal REPLICA_2_PRICE = new BigDecimal("2.22");
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private GetApplicablePriceUseCase getApplicablePriceUseCase;
+
+    @Autowired
+    private ManagePriceCacheUseCase priceCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void markReplicas() {
+        priceCache.invalidateAll();
+        List<Replica> replicas = routingDataSource.getReplicas();
+        new JdbcTemplate(replicas.get(0).getDataSource())
+                .update("UPDATE PRICES SET PRICE = ? WHERE PRICE_LIST = 1", REPLICA_1_PRICE);
+        new JdbcTemplate(replicas.get(1).getDataSource())
+                .update("UPDATE PRICES SET PRICE = ? WHERE PRICE_LIST = 1", REPLICA_2_PRICE);
+    }
+
+    /**
+     * Verifica que las transacciones de solo lectura se reparten entre las réplicas sanas.
+     */
+    @Test
+    @DisplayName("Debe repartir las transacciones de solo lectura entre las réplicas sanas")
+    void shouldRouteReadOnlyTransactionsToReplicas() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Set<BigDecimal> prices = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            prices.add(readOnly.execute(status -> jdbcTemplate.queryForObject(BASE_PRICE_SQL, BigDecimal.class)));
+        }
+
+        assertThat(prices).containsExactlyInAnyOrder(REPLICA_1_PRICE, REPLICA_2_PRICE);
+    }
+
+    /**
+     * Verifica que las transacciones de escritura y el acceso sin transacción van a la primaria.
+     */
+    @Test
+    @DisplayName("Debe enviar a la primaria las transacciones de escritura y sin transacción")
+    void shouldRouteReadWriteAndNonTransactionalAccessToPrimary() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        BigDecimal readWritePrice = readWrite.execute(
+                status -> jdbcTemplate.queryForObject(BASE_PRICE_SQL, BigDecimal.class));
+
+        assertThat(readWritePrice).isEqualByComparingTo(PRIMARY_PRICE);
+        assertThat(jdbcTemplate.queryForObject(BASE_PRICE_SQL, BigDecimal.class))
+                .isEqualByComparingTo(PRIMARY_PRICE);
+    }
+
+    /**
+     * Verifica que el caso de uso que atiende {@code GET /prices} (con su caché de líneas
+     * temporales) carga los precios de una réplica con JPA.
+     */
+    @Test
+    @DisplayName("Debe resolver el caso de uso en una réplica")
+    void shouldServeUseCaseFromReplica() {
+        PriceQuery query = PriceQuery.builder()
+                .applicationDate(LocalDateTime.of(2020, 6, 14, 10, 0))
+                .productId(35455L)
+                .brandId(1)
+                .build();
+
+        assertThat(getApplicablePriceUseCase.getApplicablePrice(query).getPrice()).isIn(REPLICA_1_PRICE, REPLICA_2_PRICE);
+    }
+
+    /**
+     * Verifica que la réplica inaccesible queda excluida y que las métricas lo reflejan.
+     */
+    @Test
+    @DisplayName("Debe excluir la réplica inaccesible y publicar métricas por réplica")
+    void shouldExcludeUnreachableReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        for (int i = 0; i < 2; i++) {
+            readOnly.executeWithoutResult(status -> jdbcTemplate.queryForObject(BASE_PRICE_SQL, BigDecimal.class));
+        }
+        routingDataSource.checkReplicas();
+
+        List<Replica> replicas = routingDataSource.getReplicas();
+        assertThat(replicas).extracting(Replica::getName).containsExactly("replica-1", "replica-2", "replica-3");
+        assertThat(replicas).extracting(Replica::isHealthy).containsExactly(true, true, false);
+        assertThat(replicas.get(2).failureCount()).isPositive();
+
+        assertThat(meterRegistry.get("prices.datasource.replica.healthy").tag("replica", "replica-3").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("prices.datasource.replica.healthy").tag("replica", "replica-1").gauge().value())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("prices.datasource.connections").tag("target", "replica-1")
+                .functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections").tag("pool", "replica-1").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,103 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.routing;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.guard.ConnectionPermitDataSource;
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource.Replica;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del modo de hilos virtuales con el enrutado a réplicas.
+ * Verifica que la primaria y cada réplica tienen sus propios permisos de conexión: agotar los de
+ * una réplica no la excluye ni limita a la otra réplica ni a la primaria.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:testdb-vt-primary",
+                "spring.datasource.hikari.maximum-pool-size=6",
+                "spring.threads.virtual.enabled=true",
+                "prices.datasource.routing.enabled=true",
+                "prices.datasource.routing.strategy=round-robin",
+                "prices.datasource.routing.health-check-interval=PT1H",
+                "prices.datasource.routing.replicas[0].url=jdbc:h2:mem:testdb-vt-replica-1;DB_CLOSE_DELAY=-1",
+                "prices.datasource.routing.replicas[0].init-scripts=classpath:db/schema.sql,classpath:db/data.sql",
+                "prices.datasource.routing.replicas[0].maximum-pool-size=2",
+                "prices.datasource.routing.replicas[0].connection-timeout=1s",
+                "prices.datasource.routing.replicas[1].url=jdbc:h2:mem:testdb-vt-replica-2;DB_CLOSE_DELAY=-1",
+                "prices.datasource.routing.replicas[1].init-scripts=classpath:db/schema.sql,classpath:db/data.sql",
+                "prices.datasource.routing.replicas[1].maximum-pool-size=2",
+                "prices.datasource.routing.replicas[1].connection-timeout=1s"
+        }
+)
+@DisplayName("Hilos virtuales con enrutado a réplicas - Tests de integración")
+class ReadReplicaVirtualThreadIntegrationTest {
+
+    private static final String BASE_PRICE_SQL = "SELECT PRICE FROM PRICES WHERE PRICE_LIST = 1";
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Verifica que cada pool se envuelve con tantos permisos como conexiones tiene.
+     */
+    @Test
+    @DisplayName("Debe limitar cada pool a sus propias conexiones")
+    void shouldGuardEachPoolWithItsOwnSize() throws SQLException {
+        List<Integer> permits = new ArrayList<>();
+        for (DataSource pool : routingDataSource.pools()) {
+            permits.add(pool.unwrap(ConnectionPermitDataSource.class).maxPermits());
+        }
+
+        assertThat(permits).containsExactly(6, 2, 2);
+    }
+
+    /**
+     * Verifica que con los permisos de una réplica agotados la lectura pasa a la otra réplica,
+     * la réplica ocupada sigue incluida y la primaria conserva todos sus permisos.
+     */
+    @Test
+    @DisplayName("No debe limitar a la primaria ni a otra réplica al agotar los permisos de una réplica")
+    void shouldIsolateExhaustedReplicaPermits() throws SQLException {
+        Replica busy = routingDataSource.getReplicas().get(0);
+        ConnectionPermitDataSource primaryPermits = routingDataSource.pools().get(0)
+                .unwrap(ConnectionPermitDataSource.class);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        try (Connection first = busy.getDataSource().getConnection();
+             Connection second = busy.getDataSource().getConnection()) {
+            for (int i = 0; i < 2; i++) {
+                BigDecimal price = readOnly.execute(status -> jdbcTemplate.queryForObject(BASE_PRICE_SQL,
+                        BigDecimal.class));
+                assertThat(price).isNotNull();
+            }
+
+            assertThat(busy.isHealthy()).isTrue();
+            assertThat(busy.saturationCount()).isPositive();
+            assertThat(primaryPermits.availablePermits()).isEqualTo(6);
+        }
+    }
+}
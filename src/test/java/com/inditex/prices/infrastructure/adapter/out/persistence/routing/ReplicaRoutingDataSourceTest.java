@@ -0,0 +1,157 @@
+package com.inditex.prices.infrastructure.adapter.out.persistence.routing;
+
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource.Replica;
+import com.inditex.prices.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource.Strategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para ReplicaRoutingDataSource.
+ * Verifica la selección de réplica por estrategia, la exclusión de réplicas que fallan y el
+ * envío a la primaria fuera de las transacciones de solo lectura.
+ *
+ * @author Irvin Monterroza
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource - Tests unitarios del enrutado de lecturas")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource first;
+
+    @Mock
+    private DataSource second;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstConnection = mock(Connection.class);
+    private final Connection secondConnection = mock(Connection.class);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(first.getConnection()).thenReturn(firstConnection);
+        lenient().when(second.getConnection()).thenReturn(secondConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    /**
+     * Verifica que sin transacción de solo lectura la conexión es de la primaria.
+     */
+    @Test
+    @DisplayName("Debe usar la primaria fuera de las transacciones de solo lectura")
+    void shouldUsePrimaryOutsideReadOnlyTransactions() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Strategy.ROUND_ROBIN, 0, 0);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.primaryConnectionCount()).isEqualTo(1);
+    }
+
+    /**
+     * Verifica que el turno rotatorio alterna entre las réplicas.
+     */
+    @Test
+    @DisplayName("Debe alternar las réplicas por turno")
+    void shouldAlternateReplicasRoundRobin() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Strategy.ROUND_ROBIN, 0, 0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(routing.getConnection(), routing.getConnection(), routing.getConnection()))
+                .containsExactly(firstConnection, secondConnection, firstConnection);
+        assertThat(routing.getReplicas()).extracting(Replica::connectionCount).containsExactly(2L, 1L);
+    }
+
+    /**
+     * Verifica que se elige la réplica con menos conexiones activas.
+     */
+    @Test
+    @DisplayName("Debe elegir la réplica con menos conexiones activas")
+    void shouldPickLeastBusyReplica() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Strategy.LEAST_BUSY, 7, 2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(secondConnection);
+        assertThat(routing.getConnection()).isSameAs(secondConnection);
+    }
+
+    /**
+     * Verifica que una réplica que falla se excluye y la lectura pasa a otra réplica y,
+     * sin réplicas sanas, a la primaria, hasta que la validación la vuelve a incluir.
+     */
+    @Test
+    @DisplayName("Debe excluir la réplica que falla y volver a incluirla cuando responde")
+    void shouldExcludeFailingReplicaAndFallBack() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Strategy.ROUND_ROBIN, 0, 0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(first.getConnection()).thenThrow(new SQLException("caída"));
+        when(second.getConnection()).thenThrow(new SQLException("caída"));
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getReplicas()).extracting(Replica::isHealthy).containsExactly(false, false);
+        assertThat(routing.fallbackCount()).isEqualTo(1);
+
+        Connection recovered = mock(Connection.class);
+        when(recovered.isValid(2)).thenReturn(true);
+        doReturn(recovered).when(first).getConnection();
+        routing.checkReplicas();
+
+        assertThat(routing.getReplicas()).extracting(Replica::isHealthy).containsExactly(true, false);
+        assertThat(routing.getConnection()).isSameAs(recovered);
+        assertThat(routing.getReplicas().get(1).failureCount()).isEqualTo(2);
+    }
+
+    /**
+     * Verifica que una réplica con el pool agotado no se excluye: la lectura pasa a la siguiente
+     * y la saturación se cuenta aparte de los fallos.
+     */
+    @Test
+    @DisplayName("No debe excluir la réplica con el pool agotado")
+    void shouldSkipSaturatedReplicaWithoutExcludingIt() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Strategy.LEAST_BUSY, 3, 5);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(first.getConnection())
+                .thenThrow(new SQLTransientConnectionException("replica-1 - Connection is not available"))
+                .thenReturn(firstConnection);
+
+        assertThat(routing.getConnection()).isSameAs(secondConnection);
+        assertThat(routing.getConnection()).isSameAs(firstConnection);
+
+        Replica saturated = routing.getReplicas().get(0);
+        assertThat(saturated.isHealthy()).isTrue();
+        assertThat(saturated.saturationCount()).isEqualTo(1);
+        assertThat(saturated.failureCount()).isZero();
+        assertThat(routing.fallbackCount()).isZero();
+    }
+
+    private ReplicaRoutingDataSource routing(Strategy strategy, int firstActive, int secondActive) {
+        return new ReplicaRoutingDataSource(primary, List.of(
+                new Replica("replica-1", first, () -> firstActive),
+                new Replica("replica-2", second, () -> secondActive)
+        ), strategy);
+    }
+}